@@ -0,0 +1,53 @@
+package com.aircraft.monitoring.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Range check of a channel column with the JDK Vector API.
+ *
+ * Loads as many readings as the CPU's preferred vector holds, compares
+ * them with both limits at once and, only if a lane is out of range, ORs
+ * the bit into the matching masks through an int vector of the same lane
+ * count. NaN fails both compares, as in the scalar loops. The rows that do
+ * not fill a whole vector are checked one by one.
+ *
+ * Compiled only by the {@code vector} Maven profile; needs
+ * {@code --add-modules jdk.incubator.vector} to compile and to run.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+final class VectorColumnScanner implements ColumnScanner {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.length() * Integer.SIZE));
+
+    @Override
+    public void scan(double[] values, int[] masks, int from, int to, double min, double max, int bit) {
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector readings = DoubleVector.fromArray(DOUBLES, values, i);
+            VectorMask<Double> outOfRange = readings.compare(VectorOperators.LT, min)
+                    .or(readings.compare(VectorOperators.GT, max));
+            if (outOfRange.anyTrue()) {
+                IntVector.fromArray(INTS, masks, i)
+                        .lanewise(VectorOperators.OR, bit, outOfRange.cast(INTS))
+                        .intoArray(masks, i);
+            }
+        }
+        for (; i < to; i++) {
+            masks[i] |= values[i] < min | values[i] > max ? bit : 0;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "vector (" + DOUBLES.length() + " lanes)";
+    }
+}
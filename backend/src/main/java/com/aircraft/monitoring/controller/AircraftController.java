@@ -1,14 +1,25 @@
 package com.aircraft.monitoring.controller;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftSnapshot;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.service.AnomalyDetectionService;
 import com.aircraft.monitoring.service.DataSimulationService;
+import com.aircraft.monitoring.service.ThresholdProfiles;
 import com.aircraft.monitoring.service.WebSocketService;
+import com.aircraft.monitoring.simulation.Fault;
+import com.aircraft.monitoring.simulation.TimeWarpGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,14 +45,17 @@ public class AircraftController {
     @Autowired
     private WebSocketService webSocketService;
     
+    @Autowired
+    private AnomalyDetectionService anomalyDetectionService;
+    
     /**
      * Gets the current aircraft sensor data
      * 
-     * @return Current aircraft data
+     * @return Current aircraft data, serialized straight from the shared snapshot
      */
     @GetMapping("/data")
-    public ResponseEntity<AircraftData> getCurrentData() {
-        AircraftData data = dataSimulationService.getCurrentData();
+    public ResponseEntity<AircraftSnapshot> getCurrentData() {
+        AircraftSnapshot data = dataSimulationService.getCurrentSnapshot();
         if (data != null) {
             return ResponseEntity.ok(data);
         } else {
@@ -49,6 +63,113 @@ public class AircraftController {
         }
     }
     
+    /**
+     * Gets the recent sensor history of one aircraft, oldest sample first
+     * 
+     * @param tail Tail to read (default 0, the dashboard aircraft)
+     * @param limit Maximum number of samples, counting back from the latest (default: all kept)
+     * @return Recorded samples, or bad request if the tail's history is not kept
+     */
+    @GetMapping("/data/history")
+    public ResponseEntity<?> getRecentHistory(@RequestParam(defaultValue = "0") int tail,
+                                              @RequestParam(defaultValue = "2147483647") int limit) {
+        try {
+            List<AircraftData> history = dataSimulationService.getRecentHistory(tail, limit);
+            return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    /**
+     * Gets the sensor channel registry: every channel's index in the sample
+     * arrays, JSON name, unit, resolution, system, normal range and hysteresis
+     * 
+     * @return One entry per channel, in index order; absent limits are null
+     */
+    @GetMapping("/channels")
+    public ResponseEntity<List<Map<String, Object>>> getChannels() {
+        List<Map<String, Object>> channels = new ArrayList<>();
+        for (SensorChannel channel : SensorChannel.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("index", channel.index());
+            entry.put("name", channel.getPropertyName());
+            entry.put("label", channel.getLabel());
+            entry.put("unit", channel.getUnit());
+            entry.put("decimals", channel.getDecimals());
+            entry.put("system", channel.getSystem());
+            entry.put("min", Double.isInfinite(channel.getMin()) ? null : channel.getMin());
+            entry.put("max", Double.isInfinite(channel.getMax()) ? null : channel.getMax());
+            entry.put("hysteresis", channel.getHysteresis());
+            entry.put("checked", channel.isChecked());
+            channels.add(entry);
+        }
+        return ResponseEntity.ok(channels);
+    }
+    
+    /**
+     * Gets the threshold profiles detection applies: the normal range of
+     * every checked channel for each aircraft type
+     * 
+     * @return One entry per type, in type number order, mapping channel
+     *         names to their limits; absent limits are null
+     */
+    @GetMapping("/thresholds")
+    public ResponseEntity<Map<String, Object>> getThresholds() {
+        return ResponseEntity.ok(describe(anomalyDetectionService.getThresholdProfiles()));
+    }
+    
+    /**
+     * Reloads the threshold profiles from the configured file; detection
+     * switches to them without stopping
+     * 
+     * @return The profiles now in use, or an error if the file is missing or invalid
+     */
+    @PostMapping("/thresholds/reload")
+    public ResponseEntity<Map<String, Object>> reloadThresholds() {
+        try {
+            ThresholdProfiles profiles = anomalyDetectionService.reloadThresholdProfiles();
+            log.info("Threshold profiles reloaded via API: {}", profiles.getTypes());
+            return ResponseEntity.ok(describe(profiles));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.badRequest().body(response);
+        } catch (IOException e) {
+            log.error("Threshold profile reload failed", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Threshold profile reload failed: " + e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
+    private static Map<String, Object> describe(ThresholdProfiles profiles) {
+        Map<String, Object> types = new LinkedHashMap<>();
+        for (int type = 0; type < profiles.getTypeCount(); type++) {
+            Map<String, Object> ranges = new LinkedHashMap<>();
+            for (SensorChannel channel : SensorChannel.values()) {
+                if (!channel.isChecked()) {
+                    continue;
+                }
+                double min = profiles.getMin(type, channel);
+                double max = profiles.getMax(type, channel);
+                Map<String, Object> range = new LinkedHashMap<>();
+                range.put("min", Double.isInfinite(min) ? null : min);
+                range.put("max", Double.isInfinite(max) ? null : max);
+                ranges.put(channel.getPropertyName(), range);
+            }
+            types.put(profiles.getTypes().get(type), ranges);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("types", types);
+        return response;
+    }
+    
     /**
      * Gets system status information
      * 
@@ -58,7 +179,7 @@ public class AircraftController {
     public ResponseEntity<Map<String, Object>> getSystemStatus() {
         Map<String, Object> status = new HashMap<>();
         
-        AircraftData currentData = dataSimulationService.getCurrentData();
+        AircraftSnapshot currentData = dataSimulationService.getCurrentSnapshot();
         status.put("connectedClients", webSocketService.getConnectedClientsCount());
         status.put("dataGenerationActive", currentData != null);
         status.put("lastUpdate", currentData != null ? currentData.getTimestamp() : null);
@@ -127,6 +248,81 @@ public class AircraftController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Schedules a sensor fault on the simulated fleet
+     * 
+     * @param faultRequest The fault request containing type (STEP, RAMP, STUCK_AT, DROPOUT,
+     *                     NOISE_BURST), channel (e.g. ENGINE_TEMPERATURE) and optional tail,
+     *                     delayTicks, durationTicks and magnitude
+     * @return Success response, or bad request if the fault is invalid
+     */
+    @PostMapping("/simulate/fault")
+    public ResponseEntity<Map<String, String>> scheduleFault(@RequestBody Map<String, String> faultRequest) {
+        Map<String, String> response = new HashMap<>();
+    
+        try {
+            Fault fault = dataSimulationService.scheduleFault(
+                    Fault.Type.valueOf(faultRequest.getOrDefault("type", "").toUpperCase()),
+                    SensorChannel.valueOf(faultRequest.getOrDefault("channel", "").toUpperCase()),
+                    Integer.parseInt(faultRequest.getOrDefault("tail", "0")),
+                    Long.parseLong(faultRequest.getOrDefault("delayTicks", "0")),
+                    Long.parseLong(faultRequest.getOrDefault("durationTicks", "1")),
+                    Double.parseDouble(faultRequest.getOrDefault("magnitude", "NaN")));
+            response.put("message", "Fault scheduled from tick " + fault.startTick());
+            response.put("status", "success");
+        } catch (IllegalArgumentException e) {
+            response.put("message", e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.badRequest().body(response);
+        }
+    
+        log.info("Fault scheduled via API: {}", faultRequest);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Generates synthetic flight history on a virtual clock into a file
+     * that can be replayed later
+     * 
+     * @param historyRequest The request containing the file name and optional
+     *                       tails (default 1), hours of simulated time (default 24),
+     *                       intervalSeconds between ticks (default 2) and
+     *                       parallelism (default: all processors)
+     * @return Generation summary, or an error if the history cannot be generated
+     */
+    @PostMapping("/simulate/history")
+    public ResponseEntity<Map<String, Object>> generateHistory(@RequestBody Map<String, String> historyRequest) {
+        Map<String, Object> response = new HashMap<>();
+        String file = historyRequest.get("file");
+    
+        try {
+            int tails = Integer.parseInt(historyRequest.getOrDefault("tails", "1"));
+            double hours = Double.parseDouble(historyRequest.getOrDefault("hours", "24"));
+            double intervalSeconds = Double.parseDouble(historyRequest.getOrDefault("intervalSeconds", "2"));
+            int parallelism = Integer.parseInt(historyRequest.getOrDefault("parallelism",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+            long ticks = Math.round(hours * 3600 / intervalSeconds);
+    
+            TimeWarpGenerator.Result result = dataSimulationService.generateHistory(
+                    file, tails, ticks, intervalSeconds, parallelism);
+            response.put("message", "Generated " + result.samples() + " samples");
+            response.put("status", "success");
+            response.put("result", result);
+        } catch (IllegalArgumentException e) {
+            response.put("message", e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.badRequest().body(response);
+        } catch (IOException e) {
+            log.error("History generation into {} failed", file, e);
+            response.put("message", "History generation failed: " + e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    
+        log.info("History generated via API: {}", historyRequest);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Gets system health information
      * 
@@ -136,7 +332,7 @@ public class AircraftController {
     public ResponseEntity<Map<String, Object>> getSystemHealth() {
         Map<String, Object> health = new HashMap<>();
         
-        AircraftData currentData = dataSimulationService.getCurrentData();
+        AircraftSnapshot currentData = dataSimulationService.getCurrentSnapshot();
         
         health.put("status", "UP");
         health.put("timestamp", System.currentTimeMillis());
@@ -151,6 +347,16 @@ public class AircraftController {
         return ResponseEntity.ok(health);
     }
     
+    /**
+     * Gets simulation metrics such as fleet size and tick time
+     * 
+     * @return Simulation metrics
+     */
+    @GetMapping("/simulation/metrics")
+    public ResponseEntity<Map<String, Object>> getSimulationMetrics() {
+        return ResponseEntity.ok(dataSimulationService.getSimulationMetrics());
+    }
+    
     /**
      * Sends a custom alert to all connected clients
      * 
@@ -0,0 +1,94 @@
+package com.aircraft.monitoring.controller;
+
+import com.aircraft.monitoring.service.FlightReplayService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST API controller for replaying recorded flight data.
+ *
+ * This controller provides endpoints for:
+ * - Starting a CSV or flight history replay at a chosen speed
+ * - Stopping the running replay
+ * - Replay progress information
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/aircraft/replay")
+@CrossOrigin(origins = "*") // Allow all origins for demo purposes
+@Slf4j
+public class ReplayController {
+
+    @Autowired
+    private FlightReplayService flightReplayService;
+
+    /**
+     * Starts replaying a recording
+     *
+     * @param replayRequest The request containing the file name, optional speed
+     *                      (multiplier, default 1; 0 for unthrottled) and, for a
+     *                      flight history, optional tail (default 0)
+     * @return Success response, or an error if the replay cannot be started
+     */
+    @PostMapping("/start")
+    public ResponseEntity<Map<String, String>> startReplay(@RequestBody Map<String, String> replayRequest) {
+        Map<String, String> response = new HashMap<>();
+        String file = replayRequest.get("file");
+
+        try {
+            double speed = Double.parseDouble(replayRequest.getOrDefault("speed", "1"));
+            int tail = Integer.parseInt(replayRequest.getOrDefault("tail", "0"));
+            flightReplayService.startReplay(file, speed, tail);
+        } catch (IllegalStateException e) {
+            response.put("message", e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException for a malformed speed or tail
+            response.put("message", e.getMessage());
+            response.put("status", "error");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        response.put("message", "Replay started");
+        response.put("status", "success");
+
+        log.info("Replay of {} started via API", file);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Stops the running replay
+     *
+     * @return Success response
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<Map<String, String>> stopReplay() {
+        flightReplayService.stopReplay();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Replay stop requested");
+        response.put("status", "success");
+
+        log.info("Replay stop requested via API");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gets the progress of the current or last replay
+     *
+     * @return Replay status
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getReplayStatus() {
+        return ResponseEntity.ok(flightReplayService.getReplayStatus());
+    }
+}
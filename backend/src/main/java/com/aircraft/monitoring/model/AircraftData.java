@@ -1,11 +1,15 @@
 package com.aircraft.monitoring.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * Aircraft sensor data model representing all critical aircraft systems.
@@ -16,59 +20,227 @@ import java.time.LocalDateTime;
  * - Hydraulic system (pressure, temperature, fluid level)
  * - Flight data (altitude, airspeed, ground speed)
  * 
+ * The layout is kept compact for fleet-scale use: the timestamp is held as
+ * a primitive long of nanoseconds (the local date-time read at UTC, so no
+ * time zone is involved; it is not an epoch instant, hence the name
+ * {@code localTimeNanos}) and the five anomaly flags as bits of one int.
+ * The readings are one double[] indexed by {@link SensorChannel}, readable
+ * as {@link #getValue(int)}, so code that handles every channel loops over
+ * indices. The named getters and setters, the LocalDateTime and the boolean
+ * views are derived on access, and the JSON shape is unchanged.
+ * 
+ * Each sample also carries the {@link SensorQuality} of every reading,
+ * packed into one long (see {@link #getSensorQuality()}), so that stale or
+ * failed readings can be told apart from real excursions. It is not part
+ * of the JSON, and neither is the aircraft type number, which picks the
+ * normal ranges detection applies (see ThresholdProfiles).
+ * 
  * @author Aircraft Monitoring Team
  * @version 1.0.0
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
+@JsonPropertyOrder({
+        "timestamp",
+        "engineRPM", "engineTemperature", "oilPressure", "oilTemperature",
+        "fuelLevel", "fuelConsumption", "fuelPressure", "fuelTemperature",
+        "hydraulicPressure", "hydraulicTemperature", "hydraulicFluidLevel",
+        "altitude", "airspeed", "groundSpeed", "machNumber", "verticalSpeed",
+        "cabinPressure", "cabinTemperature", "batteryVoltage", "generatorOutput",
+        "engineAnomaly", "fuelAnomaly", "hydraulicAnomaly", "altitudeAnomaly", "airspeedAnomaly",
+        "systemStatus"
+})
 public class AircraftData {
     
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-    private LocalDateTime timestamp;
+    // Anomaly mask bits
+    public static final int ENGINE_ANOMALY = 1;
+    public static final int FUEL_ANOMALY = 1 << 1;
+    public static final int HYDRAULIC_ANOMALY = 1 << 2;
+    public static final int ALTITUDE_ANOMALY = 1 << 3;
+    public static final int AIRSPEED_ANOMALY = 1 << 4;
     
-    // Engine System Data
-    private double engineRPM;
-    private double engineTemperature;
-    private double oilPressure;
-    private double oilTemperature;
+    /**
+     * Timestamp value of a sample that has no timestamp
+     */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
     
-    // Fuel System Data
-    private double fuelLevel;
-    private double fuelConsumption;
-    private double fuelPressure;
-    private double fuelTemperature;
+    // Local date-time in nanoseconds since 1970-01-01T00:00, or NO_TIMESTAMP
+    @JsonIgnore
+    private long localTimeNanos = NO_TIMESTAMP;
     
-    // Hydraulic System Data
-    private double hydraulicPressure;
-    private double hydraulicTemperature;
-    private double hydraulicFluidLevel;
+    // Readings indexed by SensorChannel
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private final double[] values = new double[SensorChannel.COUNT];
     
-    // Flight Data
-    private double altitude;
-    private double airspeed;
-    private double groundSpeed;
-    private double machNumber;
-    private double verticalSpeed;
+    // Anomaly Detection Flags, one bit per system
+    @JsonIgnore
+    private int anomalyMask;
     
-    // Additional Systems
-    private double cabinPressure;
-    private double cabinTemperature;
-    private double batteryVoltage;
-    private double generatorOutput;
+    // Quality of every reading, packed as described in SensorQuality
+    @JsonIgnore
+    private long sensorQuality = SensorQuality.ALL_VALID;
     
-    // Anomaly Detection Flags
-    private boolean engineAnomaly;
-    private boolean fuelAnomaly;
-    private boolean hydraulicAnomaly;
-    private boolean altitudeAnomaly;
-    private boolean airspeedAnomaly;
+    // Aircraft type number of the threshold profiles, 0 for the default type
+    @JsonIgnore
+    private int aircraftType;
     
     /**
      * Creates a new AircraftData instance with current timestamp
      */
     public AircraftData(LocalDateTime timestamp) {
-        this.timestamp = timestamp;
+        setTimestamp(timestamp);
+    }
+    
+    /**
+     * Creates a fully populated AircraftData instance
+     */
+    public AircraftData(LocalDateTime timestamp,
+                        double engineRPM, double engineTemperature, double oilPressure, double oilTemperature,
+                        double fuelLevel, double fuelConsumption, double fuelPressure, double fuelTemperature,
+                        double hydraulicPressure, double hydraulicTemperature, double hydraulicFluidLevel,
+                        double altitude, double airspeed, double groundSpeed, double machNumber, double verticalSpeed,
+                        double cabinPressure, double cabinTemperature, double batteryVoltage, double generatorOutput,
+                        boolean engineAnomaly, boolean fuelAnomaly, boolean hydraulicAnomaly,
+                        boolean altitudeAnomaly, boolean airspeedAnomaly) {
+        setTimestamp(timestamp);
+        setValue(SensorChannel.ENGINE_RPM, engineRPM);
+        setValue(SensorChannel.ENGINE_TEMPERATURE, engineTemperature);
+        setValue(SensorChannel.OIL_PRESSURE, oilPressure);
+        setValue(SensorChannel.OIL_TEMPERATURE, oilTemperature);
+        setValue(SensorChannel.FUEL_LEVEL, fuelLevel);
+        setValue(SensorChannel.FUEL_CONSUMPTION, fuelConsumption);
+        setValue(SensorChannel.FUEL_PRESSURE, fuelPressure);
+        setValue(SensorChannel.FUEL_TEMPERATURE, fuelTemperature);
+        setValue(SensorChannel.HYDRAULIC_PRESSURE, hydraulicPressure);
+        setValue(SensorChannel.HYDRAULIC_TEMPERATURE, hydraulicTemperature);
+        setValue(SensorChannel.HYDRAULIC_FLUID_LEVEL, hydraulicFluidLevel);
+        setValue(SensorChannel.ALTITUDE, altitude);
+        setValue(SensorChannel.AIRSPEED, airspeed);
+        setValue(SensorChannel.GROUND_SPEED, groundSpeed);
+        setValue(SensorChannel.MACH_NUMBER, machNumber);
+        setValue(SensorChannel.VERTICAL_SPEED, verticalSpeed);
+        setValue(SensorChannel.CABIN_PRESSURE, cabinPressure);
+        setValue(SensorChannel.CABIN_TEMPERATURE, cabinTemperature);
+        setValue(SensorChannel.BATTERY_VOLTAGE, batteryVoltage);
+        setValue(SensorChannel.GENERATOR_OUTPUT, generatorOutput);
+        setEngineAnomaly(engineAnomaly);
+        setFuelAnomaly(fuelAnomaly);
+        setHydraulicAnomaly(hydraulicAnomaly);
+        setAltitudeAnomaly(altitudeAnomaly);
+        setAirspeedAnomaly(airspeedAnomaly);
+    }
+    
+    /**
+     * Copies the timestamp, every reading, the reading qualities, the
+     * aircraft type and the anomaly flags of another sample into this one, so a sample can be
+     * refilled instead of replaced
+     * 
+     * @param source The sample to copy
+     */
+    public void copyFrom(AircraftData source) {
+        this.localTimeNanos = source.localTimeNanos;
+        System.arraycopy(source.values, 0, values, 0, SensorChannel.COUNT);
+        this.anomalyMask = source.anomalyMask;
+        this.sensorQuality = source.sensorQuality;
+        this.aircraftType = source.aircraftType;
+    }
+    
+    /**
+     * Gets the timestamp as a date-time, or null if the sample has none
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    public LocalDateTime getTimestamp() {
+        return toLocalDateTime(localTimeNanos);
+    }
+    
+    /**
+     * Sets the timestamp; null clears it
+     */
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.localTimeNanos = toLocalTimeNanos(timestamp);
+    }
+    
+    /**
+     * Checks whether the sample has a timestamp
+     */
+    public boolean hasTimestamp() {
+        return localTimeNanos != NO_TIMESTAMP;
+    }
+    
+    /**
+     * Converts a date-time to the nanosecond form held by {@link #getLocalTimeNanos()}
+     * 
+     * @param timestamp Date-time, or null
+     * @return Local date-time in nanoseconds since 1970-01-01T00:00, or
+     *         {@link #NO_TIMESTAMP} for null
+     * @throws ArithmeticException if the date-time is outside the range of a long (years 1677 to 2262)
+     */
+    public static long toLocalTimeNanos(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return NO_TIMESTAMP;
+        }
+        return Math.addExact(Math.multiplyExact(timestamp.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L),
+                timestamp.getNano());
+    }
+    
+    /**
+     * Converts the nanosecond form back to a date-time
+     * 
+     * @param localTimeNanos Local date-time in nanoseconds since 1970-01-01T00:00,
+     *                       or {@link #NO_TIMESTAMP}
+     * @return The date-time, or null for {@link #NO_TIMESTAMP}
+     */
+    public static LocalDateTime toLocalDateTime(long localTimeNanos) {
+        if (localTimeNanos == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(localTimeNanos, 1_000_000_000L),
+                (int) Math.floorMod(localTimeNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+    
+    public boolean isEngineAnomaly() {
+        return (anomalyMask & ENGINE_ANOMALY) != 0;
+    }
+    
+    public void setEngineAnomaly(boolean engineAnomaly) {
+        setAnomaly(ENGINE_ANOMALY, engineAnomaly);
+    }
+    
+    public boolean isFuelAnomaly() {
+        return (anomalyMask & FUEL_ANOMALY) != 0;
+    }
+    
+    public void setFuelAnomaly(boolean fuelAnomaly) {
+        setAnomaly(FUEL_ANOMALY, fuelAnomaly);
+    }
+    
+    public boolean isHydraulicAnomaly() {
+        return (anomalyMask & HYDRAULIC_ANOMALY) != 0;
+    }
+    
+    public void setHydraulicAnomaly(boolean hydraulicAnomaly) {
+        setAnomaly(HYDRAULIC_ANOMALY, hydraulicAnomaly);
+    }
+    
+    public boolean isAltitudeAnomaly() {
+        return (anomalyMask & ALTITUDE_ANOMALY) != 0;
+    }
+    
+    public void setAltitudeAnomaly(boolean altitudeAnomaly) {
+        setAnomaly(ALTITUDE_ANOMALY, altitudeAnomaly);
+    }
+    
+    public boolean isAirspeedAnomaly() {
+        return (anomalyMask & AIRSPEED_ANOMALY) != 0;
+    }
+    
+    public void setAirspeedAnomaly(boolean airspeedAnomaly) {
+        setAnomaly(AIRSPEED_ANOMALY, airspeedAnomaly);
+    }
+    
+    private void setAnomaly(int bit, boolean set) {
+        anomalyMask = set ? anomalyMask | bit : anomalyMask & ~bit;
     }
     
     /**
@@ -76,8 +248,7 @@ public class AircraftData {
      * @return true if any anomaly is detected
      */
     public boolean hasAnyAnomaly() {
-        return engineAnomaly || fuelAnomaly || hydraulicAnomaly || 
-               altitudeAnomaly || airspeedAnomaly;
+        return anomalyMask != 0;
     }
     
     /**
@@ -87,4 +258,236 @@ public class AircraftData {
     public String getSystemStatus() {
         return hasAnyAnomaly() ? "WARNING" : "NORMAL";
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Gets the reading of a sensor channel
+     * 
+     * @param channel The sensor channel
+     * @return The current reading
+     */
+    public double getValue(SensorChannel channel) {
+        return values[channel.index()];
+    }
+    
+    /**
+     * Gets the reading of a sensor channel by index
+     * 
+     * @param index The channel index, see {@link SensorChannel#index()}
+     * @return The current reading
+     * @throws ArrayIndexOutOfBoundsException if there is no such channel
+     */
+    public double getValue(int index) {
+        return values[index];
+    }
+    
+    /**
+     * Sets the reading of a sensor channel
+     * 
+     * @param channel The sensor channel
+     * @param value The new reading
+     */
+    public void setValue(SensorChannel channel, double value) {
+        values[channel.index()] = value;
+    }
+    
+    /**
+     * Sets the reading of a sensor channel by index
+     * 
+     * @param index The channel index, see {@link SensorChannel#index()}
+     * @param value The new reading
+     * @throws ArrayIndexOutOfBoundsException if there is no such channel
+     */
+    public void setValue(int index, double value) {
+        values[index] = value;
+    }
+    
+    /**
+     * Gets the quality of a sensor channel's reading
+     * 
+     * @param channel The sensor channel
+     * @return The quality, {@link SensorQuality#VALID} unless marked otherwise
+     */
+    public SensorQuality getQuality(SensorChannel channel) {
+        return SensorQuality.of(sensorQuality, channel.index());
+    }
+    
+    /**
+     * Sets the quality of a sensor channel's reading
+     * 
+     * @param channel The sensor channel
+     * @param quality The new quality
+     */
+    public void setQuality(SensorChannel channel, SensorQuality quality) {
+        sensorQuality = SensorQuality.with(sensorQuality, channel.index(), quality);
+    }
+    
+    // Engine System Data
+    
+    public double getEngineRPM() {
+        return values[SensorChannel.ENGINE_RPM.index()];
+    }
+    
+    public void setEngineRPM(double engineRPM) {
+        values[SensorChannel.ENGINE_RPM.index()] = engineRPM;
+    }
+    
+    public double getEngineTemperature() {
+        return values[SensorChannel.ENGINE_TEMPERATURE.index()];
+    }
+    
+    public void setEngineTemperature(double engineTemperature) {
+        values[SensorChannel.ENGINE_TEMPERATURE.index()] = engineTemperature;
+    }
+    
+    public double getOilPressure() {
+        return values[SensorChannel.OIL_PRESSURE.index()];
+    }
+    
+    public void setOilPressure(double oilPressure) {
+        values[SensorChannel.OIL_PRESSURE.index()] = oilPressure;
+    }
+    
+    public double getOilTemperature() {
+        return values[SensorChannel.OIL_TEMPERATURE.index()];
+    }
+    
+    public void setOilTemperature(double oilTemperature) {
+        values[SensorChannel.OIL_TEMPERATURE.index()] = oilTemperature;
+    }
+    
+    // Fuel System Data
+    
+    public double getFuelLevel() {
+        return values[SensorChannel.FUEL_LEVEL.index()];
+    }
+    
+    public void setFuelLevel(double fuelLevel) {
+        values[SensorChannel.FUEL_LEVEL.index()] = fuelLevel;
+    }
+    
+    public double getFuelConsumption() {
+        return values[SensorChannel.FUEL_CONSUMPTION.index()];
+    }
+    
+    public void setFuelConsumption(double fuelConsumption) {
+        values[SensorChannel.FUEL_CONSUMPTION.index()] = fuelConsumption;
+    }
+    
+    public double getFuelPressure() {
+        return values[SensorChannel.FUEL_PRESSURE.index()];
+    }
+    
+    public void setFuelPressure(double fuelPressure) {
+        values[SensorChannel.FUEL_PRESSURE.index()] = fuelPressure;
+    }
+    
+    public double getFuelTemperature() {
+        return values[SensorChannel.FUEL_TEMPERATURE.index()];
+    }
+    
+    public void setFuelTemperature(double fuelTemperature) {
+        values[SensorChannel.FUEL_TEMPERATURE.index()] = fuelTemperature;
+    }
+    
+    // Hydraulic System Data
+    
+    public double getHydraulicPressure() {
+        return values[SensorChannel.HYDRAULIC_PRESSURE.index()];
+    }
+    
+    public void setHydraulicPressure(double hydraulicPressure) {
+        values[SensorChannel.HYDRAULIC_PRESSURE.index()] = hydraulicPressure;
+    }
+    
+    public double getHydraulicTemperature() {
+        return values[SensorChannel.HYDRAULIC_TEMPERATURE.index()];
+    }
+    
+    public void setHydraulicTemperature(double hydraulicTemperature) {
+        values[SensorChannel.HYDRAULIC_TEMPERATURE.index()] = hydraulicTemperature;
+    }
+    
+    public double getHydraulicFluidLevel() {
+        return values[SensorChannel.HYDRAULIC_FLUID_LEVEL.index()];
+    }
+    
+    public void setHydraulicFluidLevel(double hydraulicFluidLevel) {
+        values[SensorChannel.HYDRAULIC_FLUID_LEVEL.index()] = hydraulicFluidLevel;
+    }
+    
+    // Flight Data
+    
+    public double getAltitude() {
+        return values[SensorChannel.ALTITUDE.index()];
+    }
+    
+    public void setAltitude(double altitude) {
+        values[SensorChannel.ALTITUDE.index()] = altitude;
+    }
+    
+    public double getAirspeed() {
+        return values[SensorChannel.AIRSPEED.index()];
+    }
+    
+    public void setAirspeed(double airspeed) {
+        values[SensorChannel.AIRSPEED.index()] = airspeed;
+    }
+    
+    public double getGroundSpeed() {
+        return values[SensorChannel.GROUND_SPEED.index()];
+    }
+    
+    public void setGroundSpeed(double groundSpeed) {
+        values[SensorChannel.GROUND_SPEED.index()] = groundSpeed;
+    }
+    
+    public double getMachNumber() {
+        return values[SensorChannel.MACH_NUMBER.index()];
+    }
+    
+    public void setMachNumber(double machNumber) {
+        values[SensorChannel.MACH_NUMBER.index()] = machNumber;
+    }
+    
+    public double getVerticalSpeed() {
+        return values[SensorChannel.VERTICAL_SPEED.index()];
+    }
+    
+    public void setVerticalSpeed(double verticalSpeed) {
+        values[SensorChannel.VERTICAL_SPEED.index()] = verticalSpeed;
+    }
+    
+    // Additional Systems
+    
+    public double getCabinPressure() {
+        return values[SensorChannel.CABIN_PRESSURE.index()];
+    }
+    
+    public void setCabinPressure(double cabinPressure) {
+        values[SensorChannel.CABIN_PRESSURE.index()] = cabinPressure;
+    }
+    
+    public double getCabinTemperature() {
+        return values[SensorChannel.CABIN_TEMPERATURE.index()];
+    }
+    
+    public void setCabinTemperature(double cabinTemperature) {
+        values[SensorChannel.CABIN_TEMPERATURE.index()] = cabinTemperature;
+    }
+    
+    public double getBatteryVoltage() {
+        return values[SensorChannel.BATTERY_VOLTAGE.index()];
+    }
+    
+    public void setBatteryVoltage(double batteryVoltage) {
+        values[SensorChannel.BATTERY_VOLTAGE.index()] = batteryVoltage;
+    }
+    
+    public double getGeneratorOutput() {
+        return values[SensorChannel.GENERATOR_OUTPUT.index()];
+    }
+    
+    public void setGeneratorOutput(double generatorOutput) {
+        values[SensorChannel.GENERATOR_OUTPUT.index()] = generatorOutput;
+    }
+}
@@ -0,0 +1,229 @@
+package com.aircraft.monitoring.model;
+
+import java.util.Arrays;
+
+/**
+ * Columnar batch of aircraft samples.
+ *
+ * Holds up to {@link #getCapacity()} samples as one primitive
+ * {@code double[]} per {@link SensorChannel}, plus one array each of
+ * timestamps, reading qualities, aircraft types and anomaly masks, all
+ * indexed by row.
+ * Row {@code i} carries the same information as one {@link AircraftData}:
+ * the timestamp in the nanosecond form of
+ * {@link AircraftData#getLocalTimeNanos()}, the packed
+ * {@link SensorQuality} of the readings, the aircraft type number and the
+ * anomaly flags as the
+ * {@link AircraftData#ENGINE_ANOMALY}... bits.
+ * Processing a batch is a set of linear scans over primitive arrays, with
+ * no per-sample object or getter call.
+ *
+ * A batch is filled row by row ({@link #add(AircraftData)}) or is a view
+ * of a fleet's live arrays ({@link FleetState#asBatch()}). The
+ * arrays returned by the getters are the batch's own storage; only the
+ * first {@link #getSize()} entries are meaningful. Not thread-safe, but
+ * disjoint row ranges may be processed in parallel.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class AircraftDataBatch {
+
+    private final int capacity;
+    private final double[][] channels;
+    private final long[] localTimeNanos;
+    private final long[] sensorQuality;
+    private final int[] aircraftTypes;
+    private final int[] anomalyMasks;
+    private int size;
+
+    /**
+     * Creates an empty batch
+     *
+     * @param capacity Maximum number of samples
+     */
+    public AircraftDataBatch(int capacity) {
+        this(new double[SensorChannel.COUNT][capacity], new long[capacity], new int[capacity], 0);
+    }
+
+    /**
+     * Creates a full batch over existing channel, quality and type arrays,
+     * which are shared, not copied; timestamps start out absent and masks clear
+     */
+    AircraftDataBatch(double[][] channels, long[] sensorQuality, int[] aircraftTypes, int size) {
+        if (size < 0 || channels.length != SensorChannel.COUNT) {
+            throw new IllegalArgumentException("Need one array per sensor channel and a size of at least 0");
+        }
+        int capacity = channels[0].length;
+        for (double[] channel : channels) {
+            if (channel.length != capacity) {
+                throw new IllegalArgumentException("Channel arrays differ in length");
+            }
+        }
+        if (sensorQuality.length != capacity || aircraftTypes.length != capacity) {
+            throw new IllegalArgumentException("Quality or type array differs in length from the channel arrays");
+        }
+        if (size > capacity) {
+            throw new IllegalArgumentException("Size " + size + " exceeds capacity " + capacity);
+        }
+        this.capacity = capacity;
+        this.channels = channels;
+        this.localTimeNanos = new long[capacity];
+        this.sensorQuality = sensorQuality;
+        this.aircraftTypes = aircraftTypes;
+        this.anomalyMasks = new int[capacity];
+        this.size = size;
+        Arrays.fill(localTimeNanos, AircraftData.NO_TIMESTAMP);
+    }
+
+    /**
+     * Gets the maximum number of samples
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of samples in the batch
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Removes all samples; the storage is kept for reuse
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the value array of a channel, indexed by row
+     */
+    public double[] getChannel(SensorChannel channel) {
+        return channels[channel.index()];
+    }
+
+    /**
+     * Gets the timestamp array, as local date-times in the nanosecond form of
+     * {@link AircraftData#getLocalTimeNanos()} or
+     * {@link AircraftData#NO_TIMESTAMP}, indexed by row
+     */
+    public long[] getLocalTimeNanos() {
+        return localTimeNanos;
+    }
+
+    /**
+     * Gets the packed reading quality array (see {@link SensorQuality}),
+     * indexed by row
+     */
+    public long[] getSensorQuality() {
+        return sensorQuality;
+    }
+
+    /**
+     * Gets the aircraft type array (type numbers of the threshold
+     * profiles), indexed by row
+     */
+    public int[] getAircraftTypes() {
+        return aircraftTypes;
+    }
+
+    /**
+     * Gets the anomaly mask array, indexed by row
+     */
+    public int[] getAnomalyMasks() {
+        return anomalyMasks;
+    }
+
+    /**
+     * Gets a single channel value
+     */
+    public double get(SensorChannel channel, int row) {
+        return channels[channel.index()][checkRow(row)];
+    }
+
+    /**
+     * Sets the timestamp of every sample
+     *
+     * @param localTimeNanos Local date-time in nanoseconds since 1970-01-01T00:00
+     */
+    public void setTimestamps(long localTimeNanos) {
+        Arrays.fill(this.localTimeNanos, 0, size, localTimeNanos);
+    }
+
+    /**
+     * Checks whether any sample has an anomaly
+     */
+    public boolean hasAnyAnomaly() {
+        return countAnomalies() > 0;
+    }
+
+    /**
+     * Counts the samples that have at least one anomaly
+     */
+    public int countAnomalies() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (anomalyMasks[i] != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Appends a copy of a sample
+     *
+     * @param sample Sample to append
+     * @return The row it was stored at
+     * @throws IllegalStateException if the batch is full
+     */
+    public int add(AircraftData sample) {
+        if (size == capacity) {
+            throw new IllegalStateException("Batch is full: " + capacity);
+        }
+        int row = size++;
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            channels[c][row] = sample.getValue(c);
+        }
+        localTimeNanos[row] = sample.getLocalTimeNanos();
+        sensorQuality[row] = sample.getSensorQuality();
+        aircraftTypes[row] = sample.getAircraftType();
+        anomalyMasks[row] = sample.getAnomalyMask();
+        return row;
+    }
+
+    /**
+     * Copies one sample into an AircraftData
+     *
+     * @param row Row of the sample
+     * @param target Sample to fill
+     */
+    public void copyTo(int row, AircraftData target) {
+        checkRow(row);
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            target.setValue(c, channels[c][row]);
+        }
+        target.setLocalTimeNanos(localTimeNanos[row]);
+        target.setSensorQuality(sensorQuality[row]);
+        target.setAircraftType(aircraftTypes[row]);
+        target.setAnomalyMask(anomalyMasks[row]);
+    }
+
+    /**
+     * Gets a copy of one sample as an AircraftData
+     */
+    public AircraftData get(int row) {
+        AircraftData sample = new AircraftData();
+        copyTo(row, sample);
+        return sample;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " outside batch of " + size);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,195 @@
+package com.aircraft.monitoring.model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.aircraft.monitoring.model.AircraftDeltaEncoder.BITMAP_BYTES;
+import static com.aircraft.monitoring.model.AircraftDeltaEncoder.ESCAPE;
+import static com.aircraft.monitoring.model.AircraftDeltaEncoder.KEYFRAME;
+import static com.aircraft.monitoring.model.AircraftDeltaEncoder.MASK;
+import static com.aircraft.monitoring.model.AircraftDeltaEncoder.QUALITY;
+import static com.aircraft.monitoring.model.AircraftDeltaEncoder.TYPE;
+import static com.aircraft.monitoring.model.AircraftDeltaEncoder.unzigzag;
+
+/**
+ * Decodes aircraft samples encoded by {@link AircraftDeltaEncoder}.
+ *
+ * The decoder keeps the last sample of each source and applies every
+ * encoded delta to it, so it must see the samples of a source in the order
+ * they were encoded, starting from a keyframe. Sources are numbered as on
+ * the encoding side. Not thread-safe.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class AircraftDeltaDecoder {
+
+    private static final double[] SCALE = new double[SensorChannel.COUNT];
+
+    static {
+        SensorChannel.requireCapacity(Integer.SIZE, AircraftDeltaDecoder.class);
+        for (SensorChannel channel : SensorChannel.values()) {
+            SCALE[channel.index()] = channel.getScale();
+        }
+    }
+
+    private final int sources;
+    // Per source and channel: steps of the current reading, 0 after a raw one
+    private final long[] steps;
+    private final double[] values;
+    private final long[] timestamps;
+    private final long[] intervals;
+    private final int[] masks;
+    private final long[] qualities;
+    private final int[] types;
+    private final boolean[] started;
+
+    /**
+     * Creates a decoder for a single source
+     */
+    public AircraftDeltaDecoder() {
+        this(1);
+    }
+
+    /**
+     * Creates a decoder for a number of sources, numbered from 0
+     *
+     * @param sources Number of sources
+     */
+    public AircraftDeltaDecoder(int sources) {
+        if (sources < 1) {
+            throw new IllegalArgumentException("Need at least one source: " + sources);
+        }
+        this.sources = sources;
+        this.steps = new long[sources * SensorChannel.COUNT];
+        this.values = new double[sources * SensorChannel.COUNT];
+        this.timestamps = new long[sources];
+        this.intervals = new long[sources];
+        this.masks = new int[sources];
+        this.qualities = new long[sources];
+        this.types = new int[sources];
+        this.started = new boolean[sources];
+    }
+
+    /**
+     * Gets the number of sources
+     */
+    public int getSources() {
+        return sources;
+    }
+
+    /**
+     * Decodes a sample of the only source
+     *
+     * @see #decode(int, ByteBuffer, AircraftData)
+     */
+    public void decode(ByteBuffer encoded, AircraftData target) {
+        decode(0, encoded, target);
+    }
+
+    /**
+     * Decodes the next sample of a source
+     *
+     * @param source Source of the sample
+     * @param encoded Buffer positioned at the encoded sample; it is left
+     *                positioned after it
+     * @param target Sample to fill: timestamp, readings, anomaly mask,
+     *               quality and aircraft type
+     * @throws IllegalStateException if the source has no keyframe yet
+     * @throws BufferUnderflowException if the buffer ends inside the sample
+     */
+    public void decode(int source, ByteBuffer encoded, AircraftData target) {
+        int flags = encoded.get() & 0xFF;
+        if ((flags & KEYFRAME) != 0) {
+            clear(source);
+        } else if (!started[source]) {
+            throw new IllegalStateException("Delta for source " + source + " before its first keyframe");
+        }
+        int base = source * SensorChannel.COUNT;
+
+        long interval = intervals[source] + unzigzag(getVarint(encoded));
+        long timestamp = timestamps[source] + interval;
+
+        int changed = 0;
+        for (int i = 0; i < BITMAP_BYTES; i++) {
+            changed |= (encoded.get() & 0xFF) << (8 * i);
+        }
+        for (int bits = changed; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            long change = getVarint(encoded);
+            if (change == ESCAPE) {
+                steps[base + c] = 0;
+                values[base + c] = Double.longBitsToDouble(getLong(encoded));
+            } else {
+                steps[base + c] += unzigzag(change);
+                values[base + c] = steps[base + c] / SCALE[c];
+            }
+        }
+
+        if ((flags & MASK) != 0) {
+            masks[source] = (int) getVarint(encoded);
+        }
+        if ((flags & QUALITY) != 0) {
+            qualities[source] = getLong(encoded);
+        }
+        if ((flags & TYPE) != 0) {
+            types[source] = (int) getVarint(encoded);
+        }
+        timestamps[source] = timestamp;
+        intervals[source] = interval;
+        started[source] = true;
+
+        target.setLocalTimeNanos(timestamp);
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            target.setValue(c, values[base + c]);
+        }
+        target.setAnomalyMask(masks[source]);
+        target.setSensorQuality(qualities[source]);
+        target.setAircraftType(types[source]);
+    }
+
+    /**
+     * Forgets the state of a source; its next sample must be a keyframe
+     */
+    public void reset(int source) {
+        started[source] = false;
+    }
+
+    /**
+     * Forgets the state of every source
+     */
+    public void reset() {
+        Arrays.fill(started, false);
+    }
+
+    private void clear(int source) {
+        Arrays.fill(steps, source * SensorChannel.COUNT, (source + 1) * SensorChannel.COUNT, 0);
+        Arrays.fill(values, source * SensorChannel.COUNT, (source + 1) * SensorChannel.COUNT, 0.0);
+        timestamps[source] = 0;
+        intervals[source] = 0;
+        masks[source] = 0;
+        qualities[source] = SensorQuality.ALL_VALID;
+        types[source] = 0;
+    }
+
+    private static long getVarint(ByteBuffer encoded) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = encoded.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint longer than 10 bytes");
+    }
+
+    private static long getLong(ByteBuffer encoded) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value |= (encoded.get() & 0xFFL) << (8 * i);
+        }
+        return value;
+    }
+}
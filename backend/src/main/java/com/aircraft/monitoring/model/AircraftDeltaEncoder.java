@@ -0,0 +1,274 @@
+package com.aircraft.monitoring.model;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes aircraft samples as deltas against the previous sample of the
+ * same source.
+ *
+ * Between two ticks most readings of an aircraft move by a few steps of
+ * their resolution, if at all, and the flags, qualities and type rarely
+ * change. An encoded sample therefore carries only what changed, as small
+ * integers:
+ *
+ * <pre>
+ *   byte     flags          KEYFRAME, MASK, QUALITY, TYPE
+ *   varint   timestamp      change of the interval since the previous sample, in nanoseconds
+ *   bytes    changed        (SensorChannel.COUNT + 7) / 8 bytes, bit c set if channel c follows
+ *   varint   per changed    change of the reading, in resolution steps of its channel
+ *   varint   anomaly mask   if MASK is set
+ *   8 bytes  quality        if QUALITY is set, the packed SensorQuality
+ *   varint   aircraft type  if TYPE is set
+ * </pre>
+ *
+ * Signed numbers are zigzag varints: the low bit is the sign, then 7 bits
+ * per byte, least significant first, with the top bit of each byte set if
+ * another follows. Fixed-width fields are little endian.
+ *
+ * Readings are quantized to their channel's resolution
+ * ({@link SensorChannel#getDecimals()}) and decoded as the nearest double
+ * to the rounded decimal. The encoder keeps the values the decoder holds, so
+ * rounding errors never add up: every decoded reading is within half a
+ * step of the original. A reading off the grid (NaN, infinite, or beyond
+ * 2^52 steps) is sent as the escape varint {@link #ESCAPE} followed by its
+ * 8 raw bytes and comes back exact. The timestamp, anomaly mask, quality
+ * and aircraft type are exact as well.
+ *
+ * A keyframe is a delta against an all-zero sample, so it decodes on its
+ * own. The first sample of each source is a keyframe, and so is the next
+ * one after {@link #reset(int)}, for example when a client joins or a
+ * storage segment starts. The state per source is a few hundred bytes in
+ * flat arrays; not thread-safe.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ * @see AircraftDeltaDecoder
+ */
+public class AircraftDeltaEncoder {
+
+    /** Flag: the sample is a keyframe, encoded against an all-zero sample */
+    static final int KEYFRAME = 1;
+    /** Flag: the anomaly mask follows */
+    static final int MASK = 1 << 1;
+    /** Flag: the packed reading quality follows */
+    static final int QUALITY = 1 << 2;
+    /** Flag: the aircraft type follows */
+    static final int TYPE = 1 << 3;
+
+    /**
+     * Bytes taken by the changed-channel bitmap
+     */
+    static final int BITMAP_BYTES = (SensorChannel.COUNT + 7) / 8;
+
+    /**
+     * Change varint that announces a raw 8-byte reading (the zigzag form of
+     * {@code Long.MIN_VALUE}, never a real change)
+     */
+    static final long ESCAPE = -1L;
+
+    // Readings of more steps than this are sent raw
+    static final double MAX_STEPS = 0x1p52;
+
+    private static final int VARINT_BYTES = 10;
+
+    /**
+     * Largest encoded size of one sample
+     */
+    public static final int MAX_BYTES = 1 + VARINT_BYTES + BITMAP_BYTES
+            + SensorChannel.COUNT * (VARINT_BYTES + Long.BYTES) + 5 + Long.BYTES + 5;
+
+    private static final double[] SCALE = new double[SensorChannel.COUNT];
+
+    static {
+        SensorChannel.requireCapacity(Integer.SIZE, AircraftDeltaEncoder.class);
+        for (SensorChannel channel : SensorChannel.values()) {
+            SCALE[channel.index()] = channel.getScale();
+        }
+    }
+
+    private final int sources;
+    // Per source and channel: steps as decoded, or the raw bits of a raw reading
+    private final long[] steps;
+    // Per source: bit c set if channel c was last sent raw
+    private final int[] rawChannels;
+    private final long[] timestamps;
+    private final long[] intervals;
+    private final int[] masks;
+    private final long[] qualities;
+    private final int[] types;
+    private final boolean[] started;
+    private final long[] next = new long[SensorChannel.COUNT];
+
+    /**
+     * Creates an encoder for a single source
+     */
+    public AircraftDeltaEncoder() {
+        this(1);
+    }
+
+    /**
+     * Creates an encoder for a number of sources, numbered from 0
+     *
+     * @param sources Number of sources, e.g. the fleet size
+     */
+    public AircraftDeltaEncoder(int sources) {
+        if (sources < 1) {
+            throw new IllegalArgumentException("Need at least one source: " + sources);
+        }
+        this.sources = sources;
+        this.steps = new long[sources * SensorChannel.COUNT];
+        this.rawChannels = new int[sources];
+        this.timestamps = new long[sources];
+        this.intervals = new long[sources];
+        this.masks = new int[sources];
+        this.qualities = new long[sources];
+        this.types = new int[sources];
+        this.started = new boolean[sources];
+    }
+
+    /**
+     * Gets the number of sources
+     */
+    public int getSources() {
+        return sources;
+    }
+
+    /**
+     * Encodes a sample of the only source
+     *
+     * @see #encode(int, AircraftData, ByteBuffer)
+     */
+    public int encode(AircraftData sample, ByteBuffer target) {
+        return encode(0, sample, target);
+    }
+
+    /**
+     * Encodes a sample as a delta against the previous sample of its source,
+     * or as a keyframe if the source has none
+     *
+     * @param source Source of the sample
+     * @param sample The sample to encode
+     * @param target Buffer to append the encoded sample to
+     * @return Number of bytes written
+     * @throws BufferOverflowException if the target has less than
+     *         {@link #MAX_BYTES} remaining; nothing is written then
+     */
+    public int encode(int source, AircraftData sample, ByteBuffer target) {
+        if (target.remaining() < MAX_BYTES) {
+            throw new BufferOverflowException();
+        }
+        if (!started[source]) {
+            clear(source);
+        }
+        int start = target.position();
+        int base = source * SensorChannel.COUNT;
+
+        // Work out the changed channels and their new state first
+        int changed = 0;
+        int raw = 0;
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            double value = sample.getValue(c);
+            double scaled = value * SCALE[c];
+            boolean wasRaw = (rawChannels[source] & 1 << c) != 0;
+            if (Math.abs(scaled) < MAX_STEPS) {
+                next[c] = Math.round(scaled);
+                changed |= (wasRaw || next[c] != steps[base + c] ? 1 : 0) << c;
+            } else {
+                next[c] = Double.doubleToRawLongBits(value);
+                raw |= 1 << c;
+                changed |= (!wasRaw || next[c] != steps[base + c] ? 1 : 0) << c;
+            }
+        }
+
+        int flags = started[source] ? 0 : KEYFRAME;
+        flags |= sample.getAnomalyMask() != masks[source] ? MASK : 0;
+        flags |= sample.getSensorQuality() != qualities[source] ? QUALITY : 0;
+        flags |= sample.getAircraftType() != types[source] ? TYPE : 0;
+        target.put((byte) flags);
+
+        long interval = sample.getLocalTimeNanos() - timestamps[source];
+        putVarint(target, zigzag(interval - intervals[source]));
+
+        for (int i = 0; i < BITMAP_BYTES; i++) {
+            target.put((byte) (changed >>> (8 * i)));
+        }
+        for (int bits = changed; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            if ((raw & 1 << c) != 0) {
+                putVarint(target, ESCAPE);
+                putLong(target, next[c]);
+            } else {
+                long previous = (rawChannels[source] & 1 << c) != 0 ? 0 : steps[base + c];
+                putVarint(target, zigzag(next[c] - previous));
+            }
+            steps[base + c] = next[c];
+        }
+
+        if ((flags & MASK) != 0) {
+            putVarint(target, sample.getAnomalyMask() & 0xFFFFFFFFL);
+        }
+        if ((flags & QUALITY) != 0) {
+            putLong(target, sample.getSensorQuality());
+        }
+        if ((flags & TYPE) != 0) {
+            putVarint(target, sample.getAircraftType() & 0xFFFFFFFFL);
+        }
+
+        rawChannels[source] = raw;
+        timestamps[source] = sample.getLocalTimeNanos();
+        intervals[source] = interval;
+        masks[source] = sample.getAnomalyMask();
+        qualities[source] = sample.getSensorQuality();
+        types[source] = sample.getAircraftType();
+        started[source] = true;
+        return target.position() - start;
+    }
+
+    /**
+     * Makes the next sample of a source a keyframe
+     */
+    public void reset(int source) {
+        started[source] = false;
+    }
+
+    /**
+     * Makes the next sample of every source a keyframe
+     */
+    public void reset() {
+        Arrays.fill(started, false);
+    }
+
+    private void clear(int source) {
+        Arrays.fill(steps, source * SensorChannel.COUNT, (source + 1) * SensorChannel.COUNT, 0);
+        rawChannels[source] = 0;
+        timestamps[source] = 0;
+        intervals[source] = 0;
+        masks[source] = 0;
+        qualities[source] = SensorQuality.ALL_VALID;
+        types[source] = 0;
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void putVarint(ByteBuffer target, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    static void putLong(ByteBuffer target, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            target.put((byte) (value >>> (8 * i)));
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.aircraft.monitoring.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Immutable copy of one aircraft sample, for sharing across threads.
+ *
+ * An {@link AircraftData} is a mutable bean: the tick thread fills it and
+ * detection sets its flags in place, so a reader on another thread must
+ * copy it under some protocol to see a consistent sample. A snapshot holds
+ * the same information (timestamp, readings in {@link SensorChannel}
+ * order, reading qualities, aircraft type and anomaly mask) in final
+ * fields and never changes after it is built. Once published, any number of threads can read, serialize or
+ * store it as is, with no lock and no defensive copy. The Java memory
+ * model guarantees that a thread which sees the reference also sees every
+ * field and reading as built, even if the reference was passed without
+ * synchronization.
+ *
+ * Snapshots are made with a {@link Builder}. A builder can be reused: each
+ * {@link Builder#build()} copies the readings into a new snapshot and
+ * leaves the builder as it was, so the tick thread keeps one builder and
+ * allocates just the snapshot per tick. The JSON form is the same as that
+ * of {@link AircraftData}.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@JsonPropertyOrder({
+        "timestamp",
+        "engineRPM", "engineTemperature", "oilPressure", "oilTemperature",
+        "fuelLevel", "fuelConsumption", "fuelPressure", "fuelTemperature",
+        "hydraulicPressure", "hydraulicTemperature", "hydraulicFluidLevel",
+        "altitude", "airspeed", "groundSpeed", "machNumber", "verticalSpeed",
+        "cabinPressure", "cabinTemperature", "batteryVoltage", "generatorOutput",
+        "engineAnomaly", "fuelAnomaly", "hydraulicAnomaly", "altitudeAnomaly", "airspeedAnomaly",
+        "systemStatus"
+})
+public final class AircraftSnapshot {
+
+    private final long localTimeNanos;
+    private final double[] values;
+    private final int anomalyMask;
+    private final long sensorQuality;
+    private final int aircraftType;
+
+    private AircraftSnapshot(Builder builder) {
+        this.localTimeNanos = builder.localTimeNanos;
+        this.values = builder.values.clone();
+        this.anomalyMask = builder.anomalyMask;
+        this.sensorQuality = builder.sensorQuality;
+        this.aircraftType = builder.aircraftType;
+    }
+
+    /**
+     * Creates a builder with no timestamp, all readings 0 and valid, and no
+     * anomalies
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a snapshot of a sample
+     *
+     * @param data The sample to copy
+     * @return A snapshot equal to the sample as it is now
+     */
+    public static AircraftSnapshot of(AircraftData data) {
+        return builder().from(data).build();
+    }
+
+    /**
+     * Copies the snapshot into a mutable sample
+     *
+     * @param target Sample to fill
+     */
+    public void copyTo(AircraftData target) {
+        target.setLocalTimeNanos(localTimeNanos);
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            target.setValue(c, values[c]);
+        }
+        target.setAnomalyMask(anomalyMask);
+        target.setSensorQuality(sensorQuality);
+        target.setAircraftType(aircraftType);
+    }
+
+    /**
+     * Creates a mutable sample holding the same data
+     */
+    public AircraftData toAircraftData() {
+        AircraftData data = new AircraftData();
+        copyTo(data);
+        return data;
+    }
+
+    /**
+     * Gets the local date-time in nanoseconds since 1970-01-01T00:00, or
+     * {@link AircraftData#NO_TIMESTAMP}
+     */
+    @JsonIgnore
+    public long getLocalTimeNanos() {
+        return localTimeNanos;
+    }
+
+    /**
+     * Gets the timestamp as a date-time, or null if the sample has none
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    public LocalDateTime getTimestamp() {
+        return AircraftData.toLocalDateTime(localTimeNanos);
+    }
+
+    /**
+     * Checks whether the sample has a timestamp
+     */
+    public boolean hasTimestamp() {
+        return localTimeNanos != AircraftData.NO_TIMESTAMP;
+    }
+
+    /**
+     * Gets the anomaly mask (the {@link AircraftData} anomaly bits)
+     */
+    @JsonIgnore
+    public int getAnomalyMask() {
+        return anomalyMask;
+    }
+
+    /**
+     * Gets the packed quality of the readings, see {@link SensorQuality}
+     */
+    @JsonIgnore
+    public long getSensorQuality() {
+        return sensorQuality;
+    }
+
+    /**
+     * Gets the quality of a sensor channel's reading
+     */
+    public SensorQuality getQuality(SensorChannel channel) {
+        return SensorQuality.of(sensorQuality, channel.index());
+    }
+
+    /**
+     * Gets the aircraft type number of the threshold profiles
+     */
+    @JsonIgnore
+    public int getAircraftType() {
+        return aircraftType;
+    }
+
+    /**
+     * Gets the reading of a sensor channel
+     */
+    public double getValue(SensorChannel channel) {
+        return values[channel.index()];
+    }
+
+    /**
+     * Gets the reading of a sensor channel by index
+     *
+     * @throws ArrayIndexOutOfBoundsException if there is no such channel
+     */
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    public boolean isEngineAnomaly() {
+        return (anomalyMask & AircraftData.ENGINE_ANOMALY) != 0;
+    }
+
+    public boolean isFuelAnomaly() {
+        return (anomalyMask & AircraftData.FUEL_ANOMALY) != 0;
+    }
+
+    public boolean isHydraulicAnomaly() {
+        return (anomalyMask & AircraftData.HYDRAULIC_ANOMALY) != 0;
+    }
+
+    public boolean isAltitudeAnomaly() {
+        return (anomalyMask & AircraftData.ALTITUDE_ANOMALY) != 0;
+    }
+
+    public boolean isAirspeedAnomaly() {
+        return (anomalyMask & AircraftData.AIRSPEED_ANOMALY) != 0;
+    }
+
+    /**
+     * Checks if any critical system has anomalies
+     */
+    public boolean hasAnyAnomaly() {
+        return anomalyMask != 0;
+    }
+
+    /**
+     * Gets the overall system status
+     * @return "NORMAL" if no anomalies, "WARNING" if any anomaly detected
+     */
+    public String getSystemStatus() {
+        return hasAnyAnomaly() ? "WARNING" : "NORMAL";
+    }
+
+    // Engine System Data
+
+    public double getEngineRPM() {
+        return values[SensorChannel.ENGINE_RPM.index()];
+    }
+
+    public double getEngineTemperature() {
+        return values[SensorChannel.ENGINE_TEMPERATURE.index()];
+    }
+
+    public double getOilPressure() {
+        return values[SensorChannel.OIL_PRESSURE.index()];
+    }
+
+    public double getOilTemperature() {
+        return values[SensorChannel.OIL_TEMPERATURE.index()];
+    }
+
+    // Fuel System Data
+
+    public double getFuelLevel() {
+        return values[SensorChannel.FUEL_LEVEL.index()];
+    }
+
+    public double getFuelConsumption() {
+        return values[SensorChannel.FUEL_CONSUMPTION.index()];
+    }
+
+    public double getFuelPressure() {
+        return values[SensorChannel.FUEL_PRESSURE.index()];
+    }
+
+    public double getFuelTemperature() {
+        return values[SensorChannel.FUEL_TEMPERATURE.index()];
+    }
+
+    // Hydraulic System Data
+
+    public double getHydraulicPressure() {
+        return values[SensorChannel.HYDRAULIC_PRESSURE.index()];
+    }
+
+    public double getHydraulicTemperature() {
+        return values[SensorChannel.HYDRAULIC_TEMPERATURE.index()];
+    }
+
+    public double getHydraulicFluidLevel() {
+        return values[SensorChannel.HYDRAULIC_FLUID_LEVEL.index()];
+    }
+
+    // Flight Data
+
+    public double getAltitude() {
+        return values[SensorChannel.ALTITUDE.index()];
+    }
+
+    public double getAirspeed() {
+        return values[SensorChannel.AIRSPEED.index()];
+    }
+
+    public double getGroundSpeed() {
+        return values[SensorChannel.GROUND_SPEED.index()];
+    }
+
+    public double getMachNumber() {
+        return values[SensorChannel.MACH_NUMBER.index()];
+    }
+
+    public double getVerticalSpeed() {
+        return values[SensorChannel.VERTICAL_SPEED.index()];
+    }
+
+    // Additional Systems
+
+    public double getCabinPressure() {
+        return values[SensorChannel.CABIN_PRESSURE.index()];
+    }
+
+    public double getCabinTemperature() {
+        return values[SensorChannel.CABIN_TEMPERATURE.index()];
+    }
+
+    public double getBatteryVoltage() {
+        return values[SensorChannel.BATTERY_VOLTAGE.index()];
+    }
+
+    public double getGeneratorOutput() {
+        return values[SensorChannel.GENERATOR_OUTPUT.index()];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AircraftSnapshot)) {
+            return false;
+        }
+        AircraftSnapshot other = (AircraftSnapshot) o;
+        return localTimeNanos == other.localTimeNanos
+                && anomalyMask == other.anomalyMask
+                && sensorQuality == other.sensorQuality
+                && aircraftType == other.aircraftType
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(localTimeNanos);
+        result = 31 * result + Arrays.hashCode(values);
+        result = 31 * result + anomalyMask;
+        result = 31 * result + Long.hashCode(sensorQuality);
+        return 31 * result + aircraftType;
+    }
+
+    @Override
+    public String toString() {
+        return "AircraftSnapshot(timestamp=" + getTimestamp()
+                + ", values=" + Arrays.toString(values)
+                + ", anomalyMask=" + anomalyMask
+                + ", sensorQuality=" + sensorQuality
+                + ", aircraftType=" + aircraftType + ")";
+    }
+
+    /**
+     * Mutable builder of snapshots. Not thread-safe; it is meant to stay
+     * with the thread that produces the samples.
+     */
+    public static final class Builder {
+
+        private long localTimeNanos = AircraftData.NO_TIMESTAMP;
+        private final double[] values = new double[SensorChannel.COUNT];
+        private int anomalyMask;
+        private long sensorQuality = SensorQuality.ALL_VALID;
+        private int aircraftType;
+
+        private Builder() {
+        }
+
+        /**
+         * Takes the timestamp, every reading, the reading qualities, the
+         * aircraft type and the anomaly mask of a sample
+         *
+         * @param data The sample to copy
+         */
+        public Builder from(AircraftData data) {
+            this.localTimeNanos = data.getLocalTimeNanos();
+            for (int c = 0; c < SensorChannel.COUNT; c++) {
+                values[c] = data.getValue(c);
+            }
+            this.anomalyMask = data.getAnomalyMask();
+            this.sensorQuality = data.getSensorQuality();
+            this.aircraftType = data.getAircraftType();
+            return this;
+        }
+
+        /**
+         * Sets the local date-time in nanoseconds since 1970-01-01T00:00, or
+         * {@link AircraftData#NO_TIMESTAMP}
+         */
+        public Builder localTimeNanos(long localTimeNanos) {
+            this.localTimeNanos = localTimeNanos;
+            return this;
+        }
+
+        /**
+         * Sets the timestamp; null clears it
+         */
+        public Builder timestamp(LocalDateTime timestamp) {
+            this.localTimeNanos = AircraftData.toLocalTimeNanos(timestamp);
+            return this;
+        }
+
+        /**
+         * Sets the reading of a sensor channel
+         */
+        public Builder value(SensorChannel channel, double value) {
+            values[channel.index()] = value;
+            return this;
+        }
+
+        /**
+         * Sets the reading of a sensor channel by index
+         *
+         * @throws ArrayIndexOutOfBoundsException if there is no such channel
+         */
+        public Builder value(int index, double value) {
+            values[index] = value;
+            return this;
+        }
+
+        /**
+         * Sets the anomaly mask (the {@link AircraftData} anomaly bits)
+         */
+        public Builder anomalyMask(int anomalyMask) {
+            this.anomalyMask = anomalyMask;
+            return this;
+        }
+
+        /**
+         * Sets the packed quality of the readings, see {@link SensorQuality}
+         */
+        public Builder sensorQuality(long sensorQuality) {
+            this.sensorQuality = sensorQuality;
+            return this;
+        }
+
+        /**
+         * Sets the quality of a sensor channel's reading
+         */
+        public Builder quality(SensorChannel channel, SensorQuality quality) {
+            this.sensorQuality = SensorQuality.with(sensorQuality, channel.index(), quality);
+            return this;
+        }
+
+        /**
+         * Sets the aircraft type number of the threshold profiles
+         */
+        public Builder aircraftType(int aircraftType) {
+            this.aircraftType = aircraftType;
+            return this;
+        }
+
+        /**
+         * Creates a snapshot of the builder's current state; the builder
+         * can be changed and reused afterwards
+         */
+        public AircraftSnapshot build() {
+            return new AircraftSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.aircraft.monitoring.model;
+
+/**
+ * Struct-of-arrays sensor state for a fleet of simulated aircraft.
+ *
+ * Instead of one {@link AircraftData} object per tail, the fleet keeps one
+ * primitive {@code double[]} per {@link SensorChannel}, indexed by tail.
+ * A whole-fleet tick is therefore a handful of linear array scans and does
+ * not allocate anything per tail. The {@link SensorQuality} of each tail's
+ * readings is one packed long per tail, all valid until marked otherwise,
+ * and its aircraft type one int per tail, the default type (0) until set.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class FleetState {
+
+    private final int size;
+    private final double[][] channels;
+    private final long[] sensorQuality;
+    private final int[] aircraftTypes;
+
+    /**
+     * Creates a zeroed fleet state
+     *
+     * @param size Number of tails in the fleet
+     */
+    public FleetState(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Fleet size must be at least 1: " + size);
+        }
+        this.size = size;
+        this.channels = new double[SensorChannel.COUNT][size];
+        this.sensorQuality = new long[size];
+        this.aircraftTypes = new int[size];
+    }
+
+    /**
+     * Gets the number of tails in the fleet
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the live value array of a channel, indexed by tail.
+     * Writes to the returned array update the fleet state directly.
+     */
+    public double[] getChannel(SensorChannel channel) {
+        return channels[channel.index()];
+    }
+
+    /**
+     * Gets a single channel value for one tail
+     */
+    public double get(SensorChannel channel, int tail) {
+        return channels[channel.index()][tail];
+    }
+
+    /**
+     * Sets a single channel value for one tail
+     */
+    public void set(SensorChannel channel, int tail, double value) {
+        channels[channel.index()][tail] = value;
+    }
+
+    /**
+     * Gets the live packed reading quality array, indexed by tail
+     * (see {@link SensorQuality})
+     */
+    public long[] getSensorQuality() {
+        return sensorQuality;
+    }
+
+    /**
+     * Gets the quality of a single channel reading of one tail
+     */
+    public SensorQuality getQuality(SensorChannel channel, int tail) {
+        return SensorQuality.of(sensorQuality[tail], channel.index());
+    }
+
+    /**
+     * Sets the quality of a single channel reading of one tail
+     */
+    public void setQuality(SensorChannel channel, int tail, SensorQuality quality) {
+        sensorQuality[tail] = SensorQuality.with(sensorQuality[tail], channel.index(), quality);
+    }
+
+    /**
+     * Gets the live aircraft type array, indexed by tail
+     * (type numbers of the threshold profiles)
+     */
+    public int[] getAircraftTypes() {
+        return aircraftTypes;
+    }
+
+    /**
+     * Gets the aircraft type number of one tail
+     */
+    public int getAircraftType(int tail) {
+        return aircraftTypes[tail];
+    }
+
+    /**
+     * Sets the aircraft type number of one tail
+     */
+    public void setAircraftType(int tail, int type) {
+        aircraftTypes[tail] = type;
+    }
+
+    /**
+     * Gets a batch view of the whole fleet, one row per tail.
+     * The batch shares the live channel, quality and type arrays, so it sees every
+     * later tick without copying; its timestamps and anomaly masks are its own.
+     */
+    public AircraftDataBatch asBatch() {
+        return new AircraftDataBatch(channels, sensorQuality, aircraftTypes, size);
+    }
+
+    /**
+     * Copies the sensor readings of one tail, their quality and the tail's
+     * aircraft type into an AircraftData sample
+     *
+     * @param tail The tail index
+     * @param target The sample to fill (timestamp and anomaly flags are left untouched)
+     */
+    public void copyTo(int tail, AircraftData target) {
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            target.setValue(c, channels[c][tail]);
+        }
+        target.setSensorQuality(sensorQuality[tail]);
+        target.setAircraftType(aircraftTypes[tail]);
+    }
+}
@@ -0,0 +1,229 @@
+package com.aircraft.monitoring.model;
+
+/**
+ * Registry of the sensor channels carried by every aircraft sample.
+ *
+ * Each channel has a fixed integer index, its declaration order, which
+ * matches the field order of {@link AircraftData}. Samples, fleet state,
+ * batches and history records all store readings as arrays indexed by
+ * channel, so code that handles every channel loops over the indices
+ * rather than naming fields. Each channel also carries its unit, the
+ * resolution its readings are meaningful to, the {@link SensorSystem} it
+ * belongs to and its normal operating range; a reading outside the range
+ * sets the channel's anomaly bit. Its hysteresis is how far back inside the
+ * range a reading must be to clear a debounced alert. Adding a
+ * channel is one entry here plus the matching {@link AircraftData}
+ * property.
+ *
+ * There can be at most {@link #MAX_COUNT} (32) channels. Detection,
+ * debouncing, z-score scoring, anomaly logging and the delta encoding hold
+ * one bit per channel of a sample in an int, and {@link SensorQuality}
+ * packs two bits per channel into a long. Each of them checks the channel
+ * count with {@link #requireCapacity(int, Class)} when it is loaded, so
+ * a 33rd channel fails at startup instead of wrapping {@code 1 << c}
+ * onto channel {@code c - 32}.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public enum SensorChannel {
+
+    // Engine System
+    ENGINE_RPM("engineRPM", "Engine RPM", "RPM", 0, SensorSystem.ENGINE,
+            500.0, 3000.0, 50.0, AircraftData.ENGINE_ANOMALY),
+    ENGINE_TEMPERATURE("engineTemperature", "Engine Temperature", "°C", 1, SensorSystem.ENGINE,
+            Double.NEGATIVE_INFINITY, 200.0, 5.0, AircraftData.ENGINE_ANOMALY),
+    OIL_PRESSURE("oilPressure", "Oil Pressure", "PSI", 1, SensorSystem.ENGINE,
+            20.0, 100.0, 2.0, AircraftData.ENGINE_ANOMALY),
+    OIL_TEMPERATURE("oilTemperature", "Oil Temperature", "°C", 1, SensorSystem.ENGINE,
+            Double.NEGATIVE_INFINITY, 120.0, 3.0, AircraftData.ENGINE_ANOMALY),
+
+    // Fuel System
+    FUEL_LEVEL("fuelLevel", "Fuel Level", "%", 2, SensorSystem.FUEL,
+            20.0, Double.POSITIVE_INFINITY, 1.0, AircraftData.FUEL_ANOMALY),
+    FUEL_CONSUMPTION("fuelConsumption", "Fuel Consumption", "GPH", 1, SensorSystem.FUEL,
+            Double.NEGATIVE_INFINITY, 1000.0, 25.0, AircraftData.FUEL_ANOMALY),
+    FUEL_PRESSURE("fuelPressure", "Fuel Pressure", "PSI", 1, SensorSystem.FUEL,
+            10.0, 50.0, 1.0, AircraftData.FUEL_ANOMALY),
+    FUEL_TEMPERATURE("fuelTemperature", "Fuel Temperature", "°C", 1, SensorSystem.FUEL),
+
+    // Hydraulic System
+    HYDRAULIC_PRESSURE("hydraulicPressure", "Hydraulic Pressure", "PSI", 0, SensorSystem.HYDRAULIC,
+            2000.0, 3500.0, 50.0, AircraftData.HYDRAULIC_ANOMALY),
+    HYDRAULIC_TEMPERATURE("hydraulicTemperature", "Hydraulic Temperature", "°C", 1, SensorSystem.HYDRAULIC,
+            Double.NEGATIVE_INFINITY, 80.0, 2.0, AircraftData.HYDRAULIC_ANOMALY),
+    HYDRAULIC_FLUID_LEVEL("hydraulicFluidLevel", "Hydraulic Fluid Level", "%", 1, SensorSystem.HYDRAULIC,
+            80.0, Double.POSITIVE_INFINITY, 1.0, AircraftData.HYDRAULIC_ANOMALY),
+
+    // Flight Data
+    ALTITUDE("altitude", "Altitude", "ft", 0, SensorSystem.FLIGHT,
+            Double.NEGATIVE_INFINITY, 45000.0, 500.0, AircraftData.ALTITUDE_ANOMALY),
+    AIRSPEED("airspeed", "Airspeed", "knots", 1, SensorSystem.FLIGHT,
+            Double.NEGATIVE_INFINITY, 600.0, 10.0, AircraftData.AIRSPEED_ANOMALY),
+    GROUND_SPEED("groundSpeed", "Ground Speed", "knots", 1, SensorSystem.FLIGHT),
+    MACH_NUMBER("machNumber", "Mach Number", "Mach", 3, SensorSystem.FLIGHT,
+            Double.NEGATIVE_INFINITY, 0.9, 0.01, AircraftData.AIRSPEED_ANOMALY),
+    VERTICAL_SPEED("verticalSpeed", "Vertical Speed", "ft/min", 0, SensorSystem.FLIGHT,
+            -5000.0, 5000.0, 250.0, AircraftData.ALTITUDE_ANOMALY),
+
+    // Additional Systems
+    CABIN_PRESSURE("cabinPressure", "Cabin Pressure", "PSI", 2, SensorSystem.CABIN),
+    CABIN_TEMPERATURE("cabinTemperature", "Cabin Temperature", "°C", 1, SensorSystem.CABIN),
+    BATTERY_VOLTAGE("batteryVoltage", "Battery Voltage", "V", 2, SensorSystem.ELECTRICAL),
+    GENERATOR_OUTPUT("generatorOutput", "Generator Output", "V", 1, SensorSystem.ELECTRICAL);
+
+    /**
+     * Number of channels, i.e. the width of one sample
+     */
+    public static final int COUNT = values().length;
+
+    /**
+     * Most channels there can be, the width of the per-channel bit sets
+     */
+    public static final int MAX_COUNT = Integer.SIZE;
+
+    private static final SensorChannel[] BY_INDEX = values();
+
+    private final String propertyName;
+    private final String label;
+    private final String unit;
+    private final int decimals;
+    private final double scale;
+    private final SensorSystem system;
+    private final double min;
+    private final double max;
+    private final double hysteresis;
+    private final int anomalyBit;
+
+    /**
+     * Declares a channel that is displayed but not checked for anomalies
+     */
+    SensorChannel(String propertyName, String label, String unit, int decimals, SensorSystem system) {
+        this(propertyName, label, unit, decimals, system, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0.0, 0);
+    }
+
+    SensorChannel(String propertyName, String label, String unit, int decimals, SensorSystem system,
+                  double min, double max, double hysteresis, int anomalyBit) {
+        this.propertyName = propertyName;
+        this.label = label;
+        this.unit = unit;
+        this.decimals = decimals;
+        this.scale = Math.pow(10, decimals);
+        this.system = system;
+        this.min = min;
+        this.max = max;
+        this.hysteresis = hysteresis;
+        this.anomalyBit = anomalyBit;
+    }
+
+    /**
+     * Gets the channel with an array index
+     *
+     * @throws ArrayIndexOutOfBoundsException if there is no such channel
+     */
+    public static SensorChannel of(int index) {
+        return BY_INDEX[index];
+    }
+
+    /**
+     * Fails if there are more channels than a per-channel bit set holds
+     *
+     * @param capacity Channels the bit set holds
+     * @param owner Class keeping the bit set, named in the message
+     * @throws IllegalStateException if there are more than {@code capacity} channels
+     */
+    public static void requireCapacity(int capacity, Class<?> owner) {
+        if (COUNT > capacity) {
+            throw new IllegalStateException(owner.getSimpleName() + " holds at most " + capacity
+                    + " channels per sample, but there are " + COUNT);
+        }
+    }
+
+    /**
+     * Gets the name of the matching {@link AircraftData} property
+     * (also used as the JSON field name)
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Gets the display name of the channel
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets the unit of the readings
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets the number of decimal places the readings are meaningful to;
+     * finer digits are sensor noise
+     */
+    public int getDecimals() {
+        return decimals;
+    }
+
+    /**
+     * Gets the number of resolution steps per unit, {@code 10^decimals}
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Gets the system the channel belongs to
+     */
+    public SensorSystem getSystem() {
+        return system;
+    }
+
+    /**
+     * Gets the lowest normal reading, or negative infinity if there is no minimum
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Gets the highest normal reading, or positive infinity if there is no maximum
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Gets how far inside the normal range a reading must be to clear a
+     * debounced alert, in the channel's unit; 0 if the channel is not checked
+     */
+    public double getHysteresis() {
+        return hysteresis;
+    }
+
+    /**
+     * Gets the {@link AircraftData} anomaly bit set by a reading out of
+     * range, or 0 if the channel is not checked
+     */
+    public int getAnomalyBit() {
+        return anomalyBit;
+    }
+
+    /**
+     * Checks whether the channel is checked for anomalies
+     */
+    public boolean isChecked() {
+        return anomalyBit != 0;
+    }
+
+    /**
+     * Gets the array index of this channel
+     */
+    public int index() {
+        return ordinal();
+    }
+}
@@ -0,0 +1,97 @@
+package com.aircraft.monitoring.model;
+
+/**
+ * Validity of a sensor reading, and the packed per-sample form of it.
+ *
+ * The quality of every channel of a sample fits in one {@code long}, two
+ * bits per channel, with no object per reading. Bit {@code c} of the low
+ * half is set for a reading that is not usable (stale or failed), and bit
+ * {@code 32 + c} of the high half tells the two states of each kind apart.
+ * The channels a reading check has to skip are therefore just
+ * {@code (int) quality} ({@link #unusableChannels(long)}), one bit per
+ * channel index. A quality of {@link #ALL_VALID} (0) means every reading
+ * is valid, so samples are valid unless marked otherwise.
+ *
+ * Two bits per channel in a long is what caps the registry at
+ * {@link SensorChannel#MAX_COUNT} (32) channels; loading this class with
+ * more fails with an {@code IllegalStateException} naming it.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public enum SensorQuality {
+
+    /** Fresh reading from a healthy sensor */
+    VALID(false, false),
+    /** Estimated from neighbouring readings; usable, but not measured */
+    INTERPOLATED(false, true),
+    /** Not refreshed when due; the value is old or missing */
+    STALE(true, false),
+    /** The sensor failed its built-in test; the value means nothing */
+    FAILED(true, true);
+
+    /**
+     * Packed quality of a sample whose readings are all valid
+     */
+    public static final long ALL_VALID = 0L;
+
+    // Offset of the second bit of a channel in the packed form
+    private static final int HIGH_HALF = 32;
+
+    private static final SensorQuality[] BY_BITS = {VALID, STALE, INTERPOLATED, FAILED};
+
+    static {
+        SensorChannel.requireCapacity(HIGH_HALF, SensorQuality.class);
+    }
+
+    private final boolean unusable;
+    private final boolean variant;
+
+    SensorQuality(boolean unusable, boolean variant) {
+        this.unusable = unusable;
+        this.variant = variant;
+    }
+
+    /**
+     * Checks whether readings of this quality may be checked for anomalies
+     */
+    public boolean isUsable() {
+        return !unusable;
+    }
+
+    /**
+     * Gets the quality of one channel from a packed quality
+     *
+     * @param quality Packed quality of a sample
+     * @param index The channel index, see {@link SensorChannel#index()}
+     */
+    public static SensorQuality of(long quality, int index) {
+        int bits = (int) (quality >>> index) & 1 | (int) (quality >>> (HIGH_HALF + index - 1)) & 2;
+        return BY_BITS[bits];
+    }
+
+    /**
+     * Sets the quality of one channel in a packed quality
+     *
+     * @param quality Packed quality of a sample
+     * @param index The channel index, see {@link SensorChannel#index()}
+     * @param channelQuality The new quality of the channel
+     * @return The packed quality with the channel changed
+     */
+    public static long with(long quality, int index, SensorQuality channelQuality) {
+        long low = 1L << index;
+        long high = 1L << (HIGH_HALF + index);
+        quality &= ~(low | high);
+        return quality | (channelQuality.unusable ? low : 0) | (channelQuality.variant ? high : 0);
+    }
+
+    /**
+     * Gets the channels whose readings are not usable (stale or failed)
+     *
+     * @param quality Packed quality of a sample
+     * @return Bit set with bit {@code c} set for each unusable channel index {@code c}
+     */
+    public static int unusableChannels(long quality) {
+        return (int) quality;
+    }
+}
@@ -0,0 +1,30 @@
+package com.aircraft.monitoring.model;
+
+/**
+ * Enumeration of the aircraft systems that sensor channels are grouped into.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public enum SensorSystem {
+
+    ENGINE("Engine System"),
+    FUEL("Fuel System"),
+    HYDRAULIC("Hydraulic System"),
+    FLIGHT("Flight Data"),
+    CABIN("Cabin Systems"),
+    ELECTRICAL("Electrical Systems");
+
+    private final String label;
+
+    SensorSystem(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the display name of the system
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,191 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hand-written JSON encoder of the {@code aircraft_data} WebSocket message.
+ *
+ * Writes {@code {"type":"aircraft_data","data":{...}}} in one pass into a
+ * byte buffer that is reused from message to message. The output is
+ * byte-identical to serializing the sample with Jackson (the
+ * {@link AircraftData} property order, {@code @JsonFormat} timestamp,
+ * {@code "NaN"} and {@code "Infinity"} as strings) and wrapping it in the
+ * envelope, but there is no reflection, no intermediate String and no
+ * date-time object per message:
+ *
+ * - Property names and the envelope are pre-encoded constants.
+ * - The formatted timestamp is cached per second. A new one is formatted
+ *   only when a sample falls in a different second from the last.
+ * - Readings are written as Jackson writes them on Java 19 and later, in
+ *   the shortest text of {@link Double#toString(double)}, rendered straight
+ *   into the buffer by {@link DoubleText} on every runtime. Java 17 renders
+ *   a few doubles with more digits than needed; the encoder writes the
+ *   shorter text there too, which reads back as the same double.
+ *
+ * After warm-up, encoding allocates nothing except once per second of
+ * timestamps. The text is ASCII, so the buffer can be sent as is.
+ * Not thread-safe; give each thread its own encoder.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class AircraftJsonEncoder {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final byte[] MESSAGE_START = ascii("{\"type\":\"aircraft_data\",\"data\":");
+    private static final byte[] TIMESTAMP_NAME = ascii("{\"timestamp\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NORMAL_END = ascii(",\"systemStatus\":\"NORMAL\"}}");
+    private static final byte[] WARNING_END = ascii(",\"systemStatus\":\"WARNING\"}}");
+
+    /**
+     * {@code ,"name":} of every channel, by channel index
+     */
+    private static final byte[][] CHANNEL_NAMES = new byte[SensorChannel.COUNT][];
+
+    // Anomaly flags in JSON order
+    private static final int[] ANOMALY_BITS = {
+            AircraftData.ENGINE_ANOMALY, AircraftData.FUEL_ANOMALY, AircraftData.HYDRAULIC_ANOMALY,
+            AircraftData.ALTITUDE_ANOMALY, AircraftData.AIRSPEED_ANOMALY
+    };
+    private static final byte[][] ANOMALY_NAMES = {
+            ascii(",\"engineAnomaly\":"), ascii(",\"fuelAnomaly\":"), ascii(",\"hydraulicAnomaly\":"),
+            ascii(",\"altitudeAnomaly\":"), ascii(",\"airspeedAnomaly\":")
+    };
+
+    static {
+        for (SensorChannel channel : SensorChannel.values()) {
+            CHANNEL_NAMES[channel.index()] = ascii(",\"" + channel.getPropertyName() + "\":");
+        }
+    }
+
+    private byte[] buffer = new byte[1024];
+    private int length;
+
+    // Quoted timestamp of the second encoded last
+    private long cachedSecond = Long.MIN_VALUE;
+    private byte[] cachedTimestamp;
+
+    /**
+     * Encodes the message of one sample, replacing the previous contents of
+     * the buffer
+     *
+     * @param data The sample, or null for a message with null data
+     * @return Length of the message in bytes
+     */
+    public int encodeMessage(AircraftData data) {
+        length = 0;
+        write(MESSAGE_START);
+        if (data == null) {
+            write(NULL);
+            writeByte('}');
+            return length;
+        }
+
+        write(TIMESTAMP_NAME);
+        if (data.hasTimestamp()) {
+            write(timestamp(data.getLocalTimeNanos()));
+        } else {
+            write(NULL);
+        }
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            write(CHANNEL_NAMES[c]);
+            writeDouble(data.getValue(c));
+        }
+        int mask = data.getAnomalyMask();
+        for (int i = 0; i < ANOMALY_BITS.length; i++) {
+            write(ANOMALY_NAMES[i]);
+            write((mask & ANOMALY_BITS[i]) != 0 ? TRUE : FALSE);
+        }
+        write(mask != 0 ? WARNING_END : NORMAL_END);
+        return length;
+    }
+
+    /**
+     * Gets the buffer holding the last message; only the first
+     * {@link #getLength()} bytes belong to it
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Gets the length of the last message in bytes
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Gets the last message as text
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Gets the quoted timestamp text, formatting it only when the second changes
+     */
+    private byte[] timestamp(long localTimeNanos) {
+        long second = Math.floorDiv(localTimeNanos, 1_000_000_000L);
+        if (second != cachedSecond || cachedTimestamp == null) {
+            LocalDateTime time = LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+            cachedTimestamp = ascii('"' + TIMESTAMP_FORMAT.format(time) + '"');
+            cachedSecond = second;
+        }
+        return cachedTimestamp;
+    }
+
+    private void writeDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            // Jackson writes non-numbers as strings by default
+            writeByte('"');
+            writeText(Double.toString(value));
+            writeByte('"');
+        } else {
+            ensureCapacity(DoubleText.MAX_LENGTH);
+            length = DoubleText.write(value, buffer, length);
+        }
+    }
+
+    private void writeText(CharSequence text) {
+        int size = text.length();
+        ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            buffer[length++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) c;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            byte[] larger = new byte[Math.max(buffer.length * 2, length + extra)];
+            System.arraycopy(buffer, 0, larger, 0, length);
+            buffer = larger;
+        }
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,213 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.util.Arrays;
+
+/**
+ * Debounces the out-of-range channels of each source into alerts.
+ *
+ * Each channel of a source is a small state machine. While its alert is
+ * clear, the last {@code window} samples are checked against the normal
+ * range, and the alert is raised once {@code confirm} of them were outside
+ * it. While the alert is raised, the samples are checked against the
+ * narrower clear range, the normal range moved inward by the channel's
+ * hysteresis, and the alert clears once {@code confirm} of the last
+ * {@code window} were inside it. The window starts empty at each flip, so
+ * samples from before it never count toward the next one. A reading that
+ * wobbles across a limit therefore raises the alert once, and it stays up
+ * until the reading has really come back. 1 of 1 raises on the first
+ * reading out of range, as without debouncing, and only adds the
+ * hysteresis.
+ *
+ * The state of a source is a bit set of raised channels, a bit set of
+ * channels with a non-empty window, and one byte per channel holding its
+ * window, newest sample in bit 0: a sample outside the normal range while
+ * the alert is clear, or inside the clear range while it is raised. A source with nothing out of range and
+ * nothing pending is one array read. Disjoint sources may be updated
+ * concurrently once {@link #ensureSources(int)} has made room for them; a
+ * state written while another thread grows the arrays for a new source may
+ * be lost, which at worst restarts that source's windows.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class AnomalyDebouncer {
+
+    /**
+     * Longest window, the bits of the per-channel window byte
+     */
+    public static final int MAX_WINDOW = 8;
+
+    static {
+        SensorChannel.requireCapacity(Integer.SIZE, AnomalyDebouncer.class);
+    }
+
+    private final int confirm;
+    private final int window;
+    private final int windowMask;
+
+    // Per source: channels whose alert is raised, and channels to update
+    // each sample (raised or with a non-empty window)
+    private volatile int[] raised = new int[0];
+    private volatile int[] pending = new int[0];
+    // Per source and channel: the last window samples since the alert last
+    // flipped, newest in bit 0, set when the sample counts toward a flip
+    private volatile byte[] history = new byte[0];
+
+    /**
+     * Creates a debouncer
+     *
+     * @param confirm Samples, of the last window, that raise or clear an alert
+     * @param window Samples looked back at, at most {@link #MAX_WINDOW}
+     */
+    public AnomalyDebouncer(int confirm, int window) {
+        if (window < 1 || window > MAX_WINDOW || confirm < 1 || confirm > window) {
+            throw new IllegalArgumentException("Need 1 <= confirm <= window <= " + MAX_WINDOW
+                    + ": " + confirm + " of " + window);
+        }
+        this.confirm = confirm;
+        this.window = window;
+        this.windowMask = (1 << window) - 1;
+    }
+
+    /**
+     * Gets the samples, of the last window, that raise or clear an alert
+     */
+    public int getConfirm() {
+        return confirm;
+    }
+
+    /**
+     * Gets the number of samples looked back at
+     */
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * Makes room for sources 0 to {@code sources - 1} at once, rather than
+     * growing as new sources show up
+     */
+    public void ensureSources(int sources) {
+        if (sources > raised.length) {
+            grow(sources - 1);
+        }
+    }
+
+    /**
+     * Gets the channels of a source that need the clear range checked:
+     * those whose alert is raised
+     *
+     * @param source Source, from 0
+     * @return Bit set of channels
+     */
+    public int raised(int source) {
+        int[] states = raised;
+        return source < states.length ? states[source] : 0;
+    }
+
+    /**
+     * Checks whether a source must be updated even with nothing out of
+     * range: an alert is raised or a window is not empty
+     */
+    public boolean isPending(int source) {
+        int[] states = pending;
+        return source < states.length && states[source] != 0;
+    }
+
+    /**
+     * Finds the next source in a range that must be updated: one out of
+     * range now, or with an alert raised or a window not empty
+     *
+     * @param outOfRange Bit sets of out-of-range channels, indexed by source
+     * @param from First source to look at (inclusive)
+     * @param to Last source to look at (exclusive)
+     * @return The source, or {@code to} if there is none
+     */
+    public int nextToUpdate(int[] outOfRange, int from, int to) {
+        int[] states = pending;
+        int tracked = Math.min(to, states.length);
+        int i = from;
+        for (; i < tracked; i++) {
+            if ((outOfRange[i] | states[i]) != 0) {
+                return i;
+            }
+        }
+        for (; i < to; i++) {
+            if (outOfRange[i] != 0) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Feeds one sample of a source through the state machines
+     *
+     * @param source Source of the sample, from 0
+     * @param outOfRange Bit set of channels outside the normal range
+     * @param outsideClear Bit set of channels outside the clear range; only
+     *                     the bits of {@link #raised(int)} are read
+     * @param held Bit set of channels whose readings are unusable; their
+     *             state is kept as it is and their alerts are not reported
+     * @return Bit set of channels whose alert is raised
+     */
+    public int update(int source, int outOfRange, int outsideClear, int held) {
+        if (source < 0) {
+            throw new IllegalArgumentException("Source must not be negative: " + source);
+        }
+        int[] raisedStates = raised;
+        if (source >= raisedStates.length) {
+            if (outOfRange == 0) {
+                return 0;
+            }
+            grow(source);
+            raisedStates = raised;
+        }
+        int[] pendingStates = pending;
+        int update = (outOfRange | pendingStates[source]) & ~held;
+        if (update == 0) {
+            return raisedStates[source] & ~held;
+        }
+
+        byte[] windows = history;
+        int base = source * SensorChannel.COUNT;
+        int up = raisedStates[source];
+        int waiting = pendingStates[source] & held;
+        for (int bits = update; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            int bit = 1 << c;
+            // A sample counts toward a flip when it is out of range while
+            // the alert is clear, or inside the clear range while it is raised
+            int toward = (up & bit) != 0
+                    ? ((outsideClear & bit) == 0 ? 1 : 0)
+                    : ((outOfRange & bit) != 0 ? 1 : 0);
+            int samples = ((windows[base + c] << 1) | toward) & windowMask;
+            if (Integer.bitCount(samples) >= confirm) {
+                up ^= bit;
+                samples = 0;
+            }
+            windows[base + c] = (byte) samples;
+            if (samples != 0 || (up & bit) != 0) {
+                waiting |= bit;
+            }
+        }
+        raisedStates[source] = up;
+        pendingStates[source] = waiting;
+        return up & ~held;
+    }
+
+    /**
+     * Grows the state arrays to hold the given source
+     */
+    private synchronized void grow(int source) {
+        if (source < raised.length) {
+            return;
+        }
+        int length = Math.max(source + 1, 2 * raised.length);
+        history = Arrays.copyOf(history, length * SensorChannel.COUNT);
+        pending = Arrays.copyOf(pending, length);
+        raised = Arrays.copyOf(raised, length);
+    }
+}
@@ -1,14 +1,67 @@
 package com.aircraft.monitoring.service;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.model.SensorQuality;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * Service responsible for detecting anomalies in aircraft sensor data.
  * 
  * This service analyzes sensor readings and flags suspicious or invalid values
  * for critical aircraft systems including engine, fuel, hydraulic, altitude, and airspeed.
+ * The normal ranges and the anomaly bit each channel sets come from the
+ * {@link ThresholdProfiles} of the sample's aircraft type. Without a
+ * profiles file every aircraft gets the ranges and bits of the
+ * {@link SensorChannel} registry. The profiles can be replaced while detection runs:
+ * each call reads the current profiles once, so a sample or batch is
+ * checked against one set of limits, never a mix of old and new. With
+ * {@code anomaly.profiles.watch} on, an edited profiles file is picked up
+ * on its own within {@code anomaly.profiles.watch-interval-ms}; a file that
+ * does not load leaves the current profiles in place. The file is compared
+ * by content, so an edit is seen even when it keeps the file's size and
+ * modification time.
+ * 
+ * Readings whose {@link SensorQuality} is stale or failed say nothing about
+ * the aircraft, so they never raise an anomaly. Detection first collects
+ * the out-of-range channels as a bit set, one bit per channel index, then
+ * drops the unusable ones with a single mask of the sample's packed quality
+ * and folds what is left into the anomaly bits. Interpolated readings are
+ * checked like valid ones.
+ * 
+ * Out-of-range readings are logged through an {@link AnomalyLogLimiter}:
+ * only the first reading of an excursion per source and channel, and at
+ * most {@code anomaly.log.max-per-interval} of those per summary interval.
+ * The readings that were not logged are counted, and a summary of the
+ * counts is logged every {@code anomaly.log.summary-interval-ms}.
+ * 
+ * With {@code anomaly.debounce.enabled}, the out-of-range channels of each
+ * source go through an {@link AnomalyDebouncer} before they set anomaly
+ * bits: an alert is raised after {@code confirm} of the last
+ * {@code window} readings were out of range, and cleared after as many
+ * were back inside the range narrowed by the channel's hysteresis. A
+ * reading wobbling across a limit then flags its system once instead of
+ * every other sample. Excursions are logged when the alert is raised.
+ * 
+ * With {@code anomaly.zscore.enabled}, each usable reading of a checked
+ * channel is also scored by a {@link ZScoreDetector} against the running
+ * statistics of its own source and channel, and a reading more than
+ * {@code anomaly.zscore.threshold} standard deviations from that source's
+ * mean is treated as out of range even within the type's limits. It flags
+ * the same system bit, and goes through the debouncer and the anomaly log
+ * like any other out-of-range reading.
  * 
  * @author Aircraft Monitoring Team
  * @version 1.0.0
@@ -17,57 +70,468 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AnomalyDetectionService {
     
-    // Engine System Thresholds
-    private static final double MIN_ENGINE_RPM = 500.0;
-    private static final double MAX_ENGINE_RPM = 3000.0;
-    private static final double MAX_ENGINE_TEMPERATURE = 200.0; // Celsius
-    private static final double MIN_OIL_PRESSURE = 20.0; // PSI
-    private static final double MAX_OIL_PRESSUURE = 100.0; // PSI
-    private static final double MAX_OIL_TEMPERATURE = 120.0; // Celsius
-    
-    // Fuel System Thresholds
-    private static final double MIN_FUEL_LEVEL = 20.0; // Percentage
-    private static final double MAX_FUEL_CONSUMPTION = 1000.0; // Gallons per hour
-    private static final double MIN_FUEL_PRESSURE = 10.0; // PSI
-    private static final double MAX_FUEL_PRESSURE = 50.0; // PSI
-    
-    // Hydraulic System Thresholds
-    private static final double MIN_HYDRAULIC_PRESSURE = 2000.0; // PSI
-    private static final double MAX_HYDRAULIC_PRESSURE = 3500.0; // PSI
-    private static final double MAX_HYDRAULIC_TEMPERATURE = 80.0; // Celsius
-    private static final double MIN_HYDRAULIC_FLUID_LEVEL = 80.0; // Percentage
-    
-    // Flight Data Thresholds
-    private static final double MAX_ALTITUDE = 45000.0; // Feet
-    private static final double MAX_AIRSPEED = 600.0; // Knots
-    private static final double MAX_MACH_NUMBER = 0.9;
-    private static final double MAX_VERTICAL_SPEED = 5000.0; // Feet per minute
+    // Every channel that raises an anomaly bit
+    private static final int CHECKED_CHANNELS;
+    
+    static {
+        SensorChannel.requireCapacity(Integer.SIZE, AnomalyDetectionService.class);
+        int checked = 0;
+        for (SensorChannel channel : SensorChannel.values()) {
+            if (channel.isChecked()) {
+                checked |= 1 << channel.index();
+            }
+        }
+        CHECKED_CHANNELS = checked;
+    }
+    
+    /**
+     * Rows analyzed per block in batch detection; the block's masks stay in
+     * the L1 cache while every channel is checked against them
+     */
+    private static final int BLOCK_ROWS = 512;
+    
+    /**
+     * Scratch space of batch detection per thread, so a call allocates nothing
+     */
+    private final ThreadLocal<BatchScratch> batchScratch = ThreadLocal.withInitial(BatchScratch::new);
+    
+    /**
+     * Properties file of per-type threshold profiles; empty gives every
+     * aircraft the registry's ranges
+     */
+    @Value("${anomaly.profiles.file:}")
+    private String profilesFile = "";
+    
+    /**
+     * Whether to reload the profiles file when it changes
+     */
+    @Value("${anomaly.profiles.watch:true}")
+    private boolean watchProfiles = true;
+    
+    /**
+     * Whether batch detection uses the Vector API scanner where it is
+     * available
+     */
+    @Value("${anomaly.batch.vector:true}")
+    private boolean batchVector = true;
+    
+    private volatile ColumnScanner columnScanner = ColumnScanner.SCALAR;
+    
+    /**
+     * Excursions logged one by one per summary interval; the rest are counted
+     */
+    @Value("${anomaly.log.max-per-interval:20}")
+    private int maxLogLines = 20;
+    
+    private volatile AnomalyLogLimiter anomalyLog = new AnomalyLogLimiter(maxLogLines);
+    
+    /**
+     * Whether out-of-range readings are debounced into alerts per source
+     */
+    @Value("${anomaly.debounce.enabled:false}")
+    private boolean debounceEnabled = false;
+    
+    /**
+     * Readings, of the last window, that raise or clear a debounced alert
+     */
+    @Value("${anomaly.debounce.confirm:1}")
+    private int debounceConfirm = 1;
+    
+    /**
+     * Readings looked back at by the debouncer
+     */
+    @Value("${anomaly.debounce.window:1}")
+    private int debounceWindow = 1;
+    
+    // Null when readings flag anomalies directly
+    private volatile AnomalyDebouncer debouncer;
+    
+    /**
+     * Whether readings are also scored against their source's own statistics
+     */
+    @Value("${anomaly.zscore.enabled:false}")
+    private boolean zScoreEnabled = false;
+    
+    /**
+     * Standard deviations from a source's mean beyond which a reading deviates
+     */
+    @Value("${anomaly.zscore.threshold:4.0}")
+    private double zScoreThreshold = 4.0;
+    
+    /**
+     * Readings a source's channel needs before it is scored
+     */
+    @Value("${anomaly.zscore.warmup:30}")
+    private int zScoreWarmup = 30;
+    
+    /**
+     * Estimate readings are scored against: WELFORD (every reading so far)
+     * or EWMA (exponentially weighted)
+     */
+    @Value("${anomaly.zscore.baseline:WELFORD}")
+    private ZScoreDetector.Baseline zScoreBaseline = ZScoreDetector.Baseline.WELFORD;
+    
+    /**
+     * Weight of each reading in the exponentially weighted estimate
+     */
+    @Value("${anomaly.zscore.ewma-alpha:0.05}")
+    private double zScoreAlpha = 0.05;
+    
+    /**
+     * Comma-separated channels to score, such as OIL_PRESSURE; empty scores
+     * every checked channel
+     */
+    @Value("${anomaly.zscore.channels:}")
+    private String zScoreChannels = "";
+    
+    // Null when readings are only checked against fixed limits
+    private volatile ZScoreDetector zScoreDetector;
+    
+    // Replaced whole, never changed in place
+    private volatile ThresholdProfiles thresholdProfiles = ThresholdProfiles.defaults();
+    
+    // Content of the profiles file when it was last read
+    private byte[] profilesContent;
+    
+    /**
+     * Loads the configured threshold profiles, if any
+     * 
+     * @throws UncheckedIOException if the profiles file cannot be read
+     */
+    @PostConstruct
+    public void loadThresholdProfiles() {
+        if (profilesFile.isEmpty()) {
+            return;
+        }
+        try {
+            reloadThresholdProfiles();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read threshold profiles " + profilesFile, e);
+        }
+    }
+    
+    /**
+     * Picks the batch column scanner according to {@code anomaly.batch.vector}
+     */
+    @PostConstruct
+    public void selectColumnScanner() {
+        setBatchVector(batchVector);
+        log.info("Batch anomaly detection: {}", columnScanner.getName());
+    }
+    
+    /**
+     * Applies the configured anomaly log limit
+     */
+    @PostConstruct
+    public void startAnomalyLog() {
+        anomalyLog = new AnomalyLogLimiter(maxLogLines);
+    }
+    
+    /**
+     * Starts debouncing if {@code anomaly.debounce.enabled} is set
+     * 
+     * @throws IllegalArgumentException if the confirm count or window is invalid
+     */
+    @PostConstruct
+    public void startDebouncer() {
+        if (debounceEnabled) {
+            setDebouncer(new AnomalyDebouncer(debounceConfirm, debounceWindow));
+            log.info("Debouncing anomalies: {} of {} readings", debounceConfirm, debounceWindow);
+        }
+    }
+    
+    /**
+     * Starts z-score detection if {@code anomaly.zscore.enabled} is set
+     * 
+     * @throws IllegalArgumentException if a setting is invalid or a channel
+     *         unknown
+     */
+    @PostConstruct
+    public void startZScoreDetector() {
+        if (!zScoreEnabled) {
+            return;
+        }
+        int channels = 0;
+        for (String name : zScoreChannels.split(",")) {
+            if (!name.isBlank()) {
+                channels |= 1 << SensorChannel.valueOf(name.trim()).index();
+            }
+        }
+        setZScoreDetector(new ZScoreDetector(zScoreThreshold, zScoreWarmup, zScoreBaseline, zScoreAlpha,
+                channels != 0 ? channels : CHECKED_CHANNELS));
+        log.info("Z-score detection: {} baseline, {} standard deviations after {} readings",
+                zScoreBaseline, zScoreThreshold, zScoreWarmup);
+    }
+    
+    /**
+     * Sets the detector that scores readings against their source's own
+     * statistics
+     * 
+     * @param detector The detector, or null to check readings against fixed
+     *                 limits only; of its channels, only checked ones are
+     *                 scored
+     */
+    public void setZScoreDetector(ZScoreDetector detector) {
+        this.zScoreDetector = detector;
+    }
+    
+    /**
+     * Gets the z-score detector in use
+     * 
+     * @return The detector, or null if readings are only checked against
+     *         fixed limits
+     */
+    public ZScoreDetector getZScoreDetector() {
+        return zScoreDetector;
+    }
+    
+    /**
+     * Sets the debouncer that turns out-of-range readings into alerts
+     * 
+     * @param debouncer The debouncer, or null to flag every reading out of
+     *                  range directly
+     */
+    public void setDebouncer(AnomalyDebouncer debouncer) {
+        this.debouncer = debouncer;
+    }
+    
+    /**
+     * Gets the debouncer in use
+     * 
+     * @return The debouncer, or null if readings flag anomalies directly
+     */
+    public AnomalyDebouncer getDebouncer() {
+        return debouncer;
+    }
+    
+    /**
+     * Logs the out-of-range readings counted since the previous summary, if any
+     * 
+     * @return The counts, reset for the next interval
+     */
+    @Scheduled(fixedDelayString = "${anomaly.log.summary-interval-ms:10000}")
+    public AnomalyLogLimiter.Summary logAnomalySummary() {
+        AnomalyLogLimiter.Summary summary = anomalyLog.drain();
+        if (summary.isEmpty()) {
+            return summary;
+        }
+        StringBuilder channels = new StringBuilder();
+        for (SensorChannel channel : SensorChannel.values()) {
+            long readings = summary.started()[channel.index()] + summary.repeated()[channel.index()];
+            if (readings > 0) {
+                channels.append(channels.length() > 0 ? ", " : "").append(channel.getLabel()).append(' ').append(readings);
+            }
+        }
+        log.warn("Anomaly summary: {} excursions started ({} not logged), {} readings in ongoing excursions; out of range by channel: {}",
+                summary.totalStarted(), summary.notLogged(), summary.totalRepeated(), channels);
+        return summary;
+    }
+    
+    /**
+     * Turns the Vector API path of batch detection on or off
+     * 
+     * @param enabled Whether to use the Vector API; ignored unless it was
+     *                built with the {@code vector} profile and the JVM runs
+     *                with {@code --add-modules jdk.incubator.vector}
+     * @return Whether batch detection now uses the Vector API
+     */
+    public boolean setBatchVector(boolean enabled) {
+        ColumnScanner vector = ColumnScanner.vector();
+        columnScanner = enabled && vector != null ? vector : ColumnScanner.SCALAR;
+        return columnScanner != ColumnScanner.SCALAR;
+    }
+    
+    /**
+     * Checks whether batch detection uses the Vector API
+     */
+    public boolean isBatchVector() {
+        return columnScanner != ColumnScanner.SCALAR;
+    }
+    
+    /**
+     * Gets the threshold profiles detection currently applies
+     */
+    public ThresholdProfiles getThresholdProfiles() {
+        return thresholdProfiles;
+    }
+    
+    /**
+     * Replaces the threshold profiles; detection calls already running
+     * finish with the old ones
+     * 
+     * @param profiles The new profiles
+     * @throws IllegalArgumentException if the new profiles renumber or drop
+     *         a type of the current ones, since samples carry type numbers
+     */
+    public synchronized void setThresholdProfiles(ThresholdProfiles profiles) {
+        ThresholdProfiles current = thresholdProfiles;
+        if (!profiles.keepsTypesOf(current)) {
+            throw new IllegalArgumentException("Threshold profiles must keep the aircraft types "
+                    + current.getTypes() + " in order, got " + profiles.getTypes());
+        }
+        thresholdProfiles = profiles;
+        log.info("Threshold profiles set for aircraft types {}", profiles.getTypes());
+    }
+    
+    /**
+     * Reads the configured profiles file again and applies it
+     * 
+     * @return The profiles now in use
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if no file is configured, or it is not
+     *         a valid profile set for the current types
+     */
+    public synchronized ThresholdProfiles reloadThresholdProfiles() throws IOException {
+        if (profilesFile.isEmpty()) {
+            throw new IllegalArgumentException("No threshold profiles file configured (anomaly.profiles.file)");
+        }
+        byte[] content = Files.readAllBytes(Paths.get(profilesFile));
+        setThresholdProfiles(ThresholdProfiles.load(content));
+        profilesContent = content;
+        return thresholdProfiles;
+    }
+    
+    /**
+     * Reloads the profiles file if it changed since it was last read
+     * 
+     * Detection keeps running on the current profiles meanwhile. A changed
+     * file that cannot be read or is not a valid profile set is logged and
+     * not tried again until it changes once more.
+     * 
+     * @return true if new profiles were applied
+     */
+    @Scheduled(fixedDelayString = "${anomaly.profiles.watch-interval-ms:5000}")
+    public synchronized boolean checkThresholdProfiles() {
+        if (profilesFile.isEmpty() || !watchProfiles) {
+            return false;
+        }
+        byte[] content;
+        try {
+            content = Files.readAllBytes(Paths.get(profilesFile));
+        } catch (IOException e) {
+            log.debug("Cannot check threshold profiles {}: {}", profilesFile, e.toString());
+            return false;
+        }
+        if (Arrays.equals(content, profilesContent)) {
+            return false;
+        }
+        profilesContent = content;
+        try {
+            setThresholdProfiles(ThresholdProfiles.load(content));
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Keeping the current threshold profiles, cannot apply {}: {}", profilesFile, e.getMessage());
+            return false;
+        }
+    }
     
     /**
      * Analyzes aircraft data and detects anomalies in all critical systems
      * 
      * @param data The aircraft sensor data to analyze
      * @return Updated AircraftData with anomaly flags set
+     * @see #detectAnomalies(AircraftData, int)
      */
     public AircraftData detectAnomalies(AircraftData data) {
-        log.debug("Analyzing aircraft data for anomalies: {}", data.getTimestamp());
-        
-        // Detect engine anomalies
-        data.setEngineAnomaly(detectEngineAnomalies(data));
+        return detectAnomalies(data, 0);
+    }
+    
+    /**
+     * Analyzes aircraft data of a source and detects anomalies in all
+     * critical systems
+     * 
+     * @param data The aircraft sensor data to analyze
+     * @param source Aircraft the sample comes from, usually its tail index;
+     *               excursions are logged, and alerts debounced, per source
+     *               and channel
+     * @return Updated AircraftData with anomaly flags set
+     */
+    public AircraftData detectAnomalies(AircraftData data, int source) {
+        return analyze(data, source, anomalyLog, debouncer, zScoreDetector);
+    }
+    
+    /**
+     * Analyzes aircraft data of a source against detection state kept apart
+     * from the live one
+     * 
+     * @param data The aircraft sensor data to analyze
+     * @param source Aircraft the sample comes from, numbered within the state
+     * @param state State from {@link #newDetectionState()}
+     * @return Updated AircraftData with anomaly flags set
+     */
+    public AircraftData detectAnomalies(AircraftData data, int source, DetectionState state) {
+        return analyze(data, source, state.anomalyLog(), state.debouncer(), state.zScoreDetector());
+    }
+    
+    /**
+     * Creates empty per-source detection state with the current settings
+     * 
+     * Replays number their tails like the live fleet. Detecting them
+     * against their own state keeps recorded readings out of the live
+     * excursions, alerts and z-score baselines. Their excursions are still
+     * logged within the live line limit and counted in its summary.
+     */
+    public DetectionState newDetectionState() {
+        AnomalyDebouncer alerts = debouncer;
+        ZScoreDetector zScores = zScoreDetector;
+        return new DetectionState(anomalyLog.withSeparateSources(),
+                alerts != null ? new AnomalyDebouncer(alerts.getConfirm(), alerts.getWindow()) : null,
+                zScores != null ? new ZScoreDetector(zScores.getThreshold(), zScores.getWarmup(),
+                        zScores.getBaseline(), zScores.getStatistics().getAlpha(), zScores.getChannels()) : null);
+    }
+    
+    /**
+     * Analyzes a sample of a source against the given per-source state
+     * 
+     * @param alerts Debouncer, or null to flag readings directly
+     * @param zScores Z-score detector, or null to check fixed limits only
+     */
+    private AircraftData analyze(AircraftData data, int source, AnomalyLogLimiter limiter,
+                                 AnomalyDebouncer alerts, ZScoreDetector zScores) {
+        // Check every channel against the normal range of the sample's type
+        // without branching; NaN is never out of range. Unchecked channels
+        // have infinite limits.
+        ThresholdProfiles profiles = thresholdProfiles;
+        double[] min = profiles.minValues();
+        double[] max = profiles.maxValues();
+        int base = profiles.offsetOf(data.getAircraftType());
+        int outOfRange = 0;
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            double value = data.getValue(c);
+            outOfRange |= (value < min[base + c] | value > max[base + c] ? 1 : 0) << c;
+        }
         
-        // Detect fuel system anomalies
-        data.setFuelAnomaly(detectFuelAnomalies(data));
+        int unusable = SensorQuality.unusableChannels(data.getSensorQuality());
+        if ((outOfRange & unusable) != 0 && log.isDebugEnabled()) {
+            log.debug("Ignoring {} out-of-range readings of stale or failed sensors",
+                    Integer.bitCount(outOfRange & unusable));
+        }
+        outOfRange &= ~unusable;
         
-        // Detect hydraulic system anomalies
-        data.setHydraulicAnomaly(detectHydraulicAnomalies(data));
+        // Score the usable readings against the source's own statistics
+        int deviating = 0;
+        if (zScores != null) {
+            for (int bits = zScores.getChannels() & CHECKED_CHANNELS & ~unusable; bits != 0; bits &= bits - 1) {
+                int c = Integer.numberOfTrailingZeros(bits);
+                deviating |= zScores.update(source, c, data.getValue(c)) ? 1 << c : 0;
+            }
+            outOfRange |= deviating;
+        }
         
-        // Detect altitude anomalies
-        data.setAltitudeAnomaly(detectAltitudeAnomalies(data));
+        if (alerts != null) {
+            outOfRange = alerts.update(source, outOfRange,
+                    outsideClear(data, alerts.raised(source), profiles, base) | deviating, unusable);
+        }
         
-        // Detect airspeed anomalies
-        data.setAirspeedAnomaly(detectAirspeedAnomalies(data));
+        int toLog = limiter.record(source, outOfRange);
+        data.setAnomalyMask(toAnomalyMask(outOfRange, profiles.systemBits(), base));
         
-        if (data.hasAnyAnomaly()) {
+        if (toLog != 0) {
+            for (int bits = toLog; bits != 0; bits &= bits - 1) {
+                int c = Integer.numberOfTrailingZeros(bits);
+                logOutOfRange(SensorChannel.of(c), data.getValue(c), data.getAircraftType(), source, profiles,
+                        zScores);
+            }
             log.warn("Anomalies detected in aircraft data: {}", data.getSystemStatus());
         }
         
@@ -75,145 +539,328 @@ public class AnomalyDetectionService {
     }
     
     /**
-     * Detects anomalies in engine systems
+     * Makes room in the per-source state for sources 0 to {@code sources - 1}
+     * 
+     * Detection otherwise grows the anomaly log, debouncer and z-score
+     * statistics as new sources show up, and an update made by one thread
+     * while another grows them may be lost. Call this with the batch size
+     * before analyzing disjoint ranges of a batch on several threads.
+     * 
+     * @param sources Number of sources, such as rows of a batch
      */
-    private boolean detectEngineAnomalies(AircraftData data) {
-        boolean anomaly = false;
-        
-        // Check engine RPM
-        if (data.getEngineRPM() < MIN_ENGINE_RPM || data.getEngineRPM() > MAX_ENGINE_RPM) {
-            log.warn("Engine RPM anomaly: {} (normal range: {}-{})", 
-                    data.getEngineRPM(), MIN_ENGINE_RPM, MAX_ENGINE_RPM);
-            anomaly = true;
+    public void ensureSources(int sources) {
+        anomalyLog.ensureSources(sources);
+        AnomalyDebouncer alerts = debouncer;
+        if (alerts != null) {
+            alerts.ensureSources(sources);
+        }
+        ZScoreDetector zScores = zScoreDetector;
+        if (zScores != null) {
+            zScores.ensureSources(sources);
+        }
+    }
+    
+    /**
+     * Analyzes a batch of aircraft data and sets the anomaly mask of every sample
+     * 
+     * @param batch The samples to analyze
+     * @return Number of samples with at least one anomaly
+     * @see #detectAnomalies(AircraftDataBatch, int, int)
+     */
+    public int detectAnomalies(AircraftDataBatch batch) {
+        ensureSources(batch.getSize());
+        return detectAnomalies(batch, 0, batch.getSize());
+    }
+    
+    /**
+     * Analyzes a range of samples in a batch and sets their anomaly masks
+     * 
+     * Applies the same thresholds as {@link #detectAnomalies(AircraftData)}
+     * and yields the same mask per sample, but scans the channel arrays
+     * instead of reading sample by sample. The range is analyzed in blocks
+     * of rows. A block whose rows are all of one aircraft type is checked
+     * one channel at a time against that type's limits, in SIMD compares
+     * with the Vector API where it is available and in tight loops
+     * otherwise; a block
+     * of mixed types is checked row by row, each row at its type's offset
+     * in the limit arrays. Readings the batch's quality array marks unusable
+     * are then masked out row by row.
+     * Each row is a source for the z-score detector, the anomaly log and the
+     * debouncer, so readings are scored, excursions logged and alerts
+     * debounced per row and channel as in per-sample detection.
+     * Disjoint ranges of one batch may be analyzed concurrently once
+     * {@link #ensureSources(int)} has made room for all its rows.
+     * 
+     * @param batch The samples to analyze
+     * @param from First row to analyze (inclusive)
+     * @param to Last row to analyze (exclusive)
+     * @return Number of samples in the range with at least one anomaly
+     */
+    public int detectAnomalies(AircraftDataBatch batch, int from, int to) {
+        Objects.checkFromToIndex(from, to, batch.getSize());
+        int[] masks = batch.getAnomalyMasks();
+        long[] quality = batch.getSensorQuality();
+        int[] types = batch.getAircraftTypes();
+        ThresholdProfiles profiles = thresholdProfiles;
+        ColumnScanner scanner = columnScanner;
+        AnomalyLogLimiter limiter = anomalyLog;
+        AnomalyDebouncer alerts = debouncer;
+        ZScoreDetector zScores = zScoreDetector;
+        BatchScratch scratch = batchScratch.get();
+        int[] deviations = null;
+        if (zScores != null) {
+            deviations = scratch.deviations;
+            for (int bits = zScores.getChannels() & CHECKED_CHANNELS; bits != 0; bits &= bits - 1) {
+                int c = Integer.numberOfTrailingZeros(bits);
+                scratch.columns[c] = batch.getChannel(SensorChannel.of(c));
+            }
         }
         
-        // Check engine temperature
-        if (data.getEngineTemperature() > MAX_ENGINE_TEMPERATURE) {
-            log.warn("Engine temperature anomaly: {}°C (max: {}°C)", 
-                    data.getEngineTemperature(), MAX_ENGINE_TEMPERATURE);
-            anomaly = true;
+        for (int start = from; start < to; start += BLOCK_ROWS) {
+            int end = Math.min(start + BLOCK_ROWS, to);
+            if (isSingleType(types, start, end)) {
+                scanBlock(batch, masks, start, end, profiles, profiles.offsetOf(types[start]), scanner);
+            } else {
+                scanMixedBlock(batch, masks, start, end, profiles, scratch.bases);
+            }
+            for (int i = start; i < end; i++) {
+                masks[i] &= ~SensorQuality.unusableChannels(quality[i]);
+            }
+            if (zScores != null) {
+                scoreBlock(batch, masks, start, end, zScores, scratch.columns, deviations);
+            }
+            if (alerts != null) {
+                debounceBlock(batch, masks, start, end, profiles, alerts, deviations);
+            }
+            for (int i = limiter.nextToRecord(masks, start, end); i < end; i = limiter.nextToRecord(masks, i + 1, end)) {
+                int toLog = limiter.record(i, masks[i]);
+                for (int bits = toLog; bits != 0; bits &= bits - 1) {
+                    int c = Integer.numberOfTrailingZeros(bits);
+                    logOutOfRange(SensorChannel.of(c), batch.getChannel(SensorChannel.of(c))[i], types[i], i, profiles,
+                            zScores);
+                }
+            }
+            for (int i = start; i < end; i++) {
+                masks[i] = toAnomalyMask(masks[i], profiles.systemBits(), profiles.offsetOf(types[i]));
+            }
         }
         
-        // Check oil pressure
-        if (data.getOilPressure() < MIN_OIL_PRESSURE || data.getOilPressure() > MAX_OIL_PRESSUURE) {
-            log.warn("Oil pressure anomaly: {} PSI (normal range: {}-{} PSI)", 
-                    data.getOilPressure(), MIN_OIL_PRESSURE, MAX_OIL_PRESSUURE);
-            anomaly = true;
+        // Keep no reference to the batch once the call returns
+        Arrays.fill(scratch.columns, null);
+        
+        int anomalous = 0;
+        for (int i = from; i < to; i++) {
+            anomalous += masks[i] != 0 ? 1 : 0;
         }
         
-        // Check oil temperature
-        if (data.getOilTemperature() > MAX_OIL_TEMPERATURE) {
-            log.warn("Oil temperature anomaly: {}°C (max: {}°C)", 
-                    data.getOilTemperature(), MAX_OIL_TEMPERATURE);
-            anomaly = true;
+        if (anomalous > 0 && log.isDebugEnabled()) {
+            log.debug("Anomalies detected in {} of {} samples", anomalous, to - from);
         }
         
-        return anomaly;
+        return anomalous;
     }
     
     /**
-     * Detects anomalies in fuel system
+     * Checks whether a range of rows are all of one aircraft type
      */
-    private boolean detectFuelAnomalies(AircraftData data) {
-        boolean anomaly = false;
-        
-        // Check fuel level
-        if (data.getFuelLevel() < MIN_FUEL_LEVEL) {
-            log.warn("Low fuel level: {}% (min: {}%)", data.getFuelLevel(), MIN_FUEL_LEVEL);
-            anomaly = true;
-        }
-        
-        // Check fuel consumption
-        if (data.getFuelConsumption() > MAX_FUEL_CONSUMPTION) {
-            log.warn("High fuel consumption: {} GPH (max: {} GPH)", 
-                    data.getFuelConsumption(), MAX_FUEL_CONSUMPTION);
-            anomaly = true;
+    private static boolean isSingleType(int[] types, int from, int to) {
+        int type = types[from];
+        for (int i = from + 1; i < to; i++) {
+            if (types[i] != type) {
+                return false;
+            }
         }
-        
-        // Check fuel pressure
-        if (data.getFuelPressure() < MIN_FUEL_PRESSURE || data.getFuelPressure() > MAX_FUEL_PRESSURE) {
-            log.warn("Fuel pressure anomaly: {} PSI (normal range: {}-{} PSI)", 
-                    data.getFuelPressure(), MIN_FUEL_PRESSURE, MAX_FUEL_PRESSURE);
-            anomaly = true;
+        return true;
+    }
+    
+    /**
+     * Sets the masks of a block of rows of one aircraft type to the bit set
+     * of their out-of-range channels
+     * 
+     * Each channel with a finite limit is one scanner call over its column;
+     * channels without limits are skipped. NaN compares false, as in the
+     * per-sample checks.
+     * 
+     * @param base Offset of the type's limits in the profile arrays
+     */
+    private static void scanBlock(AircraftDataBatch batch, int[] masks, int from, int to,
+                                  ThresholdProfiles profiles, int base, ColumnScanner scanner) {
+        Arrays.fill(masks, from, to, 0);
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            double min = profiles.minValues()[base + c];
+            double max = profiles.maxValues()[base + c];
+            if (min != Double.NEGATIVE_INFINITY || max != Double.POSITIVE_INFINITY) {
+                scanner.scan(batch.getChannel(SensorChannel.of(c)), masks, from, to, min, max, 1 << c);
+            }
         }
-        
-        return anomaly;
     }
     
     /**
-     * Detects anomalies in hydraulic system
+     * Sets the masks of a block of rows of mixed aircraft types to the bit
+     * set of their out-of-range channels, checking each row against the
+     * limits at its type's offset
+     * 
+     * @param bases Scratch space of at least one entry per row of the block
      */
-    private boolean detectHydraulicAnomalies(AircraftData data) {
-        boolean anomaly = false;
-        
-        // Check hydraulic pressure
-        if (data.getHydraulicPressure() < MIN_HYDRAULIC_PRESSURE || 
-            data.getHydraulicPressure() > MAX_HYDRAULIC_PRESSURE) {
-            log.warn("Hydraulic pressure anomaly: {} PSI (normal range: {}-{} PSI)", 
-                    data.getHydraulicPressure(), MIN_HYDRAULIC_PRESSURE, MAX_HYDRAULIC_PRESSURE);
-            anomaly = true;
+    private static void scanMixedBlock(AircraftDataBatch batch, int[] masks, int from, int to,
+                                       ThresholdProfiles profiles, int[] bases) {
+        double[] min = profiles.minValues();
+        double[] max = profiles.maxValues();
+        int[] types = batch.getAircraftTypes();
+        int rows = to - from;
+        for (int j = 0; j < rows; j++) {
+            bases[j] = profiles.offsetOf(types[from + j]);
         }
-        
-        // Check hydraulic temperature
-        if (data.getHydraulicTemperature() > MAX_HYDRAULIC_TEMPERATURE) {
-            log.warn("Hydraulic temperature anomaly: {}°C (max: {}°C)", 
-                    data.getHydraulicTemperature(), MAX_HYDRAULIC_TEMPERATURE);
-            anomaly = true;
+        Arrays.fill(masks, from, to, 0);
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            // Profiles only set limits of checked channels
+            if (!SensorChannel.of(c).isChecked()) {
+                continue;
+            }
+            double[] values = batch.getChannel(SensorChannel.of(c));
+            int bit = 1 << c;
+            for (int j = 0; j < rows; j++) {
+                double value = values[from + j];
+                int limit = bases[j] + c;
+                masks[from + j] |= value < min[limit] | value > max[limit] ? bit : 0;
+            }
         }
-        
-        // Check hydraulic fluid level
-        if (data.getHydraulicFluidLevel() < MIN_HYDRAULIC_FLUID_LEVEL) {
-            log.warn("Low hydraulic fluid level: {}% (min: {}%)", 
-                    data.getHydraulicFluidLevel(), MIN_HYDRAULIC_FLUID_LEVEL);
-            anomaly = true;
+    }
+    
+    /**
+     * Scores the usable readings of a block of rows, each row its own
+     * source, and adds the deviating channels to the rows' masks
+     * 
+     * Rows are scored one after the other, all channels of a row together,
+     * since a source's statistics lie side by side.
+     * 
+     * @param columns Column of each scored channel, by channel index
+     * @param deviations Set to the deviating channels of each row of the
+     *                   block, at least one entry per row
+     */
+    private static void scoreBlock(AircraftDataBatch batch, int[] masks, int from, int to,
+                                   ZScoreDetector zScores, double[][] columns, int[] deviations) {
+        long[] quality = batch.getSensorQuality();
+        int channels = zScores.getChannels() & CHECKED_CHANNELS;
+        for (int i = from; i < to; i++) {
+            int deviating = 0;
+            for (int bits = channels & ~SensorQuality.unusableChannels(quality[i]); bits != 0; bits &= bits - 1) {
+                int c = Integer.numberOfTrailingZeros(bits);
+                deviating |= zScores.update(i, c, columns[c][i]) ? 1 << c : 0;
+            }
+            deviations[i - from] = deviating;
+            masks[i] |= deviating;
         }
-        
-        return anomaly;
     }
     
     /**
-     * Detects anomalies in altitude data
+     * Debounces the out-of-range channels of a block of rows, each row its
+     * own source; rows with nothing out of range and nothing pending are
+     * skipped
+     * 
+     * @param deviations Deviating channels of each row of the block, which
+     *                   count as outside the clear range, or null if
+     *                   readings are not scored
      */
-    private boolean detectAltitudeAnomalies(AircraftData data) {
-        boolean anomaly = false;
-        
-        // Check maximum altitude
-        if (data.getAltitude() > MAX_ALTITUDE) {
-            log.warn("Altitude anomaly: {} feet (max: {} feet)", 
-                    data.getAltitude(), MAX_ALTITUDE);
-            anomaly = true;
+    private static void debounceBlock(AircraftDataBatch batch, int[] masks, int from, int to,
+                                      ThresholdProfiles profiles, AnomalyDebouncer alerts, int[] deviations) {
+        long[] quality = batch.getSensorQuality();
+        int[] types = batch.getAircraftTypes();
+        double[] clearMin = profiles.clearMinValues();
+        double[] clearMax = profiles.clearMaxValues();
+        for (int i = alerts.nextToUpdate(masks, from, to); i < to; i = alerts.nextToUpdate(masks, i + 1, to)) {
+            int base = profiles.offsetOf(types[i]);
+            int outsideClear = 0;
+            for (int bits = alerts.raised(i); bits != 0; bits &= bits - 1) {
+                int c = Integer.numberOfTrailingZeros(bits);
+                double value = batch.getChannel(SensorChannel.of(c))[i];
+                outsideClear |= value < clearMin[base + c] | value > clearMax[base + c] ? 1 << c : 0;
+            }
+            if (deviations != null) {
+                outsideClear |= deviations[i - from];
+            }
+            masks[i] = alerts.update(i, masks[i], outsideClear, SensorQuality.unusableChannels(quality[i]));
         }
-        
-        // Check vertical speed
-        if (Math.abs(data.getVerticalSpeed()) > MAX_VERTICAL_SPEED) {
-            log.warn("Vertical speed anomaly: {} ft/min (max: {} ft/min)", 
-                    data.getVerticalSpeed(), MAX_VERTICAL_SPEED);
-            anomaly = true;
+    }
+    
+    /**
+     * Gets which of the given channels of a sample are outside the clear
+     * range of its type
+     */
+    private static int outsideClear(AircraftData data, int channels, ThresholdProfiles profiles, int base) {
+        double[] clearMin = profiles.clearMinValues();
+        double[] clearMax = profiles.clearMaxValues();
+        int outside = 0;
+        for (int bits = channels; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            double value = data.getValue(c);
+            outside |= value < clearMin[base + c] | value > clearMax[base + c] ? 1 << c : 0;
         }
-        
-        return anomaly;
+        return outside;
     }
     
     /**
-     * Detects anomalies in airspeed data
+     * Folds a bit set of out-of-range channels into the anomaly bits their
+     * aircraft type's profile gives them
+     * 
+     * @param base Offset of the type's rules in the profile arrays
      */
-    private boolean detectAirspeedAnomalies(AircraftData data) {
-        boolean anomaly = false;
-        
-        // Check maximum airspeed
-        if (data.getAirspeed() > MAX_AIRSPEED) {
-            log.warn("Airspeed anomaly: {} knots (max: {} knots)", 
-                    data.getAirspeed(), MAX_AIRSPEED);
-            anomaly = true;
+    private static int toAnomalyMask(int outOfRange, int[] systemBits, int base) {
+        int mask = 0;
+        for (int bits = outOfRange; bits != 0; bits &= bits - 1) {
+            mask |= systemBits[base + Integer.numberOfTrailingZeros(bits)];
         }
-        
-        // Check Mach number
-        if (data.getMachNumber() > MAX_MACH_NUMBER) {
-            log.warn("Mach number anomaly: {} (max: {})", 
-                    data.getMachNumber(), MAX_MACH_NUMBER);
-            anomaly = true;
+        return mask;
+    }
+    
+    /**
+     * Logs a reading outside the normal range of its aircraft type, or one
+     * within it that deviates from its source's statistics
+     * 
+     * @param source Aircraft the reading comes from
+     * @param zScores The z-score detector in use, or null
+     */
+    private static void logOutOfRange(SensorChannel channel, double value, int type, int source,
+                                      ThresholdProfiles profiles, ZScoreDetector zScores) {
+        double min = profiles.getMin(type, channel);
+        double max = profiles.getMax(type, channel);
+        String unit = channel.getUnit();
+        if (zScores != null && value >= min && value <= max) {
+            int c = channel.index();
+            String format = "%." + channel.getDecimals() + "f";
+            log.warn("{} deviation on tail {}: {} {} (usually {} ± {} {})", channel.getLabel(), source, value, unit,
+                    String.format(format, zScores.getMean(source, c)),
+                    String.format(format, zScores.getStandardDeviation(source, c)), unit);
+        } else if (min == Double.NEGATIVE_INFINITY) {
+            log.warn("{} anomaly on tail {}: {} {} (max: {} {})", channel.getLabel(), source, value, unit, max, unit);
+        } else if (max == Double.POSITIVE_INFINITY) {
+            log.warn("{} anomaly on tail {}: {} {} (min: {} {})", channel.getLabel(), source, value, unit, min, unit);
+        } else {
+            log.warn("{} anomaly on tail {}: {} {} (normal range: {} to {} {})", channel.getLabel(), source, value,
+                    unit, min, max, unit);
         }
-        
-        return anomaly;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Scratch arrays of one thread's batch detection calls
+     */
+    private static final class BatchScratch {
+        // Profile offset of each row of a mixed-type block
+        final int[] bases = new int[BLOCK_ROWS];
+        // Deviating channels of each row of a block
+        final int[] deviations = new int[BLOCK_ROWS];
+        // Column of each scored channel, by channel index
+        final double[][] columns = new double[SensorChannel.COUNT][];
+    }
+    
+    /**
+     * Per-source detection state of samples analyzed apart from the live ones
+     * 
+     * @param anomalyLog Excursions of the sources, sharing the live line limit
+     * @param debouncer Alerts of the sources, or null if not debounced
+     * @param zScoreDetector Statistics of the sources, or null if not scored
+     */
+    public record DetectionState(AnomalyLogLimiter anomalyLog, AnomalyDebouncer debouncer,
+                                 ZScoreDetector zScoreDetector) {
+    }
+}
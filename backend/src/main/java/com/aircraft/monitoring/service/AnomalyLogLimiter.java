@@ -0,0 +1,227 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decides which out-of-range readings are worth a log line.
+ *
+ * A source (an aircraft, usually its tail index) is either in range on a
+ * channel or in an excursion. Only the first reading of an excursion is
+ * logged; the readings that keep it going are counted. The excursion ends
+ * when the source is next seen in range on that channel, so the next one
+ * is logged again. On top of that, at most a fixed number of excursions
+ * are logged per summary interval, so a fleet-wide excursion costs a
+ * handful of lines and the rest shows up in the summary.
+ *
+ * The state is one {@code int} per source, the bit set of its channels in
+ * an excursion, so checking a sample in range is one array read. Disjoint
+ * sources may be recorded concurrently once {@link #ensureSources(int)} has
+ * made room for them; the counters are atomic and only touched for
+ * readings out of range. A state written while another thread grows the
+ * array for a new source may be lost, which at worst logs one excursion
+ * twice.
+ *
+ * A second set of sources numbered like the first, such as a replay of
+ * recorded tails, gets its own excursions from
+ * {@link #withSeparateSources()} while sharing the line limit and counts.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class AnomalyLogLimiter {
+
+    static {
+        SensorChannel.requireCapacity(Integer.SIZE, AnomalyLogLimiter.class);
+    }
+
+    private final int maxLines;
+
+    // Per source: bit c set while channel c is in an excursion
+    private volatile int[] excursions = new int[0];
+
+    private final AtomicInteger linesLeft;
+    private final AtomicLongArray started;
+    private final AtomicLongArray repeated;
+    private final AtomicLong unlogged;
+
+    /**
+     * Creates a limiter
+     *
+     * @param maxLines Excursions logged per summary interval
+     */
+    public AnomalyLogLimiter(int maxLines) {
+        if (maxLines < 0) {
+            throw new IllegalArgumentException("Line limit must not be negative: " + maxLines);
+        }
+        this.maxLines = maxLines;
+        this.linesLeft = new AtomicInteger(maxLines);
+        this.started = new AtomicLongArray(SensorChannel.COUNT);
+        this.repeated = new AtomicLongArray(SensorChannel.COUNT);
+        this.unlogged = new AtomicLong();
+    }
+
+    /**
+     * Creates a limiter sharing the line limit and counts of another
+     */
+    private AnomalyLogLimiter(AnomalyLogLimiter shared) {
+        this.maxLines = shared.maxLines;
+        this.linesLeft = shared.linesLeft;
+        this.started = shared.started;
+        this.repeated = shared.repeated;
+        this.unlogged = shared.unlogged;
+    }
+
+    /**
+     * Creates a limiter for another set of sources: it tracks their
+     * excursions apart from this limiter's, but logs within the same line
+     * limit and counts into the same summary, which {@link #drain()} on
+     * either returns
+     */
+    public AnomalyLogLimiter withSeparateSources() {
+        return new AnomalyLogLimiter(this);
+    }
+
+    /**
+     * Makes room for sources 0 to {@code sources - 1} at once, rather than
+     * growing as new sources show up
+     */
+    public void ensureSources(int sources) {
+        if (sources > 0) {
+            statesFor(sources - 1);
+        }
+    }
+
+    /**
+     * Records the out-of-range channels of one sample of a source
+     *
+     * @param source Source of the sample, from 0
+     * @param outOfRange Bit set of its channels out of range
+     * @return Bit set of the channels to log now: those starting an
+     *         excursion, as far as the line limit allows
+     */
+    public int record(int source, int outOfRange) {
+        int[] states = statesFor(source);
+        int previous = states[source];
+        if ((previous | outOfRange) == 0) {
+            return 0;
+        }
+        states[source] = outOfRange;
+        count(repeated, outOfRange & previous);
+        return start(outOfRange & ~previous);
+    }
+
+    /**
+     * Finds the next source in a range that must be recorded: one out of
+     * range now or in an excursion until now
+     *
+     * @param outOfRange Bit sets of out-of-range channels, indexed by source
+     * @param from First source to look at (inclusive)
+     * @param to Last source to look at (exclusive)
+     * @return The source, or {@code to} if there is none
+     */
+    public int nextToRecord(int[] outOfRange, int from, int to) {
+        if (to <= from) {
+            return to;
+        }
+        int[] states = statesFor(to - 1);
+        for (int i = from; i < to; i++) {
+            if ((outOfRange[i] | states[i]) != 0) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Gets the counts since the previous summary and starts a new interval,
+     * with the full line allowance again
+     */
+    public Summary drain() {
+        long[] startedCounts = new long[SensorChannel.COUNT];
+        long[] repeatedCounts = new long[SensorChannel.COUNT];
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            startedCounts[c] = started.getAndSet(c, 0);
+            repeatedCounts[c] = repeated.getAndSet(c, 0);
+        }
+        long notLogged = unlogged.getAndSet(0);
+        linesLeft.set(maxLines);
+        return new Summary(startedCounts, repeatedCounts, notLogged);
+    }
+
+    /**
+     * Counts excursions that start and picks those still within the line limit
+     */
+    private int start(int channels) {
+        count(started, channels);
+        int logged = 0;
+        for (int bits = channels; bits != 0; bits &= bits - 1) {
+            if (linesLeft.get() > 0 && linesLeft.getAndDecrement() > 0) {
+                logged |= Integer.lowestOneBit(bits);
+            } else {
+                unlogged.incrementAndGet();
+            }
+        }
+        return logged;
+    }
+
+    private static void count(AtomicLongArray counts, int channels) {
+        for (int bits = channels; bits != 0; bits &= bits - 1) {
+            counts.incrementAndGet(Integer.numberOfTrailingZeros(bits));
+        }
+    }
+
+    /**
+     * Gets the state array, grown to hold the given source
+     */
+    private int[] statesFor(int source) {
+        if (source < 0) {
+            throw new IllegalArgumentException("Source must not be negative: " + source);
+        }
+        int[] states = excursions;
+        if (source < states.length) {
+            return states;
+        }
+        synchronized (this) {
+            if (source >= excursions.length) {
+                excursions = Arrays.copyOf(excursions, Math.max(source + 1, 2 * excursions.length));
+            }
+            return excursions;
+        }
+    }
+
+    /**
+     * Counts of one summary interval, indexed by channel
+     *
+     * @param started Excursions that started
+     * @param repeated Readings out of range that continued an excursion
+     * @param notLogged Excursions not logged because of the line limit
+     */
+    public record Summary(long[] started, long[] repeated, long notLogged) {
+
+        /**
+         * Gets the number of excursions that started
+         */
+        public long totalStarted() {
+            return Arrays.stream(started).sum();
+        }
+
+        /**
+         * Gets the number of readings that continued an excursion
+         */
+        public long totalRepeated() {
+            return Arrays.stream(repeated).sum();
+        }
+
+        /**
+         * Checks whether nothing was out of range
+         */
+        public boolean isEmpty() {
+            return totalStarted() == 0 && totalRepeated() == 0;
+        }
+    }
+}
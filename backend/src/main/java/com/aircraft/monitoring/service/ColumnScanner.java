@@ -0,0 +1,92 @@
+package com.aircraft.monitoring.service;
+
+/**
+ * Range check of one channel column over a block of batch rows.
+ *
+ * Batch detection calls a scanner once per channel and block. The scalar
+ * scanner is plain loops that the JIT may auto-vectorize. The vector
+ * scanner uses the JDK Vector API ({@code jdk.incubator.vector}) for
+ * explicit SIMD compares. It is compiled only by the {@code vector} Maven
+ * profile and runs only when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}, so it is looked up
+ * reflectively; {@link #vector()} is null wherever it cannot run.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+interface ColumnScanner {
+
+    /**
+     * Plain loops, one per finite limit
+     */
+    ColumnScanner SCALAR = new ColumnScanner() {
+        @Override
+        public void scan(double[] values, int[] masks, int from, int to, double min, double max, int bit) {
+            if (min != Double.NEGATIVE_INFINITY) {
+                for (int i = from; i < to; i++) {
+                    masks[i] |= values[i] < min ? bit : 0;
+                }
+            }
+            if (max != Double.POSITIVE_INFINITY) {
+                for (int i = from; i < to; i++) {
+                    masks[i] |= values[i] > max ? bit : 0;
+                }
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "scalar";
+        }
+    };
+
+    /**
+     * Sets a bit in the mask of every row whose reading is below the
+     * minimum or above the maximum; NaN readings are never out of range and
+     * other mask bits are left alone
+     *
+     * @param values Readings of one channel, indexed by row
+     * @param masks Masks, indexed by row
+     * @param from First row (inclusive)
+     * @param to Last row (exclusive)
+     * @param min Lowest normal reading, or negative infinity
+     * @param max Highest normal reading, or positive infinity
+     * @param bit Bit to set for a reading out of range
+     */
+    void scan(double[] values, int[] masks, int from, int to, double min, double max, int bit);
+
+    /**
+     * Gets a short description for logs and benchmark tables
+     */
+    String getName();
+
+    /**
+     * Gets the Vector API scanner, or null if it was not built or the
+     * module is not loaded
+     */
+    static ColumnScanner vector() {
+        return VectorHolder.SCANNER;
+    }
+
+    /**
+     * Loads the vector scanner once, on first use
+     */
+    final class VectorHolder {
+
+        private static final String VECTOR_SCANNER = "com.aircraft.monitoring.service.VectorColumnScanner";
+
+        static final ColumnScanner SCANNER = load();
+
+        private VectorHolder() {
+        }
+
+        private static ColumnScanner load() {
+            try {
+                return (ColumnScanner) Class.forName(VECTOR_SCANNER).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Not compiled in, or jdk.incubator.vector not in the module graph
+                return null;
+            }
+        }
+    }
+}
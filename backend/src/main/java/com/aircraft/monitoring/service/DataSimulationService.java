@@ -1,13 +1,41 @@
 package com.aircraft.monitoring.service;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.AircraftSnapshot;
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.simulation.Fault;
+import com.aircraft.monitoring.simulation.FaultInjector;
+import com.aircraft.monitoring.simulation.FlightProfile;
+import com.aircraft.monitoring.simulation.FleetSimulator;
+import com.aircraft.monitoring.simulation.HistoryRecord;
+import com.aircraft.monitoring.simulation.HistoryRing;
+import com.aircraft.monitoring.simulation.RandomStreams;
+import com.aircraft.monitoring.simulation.SampleBuffer;
+import com.aircraft.monitoring.simulation.SerialTickExecutor;
+import com.aircraft.monitoring.simulation.TickExecutor;
+import com.aircraft.monitoring.simulation.TickScheduler;
+import com.aircraft.monitoring.simulation.TimeWarpGenerator;
+import com.aircraft.monitoring.simulation.VirtualClock;
+import com.aircraft.monitoring.simulation.WallClock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.stereotype.Service;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Service responsible for simulating aircraft sensor data.
@@ -15,6 +43,34 @@ import java.util.Random;
  * This service generates realistic aircraft sensor readings for demonstration
  * purposes, including occasional anomalies to test the monitoring system.
  * 
+ * Sensor state is kept for a whole fleet (see {@link FleetSimulator});
+ * by default the fleet holds only the dashboard aircraft, and
+ * {@code simulation.fleet.size} scales it up for load testing. Ticks are
+ * driven by a dedicated {@link TickScheduler} at {@code simulation.tick.rate-hz}
+ * and, for large fleets, can be spread over several threads with
+ * {@code simulation.tick.executor} (see {@link TickExecutor}). The tails
+ * other than the dashboard aircraft go through batch anomaly detection in
+ * the same task that advances them.
+ * Anomalies are injected as scheduled sensor faults (see {@link FaultInjector}).
+ * With {@code simulation.flight.phases} enabled, every aircraft flies
+ * complete flights from taxi to landing (see {@link FlightProfile}) instead
+ * of holding cruise.
+ * 
+ * By default every tick publishes the dashboard sample as an immutable
+ * {@link AircraftSnapshot}, which {@link #getCurrentSnapshot()} hands to any
+ * number of readers without copying or locking. With
+ * {@code simulation.sample.reuse} enabled, the tick thread refills the
+ * samples of a {@link SampleBuffer} in place instead, and a steady-state
+ * tick allocates nothing; readers then get copies of the current sample.
+ * 
+ * The last {@code simulation.recent-history.seconds} of samples of the first
+ * {@code simulation.recent-history.tails} tails are kept in an off-heap
+ * {@link HistoryRing}, sized once at startup (see {@link #getRecentHistory}).
+ * 
+ * Besides the live tick loop, {@link #generateHistory} runs the same models
+ * on a virtual clock, as fast as the CPU allows, to produce bulk history
+ * files for storage and analytics testing (see {@link TimeWarpGenerator}).
+ * 
  * @author Aircraft Monitoring Team
  * @version 1.0.0
  */
@@ -28,193 +84,409 @@ public class DataSimulationService {
     @Autowired
     private WebSocketService webSocketService;
     
-    private final Random random = new Random();
-    private AircraftData currentData;
+    /**
+     * Index of the tail shown on the dashboard
+     */
+    private static final int DASHBOARD_TAIL = 0;
+    
+    // Ticks until a triggered demo anomaly appears on the dashboard
+    private static final long ENGINE_ANOMALY_DELAY_TICKS = 11;
+    private static final long FUEL_ANOMALY_DELAY_TICKS = 16;
+    private static final long HYDRAULIC_ANOMALY_DELAY_TICKS = 21;
+    
+    /**
+     * Number of aircraft simulated per tick (1 = dashboard aircraft only)
+     */
+    @Value("${simulation.fleet.size:1}")
+    private int fleetSize = 1;
+    
+    /**
+     * Aircraft types of the threshold profiles, each given an equal run of
+     * consecutive tails (tail 0 gets the first); empty leaves every tail of
+     * the default type
+     */
+    @Value("${simulation.fleet.aircraft-types:}")
+    private String aircraftTypes = "";
+    
+    /**
+     * Tick rate of the data generation loop in Hz (0.5 Hz = every 2 seconds)
+     */
+    @Value("${simulation.tick.rate-hz:0.5}")
+    private double tickRateHz = 0.5;
+    
+    /**
+     * What the tick loop does when a tick overruns its deadline
+     */
+    @Value("${simulation.tick.overrun-policy:SKIP}")
+    private TickScheduler.OverrunPolicy overrunPolicy = TickScheduler.OverrunPolicy.SKIP;
     
-    // Simulation state
-    private double currentAltitude = 35000.0;
-    private double currentAirspeed = 450.0;
-    private double currentFuelLevel = 85.0;
-    private double currentEngineRPM = 2200.0;
-    private double currentHydraulicPressure = 2800.0;
+    /**
+     * How the per-tail work of a tick is run: SERIAL, FORK_JOIN or
+     * VIRTUAL_THREADS (Java 21 runtime only)
+     */
+    @Value("${simulation.tick.executor:SERIAL}")
+    private TickExecutor.Mode tickExecutorMode = TickExecutor.Mode.SERIAL;
     
-    // Anomaly simulation flags
-    private boolean simulateEngineAnomaly = false;
-    private boolean simulateFuelAnomaly = false;
-    private boolean simulateHydraulicAnomaly = false;
-    private int anomalyCounter = 0;
+    /**
+     * Worker threads of the FORK_JOIN executor (0 = one per processor)
+     */
+    @Value("${simulation.tick.parallelism:0}")
+    private int tickParallelism = 0;
+    
+    /**
+     * Whether the tick loop starts with the application
+     */
+    @Value("${simulation.tick.enabled:true}")
+    private boolean tickEnabled = true;
     
     /**
-     * Generates new aircraft sensor data every 2 seconds
+     * Whether aircraft fly full taxi-to-landing profiles instead of holding cruise
+     */
+    @Value("${simulation.flight.phases:false}")
+    private boolean flightPhases = false;
+    
+    /**
+     * Whether the dashboard sample is refilled in place each tick instead of
+     * allocated anew (see {@link SampleBuffer})
+     */
+    @Value("${simulation.sample.reuse:false}")
+    private boolean sampleReuse = false;
+    
+    /**
+     * Seconds of recent samples kept off-heap per recorded tail (0 = none)
+     */
+    @Value("${simulation.recent-history.seconds:60}")
+    private double recentHistorySeconds = 60;
+    
+    /**
+     * Number of tails, counting from tail 0, whose recent samples are kept
+     */
+    @Value("${simulation.recent-history.tails:1}")
+    private int recentHistoryTails = 1;
+    
+    /**
+     * Root seed for all random streams; unset picks a fresh seed per run
+     */
+    @Value("${simulation.random.seed:#{null}}")
+    private Long randomSeed;
+    
+    /**
+     * Directory that generated history files are written to
+     */
+    @Value("${simulation.history.directory:../data}")
+    private String historyDirectory = "../data";
+    
+    // Set once, under the lock of getFleetSimulator() for all but the
+    // scheduler, and read without it; fleetSimulator is set last
+    private volatile TickScheduler tickScheduler;
+    private volatile RandomStreams randomStreams;
+    private volatile FleetSimulator fleetSimulator;
+    private volatile TickExecutor tickExecutor;
+    private volatile SampleBuffer sampleBuffer;
+    private volatile WallClock wallClock;
+    private volatile HistoryRing historyRing;
+    private volatile AircraftDataBatch fleetBatch;
+    
+    // Touched by the tick thread only
+    private final AircraftSnapshot.Builder snapshotBuilder = AircraftSnapshot.builder();
+    private final TickExecutor.RangeTask fleetDetection = this::detectFleetRange;
+    
+    /**
+     * Latest dashboard sample, or null before the first tick
+     */
+    private volatile AircraftSnapshot currentSnapshot;
+    
+    /**
+     * Starts the tick loop at the configured rate
+     */
+    @PostConstruct
+    public void startTickScheduler() {
+        if (!tickEnabled) {
+            log.info("Aircraft data tick loop disabled");
+            return;
+        }
+        TickScheduler scheduler = new TickScheduler("aircraft-data-tick", tickRateHz, overrunPolicy, this::generateAircraftData);
+        tickScheduler = scheduler;
+        scheduler.start();
+    }
+    
+    /**
+     * Stops the tick loop
+     */
+    @PreDestroy
+    public void stopTickScheduler() {
+        TickScheduler scheduler = tickScheduler;
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+        TickExecutor executor = tickExecutor;
+        if (executor != null) {
+            executor.close();
+        }
+    }
+    
+    /**
+     * Generates new aircraft sensor data; called once per tick by the
+     * tick scheduler (every 2 seconds by default).
+     * 
+     * The whole fleet is advanced in one pass, and every other tail is
+     * analyzed in the same pass; tail 0 is the aircraft shown on the
+     * dashboard and is analyzed as a sample and broadcast. Only one
+     * thread may generate at a time. The analyzed sample stays with the
+     * tick thread; readers get the immutable snapshot built from it.
      */
-    @Scheduled(fixedRate = 2000)
     public void generateAircraftData() {
-        currentData = new AircraftData(LocalDateTime.now());
-        
-        // Generate engine data
-        generateEngineData();
-        
-        // Generate fuel system data
-        generateFuelData();
-        
-        // Generate hydraulic system data
-        generateHydraulicData();
+        FleetSimulator simulator = getFleetSimulator();
+        int size = simulator.getState().getSize();
+        if (size > 1) {
+            anomalyDetectionService.ensureSources(size);
+            simulator.tick(tickExecutor, fleetDetection);
+        } else {
+            simulator.tick(tickExecutor);
+        }
         
-        // Generate flight data
-        generateFlightData();
+        SampleBuffer buffer = sampleBuffer;
+        if (buffer != null) {
+            publishReusedSample(simulator, buffer);
+            return;
+        }
         
-        // Generate additional systems data
-        generateAdditionalData();
+        AircraftData sample = new AircraftData(LocalDateTime.now());
+        simulator.getState().copyTo(DASHBOARD_TAIL, sample);
         
         // Detect anomalies
-        currentData = anomalyDetectionService.detectAnomalies(currentData);
+        sample = anomalyDetectionService.detectAnomalies(sample);
+        recordHistory(sample);
+        
+        // Publish before the broadcast, so readers see the sample even if clients fail
+        AircraftSnapshot snapshot = snapshotBuilder.from(sample).build();
+        currentSnapshot = snapshot;
         
         // Send to WebSocket clients
-        webSocketService.broadcastAircraftData(currentData);
+        webSocketService.broadcastAircraftData(sample);
         
-        log.debug("Generated aircraft data: {}", currentData.getTimestamp());
+        log.debug("Generated aircraft data: {} (fleet of {} advanced in {} us)", 
+                snapshot.getTimestamp(), simulator.getState().getSize(), 
+                simulator.getLastTickNanos() / 1000);
     }
     
     /**
-     * Generates realistic engine system data
+     * Refills the back sample of the buffer in place, analyzes and
+     * broadcasts it, then publishes it as the current sample.
+     * 
+     * Detection updates the sample in place. The broadcast serializes it
+     * before returning, so nothing holds the sample once it is published.
+     * A failed tick leaves the current sample as it was.
      */
-    private void generateEngineData() {
-        // Engine RPM with slight variations
-        double rpmVariation = random.nextDouble() * 200 - 100;
-        currentEngineRPM = Math.max(1800, Math.min(2600, currentEngineRPM + rpmVariation));
-        currentData.setEngineRPM(currentEngineRPM);
-        
-        // Engine temperature (correlated with RPM)
-        double tempBase = 120.0 + (currentEngineRPM - 2000) * 0.05;
-        double tempVariation = random.nextDouble() * 20 - 10;
-        currentData.setEngineTemperature(tempBase + tempVariation);
-        
-        // Oil pressure (correlated with RPM)
-        double oilPressureBase = 40.0 + (currentEngineRPM - 2000) * 0.02;
-        double oilPressureVariation = random.nextDouble() * 10 - 5;
-        currentData.setOilPressure(oilPressureBase + oilPressureVariation);
-        
-        // Oil temperature
-        double oilTempBase = 80.0 + (currentEngineRPM - 2000) * 0.01;
-        double oilTempVariation = random.nextDouble() * 15 - 7.5;
-        currentData.setOilTemperature(oilTempBase + oilTempVariation);
+    private void publishReusedSample(FleetSimulator simulator, SampleBuffer buffer) {
+        AircraftData sample = buffer.beginWrite();
+        try {
+            sample.setLocalTimeNanos(wallClock.nowNanos());
+            simulator.getState().copyTo(DASHBOARD_TAIL, sample);
+            
+            // Detect anomalies
+            anomalyDetectionService.detectAnomalies(sample);
+            recordHistory(sample);
+            
+            // Send to WebSocket clients
+            webSocketService.broadcastAircraftData(sample);
+        } catch (RuntimeException e) {
+            buffer.abort();
+            throw e;
+        }
+        buffer.publish();
         
-        // Simulate engine anomaly occasionally
-        if (simulateEngineAnomaly && anomalyCounter++ > 10) {
-            currentData.setEngineTemperature(220.0); // Overheating
-            simulateEngineAnomaly = false;
-            anomalyCounter = 0;
+        if (log.isDebugEnabled()) {
+            log.debug("Generated aircraft data: {} (fleet of {} advanced in {} us)", 
+                    sample.getTimestamp(), simulator.getState().getSize(), 
+                    simulator.getLastTickNanos() / 1000);
         }
     }
     
     /**
-     * Generates realistic fuel system data
+     * Runs the tails in [from, to) other than the dashboard tail through
+     * batch detection; the dashboard tail is analyzed as its own sample
      */
-    private void generateFuelData() {
-        // Fuel level decreases over time
-        currentFuelLevel -= random.nextDouble() * 0.5;
-        currentData.setFuelLevel(Math.max(0, currentFuelLevel));
-        
-        // Fuel consumption (correlated with engine RPM)
-        double consumptionBase = 200.0 + (currentEngineRPM - 2000) * 0.1;
-        double consumptionVariation = random.nextDouble() * 50 - 25;
-        currentData.setFuelConsumption(consumptionBase + consumptionVariation);
-        
-        // Fuel pressure
-        double fuelPressureBase = 25.0 + random.nextDouble() * 10;
-        currentData.setFuelPressure(fuelPressureBase);
-        
-        // Fuel temperature
-        double fuelTempBase = 15.0 + random.nextDouble() * 10;
-        currentData.setFuelTemperature(fuelTempBase);
-        
-        // Simulate fuel anomaly occasionally
-        if (simulateFuelAnomaly && anomalyCounter++ > 15) {
-            currentData.setFuelLevel(15.0); // Low fuel
-            simulateFuelAnomaly = false;
-            anomalyCounter = 0;
+    private void detectFleetRange(int from, int to) {
+        int start = Math.max(from, DASHBOARD_TAIL + 1);
+        if (start < to) {
+            anomalyDetectionService.detectAnomalies(fleetBatch, start, to);
         }
     }
     
     /**
-     * Generates realistic hydraulic system data
+     * Appends the recorded tails to the recent history, stamped with the
+     * dashboard sample's time and flagged as detected this tick
      */
-    private void generateHydraulicData() {
-        // Hydraulic pressure with slight variations
-        double pressureVariation = random.nextDouble() * 200 - 100;
-        currentHydraulicPressure = Math.max(2500, Math.min(3200, currentHydraulicPressure + pressureVariation));
-        currentData.setHydraulicPressure(currentHydraulicPressure);
-        
-        // Hydraulic temperature
-        double hydraulicTempBase = 45.0 + random.nextDouble() * 20;
-        currentData.setHydraulicTemperature(hydraulicTempBase);
-        
-        // Hydraulic fluid level
-        double fluidLevelBase = 90.0 + random.nextDouble() * 10;
-        currentData.setHydraulicFluidLevel(fluidLevelBase);
-        
-        // Simulate hydraulic anomaly occasionally
-        if (simulateHydraulicAnomaly && anomalyCounter++ > 20) {
-            currentData.setHydraulicPressure(1800.0); // Low pressure
-            simulateHydraulicAnomaly = false;
-            anomalyCounter = 0;
+    private void recordHistory(AircraftData dashboardSample) {
+        HistoryRing ring = historyRing;
+        if (ring == null) {
+            return;
         }
+        Arrays.fill(fleetBatch.getLocalTimeNanos(), 0, ring.getSources(), dashboardSample.getLocalTimeNanos());
+        fleetBatch.getAnomalyMasks()[DASHBOARD_TAIL] = dashboardSample.getAnomalyMask();
+        ring.append(fleetBatch);
     }
     
     /**
-     * Generates realistic flight data
+     * Gets the fleet simulator, creating it and its tick executor on first
+     * use once the configured fleet size is known
      */
-    private void generateFlightData() {
-        // Altitude with slight variations
-        double altitudeVariation = random.nextDouble() * 200 - 100;
-        currentAltitude = Math.max(30000, Math.min(40000, currentAltitude + altitudeVariation));
-        currentData.setAltitude(currentAltitude);
-        
-        // Airspeed with slight variations
-        double airspeedVariation = random.nextDouble() * 20 - 10;
-        currentAirspeed = Math.max(400, Math.min(500, currentAirspeed + airspeedVariation));
-        currentData.setAirspeed(currentAirspeed);
-        
-        // Ground speed (slightly different from airspeed due to wind)
-        double groundSpeedVariation = random.nextDouble() * 30 - 15;
-        currentData.setGroundSpeed(currentAirspeed + groundSpeedVariation);
-        
-        // Mach number (calculated from airspeed and altitude)
-        double machNumber = currentAirspeed / (661.5 + currentAltitude * 0.001);
-        currentData.setMachNumber(machNumber);
-        
-        // Vertical speed
-        double verticalSpeed = random.nextDouble() * 1000 - 500;
-        currentData.setVerticalSpeed(verticalSpeed);
+    private synchronized FleetSimulator getFleetSimulator() {
+        FleetSimulator simulator = fleetSimulator;
+        if (simulator == null) {
+            RandomStreams streams = randomSeed != null ? new RandomStreams(randomSeed) : RandomStreams.unseeded();
+            randomStreams = streams;
+            FlightProfile profile = flightPhases ? new FlightProfile(1.0 / tickRateHz) : null;
+            simulator = new FleetSimulator(Math.max(1, fleetSize), streams, profile);
+            TickExecutor executor = createTickExecutor();
+            tickExecutor = executor;
+            fleetBatch = simulator.getState().asBatch();
+            assignAircraftTypes(simulator.getState());
+            if (sampleReuse) {
+                sampleBuffer = new SampleBuffer();
+                wallClock = new WallClock();
+            }
+            if (recentHistorySeconds > 0) {
+                int tails = Math.min(Math.max(1, recentHistoryTails), simulator.getState().getSize());
+                HistoryRing ring = HistoryRing.forWindow(tails, recentHistorySeconds, tickRateHz);
+                historyRing = ring;
+                log.info("Keeping {} samples of recent history for {} aircraft ({} KB off-heap)",
+                        ring.getCapacity(), tails, ring.getMemoryBytes() / 1024);
+            }
+            log.info("Fleet simulation initialized with {} aircraft (random seed {}, flight phases {}, {} executor, sample reuse {})", 
+                    simulator.getState().getSize(), streams.getSeed(), flightPhases ? "on" : "off",
+                    executor.getMode(), sampleReuse ? "on" : "off");
+            fleetSimulator = simulator;
+        }
+        return simulator;
     }
     
     /**
-     * Generates additional systems data
+     * Assigns the configured aircraft types to runs of consecutive tails, as
+     * type numbers of the current threshold profiles; a type the profiles do
+     * not define falls back to the default type. Keeping each type's tails
+     * together lets batch detection check whole blocks against one type's
+     * limits.
      */
-    private void generateAdditionalData() {
-        // Cabin pressure
-        double cabinPressureBase = 11.0 + random.nextDouble() * 2;
-        currentData.setCabinPressure(cabinPressureBase);
-        
-        // Cabin temperature
-        double cabinTempBase = 22.0 + random.nextDouble() * 4;
-        currentData.setCabinTemperature(cabinTempBase);
+    private void assignAircraftTypes(FleetState state) {
+        if (aircraftTypes.isBlank()) {
+            return;
+        }
+        ThresholdProfiles profiles = anomalyDetectionService.getThresholdProfiles();
+        String[] names = aircraftTypes.split(",");
+        int[] types = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            types[i] = Math.max(0, profiles.indexOf(names[i].trim()));
+            if (types[i] == 0 && !names[i].trim().equals(ThresholdProfiles.DEFAULT_TYPE)) {
+                log.warn("Aircraft type {} has no threshold profile, using {}", names[i].trim(),
+                        ThresholdProfiles.DEFAULT_TYPE);
+            }
+        }
+        for (int tail = 0; tail < state.getSize(); tail++) {
+            state.setAircraftType(tail, types[(int) ((long) tail * types.length / state.getSize())]);
+        }
+    }
+    
+    /**
+     * Creates the configured tick executor, falling back to serial ticks if
+     * the runtime does not support it
+     */
+    private TickExecutor createTickExecutor() {
+        try {
+            return TickExecutor.create(tickExecutorMode, tickParallelism);
+        } catch (IllegalStateException e) {
+            log.warn("Tick executor {} unavailable, using SERIAL: {}", tickExecutorMode, e.getMessage());
+            return SerialTickExecutor.INSTANCE;
+        }
+    }
+    
+    /**
+     * Schedules a sensor fault on the simulated fleet
+     * 
+     * @param type Kind of fault
+     * @param channel Sensor channel to fault
+     * @param tail Tail to fault (0 = dashboard aircraft)
+     * @param delayTicks Ticks to wait before the fault starts (0 = next tick)
+     * @param durationTicks Number of ticks the fault lasts
+     * @param magnitude Offset, held value or noise level, depending on the type
+     * @return The scheduled fault
+     * @throws IllegalArgumentException if the fault is invalid for this fleet
+     */
+    public Fault scheduleFault(Fault.Type type, SensorChannel channel, int tail,
+                               long delayTicks, long durationTicks, double magnitude) {
+        if (delayTicks < 0) {
+            throw new IllegalArgumentException("Fault delay must not be negative: " + delayTicks);
+        }
+        FleetSimulator simulator = getFleetSimulator();
+        Fault fault = new Fault(type, tail, channel, simulator.getTickCount() + 1 + delayTicks,
+                durationTicks, magnitude);
+        simulator.getFaultInjector().schedule(fault);
+        log.debug("Scheduled fault: {}", fault);
+        return fault;
+    }
+    
+    /**
+     * Generates synthetic flight history on a virtual clock and writes it to
+     * a binary history file that the replay service can play back.
+     * 
+     * Runs on the calling thread plus {@code parallelism} workers and does
+     * not touch the live simulation. The history ends at the current time;
+     * with {@code simulation.random.seed} set, the same request produces the
+     * same file.
+     * 
+     * @param fileName Name of the file to write, relative to the history directory
+     * @param tails Number of aircraft to simulate
+     * @param ticks Number of ticks to generate per aircraft
+     * @param tickIntervalSeconds Virtual time between ticks
+     * @param parallelism Number of worker threads
+     * @return Summary of the generation
+     * @throws IllegalArgumentException if a parameter is invalid
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized TimeWarpGenerator.Result generateHistory(String fileName, int tails, long ticks,
+                                                                 double tickIntervalSeconds, int parallelism)
+            throws IOException {
+        if (!(tickIntervalSeconds > 0) || Double.isInfinite(tickIntervalSeconds)) {
+            throw new IllegalArgumentException("Tick interval must be positive: " + tickIntervalSeconds);
+        }
+        Path file = resolveHistoryFile(fileName);
+        long intervalMicros = Math.max(1, Math.round(tickIntervalSeconds * 1e6));
+        long startMillis = System.currentTimeMillis() - ticks * intervalMicros / 1000;
+        RandomStreams streams = randomSeed != null ? new RandomStreams(randomSeed) : RandomStreams.unseeded();
         
-        // Battery voltage
-        double batteryVoltageBase = 28.0 + random.nextDouble() * 2;
-        currentData.setBatteryVoltage(batteryVoltageBase);
+        FlightProfile profile = flightPhases ? new FlightProfile(tickIntervalSeconds) : null;
+        TimeWarpGenerator generator = new TimeWarpGenerator(tails, streams, parallelism, profile);
+        TimeWarpGenerator.Result result = generator.generate(ticks, new VirtualClock(startMillis, intervalMicros), file);
         
-        // Generator output
-        double generatorOutputBase = 115.0 + random.nextDouble() * 10;
-        currentData.setGeneratorOutput(generatorOutputBase);
+        log.info("Generated {} samples ({} tails x {} ticks, {} s simulated) into {} in {} s, {}x real time",
+                result.samples(), tails, result.ticks(), result.simulatedSeconds(), file,
+                result.elapsedSeconds(), Math.round(result.speedup()));
+        return result;
+    }
+    
+    /**
+     * Resolves a history file name inside the history directory
+     */
+    private Path resolveHistoryFile(String fileName) throws IOException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("History file name is required");
+        }
+        Path directory = Paths.get(historyDirectory).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || file.equals(directory)) {
+            throw new IllegalArgumentException("History file must be inside the history directory: " + fileName);
+        }
+        Files.createDirectories(directory);
+        return file;
     }
     
     /**
      * Triggers simulation of engine anomaly
      */
     public void simulateEngineAnomaly() {
-        simulateEngineAnomaly = true;
-        anomalyCounter = 0;
+        scheduleFault(Fault.Type.STUCK_AT, SensorChannel.ENGINE_TEMPERATURE, DASHBOARD_TAIL,
+                ENGINE_ANOMALY_DELAY_TICKS, 1, 220.0); // Overheating
         log.info("Engine anomaly simulation triggered");
     }
     
@@ -222,8 +494,8 @@ public class DataSimulationService {
      * Triggers simulation of fuel anomaly
      */
     public void simulateFuelAnomaly() {
-        simulateFuelAnomaly = true;
-        anomalyCounter = 0;
+        scheduleFault(Fault.Type.STUCK_AT, SensorChannel.FUEL_LEVEL, DASHBOARD_TAIL,
+                FUEL_ANOMALY_DELAY_TICKS, 1, 15.0); // Low fuel
         log.info("Fuel anomaly simulation triggered");
     }
     
@@ -231,15 +503,119 @@ public class DataSimulationService {
      * Triggers simulation of hydraulic anomaly
      */
     public void simulateHydraulicAnomaly() {
-        simulateHydraulicAnomaly = true;
-        anomalyCounter = 0;
+        scheduleFault(Fault.Type.STUCK_AT, SensorChannel.HYDRAULIC_PRESSURE, DASHBOARD_TAIL,
+                HYDRAULIC_ANOMALY_DELAY_TICKS, 1, 1800.0); // Low pressure
         log.info("Hydraulic anomaly simulation triggered");
     }
     
     /**
-     * Gets the current aircraft data
+     * Gets the current aircraft data as a mutable sample
+     * 
+     * The sample is a copy owned by the caller, which later ticks do not
+     * change. Readers that only read should prefer {@link #getCurrentSnapshot()}.
+     * 
+     * @return A copy of the current sample, or null before the first tick
      */
     public AircraftData getCurrentData() {
-        return currentData;
+        SampleBuffer buffer = sampleBuffer;
+        if (buffer != null) {
+            return buffer.snapshot();
+        }
+        AircraftSnapshot snapshot = currentSnapshot;
+        return snapshot != null ? snapshot.toAircraftData() : null;
+    }
+    
+    /**
+     * Gets the current aircraft data as an immutable snapshot
+     * 
+     * By default this is the snapshot published by the latest tick, shared
+     * by all callers without a copy. With sample reuse, ticks publish no
+     * snapshot, and one is copied from the current sample on each call.
+     * 
+     * @return The current snapshot, or null before the first tick
+     */
+    public AircraftSnapshot getCurrentSnapshot() {
+        SampleBuffer buffer = sampleBuffer;
+        if (buffer == null) {
+            return currentSnapshot;
+        }
+        AircraftData copy = buffer.snapshot();
+        return copy != null ? AircraftSnapshot.of(copy) : null;
+    }
+    
+    /**
+     * Gets the recent history of one tail, oldest sample first
+     * 
+     * @param tail Tail to read (0 = dashboard aircraft)
+     * @param limit Maximum number of samples, counting back from the latest
+     * @return Copies of the samples, empty if recent history is off or nothing was recorded yet
+     * @throws IllegalArgumentException if the tail is not recorded or the limit is negative
+     */
+    public List<AircraftData> getRecentHistory(int tail, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+        HistoryRing ring = historyRing;
+        if (ring == null) {
+            return List.of();
+        }
+        if (tail < 0 || tail >= ring.getSources()) {
+            throw new IllegalArgumentException("Recent history is kept for tails 0 to "
+                    + (ring.getSources() - 1) + ", not " + tail);
+        }
+        
+        long latest = ring.getLatestSequence();
+        long from = Math.max(ring.getOldestSequence(), latest - limit + 1);
+        HistoryRecord record = ring.newRecord();
+        List<AircraftData> samples = new ArrayList<>((int) Math.max(0, latest - from + 1));
+        for (long sequence = from; sequence <= latest; sequence++) {
+            AircraftData sample = new AircraftData();
+            // A record overwritten while being read is simply left out
+            if (record.moveTo(tail, sequence) && record.copyTo(sample)) {
+                samples.add(sample);
+            }
+        }
+        return samples;
+    }
+    
+    /**
+     * Gets fleet simulation metrics: fleet size and tick time
+     * 
+     * @return Map of metric name to value
+     */
+    public Map<String, Object> getSimulationMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        FleetSimulator simulator = fleetSimulator;
+        int size = simulator != null ? simulator.getState().getSize() : Math.max(1, fleetSize);
+        
+        metrics.put("fleetSize", size);
+        RandomStreams streams = randomStreams;
+        metrics.put("randomSeed", streams != null ? streams.getSeed() : randomSeed);
+        metrics.put("ticks", simulator != null ? simulator.getTickCount() : 0L);
+        metrics.put("lastTickMicros", simulator != null ? simulator.getLastTickNanos() / 1000.0 : 0.0);
+        metrics.put("averageTickMicros", simulator != null ? simulator.getAverageTickNanos() / 1000.0 : 0.0);
+        metrics.put("averageNanosPerTail", simulator != null ? (double) simulator.getAverageTickNanos() / size : 0.0);
+        metrics.put("flightPhase", simulator != null ? simulator.getPhase(DASHBOARD_TAIL) : null);
+        
+        TickExecutor executor = tickExecutor;
+        metrics.put("tickExecutor", executor != null ? executor.getMode() : tickExecutorMode);
+        metrics.put("tickParallelism", executor != null ? executor.getParallelism() : 1);
+        metrics.put("sampleReuse", sampleReuse);
+        
+        HistoryRing ring = historyRing;
+        metrics.put("recentHistorySamples", ring != null ? ring.getSize() : 0);
+        metrics.put("recentHistoryBytes", ring != null ? ring.getMemoryBytes() : 0L);
+        
+        FaultInjector faults = simulator != null ? simulator.getFaultInjector() : null;
+        metrics.put("pendingFaults", faults != null ? faults.getPendingCount() : 0L);
+        metrics.put("activeFaults", faults != null ? faults.getActiveCount() : 0);
+        metrics.put("completedFaults", faults != null ? faults.getCompletedCount() : 0L);
+        
+        TickScheduler scheduler = tickScheduler;
+        if (scheduler != null) {
+            metrics.put("scheduler", scheduler.getStats());
+        }
+        
+        return metrics;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,318 @@
+package com.aircraft.monitoring.service;
+
+import java.math.BigInteger;
+
+/**
+ * Allocation-free conversion of doubles to the text of
+ * {@link Double#toString(double)}.
+ *
+ * Since Java 19, {@code Double.toString} renders the shortest decimal that
+ * rounds back to the double, computed with Giulietti's Schubfach algorithm
+ * ("The Schubfach way to render doubles", 2020). This class is a port of
+ * that algorithm and of the JDK's layout rules. It writes ASCII straight
+ * into a caller's byte array, without the temporary objects of the JDK
+ * version, and gives the same text on every runtime. Older runtimes use a
+ * different algorithm whose output is sometimes longer. The tests compare
+ * the two on every runtime: on Java 17 the texts differ only where the
+ * older algorithm renders extra digits, which covers none of the short
+ * decimals sensors report.
+ *
+ * The 126-bit powers of ten the algorithm multiplies by are computed once,
+ * when the class loads.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+final class DoubleText {
+
+    /**
+     * Maximum number of bytes {@link #write} produces
+     */
+    static final int MAX_LENGTH = 24;
+
+    // Binary format of a double
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long T_MASK = C_MIN - 1;
+    private static final int BQ_MASK = 0x7ff;
+    private static final long C_TINY = 3;
+
+    // Range of decimal exponents of the powers of ten and digits rendered
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final int H = 17;
+
+    private static final long MASK_63 = 0x7fff_ffff_ffff_ffffL;
+    private static final int MASK_28 = (1 << 28) - 1;
+
+    private static final long[] POW10 = new long[H + 1];
+
+    /**
+     * Upper and lower 63 bits of floor(10^-k 2^r) + 1 for k from K_MIN to
+     * K_MAX, where r puts the value in [2^125, 2^126)
+     */
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i <= H; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+        BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int shift = 125 - flog2pow10(-k);
+            BigInteger numerator = BigInteger.TEN.pow(Math.max(-k, 0)).shiftLeft(Math.max(shift, 0));
+            BigInteger denominator = BigInteger.TEN.pow(Math.max(k, 0)).shiftLeft(Math.max(-shift, 0));
+            BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValueExact();
+            G[2 * (k - K_MIN) + 1] = g.and(mask63).longValueExact();
+        }
+    }
+
+    private DoubleText() {
+    }
+
+    /**
+     * Writes the text of {@link Double#toString(double)} as of Java 19
+     *
+     * @param v The value
+     * @param buffer Array to write to; needs {@link #MAX_LENGTH} bytes from the position
+     * @param position Index of the first byte to write
+     * @return Index after the last byte written
+     */
+    static int write(double v, byte[] buffer, int position) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq == BQ_MASK) {
+            return writeAscii(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity", buffer, position);
+        }
+        int index = position;
+        if (bits < 0) {
+            buffer[index++] = '-';
+        }
+        if (bq != 0) {
+            // Normal value
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                // Whole numbers below 2^53 are exact
+                long f = c >> mq;
+                if (f << mq == c) {
+                    return toChars(f, 0, buffer, index);
+                }
+            }
+            return toDecimal(-mq, c, 0, buffer, index);
+        }
+        if (t != 0) {
+            // Subnormal value
+            return t < C_TINY
+                    ? toDecimal(Q_MIN, 10 * t, -1, buffer, index)
+                    : toDecimal(Q_MIN, t, 0, buffer, index);
+        }
+        return writeAscii("0.0", buffer, index);
+    }
+
+    /**
+     * Renders c 2^q, using the shortest decimal in its rounding interval
+     */
+    private static int toDecimal(int q, long c, int dk, byte[] buffer, int index) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN | q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // The interval is asymmetric at a power of two
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // Try one digit less: s' = floor(s / 10)
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return toChars(upin ? sp10 : tp10, k, buffer, index);
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return toChars(uin ? s : t, k + dk, buffer, index);
+        }
+        // Both candidates round to v: take the closer one, or the even one on a tie
+        long cmp = vb - (s + t << 1);
+        return toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buffer, index);
+    }
+
+    /**
+     * Computes the rounded-to-odd product of g and cp, scaled down by 2^127
+     */
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Lays out f 10^e, f > 0, as Double.toString does: plain for
+     * 10^-3 <= value < 10^7, computerized scientific notation otherwise
+     */
+    private static int toChars(long f, int e, byte[] buffer, int index) {
+        int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+        if (f >= POW10[len]) {
+            len += 1;
+        }
+        // Scale to 17 digits, so that value = 0.f 10^e
+        f *= POW10[H - len];
+        e += len;
+
+        // Split into the leading digit h and two groups of eight, m and l
+        long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+        int l = (int) (f - 100_000_000L * hm);
+        int h = (int) (hm * 1_441_151_881L >>> 57);
+        int m = (int) (hm - 100_000_000 * h);
+
+        if (0 < e && e <= 7) {
+            // dd.ddd
+            buffer[index++] = (byte) ('0' + h);
+            int y = y(m);
+            int i = 1;
+            for (; i < e; ++i) {
+                int d = 10 * y;
+                buffer[index++] = (byte) ('0' + (d >>> 28));
+                y = d & MASK_28;
+            }
+            buffer[index++] = '.';
+            for (; i <= 8; ++i) {
+                int d = 10 * y;
+                buffer[index++] = (byte) ('0' + (d >>> 28));
+                y = d & MASK_28;
+            }
+            return lowDigits(l, buffer, index);
+        }
+        if (-3 < e && e <= 0) {
+            // 0.00ddd
+            buffer[index++] = '0';
+            buffer[index++] = '.';
+            for (; e < 0; ++e) {
+                buffer[index++] = '0';
+            }
+            buffer[index++] = (byte) ('0' + h);
+            index = write8Digits(m, buffer, index);
+            return lowDigits(l, buffer, index);
+        }
+        // d.dddEx
+        buffer[index++] = (byte) ('0' + h);
+        buffer[index++] = '.';
+        index = write8Digits(m, buffer, index);
+        index = lowDigits(l, buffer, index);
+        return exponent(e - 1, buffer, index);
+    }
+
+    private static int write8Digits(int m, byte[] buffer, int index) {
+        int y = y(m);
+        for (int i = 0; i < 8; ++i) {
+            int d = 10 * y;
+            buffer[index++] = (byte) ('0' + (d >>> 28));
+            y = d & MASK_28;
+        }
+        return index;
+    }
+
+    /**
+     * Writes the last eight digits, then drops trailing zeros but keeps one
+     * digit after the point
+     */
+    private static int lowDigits(int l, byte[] buffer, int index) {
+        if (l != 0) {
+            index = write8Digits(l, buffer, index);
+        }
+        while (buffer[index - 1] == '0') {
+            --index;
+        }
+        if (buffer[index - 1] == '.') {
+            ++index;
+        }
+        return index;
+    }
+
+    private static int exponent(int e, byte[] buffer, int index) {
+        buffer[index++] = 'E';
+        if (e < 0) {
+            buffer[index++] = '-';
+            e = -e;
+        }
+        if (e < 10) {
+            buffer[index++] = (byte) ('0' + e);
+            return index;
+        }
+        int d;
+        if (e >= 100) {
+            d = e * 1_311 >>> 17;
+            buffer[index++] = (byte) ('0' + d);
+            e -= 100 * d;
+        }
+        d = e * 103 >>> 10;
+        buffer[index++] = (byte) ('0' + d);
+        buffer[index++] = (byte) ('0' + e - 10 * d);
+        return index;
+    }
+
+    /**
+     * Computes floor((a + 1) 2^28 / 10^8) - 1, the fixed-point fraction
+     * from which the eight digits of a are extracted left to right
+     */
+    private static int y(int a) {
+        return (int) ((Math.multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1);
+    }
+
+    private static int writeAscii(String text, byte[] buffer, int index) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer[index++] = (byte) text.charAt(i);
+        }
+        return index;
+    }
+
+    /**
+     * floor(log10(2^e))
+     */
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * floor(log10(3/4 2^e))
+     */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * floor(log2(10^e))
+     */
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
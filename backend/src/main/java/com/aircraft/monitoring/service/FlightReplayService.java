@@ -0,0 +1,459 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.model.SensorQuality;
+import com.aircraft.monitoring.simulation.FlightHistoryReader;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Service that replays recorded flight data from CSV or flight history files.
+ *
+ * Each row of the recording is turned into an {@link AircraftData} sample and
+ * pushed through the same pipeline as simulated data: anomaly detection and
+ * WebSocket broadcast. The file is streamed row by row, so memory use does not
+ * depend on the size of the recording. Each replay starts with its own
+ * detection state, so its excursions, debounced alerts and z-score
+ * baselines neither mix with the live fleet's nor carry over from an
+ * earlier replay.
+ *
+ * The first row must be a header naming the columns after the AircraftData
+ * properties (e.g. {@code engineRPM}, {@code fuelLevel}); an optional
+ * {@code timestamp} column drives the pacing. Unknown columns are ignored and
+ * empty cells repeat the channel's previous reading, marked
+ * {@link SensorQuality#INTERPOLATED}. See {@code data/README.md}.
+ *
+ * Files ending in {@value #HISTORY_EXTENSION} are binary histories written by
+ * time-warp generation ({@link FlightHistoryReader}); one tail of the fleet
+ * is replayed, paced and stamped by the history's virtual clock.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class FlightReplayService {
+
+    /**
+     * File name extension of binary flight history files
+     */
+    public static final String HISTORY_EXTENSION = ".fhist";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * Sample spacing assumed for recordings without a timestamp column
+     * (the simulator's default 2 second tick)
+     */
+    private static final long DEFAULT_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    // Column mapping markers for non-channel columns
+    private static final int IGNORED_COLUMN = -1;
+    private static final int TIMESTAMP_COLUMN = -2;
+
+    private static final SensorChannel[] CHANNELS = SensorChannel.values();
+
+    @Autowired
+    private AnomalyDetectionService anomalyDetectionService;
+
+    @Autowired
+    private WebSocketService webSocketService;
+
+    /**
+     * Directory that recordings are read from
+     */
+    @Value("${replay.directory:../data}")
+    private String replayDirectory = "../data";
+
+    private Thread replayThread;
+    private volatile boolean stopRequested;
+
+    // Replay progress
+    private volatile String currentFile;
+    private volatile double currentSpeed;
+    private volatile long samplesReplayed;
+    private volatile long rowsSkipped;
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private volatile long lastSampleLocalTimeNanos = AircraftData.NO_TIMESTAMP;
+    private volatile String lastError;
+
+    /**
+     * Starts replaying a recording on a background thread; for a flight
+     * history, tail 0 is replayed
+     *
+     * @param fileName Name of the CSV file, relative to the replay directory
+     * @param speed Playback speed multiplier (1 = real time); 0 replays as fast as possible
+     * @throws IllegalArgumentException if the file does not exist or the speed is invalid
+     * @throws IllegalStateException if a replay is already running
+     */
+    public void startReplay(String fileName, double speed) {
+        startReplay(fileName, speed, 0);
+    }
+
+    /**
+     * Starts replaying a recording on a background thread
+     *
+     * @param fileName Name of the CSV or flight history file, relative to the replay directory
+     * @param speed Playback speed multiplier (1 = real time); 0 replays as fast as possible
+     * @param tail Tail of a flight history to replay (ignored for CSV recordings)
+     * @throws IllegalArgumentException if the file does not exist or a parameter is invalid
+     * @throws IllegalStateException if a replay is already running
+     */
+    public synchronized void startReplay(String fileName, double speed, int tail) {
+        if (isRunning()) {
+            throw new IllegalStateException("A replay is already running: " + currentFile);
+        }
+        if (!(speed >= 0)) {
+            throw new IllegalArgumentException("Replay speed must be 0 (unthrottled) or positive: " + speed);
+        }
+        Path file = resolveRecording(fileName);
+        Runnable body;
+        if (file.getFileName().toString().endsWith(HISTORY_EXTENSION)) {
+            FlightHistoryReader history = openHistory(file, tail);
+            body = () -> runHistoryReplay(file, history, tail, speed);
+        } else {
+            body = () -> runReplay(file, speed);
+        }
+
+        currentFile = file.getFileName().toString();
+        currentSpeed = speed;
+        lastError = null;
+        stopRequested = false;
+        replayThread = new Thread(body, "flight-replay");
+        replayThread.setDaemon(true);
+        replayThread.start();
+
+        log.info("Replay of {} started at {}", file, speed == 0 ? "full speed" : speed + "x");
+    }
+
+    /**
+     * Requests the running replay to stop after the current sample
+     */
+    public void stopReplay() {
+        stopRequested = true;
+        Thread thread = replayThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Checks whether a replay is running
+     */
+    public boolean isRunning() {
+        Thread thread = replayThread;
+        return thread != null && thread.isAlive();
+    }
+
+    /**
+     * Gets the progress of the current or last replay
+     *
+     * @return Map of status field to value
+     */
+    public Map<String, Object> getReplayStatus() {
+        Map<String, Object> status = new HashMap<>();
+        long samples = samplesReplayed;
+        long start = startNanos;
+        long end = isRunning() || endNanos == 0 ? System.nanoTime() : endNanos;
+
+        status.put("running", isRunning());
+        status.put("file", currentFile);
+        status.put("speed", currentSpeed == 0 ? "unthrottled" : currentSpeed);
+        status.put("samplesReplayed", samples);
+        status.put("rowsSkipped", rowsSkipped);
+        status.put("samplesPerSecond", start != 0 && end > start ? samples * 1e9 / (end - start) : 0.0);
+        status.put("lastSampleTimestamp", AircraftData.toLocalDateTime(lastSampleLocalTimeNanos));
+        status.put("error", lastError);
+
+        return status;
+    }
+
+    /**
+     * Replays a CSV recording synchronously on the calling thread
+     *
+     * @param reader Source of the CSV text
+     * @param speed Playback speed multiplier (1 = real time); 0 replays as fast as possible
+     * @return Number of samples replayed
+     * @throws IOException if the recording cannot be read
+     */
+    public long replay(Reader reader, double speed) throws IOException {
+        samplesReplayed = 0;
+        rowsSkipped = 0;
+        lastSampleLocalTimeNanos = AircraftData.NO_TIMESTAMP;
+        startNanos = System.nanoTime();
+        endNanos = 0;
+
+        AnomalyDetectionService.DetectionState detection = anomalyDetectionService.newDetectionState();
+        try (CSVReader csv = new CSVReader(reader)) {
+            String[] header = csv.readNext();
+            if (header == null) {
+                return 0;
+            }
+            int[] columns = mapColumns(header);
+            double[] lastValues = new double[CHANNELS.length];
+            boolean[] recorded = new boolean[CHANNELS.length];
+            boolean throttled = speed > 0 && !Double.isInfinite(speed);
+            long firstRecordedNanos = Long.MIN_VALUE;
+            long sequence = 0;
+
+            String[] row;
+            while (!stopRequested && (row = csv.readNext()) != null) {
+                AircraftData data = parseRow(row, columns, lastValues, recorded);
+                if (data == null) {
+                    rowsSkipped++;
+                    continue;
+                }
+
+                if (throttled) {
+                    long offsetNanos;
+                    if (data.hasTimestamp()) {
+                        long recordedNanos = data.getLocalTimeNanos();
+                        if (firstRecordedNanos == Long.MIN_VALUE) {
+                            firstRecordedNanos = recordedNanos;
+                        }
+                        offsetNanos = recordedNanos - firstRecordedNanos;
+                    } else {
+                        offsetNanos = sequence * DEFAULT_SAMPLE_INTERVAL_NANOS;
+                    }
+                    waitUntil(startNanos + (long) (offsetNanos / speed));
+                }
+
+                data = anomalyDetectionService.detectAnomalies(data, 0, detection);
+                webSocketService.broadcastAircraftData(data);
+
+                lastSampleLocalTimeNanos = data.getLocalTimeNanos();
+                samplesReplayed++;
+                sequence++;
+            }
+        } catch (CsvValidationException e) {
+            throw new IOException("Invalid CSV recording: " + e.getMessage(), e);
+        } finally {
+            endNanos = System.nanoTime();
+        }
+
+        return samplesReplayed;
+    }
+
+    /**
+     * Replays one tail of a flight history synchronously on the calling thread
+     *
+     * @param history Open history; left open
+     * @param tail Tail to replay
+     * @param speed Playback speed multiplier (1 = real time); 0 replays as fast as possible
+     * @return Number of samples replayed
+     * @throws IOException if the history cannot be read
+     */
+    public long replay(FlightHistoryReader history, int tail, double speed) throws IOException {
+        samplesReplayed = 0;
+        rowsSkipped = 0;
+        lastSampleLocalTimeNanos = AircraftData.NO_TIMESTAMP;
+        startNanos = System.nanoTime();
+        endNanos = 0;
+
+        AnomalyDetectionService.DetectionState detection = anomalyDetectionService.newDetectionState();
+        try {
+            boolean throttled = speed > 0 && !Double.isInfinite(speed);
+            long intervalNanos = history.getClock().getTickIntervalMicros() * 1000;
+            for (long tick = 0; tick < history.getTickCount() && !stopRequested; tick++) {
+                AircraftData data = new AircraftData();
+                history.read(tick, tail, data);
+
+                if (throttled) {
+                    waitUntil(startNanos + (long) (tick * intervalNanos / speed));
+                }
+
+                data = anomalyDetectionService.detectAnomalies(data, tail, detection);
+                webSocketService.broadcastAircraftData(data);
+
+                lastSampleLocalTimeNanos = data.getLocalTimeNanos();
+                samplesReplayed++;
+            }
+        } finally {
+            endNanos = System.nanoTime();
+        }
+
+        return samplesReplayed;
+    }
+
+    /**
+     * Body of the background replay thread for a flight history
+     */
+    private void runHistoryReplay(Path file, FlightHistoryReader history, int tail, double speed) {
+        try (history) {
+            long samples = replay(history, tail, speed);
+            log.info("Replay of tail {} of {} finished: {} samples", tail, file, samples);
+        } catch (IOException | RuntimeException e) {
+            lastError = e.getMessage();
+            log.error("Replay of {} failed after {} samples", file, samplesReplayed, e);
+        }
+    }
+
+    /**
+     * Opens a flight history and checks that it holds the requested tail
+     */
+    private static FlightHistoryReader openHistory(Path file, int tail) {
+        FlightHistoryReader history;
+        try {
+            history = new FlightHistoryReader(file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read flight history " + file.getFileName() + ": "
+                    + e.getMessage(), e);
+        }
+        if (tail < 0 || tail >= history.getFleetSize()) {
+            try {
+                history.close();
+            } catch (IOException e) {
+                log.debug("Failed to close flight history {}", file, e);
+            }
+            throw new IllegalArgumentException("Flight history has tails 0 to "
+                    + (history.getFleetSize() - 1) + ": " + tail);
+        }
+        return history;
+    }
+
+    /**
+     * Body of the background replay thread for a CSV recording
+     */
+    private void runReplay(Path file, double speed) {
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            long samples = replay(reader, speed);
+            log.info("Replay of {} finished: {} samples, {} rows skipped", file, samples, rowsSkipped);
+        } catch (IOException | RuntimeException e) {
+            lastError = e.getMessage();
+            log.error("Replay of {} failed after {} samples", file, samplesReplayed, e);
+        }
+    }
+
+    /**
+     * Resolves a recording name inside the replay directory
+     */
+    private Path resolveRecording(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("Recording file name is required");
+        }
+        Path directory = Paths.get(replayDirectory).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("Recording must be inside the replay directory: " + fileName);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Recording not found: " + fileName);
+        }
+        return file;
+    }
+
+    /**
+     * Maps each header column to a channel index or a marker
+     */
+    private int[] mapColumns(String[] header) {
+        Map<String, Integer> channelsByName = new HashMap<>();
+        for (SensorChannel channel : CHANNELS) {
+            channelsByName.put(channel.getPropertyName().toLowerCase(), channel.index());
+        }
+
+        int[] columns = new int[header.length];
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i].trim().toLowerCase();
+            if (name.equals("timestamp")) {
+                columns[i] = TIMESTAMP_COLUMN;
+            } else {
+                columns[i] = channelsByName.getOrDefault(name, IGNORED_COLUMN);
+                if (columns[i] == IGNORED_COLUMN) {
+                    log.debug("Ignoring unknown replay column: {}", header[i]);
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Parses one CSV row into a sample; a channel recorded before but empty
+     * in this row keeps its previous reading as an interpolated one
+     *
+     * @return The sample, or null if the row is malformed
+     */
+    private AircraftData parseRow(String[] row, int[] columns, double[] lastValues, boolean[] recorded) {
+        AircraftData data = new AircraftData();
+        int fresh = 0;
+        try {
+            for (int i = 0; i < columns.length && i < row.length; i++) {
+                int column = columns[i];
+                if (column == IGNORED_COLUMN) {
+                    continue;
+                }
+                String cell = row[i].trim();
+                if (column == TIMESTAMP_COLUMN) {
+                    data.setLocalTimeNanos(cell.isEmpty() ? AircraftData.NO_TIMESTAMP : parseTimestamp(cell));
+                } else if (!cell.isEmpty()) {
+                    lastValues[column] = Double.parseDouble(cell);
+                    fresh |= 1 << column;
+                }
+            }
+        } catch (NumberFormatException | DateTimeParseException | ArithmeticException e) {
+            log.debug("Skipping malformed replay row: {}", e.getMessage());
+            return null;
+        }
+
+        for (int channel = 0; channel < lastValues.length; channel++) {
+            data.setValue(channel, lastValues[channel]);
+            if ((fresh & 1 << channel) != 0) {
+                recorded[channel] = true;
+            } else if (recorded[channel]) {
+                data.setQuality(CHANNELS[channel], SensorQuality.INTERPOLATED);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Parses a recorded timestamp: "yyyy-MM-dd HH:mm:ss", ISO-8601, or epoch
+     * milliseconds (UTC); returns it in the nanosecond form AircraftData holds
+     */
+    private static long parseTimestamp(String cell) {
+        char first = cell.charAt(0);
+        if (cell.length() > 10 && cell.charAt(4) == '-') {
+            return AircraftData.toLocalTimeNanos(cell.indexOf('T') > 0
+                    ? LocalDateTime.parse(cell)
+                    : LocalDateTime.parse(cell, TIMESTAMP_FORMAT));
+        }
+        if (Character.isDigit(first)) {
+            return Math.multiplyExact(Long.parseLong(cell), 1_000_000L);
+        }
+        throw new DateTimeParseException("Unrecognized timestamp", cell, 0);
+    }
+
+    /**
+     * Waits until the given System.nanoTime() value, or until the replay is stopped
+     */
+    private void waitUntil(long deadlineNanos) {
+        long remaining;
+        while (!stopRequested && (remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
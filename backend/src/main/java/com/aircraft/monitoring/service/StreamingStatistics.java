@@ -0,0 +1,190 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Running statistics of every channel of every source, updated one
+ * reading at a time in constant time and memory.
+ *
+ * Each source and channel keeps two estimates. The lifetime mean and
+ * variance use Welford's algorithm: the count, the mean and the sum of
+ * squared deviations from it, updated without ever summing large squares,
+ * so they stay accurate over millions of readings. The recent mean and
+ * variance are exponentially weighted moving averages: each reading moves
+ * them by {@code alpha} of its difference from the mean, so they follow a
+ * level that shifts and forget readings older than a few {@code 1 / alpha}.
+ *
+ * The state sits in flat arrays indexed by
+ * {@code source * SensorChannel.COUNT + channel}: an {@code int} count and
+ * two {@code double}s each for the lifetime and the recent estimate,
+ * {@link #BYTES_PER_SOURCE} per source, 72 MB for 100,000 sources. The
+ * recent mean stays a {@code double} because a {@code float} cannot hold
+ * a small step of a large level, such as a few feet of altitude. Disjoint
+ * sources may be updated concurrently once {@link #ensureSources(int)} has
+ * made room for them; an update made while another thread grows the arrays
+ * for a new source may be lost.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class StreamingStatistics {
+
+    /**
+     * Memory each source takes, over all channels
+     */
+    public static final int BYTES_PER_SOURCE =
+            SensorChannel.COUNT * (Integer.BYTES + 4 * Double.BYTES);
+
+    private final double alpha;
+
+    // Per source and channel: readings added
+    private volatile int[] counts = new int[0];
+    // Per source and channel, two entries each: Welford mean and sum of squared deviations
+    private volatile double[] moments = new double[0];
+    // Per source and channel, two entries each: EWMA mean and variance
+    private volatile double[] recent = new double[0];
+
+    /**
+     * Creates statistics for no sources yet
+     *
+     * @param alpha Weight of each new reading in the recent mean and
+     *              variance, above 0 and at most 1
+     */
+    public StreamingStatistics(double alpha) {
+        if (!(alpha > 0 && alpha <= 1)) {
+            throw new IllegalArgumentException("EWMA weight must be above 0 and at most 1: " + alpha);
+        }
+        this.alpha = alpha;
+    }
+
+    /**
+     * Gets the weight of each new reading in the recent mean and variance
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Gets the number of sources there is room for
+     */
+    public int getSources() {
+        return counts.length / SensorChannel.COUNT;
+    }
+
+    /**
+     * Makes room for sources 0 to {@code sources - 1} at once, rather than
+     * growing as new sources show up
+     */
+    public void ensureSources(int sources) {
+        if (sources > getSources()) {
+            grow(sources);
+        }
+    }
+
+    /**
+     * Adds a reading to the statistics of a source's channel
+     *
+     * @param source Source of the reading, from 0
+     * @param channel Channel index
+     * @param value The reading; must be finite
+     */
+    public void add(int source, int channel, double value) {
+        int cell = cellOf(source, channel);
+        if (cell >= counts.length) {
+            grow(Math.max(source + 1, 2 * getSources()));
+        }
+        int[] n = counts;
+        double[] m = moments;
+        double[] r = recent;
+
+        int count = n[cell] + 1;
+        n[cell] = count;
+        if (count == 1) {
+            m[2 * cell] = value;
+            m[2 * cell + 1] = 0;
+            r[2 * cell] = value;
+            r[2 * cell + 1] = 0;
+            return;
+        }
+
+        double mean = m[2 * cell];
+        double delta = value - mean;
+        mean += delta / count;
+        m[2 * cell] = mean;
+        m[2 * cell + 1] += delta * (value - mean);
+
+        double recentMean = r[2 * cell];
+        double difference = value - recentMean;
+        double increment = alpha * difference;
+        r[2 * cell] = recentMean + increment;
+        r[2 * cell + 1] = (1 - alpha) * (r[2 * cell + 1] + difference * increment);
+    }
+
+    /**
+     * Gets the number of readings added for a source's channel
+     */
+    public int getCount(int source, int channel) {
+        int cell = cellOf(source, channel);
+        int[] n = counts;
+        return cell < n.length ? n[cell] : 0;
+    }
+
+    /**
+     * Gets the mean of every reading of a source's channel, or NaN if there
+     * is none
+     */
+    public double getMean(int source, int channel) {
+        int count = getCount(source, channel);
+        return count > 0 ? moments[2 * cellOf(source, channel)] : Double.NaN;
+    }
+
+    /**
+     * Gets the sample variance of every reading of a source's channel, or
+     * NaN if there are fewer than two
+     */
+    public double getVariance(int source, int channel) {
+        int count = getCount(source, channel);
+        return count > 1 ? moments[2 * cellOf(source, channel) + 1] / (count - 1) : Double.NaN;
+    }
+
+    /**
+     * Gets the exponentially weighted mean of a source's channel, or NaN if
+     * there is no reading
+     */
+    public double getRecentMean(int source, int channel) {
+        int count = getCount(source, channel);
+        return count > 0 ? recent[2 * cellOf(source, channel)] : Double.NaN;
+    }
+
+    /**
+     * Gets the exponentially weighted variance of a source's channel, or NaN
+     * if there are fewer than two readings
+     */
+    public double getRecentVariance(int source, int channel) {
+        int count = getCount(source, channel);
+        return count > 1 ? recent[2 * cellOf(source, channel) + 1] : Double.NaN;
+    }
+
+    private static int cellOf(int source, int channel) {
+        if (source < 0) {
+            throw new IllegalArgumentException("Source must not be negative: " + source);
+        }
+        return source * SensorChannel.COUNT + Objects.checkIndex(channel, SensorChannel.COUNT);
+    }
+
+    /**
+     * Grows the arrays to hold the given number of sources
+     */
+    private synchronized void grow(int sources) {
+        int cells = sources * SensorChannel.COUNT;
+        if (cells <= counts.length) {
+            return;
+        }
+        recent = Arrays.copyOf(recent, 2 * cells);
+        moments = Arrays.copyOf(moments, 2 * cells);
+        counts = Arrays.copyOf(counts, cells);
+    }
+}
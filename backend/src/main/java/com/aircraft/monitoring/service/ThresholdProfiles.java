@@ -0,0 +1,363 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Normal reading ranges per aircraft type, for anomaly detection.
+ *
+ * Types are numbered from 0 in the order they are declared; the number is
+ * what samples, batches and the fleet state carry as their aircraft type.
+ * Type 0 is always {@link #DEFAULT_TYPE}, which starts from the ranges of
+ * the {@link SensorChannel} registry and applies to any sample whose type
+ * is unknown. The limits and the anomaly bit each channel raises are held
+ * in dense arrays indexed by {@code type * SensorChannel.COUNT + channel},
+ * so the rules of a sample are one array offset away
+ * ({@link #offsetOf(int)}). Instances never change; new limits are a new
+ * instance, swapped in whole.
+ *
+ * Profiles are read from properties:
+ *
+ * <pre>
+ * types=A320,B737
+ * A320.engineRPM.max=2800
+ * B737.hydraulicPressure.min=2800
+ * DEFAULT.fuelLevel.min=15
+ * DEFAULT.fuelLevel.hysteresis=2
+ * B737.verticalSpeed.system=airspeed
+ * </pre>
+ *
+ * {@code types} lists the types after {@code DEFAULT}. Every other key is
+ * {@code <type>.<channel property name>.min} or {@code .max}, with a number
+ * or {@code none} for no limit, {@code .hysteresis}, with a number of at
+ * least 0, or {@code .system}, naming the anomaly flag the channel raises:
+ * {@code engine}, {@code fuel}, {@code hydraulic}, {@code altitude} or
+ * {@code airspeed}. A type starts from the registry's ranges, hysteresis
+ * and anomaly bits, so a profile lists only the values that differ. Only
+ * channels the registry checks may have rules.
+ *
+ * The hysteresis moves each limit inward to give the clear limits
+ * ({@link #getClearMin(int, SensorChannel)}), which a debounced alert
+ * must get back inside to end.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public final class ThresholdProfiles {
+
+    /**
+     * Name of type 0, the ranges used for samples of unknown type
+     */
+    public static final String DEFAULT_TYPE = "DEFAULT";
+
+    private static final String TYPES_KEY = "types";
+    private static final String NO_LIMIT = "none";
+    private static final String HYSTERESIS = "hysteresis";
+    private static final String SYSTEM = "system";
+
+    // Anomaly bit of each system name a .system key may give
+    private static final Map<String, Integer> SYSTEM_BITS = Map.of(
+            "engine", AircraftData.ENGINE_ANOMALY,
+            "fuel", AircraftData.FUEL_ANOMALY,
+            "hydraulic", AircraftData.HYDRAULIC_ANOMALY,
+            "altitude", AircraftData.ALTITUDE_ANOMALY,
+            "airspeed", AircraftData.AIRSPEED_ANOMALY);
+
+    private static final ThresholdProfiles DEFAULTS = new ThresholdProfiles(List.of(DEFAULT_TYPE), Map.of(), Map.of());
+
+    private final List<String> types;
+    private final double[] minValues;
+    private final double[] maxValues;
+    private final double[] clearMinValues;
+    private final double[] clearMaxValues;
+    private final int[] systemBits;
+
+    private ThresholdProfiles(List<String> types, Map<String, Double> limits, Map<String, Integer> systems) {
+        this.types = Collections.unmodifiableList(new ArrayList<>(types));
+        this.minValues = new double[types.size() * SensorChannel.COUNT];
+        this.maxValues = new double[types.size() * SensorChannel.COUNT];
+        this.clearMinValues = new double[types.size() * SensorChannel.COUNT];
+        this.clearMaxValues = new double[types.size() * SensorChannel.COUNT];
+        this.systemBits = new int[types.size() * SensorChannel.COUNT];
+        for (int type = 0; type < types.size(); type++) {
+            for (SensorChannel channel : SensorChannel.values()) {
+                int index = type * SensorChannel.COUNT + channel.index();
+                String prefix = types.get(type) + "." + channel.getPropertyName();
+                minValues[index] = limits.getOrDefault(prefix + ".min", channel.getMin());
+                maxValues[index] = limits.getOrDefault(prefix + ".max", channel.getMax());
+                if (minValues[index] > maxValues[index]) {
+                    throw new IllegalArgumentException("Minimum above maximum for " + prefix);
+                }
+                double hysteresis = limits.getOrDefault(prefix + ".hysteresis", channel.getHysteresis());
+                clearMinValues[index] = minValues[index] + hysteresis;
+                clearMaxValues[index] = maxValues[index] - hysteresis;
+                if (clearMinValues[index] > clearMaxValues[index]) {
+                    throw new IllegalArgumentException("Hysteresis wider than half the range for " + prefix);
+                }
+                systemBits[index] = systems.getOrDefault(prefix + "." + SYSTEM, channel.getAnomalyBit());
+            }
+        }
+    }
+
+    /**
+     * Gets the profiles holding only {@link #DEFAULT_TYPE} with the registry's ranges
+     */
+    public static ThresholdProfiles defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Reads profiles from a properties file
+     *
+     * @param file The file to read, in UTF-8
+     * @return The profiles
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid profile set
+     */
+    public static ThresholdProfiles load(Path file) throws IOException {
+        return load(Files.readAllBytes(file));
+    }
+
+    /**
+     * Reads profiles from the content of a properties file
+     *
+     * @param content The file content, in UTF-8
+     * @return The profiles
+     * @throws IOException if the content is not a properties file
+     * @throws IllegalArgumentException if the file is not a valid profile set
+     */
+    public static ThresholdProfiles load(byte[] content) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * Reads profiles from properties
+     *
+     * @param properties The profile properties, see the class description
+     * @return The profiles
+     * @throws IllegalArgumentException if the properties are not a valid profile set
+     */
+    public static ThresholdProfiles fromProperties(Properties properties) {
+        List<String> types = new ArrayList<>();
+        types.add(DEFAULT_TYPE);
+        for (String type : properties.getProperty(TYPES_KEY, "").split(",")) {
+            type = type.trim();
+            if (type.isEmpty()) {
+                continue;
+            }
+            if (types.contains(type) || type.contains(".")) {
+                throw new IllegalArgumentException("Invalid or repeated aircraft type: " + type);
+            }
+            types.add(type);
+        }
+
+        Map<String, SensorChannel> channels = new HashMap<>();
+        for (SensorChannel channel : SensorChannel.values()) {
+            channels.put(channel.getPropertyName(), channel);
+        }
+        Map<String, Double> limits = new HashMap<>();
+        Map<String, Integer> systems = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.equals(TYPES_KEY)) {
+                continue;
+            }
+            String[] parts = key.split("\\.");
+            if (parts.length != 3 || !types.contains(parts[0]) || !(parts[2].equals("min")
+                    || parts[2].equals("max") || parts[2].equals(HYSTERESIS) || parts[2].equals(SYSTEM))) {
+                throw new IllegalArgumentException("Unknown threshold key: " + key);
+            }
+            SensorChannel channel = channels.get(parts[1]);
+            if (channel == null || !channel.isChecked()) {
+                throw new IllegalArgumentException("Not a checked sensor channel: " + key);
+            }
+            String value = properties.getProperty(key).trim();
+            if (parts[2].equals(SYSTEM)) {
+                systems.put(key, parseSystem(key, value));
+            } else {
+                limits.put(key, parts[2].equals(HYSTERESIS)
+                        ? parseHysteresis(key, value)
+                        : parseLimit(key, value, parts[2].equals("min")));
+            }
+        }
+        return new ThresholdProfiles(types, limits, systems);
+    }
+
+    private static double parseLimit(String key, String text, boolean min) {
+        if (text.equalsIgnoreCase(NO_LIMIT)) {
+            return min ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        double limit;
+        try {
+            limit = Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            limit = Double.NaN;
+        }
+        if (Double.isNaN(limit)) {
+            throw new IllegalArgumentException("Threshold is not a number: " + key + "=" + text);
+        }
+        return limit;
+    }
+
+    private static double parseHysteresis(String key, String text) {
+        double hysteresis = parseLimit(key, text, true);
+        if (!(hysteresis >= 0) || Double.isInfinite(hysteresis)) {
+            throw new IllegalArgumentException("Hysteresis must be a number of at least 0: " + key + "=" + text);
+        }
+        return hysteresis;
+    }
+
+    private static int parseSystem(String key, String text) {
+        Integer bit = SYSTEM_BITS.get(text.toLowerCase(Locale.ROOT));
+        if (bit == null) {
+            throw new IllegalArgumentException("Unknown anomaly system: " + key + "=" + text
+                    + ", expected one of engine, fuel, hydraulic, altitude, airspeed");
+        }
+        return bit;
+    }
+
+    /**
+     * Gets the type names, in type number order
+     */
+    public List<String> getTypes() {
+        return types;
+    }
+
+    /**
+     * Gets the number of types, including {@link #DEFAULT_TYPE}
+     */
+    public int getTypeCount() {
+        return types.size();
+    }
+
+    /**
+     * Gets the number of a type
+     *
+     * @param type Type name
+     * @return The type number, or -1 if there is no such type
+     */
+    public int indexOf(String type) {
+        return types.indexOf(type);
+    }
+
+    /**
+     * Gets the offset of a type's limits in the limit arrays
+     *
+     * @param type Type number; an unknown type gets the limits of type 0
+     * @return {@code type * SensorChannel.COUNT}
+     */
+    public int offsetOf(int type) {
+        return type > 0 && type < types.size() ? type * SensorChannel.COUNT : 0;
+    }
+
+    /**
+     * Gets the lowest normal reading of a channel for a type, or negative
+     * infinity if there is no minimum
+     */
+    public double getMin(int type, SensorChannel channel) {
+        return minValues[offsetOf(type) + channel.index()];
+    }
+
+    /**
+     * Gets the highest normal reading of a channel for a type, or positive
+     * infinity if there is no maximum
+     */
+    public double getMax(int type, SensorChannel channel) {
+        return maxValues[offsetOf(type) + channel.index()];
+    }
+
+    /**
+     * Gets the reading a debounced low alert of a channel must rise above
+     * to clear: the minimum plus the hysteresis
+     */
+    public double getClearMin(int type, SensorChannel channel) {
+        return clearMinValues[offsetOf(type) + channel.index()];
+    }
+
+    /**
+     * Gets the reading a debounced high alert of a channel must fall below
+     * to clear: the maximum minus the hysteresis
+     */
+    public double getClearMax(int type, SensorChannel channel) {
+        return clearMaxValues[offsetOf(type) + channel.index()];
+    }
+
+    /**
+     * Gets the anomaly bit an out-of-range reading of a channel raises for
+     * a type, one of the {@link AircraftData} anomaly bits
+     */
+    public int getSystemBit(int type, SensorChannel channel) {
+        return systemBits[offsetOf(type) + channel.index()];
+    }
+
+    /**
+     * Checks whether these profiles keep every type of others at the same
+     * number, so that type numbers already handed out stay valid
+     */
+    public boolean keepsTypesOf(ThresholdProfiles others) {
+        return types.size() >= others.types.size() && types.subList(0, others.types.size()).equals(others.types);
+    }
+
+    /**
+     * Gets the minimum array, indexed by {@code type * SensorChannel.COUNT + channel};
+     * shared, not to be changed
+     */
+    double[] minValues() {
+        return minValues;
+    }
+
+    /**
+     * Gets the maximum array, indexed by {@code type * SensorChannel.COUNT + channel};
+     * shared, not to be changed
+     */
+    double[] maxValues() {
+        return maxValues;
+    }
+
+    /**
+     * Gets the clear minimum array, indexed like {@link #minValues()}; shared,
+     * not to be changed
+     */
+    double[] clearMinValues() {
+        return clearMinValues;
+    }
+
+    /**
+     * Gets the clear maximum array, indexed like {@link #maxValues()}; shared,
+     * not to be changed
+     */
+    double[] clearMaxValues() {
+        return clearMaxValues;
+    }
+
+    /**
+     * Gets the anomaly bit array, indexed like {@link #minValues()}; shared,
+     * not to be changed
+     */
+    int[] systemBits() {
+        return systemBits;
+    }
+
+    @Override
+    public String toString() {
+        return "ThresholdProfiles(types=" + types + ")";
+    }
+}
@@ -1,6 +1,8 @@
 package com.aircraft.monitoring.service;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.SensorChannel;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.TextMessage;
@@ -9,8 +11,12 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * WebSocket service for real-time aircraft data communication.
@@ -25,9 +31,16 @@ import java.util.List;
 @Slf4j
 public class WebSocketService extends TextWebSocketHandler {
     
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
     private final List<WebSocketSession> sessions = new CopyOnWriteArrayList<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
     
+    /**
+     * Encoder of single-sample messages, one per broadcasting thread
+     */
+    private final ThreadLocal<AircraftJsonEncoder> encoders = ThreadLocal.withInitial(AircraftJsonEncoder::new);
+    
     /**
      * Handles new WebSocket connections
      */
@@ -71,6 +84,11 @@ public class WebSocketService extends TextWebSocketHandler {
     /**
      * Broadcasts aircraft data to all connected WebSocket clients
      * 
+     * The data is serialized before this method returns, so the caller may
+     * refill the sample afterwards. The message is written by an
+     * {@link AircraftJsonEncoder}, in the same JSON as the REST API serves
+     * for a sample.
+     * 
      * @param aircraftData The aircraft sensor data to broadcast
      */
     public void broadcastAircraftData(AircraftData aircraftData) {
@@ -79,9 +97,9 @@ public class WebSocketService extends TextWebSocketHandler {
         }
         
         try {
-            String jsonData = objectMapper.writeValueAsString(aircraftData);
-            String message = "{\"type\":\"aircraft_data\",\"data\":" + jsonData + "}";
-            TextMessage textMessage = new TextMessage(message);
+            AircraftJsonEncoder encoder = encoders.get();
+            encoder.encodeMessage(aircraftData);
+            TextMessage textMessage = new TextMessage(encoder.toString());
             
             // Send to all connected sessions
             for (WebSocketSession session : sessions) {
@@ -104,6 +122,72 @@ public class WebSocketService extends TextWebSocketHandler {
         }
     }
     
+    /**
+     * Broadcasts a batch of aircraft data to all connected WebSocket clients
+     * as one message.
+     * 
+     * The batch is sent in columnar form: {@code size}, a {@code timestamp}
+     * array (same format as single samples, null where absent), one array
+     * per sensor reading under its usual property name, and an
+     * {@code anomalyMask} array holding the {@link AircraftData} anomaly
+     * bits. The data is serialized before this method returns.
+     * 
+     * @param batch The aircraft sensor data to broadcast
+     */
+    public void broadcastAircraftData(AircraftDataBatch batch) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        
+        try {
+            String jsonData = objectMapper.writeValueAsString(toColumns(batch));
+            String message = "{\"type\":\"aircraft_data_batch\",\"data\":" + jsonData + "}";
+            TextMessage textMessage = new TextMessage(message);
+            
+            for (WebSocketSession session : sessions) {
+                if (session.isOpen()) {
+                    try {
+                        session.sendMessage(textMessage);
+                    } catch (IOException e) {
+                        log.error("Error sending message to session: {}", session.getId(), e);
+                        sessions.remove(session);
+                    }
+                } else {
+                    sessions.remove(session);
+                }
+            }
+            
+            log.debug("Broadcasted {} aircraft samples to {} clients", batch.getSize(), sessions.size());
+            
+        } catch (Exception e) {
+            log.error("Error broadcasting aircraft data batch", e);
+        }
+    }
+    
+    /**
+     * Lays out a batch as the columns of its broadcast message
+     */
+    static Map<String, Object> toColumns(AircraftDataBatch batch) {
+        int size = batch.getSize();
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("size", size);
+        
+        String[] timestamps = new String[size];
+        long[] localTimeNanos = batch.getLocalTimeNanos();
+        for (int i = 0; i < size; i++) {
+            if (localTimeNanos[i] != AircraftData.NO_TIMESTAMP) {
+                timestamps[i] = TIMESTAMP_FORMAT.format(AircraftData.toLocalDateTime(localTimeNanos[i]));
+            }
+        }
+        columns.put("timestamp", timestamps);
+        
+        for (SensorChannel channel : SensorChannel.values()) {
+            columns.put(channel.getPropertyName(), Arrays.copyOf(batch.getChannel(channel), size));
+        }
+        columns.put("anomalyMask", Arrays.copyOf(batch.getAnomalyMasks(), size));
+        return columns;
+    }
+    
     /**
      * Sends a system alert to all connected clients
      * 
@@ -0,0 +1,196 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.util.Objects;
+
+/**
+ * Flags readings far from what their own source usually reads.
+ *
+ * Fixed limits say whether a reading is possible for the aircraft type; an
+ * oil pressure of 25 PSI is within them even on a tail that always runs at
+ * 60. This detector keeps {@link StreamingStatistics} of every source and
+ * channel and scores each reading against them before adding it: the
+ * z-score is the reading's distance from the mean in standard deviations,
+ * and a reading deviates when it is more than {@code threshold} away. The
+ * baseline is either the lifetime Welford mean and variance, for channels
+ * that hold one level, or the exponentially weighted ones, which follow a
+ * level that drifts and forget a deviation once it has lasted a few
+ * {@code 1 / alpha} readings. No reading is scored until its source and
+ * channel have {@code warmup} readings, and the standard deviation is
+ * never taken below the channel's resolution, so a channel that has read
+ * one value so far does not flag the next rounding step.
+ *
+ * Deviating readings are added to the statistics like any other. Only the
+ * channels in the detector's bit set are scored and tracked; readings of
+ * the others, and readings that are not finite, are ignored. Disjoint
+ * sources may be updated concurrently once {@link #ensureSources(int)} has
+ * made room for them, as in {@link StreamingStatistics}.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class ZScoreDetector {
+
+    /**
+     * Estimate a reading is scored against
+     */
+    public enum Baseline {
+        /** Mean and variance of every reading so far */
+        WELFORD,
+        /** Exponentially weighted mean and variance */
+        EWMA
+    }
+
+    // Per channel: the square of its resolution
+    private static final double[] MIN_VARIANCE = new double[SensorChannel.COUNT];
+
+    static {
+        SensorChannel.requireCapacity(Integer.SIZE, ZScoreDetector.class);
+        for (SensorChannel channel : SensorChannel.values()) {
+            MIN_VARIANCE[channel.index()] = 1 / (channel.getScale() * channel.getScale());
+        }
+    }
+
+    private final double threshold;
+    private final double thresholdSquared;
+    private final int warmup;
+    private final Baseline baseline;
+    private final int channels;
+    private final StreamingStatistics statistics;
+
+    /**
+     * Creates a detector
+     *
+     * @param threshold Standard deviations from the mean beyond which a
+     *                  reading deviates
+     * @param warmup Readings a source's channel needs before it is scored,
+     *               at least 2
+     * @param baseline Estimate readings are scored against
+     * @param alpha Weight of each reading in the exponentially weighted
+     *              estimate
+     * @param channels Bit set of the channel indices to score
+     */
+    public ZScoreDetector(double threshold, int warmup, Baseline baseline, double alpha, int channels) {
+        if (!(threshold > 0)) {
+            throw new IllegalArgumentException("Z-score threshold must be positive: " + threshold);
+        }
+        if (warmup < 2) {
+            throw new IllegalArgumentException("Z-score warm-up must be at least 2 readings: " + warmup);
+        }
+        this.threshold = threshold;
+        this.thresholdSquared = threshold * threshold;
+        this.warmup = warmup;
+        this.baseline = Objects.requireNonNull(baseline, "baseline");
+        this.channels = channels;
+        this.statistics = new StreamingStatistics(alpha);
+    }
+
+    /**
+     * Gets the standard deviations from the mean beyond which a reading deviates
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets the readings a source's channel needs before it is scored
+     */
+    public int getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Gets the estimate readings are scored against
+     */
+    public Baseline getBaseline() {
+        return baseline;
+    }
+
+    /**
+     * Gets the bit set of the channel indices scored
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * Gets the statistics readings are scored against
+     */
+    public StreamingStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Makes room for sources 0 to {@code sources - 1} at once
+     */
+    public void ensureSources(int sources) {
+        statistics.ensureSources(sources);
+    }
+
+    /**
+     * Scores a reading of a source's channel and adds it to the statistics
+     *
+     * @param source Source of the reading, from 0
+     * @param channel Channel index
+     * @param value The reading
+     * @return Whether the reading deviates from the source's baseline
+     */
+    public boolean update(int source, int channel, double value) {
+        if ((channels & 1 << channel) == 0 || !Double.isFinite(value)) {
+            return false;
+        }
+        // Compares squares, saving a square root and a division per reading
+        boolean deviates = false;
+        if (statistics.getCount(source, channel) >= warmup) {
+            double difference = value - getMean(source, channel);
+            deviates = difference * difference > thresholdSquared * getBaselineVariance(source, channel);
+        }
+        statistics.add(source, channel, value);
+        return deviates;
+    }
+
+    /**
+     * Scores a reading of a source's channel without adding it
+     *
+     * @param source Source of the reading, from 0
+     * @param channel Channel index
+     * @param value The reading
+     * @return Standard deviations from the baseline mean, or NaN while the
+     *         channel is warming up
+     */
+    public double zScore(int source, int channel, double value) {
+        if (statistics.getCount(source, channel) < warmup) {
+            return Double.NaN;
+        }
+        return (value - getMean(source, channel)) / getStandardDeviation(source, channel);
+    }
+
+    /**
+     * Gets the baseline mean of a source's channel, or NaN if it has no reading
+     */
+    public double getMean(int source, int channel) {
+        return baseline == Baseline.WELFORD
+                ? statistics.getMean(source, channel)
+                : statistics.getRecentMean(source, channel);
+    }
+
+    /**
+     * Gets the baseline standard deviation of a source's channel, at least
+     * the channel's resolution, or NaN if it has fewer than two readings
+     */
+    public double getStandardDeviation(int source, int channel) {
+        return Math.sqrt(getBaselineVariance(source, channel));
+    }
+
+    /**
+     * Gets the baseline variance of a source's channel, at least the square
+     * of the channel's resolution
+     */
+    private double getBaselineVariance(int source, int channel) {
+        double variance = baseline == Baseline.WELFORD
+                ? statistics.getVariance(source, channel)
+                : statistics.getRecentVariance(source, channel);
+        return Math.max(variance, MIN_VARIANCE[channel]);
+    }
+}
@@ -0,0 +1,67 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.SensorChannel;
+
+/**
+ * A sensor fault scheduled on one channel of one tail.
+ *
+ * The fault is active for {@code durationTicks} ticks starting at tick
+ * {@code startTick} (ticks are numbered from 1, see
+ * {@link FleetSimulator#getTickCount()}). It changes what the sensor reports,
+ * not the simulated aircraft: once it ends the channel reads the true value
+ * again.
+ *
+ * @param type Kind of fault
+ * @param tail Tail the fault applies to
+ * @param channel Sensor channel the fault applies to
+ * @param startTick First tick the fault is active on
+ * @param durationTicks Number of ticks the fault stays active
+ * @param magnitude Meaning depends on the type, see {@link Type}
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public record Fault(Type type, int tail, SensorChannel channel, long startTick, long durationTicks,
+                    double magnitude) {
+
+    /**
+     * Kinds of sensor fault
+     */
+    public enum Type {
+        /** Reading offset by {@code magnitude} for the whole fault */
+        STEP,
+        /** Offset growing linearly to {@code magnitude} over the fault */
+        RAMP,
+        /**
+         * Reading held at {@code magnitude}, or at its value at onset if NaN;
+         * quality STALE from the fault's second tick
+         */
+        STUCK_AT,
+        /** Sensor reports nothing: reads 0 with quality FAILED; {@code magnitude} is ignored */
+        DROPOUT,
+        /** Gaussian noise with standard deviation {@code magnitude} added */
+        NOISE_BURST
+    }
+
+    public Fault {
+        if (type == null || channel == null) {
+            throw new IllegalArgumentException("Fault type and channel are required");
+        }
+        if (tail < 0) {
+            throw new IllegalArgumentException("Tail must not be negative: " + tail);
+        }
+        if (startTick < 0 || durationTicks < 1 || durationTicks > Long.MAX_VALUE - startTick) {
+            throw new IllegalArgumentException("Fault needs a start tick >= 0 and a duration of at least one tick");
+        }
+        if (Double.isNaN(magnitude) && type != Type.STUCK_AT && type != Type.DROPOUT) {
+            throw new IllegalArgumentException(type + " fault needs a magnitude");
+        }
+    }
+
+    /**
+     * Gets the first tick after the fault has ended
+     */
+    public long endTick() {
+        return startTick + durationTicks;
+    }
+}
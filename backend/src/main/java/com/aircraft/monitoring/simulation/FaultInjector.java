@@ -0,0 +1,227 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorQuality;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timeline of scheduled sensor faults for a fleet.
+ *
+ * Faults wait in a queue ordered by start tick; on each tick the due ones
+ * move to an active list and are written over the fleet state after the
+ * simulator has advanced it. Before the next advance the true readings are
+ * written back, so faults never leak into the simulated aircraft. A fault
+ * the sensor would detect itself also marks the reading's
+ * {@link SensorQuality}, which is restored the same way. A tick
+ * with nothing due and nothing active costs two O(1) checks.
+ *
+ * A parallel tick starts the due faults once with {@link #start(long)} and
+ * then writes them range by range with
+ * {@link #apply(long, FleetState, int, int)}, so each range sees its faults
+ * before any later work on it in the same task. Each fault draws its noise
+ * from its own stream, so the readings do not depend on how the fleet is
+ * cut up.
+ *
+ * {@link #schedule(Fault)} may be called from any thread, and the ranged
+ * {@code apply} from the tick's tasks for disjoint ranges; everything else
+ * runs on the tick thread.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class FaultInjector {
+
+    private final int fleetSize;
+    private final SplittableRandom random;
+
+    // Faults handed over by other threads, moved to the timeline on the next tick
+    private final ConcurrentLinkedQueue<Fault> inbox = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<Fault> timeline = new PriorityQueue<>(Comparator.comparingLong(Fault::startTick));
+    private final List<ActiveFault> active = new ArrayList<>();
+
+    private final AtomicLong scheduledCount = new AtomicLong();
+    private volatile long startedCount;
+    private volatile long completedCount;
+    private volatile int activeCount;
+
+    /**
+     * Creates an empty timeline
+     *
+     * @param fleetSize Number of tails faults may target
+     * @param random Stream the noise of each fault is split from
+     */
+    public FaultInjector(int fleetSize, SplittableRandom random) {
+        this.fleetSize = fleetSize;
+        this.random = random;
+    }
+
+    /**
+     * Schedules a fault
+     *
+     * @param fault The fault to inject
+     * @throws IllegalArgumentException if the fault targets a tail outside the fleet
+     */
+    public void schedule(Fault fault) {
+        if (fault.tail() >= fleetSize) {
+            throw new IllegalArgumentException("Tail " + fault.tail() + " is outside a fleet of " + fleetSize);
+        }
+        inbox.add(fault);
+        scheduledCount.incrementAndGet();
+    }
+
+    /**
+     * Writes the true readings and qualities back over every cell the last
+     * {@link #apply(long, FleetState)} faulted
+     */
+    public void restore(FleetState state) {
+        // Reverse order, so stacked faults on one cell unwind to the true value
+        for (int i = active.size() - 1; i >= 0; i--) {
+            ActiveFault fault = active.get(i);
+            state.set(fault.fault.channel(), fault.fault.tail(), fault.trueValue);
+            state.setQuality(fault.fault.channel(), fault.fault.tail(), fault.trueQuality);
+        }
+    }
+
+    /**
+     * Retires ended faults, starts due ones, and writes all active faults
+     * over the fleet state
+     *
+     * @param tick Number of the tick just simulated
+     * @param state The fleet state to overwrite
+     */
+    public void apply(long tick, FleetState state) {
+        start(tick);
+        apply(tick, state, 0, state.getSize());
+    }
+
+    /**
+     * Retires ended faults and starts due ones, without writing any
+     *
+     * @param tick Number of the tick being simulated
+     */
+    public void start(long tick) {
+        Fault incoming;
+        while ((incoming = inbox.poll()) != null) {
+            timeline.add(incoming);
+        }
+        if (active.isEmpty() && (timeline.isEmpty() || timeline.peek().startTick() > tick)) {
+            return;
+        }
+
+        // Retire ended faults (swap-remove; order only matters within one tick)
+        for (int i = active.size() - 1; i >= 0; i--) {
+            if (active.get(i).fault.endTick() <= tick) {
+                int last = active.size() - 1;
+                active.set(i, active.get(last));
+                active.remove(last);
+                completedCount++;
+            }
+        }
+
+        // Start due faults; ones that ended before they could start are dropped
+        while (!timeline.isEmpty() && timeline.peek().startTick() <= tick) {
+            Fault fault = timeline.poll();
+            startedCount++;
+            if (fault.endTick() <= tick) {
+                completedCount++;
+            } else {
+                active.add(new ActiveFault(fault, random.split()));
+            }
+        }
+        activeCount = active.size();
+    }
+
+    /**
+     * Writes the active faults of the tails in [from, to) over the fleet
+     * state, in the order they started
+     *
+     * @param tick Number of the tick being simulated
+     * @param state The fleet state to overwrite
+     * @param from First tail (inclusive)
+     * @param to Last tail (exclusive)
+     */
+    public void apply(long tick, FleetState state, int from, int to) {
+        for (int i = 0, n = active.size(); i < n; i++) {
+            ActiveFault fault = active.get(i);
+            int tail = fault.fault.tail();
+            if (tail >= from && tail < to) {
+                fault.apply(tick, state);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of faults scheduled but not yet started
+     */
+    public long getPendingCount() {
+        return scheduledCount.get() - startedCount;
+    }
+
+    /**
+     * Gets the number of faults active on the last tick
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Gets the number of faults that have run to completion
+     */
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * A started fault and the true reading it is covering
+     */
+    private static final class ActiveFault {
+
+        private final Fault fault;
+        private final SplittableRandom random;
+        private double trueValue;
+        private SensorQuality trueQuality;
+        private double heldValue;
+
+        private ActiveFault(Fault fault, SplittableRandom random) {
+            this.fault = fault;
+            this.random = random;
+            this.heldValue = fault.magnitude();
+        }
+
+        private void apply(long tick, FleetState state) {
+            trueValue = state.get(fault.channel(), fault.tail());
+            trueQuality = state.getQuality(fault.channel(), fault.tail());
+            double reading;
+            switch (fault.type()) {
+                case STEP -> reading = trueValue + fault.magnitude();
+                case RAMP -> reading = trueValue
+                        + fault.magnitude() * (tick - fault.startTick() + 1) / fault.durationTicks();
+                case STUCK_AT -> {
+                    if (Double.isNaN(heldValue)) {
+                        heldValue = trueValue;
+                    }
+                    reading = heldValue;
+                    // From the second tick the sensor has missed a refresh
+                    if (tick > fault.startTick()) {
+                        state.setQuality(fault.channel(), fault.tail(), SensorQuality.STALE);
+                    }
+                }
+                case DROPOUT -> {
+                    // The sensor's built-in test notices it has stopped reporting
+                    reading = 0.0;
+                    state.setQuality(fault.channel(), fault.tail(), SensorQuality.FAILED);
+                }
+                case NOISE_BURST -> reading = trueValue + random.nextGaussian() * fault.magnitude();
+                default -> throw new IllegalStateException("Unknown fault type: " + fault.type());
+            }
+            state.set(fault.channel(), fault.tail(), reading);
+        }
+    }
+}
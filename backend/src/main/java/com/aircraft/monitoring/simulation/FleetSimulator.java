@@ -0,0 +1,567 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Advances the sensor state of a whole fleet of simulated aircraft.
+ *
+ * The signal models are the ones the dashboard aircraft has always used
+ * (bounded random walks for RPM, hydraulic pressure, altitude and airspeed,
+ * with the other channels derived from them plus noise), applied column by
+ * column over a {@link FleetState}. A tick allocates nothing, so its cost
+ * grows linearly with the fleet size and nothing else.
+ *
+ * Noise comes from precomputed {@link NoiseBank}s, one per channel group,
+ * with realistic cross-channel correlations (an RPM rise shows up in EGT,
+ * oil pressure and fuel flow in the same tick; a climb in vertical speed).
+ * Each tail walks the banks from its own random offset with its own odd
+ * stride, so tails see different sequences, and a tick draws no random
+ * numbers apart from the occasional flight phase change.
+ *
+ * Every tail draws from its own random stream, so the values of a tail do
+ * not depend on how the fleet is partitioned across {@link #advance} calls
+ * and a seeded run is reproducible bit for bit. This is also what lets
+ * {@link #tick(TickExecutor)} spread a tick over several threads. The tick
+ * statistics may be read from any thread while the ticking thread runs.
+ *
+ * Scheduled sensor faults ({@link FaultInjector}) are laid over the state
+ * at the end of each tick and lifted again before the next one.
+ *
+ * With a {@link FlightProfile}, every tail also runs a flight phase state
+ * machine (taxi, takeoff, climb, cruise, descent, landing, then the next
+ * flight). Altitude, airspeed, vertical speed, RPM and fuel burn then track
+ * the profile's precomputed targets for the tail's phase and time in phase
+ * instead of wandering around cruise. Without one, the original cruise-only
+ * models are used.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class FleetSimulator {
+
+    // Noise bank channels and their correlations, per group
+    private static final int ENGINE_RPM_STEP = 0;
+    private static final int ENGINE_TEMPERATURE = 1;
+    private static final int ENGINE_OIL_PRESSURE = 2;
+    private static final int ENGINE_OIL_TEMPERATURE = 3;
+    private static final int ENGINE_FUEL_FLOW = 4;
+    private static final int ENGINE_FUEL_BURN = 5;
+    private static final double[][] ENGINE_CORRELATION = {
+            // rpm  EGT   oil P oil T flow  burn
+            {1.0, 0.6, 0.5, 0.3, 0.7, 0.7},
+            {0.6, 1.0, 0.4, 0.6, 0.5, 0.5},
+            {0.5, 0.4, 1.0, 0.3, 0.4, 0.4},
+            {0.3, 0.6, 0.3, 1.0, 0.2, 0.2},
+            {0.7, 0.5, 0.4, 0.2, 1.0, 0.9},
+            {0.7, 0.5, 0.4, 0.2, 0.9, 1.0}
+    };
+
+    private static final int FUEL_PRESSURE = 0;
+    private static final int FUEL_TEMPERATURE = 1;
+    private static final double[][] FUEL_CORRELATION = {
+            {1.0, -0.3},
+            {-0.3, 1.0}
+    };
+
+    private static final int HYDRAULIC_PRESSURE_STEP = 0;
+    private static final int HYDRAULIC_TEMPERATURE = 1;
+    private static final int HYDRAULIC_FLUID_LEVEL = 2;
+    private static final double[][] HYDRAULIC_CORRELATION = {
+            // press temp  level
+            {1.0, 0.5, 0.2},
+            {0.5, 1.0, 0.4},
+            {0.2, 0.4, 1.0}
+    };
+
+    private static final int FLIGHT_ALTITUDE_STEP = 0;
+    private static final int FLIGHT_AIRSPEED_STEP = 1;
+    private static final int FLIGHT_GROUND_SPEED = 2;
+    private static final int FLIGHT_VERTICAL_SPEED = 3;
+    private static final double[][] FLIGHT_CORRELATION = {
+            // alt  speed  gnd   V/S
+            {1.0, -0.4, -0.2, 0.8},
+            {-0.4, 1.0, 0.7, -0.3},
+            {-0.2, 0.7, 1.0, -0.1},
+            {0.8, -0.3, -0.1, 1.0}
+    };
+
+    private static final int CABIN_PRESSURE = 0;
+    private static final int CABIN_TEMPERATURE = 1;
+    private static final int BATTERY_VOLTAGE = 2;
+    private static final int GENERATOR_OUTPUT = 3;
+    private static final double[][] ADDITIONAL_CORRELATION = {
+            // cabP cabT  batt  gen
+            {1.0, 0.2, 0.0, 0.0},
+            {0.2, 1.0, 0.0, 0.0},
+            {0.0, 0.0, 1.0, 0.8},
+            {0.0, 0.0, 0.8, 1.0}
+    };
+
+    // Initial state of every tail
+    private static final double INITIAL_ALTITUDE = 35000.0;
+    private static final double INITIAL_AIRSPEED = 450.0;
+    private static final double INITIAL_FUEL_LEVEL = 85.0;
+    private static final double INITIAL_ENGINE_RPM = 2200.0;
+    private static final double INITIAL_HYDRAULIC_PRESSURE = 2800.0;
+
+    // Fraction of the gap to the profile target closed per tick
+    private static final double TRACKING = 0.3;
+
+    // Cruise flight levels drawn per flight, in steps of 1000 ft
+    private static final int MIN_FLIGHT_LEVEL = 31000;
+    private static final int FLIGHT_LEVELS = 9;
+
+    private static final FlightPhase[] PHASES = FlightPhase.values();
+    private static final int PHASE_COUNT = PHASES.length;
+
+    private final FleetState state;
+    private final SplittableRandom[] tailRandom;
+    private final FaultInjector faultInjector;
+
+    // Noise banks shared by all tails, and each tail's walk through them
+    private final NoiseBank engineNoise;
+    private final NoiseBank fuelNoise;
+    private final NoiseBank hydraulicNoise;
+    private final NoiseBank flightNoise;
+    private final NoiseBank additionalNoise;
+    private final int noiseMask;
+    private final int[] noiseFrame;
+    private final int[] noiseStride;
+    // Bound once so handing the tick to an executor allocates nothing
+    private final TickExecutor.RangeTask advanceTask = this::advanceWithFaults;
+    // Advance followed by the caller's work, kept while the caller passes
+    // the same work, so a tick allocates nothing
+    private TickExecutor.RangeTask followUp;
+    private TickExecutor.RangeTask advanceAndFollowUp;
+
+    // Flight phase state machine per tail; all null without a profile
+    private final FlightProfile profile;
+    private final byte[] phase;
+    private final int[] phaseElapsed;
+    private final int[] phaseRemaining;
+    private final double[] flightLevelScale;
+    private final int[] profileIndex;
+
+    // Tick timing statistics, written by the ticking thread only
+    private volatile long tickCount;
+    private volatile long lastTickNanos;
+    private volatile long totalTickNanos;
+
+    /**
+     * Creates a simulator for a fleet of the given size
+     *
+     * @param fleetSize Number of tails to simulate
+     * @param streams Factory for the per-tail random streams
+     */
+    public FleetSimulator(int fleetSize, RandomStreams streams) {
+        this(fleetSize, streams, null);
+    }
+
+    /**
+     * Creates a simulator for a fleet of the given size flying a phase profile
+     *
+     * @param fleetSize Number of tails to simulate
+     * @param streams Factory for the per-tail random streams
+     * @param profile Flight profile to follow, or null for the cruise-only models
+     */
+    public FleetSimulator(int fleetSize, RandomStreams streams, FlightProfile profile) {
+        this.state = new FleetState(fleetSize);
+        this.tailRandom = streams.split(fleetSize);
+        this.faultInjector = new FaultInjector(fleetSize, streams.split());
+        this.profile = profile;
+
+        SplittableRandom noiseRandom = streams.split();
+        int frames = NoiseBank.DEFAULT_FRAMES;
+        this.engineNoise = new NoiseBank(ENGINE_CORRELATION, frames, noiseRandom);
+        this.fuelNoise = new NoiseBank(FUEL_CORRELATION, frames, noiseRandom);
+        this.hydraulicNoise = new NoiseBank(HYDRAULIC_CORRELATION, frames, noiseRandom);
+        this.flightNoise = new NoiseBank(FLIGHT_CORRELATION, frames, noiseRandom);
+        this.additionalNoise = new NoiseBank(ADDITIONAL_CORRELATION, frames, noiseRandom);
+        this.noiseMask = frames - 1;
+        this.noiseFrame = new int[fleetSize];
+        this.noiseStride = new int[fleetSize];
+        for (int t = 0; t < fleetSize; t++) {
+            noiseFrame[t] = noiseRandom.nextInt(frames);
+            // Odd strides visit every frame before repeating
+            noiseStride[t] = noiseRandom.nextInt(frames) | 1;
+        }
+        Arrays.fill(state.getChannel(SensorChannel.ALTITUDE), INITIAL_ALTITUDE);
+        Arrays.fill(state.getChannel(SensorChannel.AIRSPEED), INITIAL_AIRSPEED);
+        Arrays.fill(state.getChannel(SensorChannel.FUEL_LEVEL), INITIAL_FUEL_LEVEL);
+        Arrays.fill(state.getChannel(SensorChannel.ENGINE_RPM), INITIAL_ENGINE_RPM);
+        Arrays.fill(state.getChannel(SensorChannel.HYDRAULIC_PRESSURE), INITIAL_HYDRAULIC_PRESSURE);
+
+        if (profile == null) {
+            phase = null;
+            phaseElapsed = null;
+            phaseRemaining = null;
+            flightLevelScale = null;
+            profileIndex = null;
+            return;
+        }
+        phase = new byte[fleetSize];
+        phaseElapsed = new int[fleetSize];
+        phaseRemaining = new int[fleetSize];
+        flightLevelScale = new double[fleetSize];
+        profileIndex = new int[fleetSize];
+        startFlights();
+    }
+
+    /**
+     * Puts every tail at a random point of a flight, so the fleet is spread
+     * across all phases from the first tick
+     */
+    private void startFlights() {
+        double[] altitude = state.getChannel(SensorChannel.ALTITUDE);
+        double[] airspeed = state.getChannel(SensorChannel.AIRSPEED);
+        double[] rpm = state.getChannel(SensorChannel.ENGINE_RPM);
+
+        for (int t = 0; t < phase.length; t++) {
+            SplittableRandom rng = tailRandom[t];
+            int p = rng.nextInt(PHASE_COUNT);
+            int duration = profile.drawDuration(p, rng);
+            int elapsed = rng.nextInt(duration);
+            phase[t] = (byte) p;
+            phaseElapsed[t] = elapsed;
+            phaseRemaining[t] = duration - elapsed;
+            flightLevelScale[t] = drawFlightLevelScale(rng);
+
+            int i = profile.index(p, elapsed);
+            profileIndex[t] = i;
+            altitude[t] = profile.altitude()[i] * flightLevelScale[t];
+            airspeed[t] = profile.airspeed()[i];
+            rpm[t] = profile.engineRPM()[i];
+        }
+    }
+
+    /**
+     * Advances every tail of the fleet by one tick, applies due faults and
+     * records the tick time
+     */
+    public void tick() {
+        tick(SerialTickExecutor.INSTANCE);
+    }
+
+    /**
+     * Advances every tail of the fleet by one tick on the given executor,
+     * applies due faults and records the tick time; the fleet state is the
+     * same whichever executor runs the tick
+     *
+     * @param executor Executor that runs the per-tail work
+     */
+    public void tick(TickExecutor executor) {
+        tick(executor, null);
+    }
+
+    /**
+     * Advances every tail of the fleet by one tick on the given executor,
+     * applies due faults and records the tick time, running more work over
+     * each range of tails in the same task once the range is advanced and
+     * faulted
+     *
+     * @param executor Executor that runs the per-tail work
+     * @param then Work over each range, such as anomaly detection, or null
+     *             for none; called concurrently for disjoint ranges
+     */
+    public void tick(TickExecutor executor, TickExecutor.RangeTask then) {
+        long start = System.nanoTime();
+        faultInjector.restore(state);
+        long count = tickCount + 1;
+        tickCount = count;
+        faultInjector.start(count);
+        if (then != null && then != followUp) {
+            followUp = then;
+            advanceAndFollowUp = (from, to) -> {
+                advanceWithFaults(from, to);
+                then.run(from, to);
+            };
+        }
+        executor.execute(state.getSize(), then == null ? advanceTask : advanceAndFollowUp);
+        long elapsed = System.nanoTime() - start;
+        lastTickNanos = elapsed;
+        totalTickNanos += elapsed;
+    }
+
+    /**
+     * Advances the tails in the range [from, to) and writes their faults
+     * for the tick in progress
+     */
+    private void advanceWithFaults(int from, int to) {
+        advance(from, to);
+        faultInjector.apply(tickCount, state, from, to);
+    }
+
+    /**
+     * Advances the tails in the range [from, to) by one tick
+     */
+    public void advance(int from, int to) {
+        advanceNoise(from, to);
+        if (profile != null) {
+            advancePhases(from, to);
+        }
+        advanceEngine(from, to);
+        advanceFuel(from, to);
+        advanceHydraulic(from, to);
+        if (profile != null) {
+            advanceProfileFlight(from, to);
+        } else {
+            advanceFlight(from, to);
+        }
+        advanceAdditional(from, to);
+    }
+
+    /**
+     * Moves each tail to its next noise frame
+     */
+    private void advanceNoise(int from, int to) {
+        for (int t = from; t < to; t++) {
+            noiseFrame[t] = (noiseFrame[t] + noiseStride[t]) & noiseMask;
+        }
+    }
+
+    /**
+     * Steps each tail's phase state machine and looks up its profile index
+     * for this tick; a tail that starts a new flight is refueled and gets a
+     * new cruise flight level
+     */
+    private void advancePhases(int from, int to) {
+        double[] fuelLevel = state.getChannel(SensorChannel.FUEL_LEVEL);
+
+        for (int t = from; t < to; t++) {
+            int p = phase[t];
+            if (--phaseRemaining[t] > 0) {
+                phaseElapsed[t]++;
+            } else {
+                SplittableRandom rng = tailRandom[t];
+                p = p + 1 == PHASE_COUNT ? 0 : p + 1;
+                phase[t] = (byte) p;
+                phaseElapsed[t] = 0;
+                phaseRemaining[t] = profile.drawDuration(p, rng);
+                if (p == FlightPhase.TAXI.ordinal()) {
+                    fuelLevel[t] = INITIAL_FUEL_LEVEL;
+                    flightLevelScale[t] = drawFlightLevelScale(rng);
+                }
+            }
+            profileIndex[t] = profile.index(p, phaseElapsed[t]);
+        }
+    }
+
+    /**
+     * Engine RPM random walk, with temperature and oil readings correlated to
+     * RPM; with a profile, the walk tracks the phase's target RPM
+     */
+    private void advanceEngine(int from, int to) {
+        double[] rpm = state.getChannel(SensorChannel.ENGINE_RPM);
+        double[] temperature = state.getChannel(SensorChannel.ENGINE_TEMPERATURE);
+        double[] oilPressure = state.getChannel(SensorChannel.OIL_PRESSURE);
+        double[] oilTemperature = state.getChannel(SensorChannel.OIL_TEMPERATURE);
+        double[] targetRPM = profile != null ? profile.engineRPM() : null;
+        float[] noise = engineNoise.samples();
+        int width = engineNoise.getWidth();
+
+        for (int t = from; t < to; t++) {
+            int n = noiseFrame[t] * width;
+            double r = targetRPM == null
+                    ? rpm[t] + noise[n + ENGINE_RPM_STEP] * 100
+                    : rpm[t] + (targetRPM[profileIndex[t]] - rpm[t]) * TRACKING + noise[n + ENGINE_RPM_STEP] * 50;
+            r = Math.max(1800, Math.min(2600, r));
+            rpm[t] = r;
+            temperature[t] = 120.0 + (r - 2000) * 0.05 + noise[n + ENGINE_TEMPERATURE] * 10;
+            oilPressure[t] = 40.0 + (r - 2000) * 0.02 + noise[n + ENGINE_OIL_PRESSURE] * 5;
+            oilTemperature[t] = 80.0 + (r - 2000) * 0.01 + noise[n + ENGINE_OIL_TEMPERATURE] * 7.5;
+        }
+    }
+
+    /**
+     * Fuel level decreasing over time, consumption correlated with RPM; with
+     * a profile, the level drops by the phase's burn rate
+     */
+    private void advanceFuel(int from, int to) {
+        double[] rpm = state.getChannel(SensorChannel.ENGINE_RPM);
+        double[] level = state.getChannel(SensorChannel.FUEL_LEVEL);
+        double[] consumption = state.getChannel(SensorChannel.FUEL_CONSUMPTION);
+        double[] pressure = state.getChannel(SensorChannel.FUEL_PRESSURE);
+        double[] temperature = state.getChannel(SensorChannel.FUEL_TEMPERATURE);
+        double[] burn = profile != null ? profile.fuelBurn() : null;
+        float[] engine = engineNoise.samples();
+        int engineWidth = engineNoise.getWidth();
+        float[] noise = fuelNoise.samples();
+        int width = fuelNoise.getWidth();
+
+        for (int t = from; t < to; t++) {
+            int e = noiseFrame[t] * engineWidth;
+            int n = noiseFrame[t] * width;
+            double used = burn == null
+                    ? 0.25 + engine[e + ENGINE_FUEL_BURN] * 0.25
+                    : burn[profileIndex[t]] * (1 + engine[e + ENGINE_FUEL_BURN] * 0.5);
+            level[t] = Math.max(0, level[t] - used);
+            consumption[t] = 200.0 + (rpm[t] - 2000) * 0.1 + engine[e + ENGINE_FUEL_FLOW] * 25;
+            pressure[t] = 30.0 + noise[n + FUEL_PRESSURE] * 5;
+            temperature[t] = 20.0 + noise[n + FUEL_TEMPERATURE] * 5;
+        }
+    }
+
+    /**
+     * Hydraulic pressure random walk with temperature and fluid level noise
+     */
+    private void advanceHydraulic(int from, int to) {
+        double[] pressure = state.getChannel(SensorChannel.HYDRAULIC_PRESSURE);
+        double[] temperature = state.getChannel(SensorChannel.HYDRAULIC_TEMPERATURE);
+        double[] fluidLevel = state.getChannel(SensorChannel.HYDRAULIC_FLUID_LEVEL);
+
+        float[] noise = hydraulicNoise.samples();
+        int width = hydraulicNoise.getWidth();
+
+        for (int t = from; t < to; t++) {
+            int n = noiseFrame[t] * width;
+            pressure[t] = Math.max(2500, Math.min(3200, pressure[t] + noise[n + HYDRAULIC_PRESSURE_STEP] * 100));
+            temperature[t] = 55.0 + noise[n + HYDRAULIC_TEMPERATURE] * 10;
+            fluidLevel[t] = 95.0 + noise[n + HYDRAULIC_FLUID_LEVEL] * 5;
+        }
+    }
+
+    /**
+     * Altitude and airspeed random walks, with ground speed and Mach derived from them
+     */
+    private void advanceFlight(int from, int to) {
+        double[] altitude = state.getChannel(SensorChannel.ALTITUDE);
+        double[] airspeed = state.getChannel(SensorChannel.AIRSPEED);
+        double[] groundSpeed = state.getChannel(SensorChannel.GROUND_SPEED);
+        double[] machNumber = state.getChannel(SensorChannel.MACH_NUMBER);
+        double[] verticalSpeed = state.getChannel(SensorChannel.VERTICAL_SPEED);
+
+        float[] noise = flightNoise.samples();
+        int width = flightNoise.getWidth();
+
+        for (int t = from; t < to; t++) {
+            int n = noiseFrame[t] * width;
+            double alt = Math.max(30000, Math.min(40000, altitude[t] + noise[n + FLIGHT_ALTITUDE_STEP] * 100));
+            double speed = Math.max(400, Math.min(500, airspeed[t] + noise[n + FLIGHT_AIRSPEED_STEP] * 10));
+            altitude[t] = alt;
+            airspeed[t] = speed;
+            groundSpeed[t] = speed + noise[n + FLIGHT_GROUND_SPEED] * 15;
+            machNumber[t] = speed / (661.5 + alt * 0.001);
+            verticalSpeed[t] = noise[n + FLIGHT_VERTICAL_SPEED] * 500;
+        }
+    }
+
+    /**
+     * Altitude, airspeed and vertical speed tracking the flight profile,
+     * with ground speed and Mach derived from them
+     */
+    private void advanceProfileFlight(int from, int to) {
+        double[] altitude = state.getChannel(SensorChannel.ALTITUDE);
+        double[] airspeed = state.getChannel(SensorChannel.AIRSPEED);
+        double[] groundSpeed = state.getChannel(SensorChannel.GROUND_SPEED);
+        double[] machNumber = state.getChannel(SensorChannel.MACH_NUMBER);
+        double[] verticalSpeed = state.getChannel(SensorChannel.VERTICAL_SPEED);
+        double[] targetAltitude = profile.altitude();
+        double[] targetAirspeed = profile.airspeed();
+        double[] targetVerticalSpeed = profile.verticalSpeed();
+
+        float[] noise = flightNoise.samples();
+        int width = flightNoise.getWidth();
+
+        for (int t = from; t < to; t++) {
+            int n = noiseFrame[t] * width;
+            int i = profileIndex[t];
+            double level = flightLevelScale[t];
+            double alt = altitude[t] + (targetAltitude[i] * level - altitude[t]) * TRACKING
+                    + noise[n + FLIGHT_ALTITUDE_STEP] * 50;
+            double speed = airspeed[t] + (targetAirspeed[i] - airspeed[t]) * TRACKING
+                    + noise[n + FLIGHT_AIRSPEED_STEP] * 5;
+            alt = Math.max(0, alt);
+            speed = Math.max(0, speed);
+            altitude[t] = alt;
+            airspeed[t] = speed;
+            groundSpeed[t] = Math.max(0, speed + noise[n + FLIGHT_GROUND_SPEED] * 15);
+            machNumber[t] = speed / (661.5 + alt * 0.001);
+            verticalSpeed[t] = targetVerticalSpeed[i] * level + noise[n + FLIGHT_VERTICAL_SPEED] * 100;
+        }
+    }
+
+    /**
+     * Cabin and electrical readings
+     */
+    private void advanceAdditional(int from, int to) {
+        double[] cabinPressure = state.getChannel(SensorChannel.CABIN_PRESSURE);
+        double[] cabinTemperature = state.getChannel(SensorChannel.CABIN_TEMPERATURE);
+        double[] batteryVoltage = state.getChannel(SensorChannel.BATTERY_VOLTAGE);
+        double[] generatorOutput = state.getChannel(SensorChannel.GENERATOR_OUTPUT);
+
+        float[] noise = additionalNoise.samples();
+        int width = additionalNoise.getWidth();
+
+        for (int t = from; t < to; t++) {
+            int n = noiseFrame[t] * width;
+            cabinPressure[t] = 12.0 + noise[n + CABIN_PRESSURE];
+            cabinTemperature[t] = 24.0 + noise[n + CABIN_TEMPERATURE] * 2;
+            batteryVoltage[t] = 29.0 + noise[n + BATTERY_VOLTAGE];
+            generatorOutput[t] = 120.0 + noise[n + GENERATOR_OUTPUT] * 5;
+        }
+    }
+
+    /**
+     * Draws a cruise flight level as a scale on the profile's cruise altitude
+     */
+    private static double drawFlightLevelScale(SplittableRandom rng) {
+        return (MIN_FLIGHT_LEVEL + rng.nextInt(FLIGHT_LEVELS) * 1000) / FlightPhase.CRUISE.getEndAltitude();
+    }
+
+    /**
+     * Gets the flight phase of a tail
+     *
+     * @param tail The tail index
+     * @return The tail's phase, or null when the simulator has no flight profile
+     */
+    public FlightPhase getPhase(int tail) {
+        return phase != null ? PHASES[phase[tail]] : null;
+    }
+
+    /**
+     * Gets the flight profile the tails follow, or null for the cruise-only models
+     */
+    public FlightProfile getFlightProfile() {
+        return profile;
+    }
+
+    /**
+     * Gets the fleet state advanced by this simulator
+     */
+    public FleetState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the fault timeline applied on every tick
+     */
+    public FaultInjector getFaultInjector() {
+        return faultInjector;
+    }
+
+    /**
+     * Gets the number of ticks simulated so far
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the wall time of the last tick in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Gets the average wall time of a tick in nanoseconds
+     */
+    public long getAverageTickNanos() {
+        long count = tickCount;
+        return count == 0 ? 0 : totalTickNanos / count;
+    }
+}
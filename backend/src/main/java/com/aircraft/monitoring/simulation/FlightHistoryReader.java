@@ -0,0 +1,188 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a binary flight history file written by {@link FlightHistoryWriter}.
+ *
+ * Samples are fixed size, so any (tick, tail) pair is read with a single
+ * positioned read and no scanning. Channels are matched by property name,
+ * so files stay readable when channels are added or reordered: channels
+ * missing from the file read as 0 and unknown ones are ignored.
+ *
+ * Not thread-safe; give each thread its own reader.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class FlightHistoryReader implements Closeable {
+
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+    private static final int NOT_IN_FILE = -1;
+    private static final SensorChannel[] CHANNELS = SensorChannel.values();
+
+    private final FileChannel channel;
+    private final int fleetSize;
+    private final long seed;
+    private final VirtualClock clock;
+    private final long tickCount;
+    private final long dataStart;
+    private final int sampleBytes;
+
+    // Position of each SensorChannel within a recorded sample, or NOT_IN_FILE
+    private final int[] fileChannelOf = new int[SensorChannel.COUNT];
+    private final ByteBuffer sample;
+    private final double[] values = new double[SensorChannel.COUNT];
+
+    /**
+     * Opens a history file and reads its header
+     *
+     * @param file File to read
+     * @throws IOException if the file cannot be read or is not a flight history
+     */
+    public FlightHistoryReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate((int) Math.min(size, MAX_HEADER_BYTES))
+                    .order(FlightHistoryWriter.ORDER);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // Positioned reads until the header buffer is full
+            }
+            header.flip();
+
+            byte[] magic = new byte[FlightHistoryWriter.MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, FlightHistoryWriter.MAGIC)) {
+                throw new IOException("Not a flight history file: " + file);
+            }
+            short version = header.getShort();
+            if (version != FlightHistoryWriter.VERSION) {
+                throw new IOException("Unsupported flight history version " + version + ": " + file);
+            }
+
+            Map<String, Integer> channelsByName = new HashMap<>();
+            for (SensorChannel sensor : CHANNELS) {
+                channelsByName.put(sensor.getPropertyName(), sensor.index());
+            }
+            Arrays.fill(fileChannelOf, NOT_IN_FILE);
+            int fileChannels = header.getShort();
+            for (int i = 0; i < fileChannels; i++) {
+                byte[] name = new byte[header.getShort()];
+                header.get(name);
+                Integer index = channelsByName.get(new String(name, StandardCharsets.UTF_8));
+                if (index != null) {
+                    fileChannelOf[index] = i;
+                }
+            }
+
+            fleetSize = header.getInt();
+            seed = header.getLong();
+            clock = new VirtualClock(header.getLong(), header.getLong());
+            long recordedTicks = header.getLong();
+            if (fleetSize < 1 || recordedTicks < 0) {
+                throw new IOException("Corrupt flight history header: " + file);
+            }
+            dataStart = header.position();
+            sampleBytes = fileChannels * Float.BYTES;
+
+            // A file cut short (e.g. by a crash before close) is read up to its last whole tick
+            long completeTicks = (size - dataStart) / ((long) fleetSize * sampleBytes);
+            tickCount = Math.min(recordedTicks, completeTicks);
+            sample = ByteBuffer.allocate(sampleBytes).order(FlightHistoryWriter.ORDER);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            channel.close();
+            throw new IOException("Corrupt flight history header: " + file, e);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of tails per tick
+     */
+    public int getFleetSize() {
+        return fleetSize;
+    }
+
+    /**
+     * Gets the root seed the history was generated from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the clock that stamps the ticks
+     */
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the number of ticks in the file
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Reads the channel values of one sample
+     *
+     * @param tick Tick number, from 0
+     * @param tail Tail index
+     * @param values Array indexed by {@link SensorChannel#index()} to fill
+     * @throws IOException if the file cannot be read
+     */
+    public void read(long tick, int tail, double[] values) throws IOException {
+        if (tick < 0 || tick >= tickCount || tail < 0 || tail >= fleetSize) {
+            throw new IndexOutOfBoundsException("No sample for tick " + tick + ", tail " + tail);
+        }
+        long position = dataStart + (tick * fleetSize + tail) * sampleBytes;
+        sample.clear();
+        while (sample.hasRemaining()) {
+            if (channel.read(sample, position + sample.position()) < 0) {
+                throw new IOException("Flight history ends inside tick " + tick);
+            }
+        }
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            int fileChannel = fileChannelOf[c];
+            values[c] = fileChannel == NOT_IN_FILE ? 0.0 : sample.getFloat(fileChannel * Float.BYTES);
+        }
+    }
+
+    /**
+     * Reads one sample into an AircraftData, stamped by the virtual clock
+     *
+     * @param tick Tick number, from 0
+     * @param tail Tail index
+     * @param target Sample to fill (anomaly flags are left untouched)
+     * @throws IOException if the file cannot be read
+     */
+    public void read(long tick, int tail, AircraftData target) throws IOException {
+        read(tick, tail, values);
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            target.setValue(c, values[c]);
+        }
+        target.setLocalTimeNanos(clock.epochMicrosAt(tick) * 1000);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
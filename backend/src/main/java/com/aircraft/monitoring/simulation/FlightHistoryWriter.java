@@ -0,0 +1,139 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a binary flight history file.
+ *
+ * The format is built for bulk volume: a small header followed by fixed-size
+ * records, one 32-bit float per channel, ordered by tick, then tail, then
+ * channel. Timestamps are not stored per sample; they follow from the
+ * {@link VirtualClock} in the header. A sample takes 80 bytes instead of the
+ * ~400 of a CSV row, and any sample can be located by arithmetic, which is
+ * what {@link FlightHistoryReader} relies on.
+ *
+ * Header (little endian): magic {@code FHST}, format version (short),
+ * channel count (short), each channel's property name (short length plus
+ * UTF-8 bytes), fleet size (int), random seed (long), start time in epoch
+ * millis (long), tick interval in micros (long), tick count (long). The tick
+ * count is filled in on {@link #close()}, so a stopped generation still
+ * leaves a valid file.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class FlightHistoryWriter implements Closeable {
+
+    static final byte[] MAGIC = {'F', 'H', 'S', 'T'};
+    static final short VERSION = 1;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Bytes taken by one sample (all channels of one tail at one tick)
+     */
+    public static final int SAMPLE_BYTES = SensorChannel.COUNT * Float.BYTES;
+
+    private final FileChannel channel;
+    private final int fleetSize;
+    private final long tickCountPosition;
+    private long ticksWritten;
+
+    /**
+     * Creates the file, replacing any existing one, and writes the header
+     *
+     * @param file File to write
+     * @param fleetSize Number of tails per tick
+     * @param seed Root seed the history was generated from
+     * @param clock Clock that stamps the ticks
+     * @throws IOException if the file cannot be written
+     */
+    public FlightHistoryWriter(Path file, int fleetSize, long seed, VirtualClock clock) throws IOException {
+        this.fleetSize = fleetSize;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(headerSize()).order(ORDER);
+            header.put(MAGIC).putShort(VERSION).putShort((short) SensorChannel.COUNT);
+            for (SensorChannel sensor : SensorChannel.values()) {
+                byte[] name = sensor.getPropertyName().getBytes(StandardCharsets.UTF_8);
+                header.putShort((short) name.length).put(name);
+            }
+            header.putInt(fleetSize)
+                    .putLong(seed)
+                    .putLong(clock.getStartEpochMillis())
+                    .putLong(clock.getTickIntervalMicros());
+            tickCountPosition = header.position();
+            header.putLong(0).flip();
+            writeFully(header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of bytes one tick of the given fleet takes
+     */
+    public static int tickBytes(int fleetSize) {
+        return fleetSize * SAMPLE_BYTES;
+    }
+
+    /**
+     * Appends whole ticks of encoded samples
+     *
+     * @param ticks Samples between the buffer's position and limit, a multiple of {@link #tickBytes(int)}
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTicks(ByteBuffer ticks) throws IOException {
+        int tickBytes = tickBytes(fleetSize);
+        if (ticks.remaining() % tickBytes != 0) {
+            throw new IllegalArgumentException("Buffer must hold whole ticks of " + tickBytes + " bytes");
+        }
+        ticksWritten += ticks.remaining() / tickBytes;
+        writeFully(ticks);
+    }
+
+    /**
+     * Gets the number of ticks written so far
+     */
+    public long getTicksWritten() {
+        return ticksWritten;
+    }
+
+    /**
+     * Records the tick count in the header and closes the file
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).order(ORDER).putLong(ticksWritten).flip();
+            channel.write(count, tickCountPosition);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static int headerSize() {
+        int size = MAGIC.length + Short.BYTES + Short.BYTES;
+        for (SensorChannel sensor : SensorChannel.values()) {
+            size += Short.BYTES + sensor.getPropertyName().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size + Integer.BYTES + 4 * Long.BYTES;
+    }
+}
@@ -0,0 +1,97 @@
+package com.aircraft.monitoring.simulation;
+
+/**
+ * Phases of a simulated flight, in the order a flight goes through them.
+ *
+ * Each phase describes its targets as a start and end value (eased between
+ * the two over the phase) and how long it lasts. {@link FlightProfile}
+ * turns these into lookup tables once, so the simulator never evaluates
+ * them per tick. After {@link #LANDING} the aircraft taxis in, refuels and
+ * starts the next flight.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public enum FlightPhase {
+
+    //     altitude ft     airspeed kt  RPM   fuel %/min  minutes
+    TAXI(0, 0, 15, 15, 1850, 0.05, 5, 20),
+    TAKEOFF(0, 1500, 20, 170, 2550, 0.5, 1, 1),
+    CLIMB(1500, 35000, 170, 450, 2450, 0.6, 20, 20),
+    CRUISE(35000, 35000, 450, 450, 2200, 0.15, 30, 240),
+    DESCENT(35000, 3000, 450, 220, 1900, 0.1, 25, 25),
+    LANDING(3000, 0, 220, 20, 2000, 0.1, 5, 5);
+
+    private static final FlightPhase[] PHASES = values();
+
+    private final double startAltitude;
+    private final double endAltitude;
+    private final double startAirspeed;
+    private final double endAirspeed;
+    private final double engineRPM;
+    private final double fuelBurnPerMinute;
+    private final double minMinutes;
+    private final double maxMinutes;
+
+    FlightPhase(double startAltitude, double endAltitude, double startAirspeed, double endAirspeed,
+                double engineRPM, double fuelBurnPerMinute, double minMinutes, double maxMinutes) {
+        this.startAltitude = startAltitude;
+        this.endAltitude = endAltitude;
+        this.startAirspeed = startAirspeed;
+        this.endAirspeed = endAirspeed;
+        this.engineRPM = engineRPM;
+        this.fuelBurnPerMinute = fuelBurnPerMinute;
+        this.minMinutes = minMinutes;
+        this.maxMinutes = maxMinutes;
+    }
+
+    /**
+     * Gets the phase that follows this one
+     */
+    public FlightPhase next() {
+        return PHASES[(ordinal() + 1) % PHASES.length];
+    }
+
+    /**
+     * Checks whether the targets stay constant over the phase, so its
+     * length can vary from flight to flight
+     */
+    public boolean isSteady() {
+        return startAltitude == endAltitude && startAirspeed == endAirspeed;
+    }
+
+    public double getStartAltitude() {
+        return startAltitude;
+    }
+
+    public double getEndAltitude() {
+        return endAltitude;
+    }
+
+    public double getStartAirspeed() {
+        return startAirspeed;
+    }
+
+    public double getEndAirspeed() {
+        return endAirspeed;
+    }
+
+    public double getEngineRPM() {
+        return engineRPM;
+    }
+
+    /**
+     * Gets the fuel burned per minute, in percent of capacity
+     */
+    public double getFuelBurnPerMinute() {
+        return fuelBurnPerMinute;
+    }
+
+    public double getMinMinutes() {
+        return minMinutes;
+    }
+
+    public double getMaxMinutes() {
+        return maxMinutes;
+    }
+}
@@ -0,0 +1,178 @@
+package com.aircraft.monitoring.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Precomputed flight profile targets, indexed by phase and elapsed ticks.
+ *
+ * For every {@link FlightPhase} the profile holds one table entry per tick
+ * of the phase, or per second when ticks are shorter than a second: target
+ * altitude, airspeed, vertical speed, engine RPM and fuel burn. Ticks
+ * within one second share its entry; the simulator eases each tail toward
+ * its target, so the steps do not show in the readings. The easing curves (a half cosine between the phase's start
+ * and end values) are evaluated once here, so the simulator looks a target
+ * up with {@link #index(int, int)} and a plain array read per tail per
+ * tick, however large the fleet. Steady phases (taxi, cruise) need a single
+ * entry and their length varies per flight.
+ *
+ * All tables are laid out back to back in one array per quantity. The
+ * phases with a table last 51 minutes together, so at any tick rate the
+ * profile is at most about 3,100 entries per quantity, some 120 KB in all. Instances
+ * are immutable and can be shared between simulators with the same tick
+ * interval.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class FlightProfile {
+
+    private static final FlightPhase[] PHASES = FlightPhase.values();
+
+    private final double tickSeconds;
+    private final int ticksPerEntry;
+    private final int[] tableStart = new int[PHASES.length];
+    private final int[] tableLength = new int[PHASES.length];
+    private final int[] minTicks = new int[PHASES.length];
+    private final int[] maxTicks = new int[PHASES.length];
+
+    private final double[] altitude;
+    private final double[] airspeed;
+    private final double[] verticalSpeed;
+    private final double[] engineRPM;
+    private final double[] fuelBurn;
+
+    /**
+     * Builds the tables for the given tick interval
+     *
+     * @param tickSeconds Simulated time between ticks
+     */
+    public FlightProfile(double tickSeconds) {
+        if (!(tickSeconds > 0) || Double.isInfinite(tickSeconds)) {
+            throw new IllegalArgumentException("Tick interval must be positive: " + tickSeconds);
+        }
+        this.tickSeconds = tickSeconds;
+        this.ticksPerEntry = (int) Math.max(1, Math.round(1 / tickSeconds));
+
+        int size = 0;
+        for (FlightPhase phase : PHASES) {
+            int p = phase.ordinal();
+            minTicks[p] = toTicks(phase.getMinMinutes());
+            maxTicks[p] = Math.max(minTicks[p], toTicks(phase.getMaxMinutes()));
+            tableLength[p] = phase.isSteady() ? 1 : Math.max(1, minTicks[p] / ticksPerEntry);
+            tableStart[p] = size;
+            size += tableLength[p];
+        }
+
+        altitude = new double[size];
+        airspeed = new double[size];
+        verticalSpeed = new double[size];
+        engineRPM = new double[size];
+        fuelBurn = new double[size];
+
+        double tickMinutes = tickSeconds / 60.0;
+        double entryMinutes = tickMinutes * ticksPerEntry;
+        for (FlightPhase phase : PHASES) {
+            int p = phase.ordinal();
+            int n = tableLength[p];
+            double previousAltitude = phase.getStartAltitude();
+            for (int i = 0; i < n; i++) {
+                double ease = (1 - Math.cos(Math.PI * (i + 1) / n)) / 2;
+                int at = tableStart[p] + i;
+                altitude[at] = lerp(phase.getStartAltitude(), phase.getEndAltitude(), ease);
+                airspeed[at] = lerp(phase.getStartAirspeed(), phase.getEndAirspeed(), ease);
+                verticalSpeed[at] = (altitude[at] - previousAltitude) / entryMinutes;
+                engineRPM[at] = phase.getEngineRPM();
+                fuelBurn[at] = phase.getFuelBurnPerMinute() * tickMinutes;
+                previousAltitude = altitude[at];
+            }
+        }
+    }
+
+    /**
+     * Gets the table index of a phase after the given number of ticks in it
+     *
+     * @param phase Phase ordinal
+     * @param elapsedTicks Ticks spent in the phase so far
+     */
+    public int index(int phase, int elapsedTicks) {
+        return tableStart[phase] + Math.min(elapsedTicks / ticksPerEntry, tableLength[phase] - 1);
+    }
+
+    /**
+     * Draws the length of a phase for one flight
+     *
+     * @param phase Phase ordinal
+     * @param random Random stream of the tail
+     * @return Length in ticks, at least 1
+     */
+    public int drawDuration(int phase, SplittableRandom random) {
+        int min = minTicks[phase];
+        int max = maxTicks[phase];
+        return min == max ? min : min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * Gets the simulated time between ticks the tables were built for
+     */
+    public double getTickSeconds() {
+        return tickSeconds;
+    }
+
+    /**
+     * Gets the number of ticks that share one table entry, 1 unless ticks
+     * are shorter than a second
+     */
+    public int getTicksPerEntry() {
+        return ticksPerEntry;
+    }
+
+    /**
+     * Gets the number of entries in each table
+     */
+    public int getTableSize() {
+        return altitude.length;
+    }
+
+    /**
+     * Target altitude in feet at cruise flight level 35,000, by table index
+     */
+    double[] altitude() {
+        return altitude;
+    }
+
+    /**
+     * Target airspeed in knots, by table index
+     */
+    double[] airspeed() {
+        return airspeed;
+    }
+
+    /**
+     * Target vertical speed in feet per minute at cruise flight level 35,000, by table index
+     */
+    double[] verticalSpeed() {
+        return verticalSpeed;
+    }
+
+    /**
+     * Target engine RPM, by table index
+     */
+    double[] engineRPM() {
+        return engineRPM;
+    }
+
+    /**
+     * Fuel burned per tick in percent of capacity, by table index
+     */
+    double[] fuelBurn() {
+        return fuelBurn;
+    }
+
+    private int toTicks(double minutes) {
+        return (int) Math.max(1, Math.round(minutes * 60 / tickSeconds));
+    }
+
+    private static double lerp(double from, double to, double fraction) {
+        return from + (to - from) * fraction;
+    }
+}
@@ -0,0 +1,118 @@
+package com.aircraft.monitoring.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a tick as chunks of tails on a dedicated fork/join pool.
+ *
+ * The fleet is halved recursively until a range holds at most
+ * {@code chunkSize} tails; idle workers steal the remaining halves, so the
+ * load evens out even when some tails cost more than others (e.g. during
+ * phase changes). Chunks are large enough to amortize the task overhead
+ * and keep each worker on contiguous stretches of the state columns. A
+ * fleet no larger than one chunk runs on the calling thread without a hand
+ * off.
+ *
+ * The pool is private to the executor so tick work never competes with
+ * other users of the common pool.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class ForkJoinTickExecutor implements TickExecutor {
+
+    /**
+     * Default maximum number of tails per task
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates an executor with its own pool
+     *
+     * @param parallelism Number of worker threads
+     * @param chunkSize Maximum number of tails per task
+     */
+    public ForkJoinTickExecutor(int parallelism, int chunkSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1: " + chunkSize);
+        }
+        this.pool = new ForkJoinPool(parallelism, ForkJoinTickExecutor::newWorker, null, false);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void execute(int size, RangeTask task) {
+        try {
+            if (size <= chunkSize) {
+                task.run(0, size);
+            } else {
+                pool.invoke(new RangeAction(task, 0, size));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Tick task failed", e);
+        }
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.FORK_JOIN;
+    }
+
+    @Override
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Gets the maximum number of tails per task
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("tick-worker-" + worker.getPoolIndex());
+        worker.setDaemon(true);
+        return worker;
+    }
+
+    /**
+     * Splits a tail range in halves down to the chunk size
+     */
+    private final class RangeAction extends RecursiveAction {
+
+        private final RangeTask task;
+        private final int from;
+        private final int to;
+
+        RangeAction(RangeTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                task.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(task, from, middle), new RangeAction(task, middle, to));
+        }
+    }
+}
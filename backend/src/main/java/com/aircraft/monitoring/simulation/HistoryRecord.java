@@ -0,0 +1,136 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight view of one record of a {@link HistoryRing}.
+ *
+ * {@link #moveTo(int, long)} points the view at a record, and the getters
+ * read its fields straight from off-heap memory. Nothing is copied or
+ * allocated, so one view can walk any number of records. The ring keeps
+ * appending meanwhile. Once a source's ring is full, the writer overwrites
+ * its oldest record, and it may do so while a view reads it. A reader
+ * therefore reads the fields it needs, then calls {@link #isValid()}; if
+ * that returns false, the values read since {@code moveTo} may be mixed
+ * and must be discarded. {@link #copyTo(AircraftData)} does this check
+ * itself.
+ *
+ * Not thread-safe; give each thread its own view.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class HistoryRecord {
+
+    private final HistoryRing ring;
+    private ByteBuffer chunk;
+    private int offset = -1;
+    private long sequence;
+
+    HistoryRecord(HistoryRing ring) {
+        this.ring = ring;
+    }
+
+    /**
+     * Points the view at the record of a source written by one append
+     *
+     * @param source Source index
+     * @param sequence Sequence of the append, from {@link HistoryRing#getOldestSequence()}
+     *                 to {@link HistoryRing#getLatestSequence()}
+     * @return false if the ring does not hold that record (never written or
+     *         already overwritten); the view then points at nothing
+     * @throws IndexOutOfBoundsException if the source is out of range
+     */
+    public boolean moveTo(int source, long sequence) {
+        if (source < 0 || source >= ring.getSources()) {
+            throw new IndexOutOfBoundsException("Source " + source + " outside ring of " + ring.getSources());
+        }
+        offset = -1;
+        if (sequence < 1 || sequence > ring.getLatestSequence()) {
+            return false;
+        }
+        int slot = ring.slotOf(sequence);
+        ByteBuffer target = ring.chunkOf(slot);
+        int targetOffset = ring.offsetOf(source, slot);
+        if ((long) HistoryRing.SEQUENCE.getAcquire(target, targetOffset + HistoryRing.SEQUENCE_OFFSET) != sequence) {
+            return false;
+        }
+        this.chunk = target;
+        this.offset = targetOffset;
+        this.sequence = sequence;
+        return true;
+    }
+
+    /**
+     * Checks that the record has not been overwritten since {@link #moveTo}
+     * succeeded, so every value read from it so far belongs to it
+     */
+    public boolean isValid() {
+        if (offset < 0) {
+            return false;
+        }
+        VarHandle.loadLoadFence();
+        return (long) HistoryRing.SEQUENCE.getOpaque(chunk, offset + HistoryRing.SEQUENCE_OFFSET) == sequence;
+    }
+
+    /**
+     * Gets the sequence of the append that wrote the record
+     */
+    public long getSequence() {
+        checkPositioned();
+        return sequence;
+    }
+
+    /**
+     * Gets the local date-time in nanoseconds since 1970-01-01T00:00, or
+     * {@link AircraftData#NO_TIMESTAMP}
+     */
+    public long getLocalTimeNanos() {
+        checkPositioned();
+        return chunk.getLong(offset + HistoryRing.TIMESTAMP_OFFSET);
+    }
+
+    /**
+     * Gets the anomaly mask (the {@link AircraftData} anomaly bits)
+     */
+    public int getAnomalyMask() {
+        checkPositioned();
+        return chunk.getInt(offset + HistoryRing.MASK_OFFSET);
+    }
+
+    /**
+     * Gets one reading
+     */
+    public double getValue(SensorChannel channel) {
+        checkPositioned();
+        return chunk.getDouble(offset + HistoryRing.CHANNELS_OFFSET + channel.index() * Double.BYTES);
+    }
+
+    /**
+     * Copies the record into a sample
+     *
+     * @param target Sample to fill
+     * @return false if the record was overwritten while it was copied; the
+     *         target then holds a mix of values and must be discarded
+     */
+    public boolean copyTo(AircraftData target) {
+        checkPositioned();
+        target.setLocalTimeNanos(chunk.getLong(offset + HistoryRing.TIMESTAMP_OFFSET));
+        target.setAnomalyMask(chunk.getInt(offset + HistoryRing.MASK_OFFSET));
+        int channelOffset = offset + HistoryRing.CHANNELS_OFFSET;
+        for (int c = 0; c < SensorChannel.COUNT; c++) {
+            target.setValue(c, chunk.getDouble(channelOffset + c * Double.BYTES));
+        }
+        return isValid();
+    }
+
+    private void checkPositioned() {
+        if (offset < 0) {
+            throw new IllegalStateException("View is not positioned on a record");
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Off-heap ring buffer of the most recent samples of a set of sources.
+ *
+ * Each source (a tail of the fleet) gets a ring of {@link #getCapacity()}
+ * fixed-width records in direct memory, so recent history adds nothing to
+ * the Java heap and costs no GC work. The memory is allocated once, up
+ * front, and its size is {@link #getMemoryBytes()}: sources x capacity x
+ * {@link #RECORD_BYTES}. The records of one append, one per source, lie
+ * next to each other, so an append is a single sequential pass over
+ * memory however many sources there are.
+ *
+ * Record layout (native byte order, 8-byte aligned):
+ * <pre>
+ *   0  long    sequence      append that wrote the record (0 = empty, -1 = being written)
+ *   8  long    timestamp     local date-time as AircraftData#getLocalTimeNanos()
+ *  16  int     anomaly mask  AircraftData anomaly bits
+ *  20  int     reserved
+ *  24  double  x 20          readings in SensorChannel order
+ * </pre>
+ *
+ * Every {@link #append(AircraftDataBatch)} writes one record per source and
+ * gets the next sequence number, starting at 1. Records are read in place
+ * through a {@link HistoryRecord} flyweight. Only one thread may append,
+ * while any number of threads read. A record's sequence works as a seqlock:
+ * the writer marks the record as being written, fills it, then publishes
+ * the new sequence, and readers check the sequence before and after reading.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class HistoryRing {
+
+    /**
+     * Bytes taken by one record
+     */
+    public static final int RECORD_BYTES = 24 + SensorChannel.COUNT * Double.BYTES;
+
+    static final int SEQUENCE_OFFSET = 0;
+    static final int TIMESTAMP_OFFSET = 8;
+    static final int MASK_OFFSET = 16;
+    static final int CHANNELS_OFFSET = 24;
+    static final long WRITING = -1;
+
+    /**
+     * Ordered access to the sequence field of a record
+     */
+    static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final SensorChannel[] CHANNELS = SensorChannel.values();
+
+    private final int sources;
+    private final int capacity;
+    private final int slotsPerChunk;
+    private final ByteBuffer[] chunks;
+
+    /**
+     * Sequence of the latest append; written by the appending thread only
+     */
+    private volatile long latestSequence;
+
+    // Channel arrays of the batch being appended, reused across appends
+    private final double[][] columns = new double[SensorChannel.COUNT][];
+
+    /**
+     * Creates a ring and allocates its memory
+     *
+     * @param sources Number of sources; rows 0 to sources - 1 of each appended batch are kept
+     * @param capacity Number of records kept per source
+     */
+    public HistoryRing(int sources, int capacity) {
+        if (sources < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Need at least one source and one record: "
+                    + sources + " x " + capacity);
+        }
+        long slotBytes = (long) sources * RECORD_BYTES;
+        if (slotBytes > Integer.MAX_VALUE - Long.BYTES) {
+            throw new IllegalArgumentException("Too many sources: " + sources);
+        }
+        this.sources = sources;
+        this.capacity = capacity;
+
+        // Direct buffers hold at most 2 GB, so the slots are spread over chunks
+        this.slotsPerChunk = (int) Math.min(capacity, (Integer.MAX_VALUE - Long.BYTES) / slotBytes);
+        this.chunks = new ByteBuffer[(capacity + slotsPerChunk - 1) / slotsPerChunk];
+        for (int i = 0; i < chunks.length; i++) {
+            int chunkSlots = Math.min(slotsPerChunk, capacity - i * slotsPerChunk);
+            chunks[i] = ByteBuffer.allocateDirect((int) (chunkSlots * slotBytes) + Long.BYTES - 1)
+                    .alignedSlice(Long.BYTES)
+                    .order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Creates a ring that holds a window of time at a fixed tick rate
+     *
+     * @param sources Number of sources
+     * @param seconds Length of the window
+     * @param tickRateHz Appends per second
+     */
+    public static HistoryRing forWindow(int sources, double seconds, double tickRateHz) {
+        double records = Math.ceil(seconds * tickRateHz);
+        if (!(records >= 1) || records > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("History window must hold at least one tick: "
+                    + seconds + " s at " + tickRateHz + " Hz");
+        }
+        return new HistoryRing(sources, (int) records);
+    }
+
+    /**
+     * Gets the number of sources
+     */
+    public int getSources() {
+        return sources;
+    }
+
+    /**
+     * Gets the number of records kept per source
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the off-heap memory taken by the records
+     */
+    public long getMemoryBytes() {
+        return (long) sources * capacity * RECORD_BYTES;
+    }
+
+    /**
+     * Gets the sequence of the latest append, or 0 if nothing was appended yet
+     */
+    public long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Gets the sequence of the oldest append still held, or 1 if nothing was appended yet
+     */
+    public long getOldestSequence() {
+        return Math.max(1, latestSequence - capacity + 1);
+    }
+
+    /**
+     * Gets the number of records held per source
+     */
+    public int getSize() {
+        return (int) Math.min(latestSequence, capacity);
+    }
+
+    /**
+     * Appends one record per source, overwriting each source's oldest
+     * record once the ring is full. Only one thread may append.
+     *
+     * @param batch Samples to record; row i is the sample of source i
+     * @return Sequence of this append
+     * @throws IllegalArgumentException if the batch has fewer rows than there are sources
+     */
+    public long append(AircraftDataBatch batch) {
+        if (batch.getSize() < sources) {
+            throw new IllegalArgumentException("Batch of " + batch.getSize() + " samples for "
+                    + sources + " sources");
+        }
+        for (SensorChannel channel : CHANNELS) {
+            columns[channel.index()] = batch.getChannel(channel);
+        }
+        long[] timestamps = batch.getLocalTimeNanos();
+        int[] masks = batch.getAnomalyMasks();
+        long sequence = latestSequence + 1;
+        int slot = slotOf(sequence);
+        ByteBuffer chunk = chunkOf(slot);
+
+        for (int source = 0; source < sources; source++) {
+            int offset = offsetOf(source, slot);
+            SEQUENCE.setOpaque(chunk, offset + SEQUENCE_OFFSET, WRITING);
+            VarHandle.storeStoreFence();
+
+            chunk.putLong(offset + TIMESTAMP_OFFSET, timestamps[source]);
+            chunk.putInt(offset + MASK_OFFSET, masks[source]);
+            int channelOffset = offset + CHANNELS_OFFSET;
+            for (int c = 0; c < SensorChannel.COUNT; c++) {
+                chunk.putDouble(channelOffset + c * Double.BYTES, columns[c][source]);
+            }
+
+            SEQUENCE.setRelease(chunk, offset + SEQUENCE_OFFSET, sequence);
+        }
+        latestSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Creates a reader for this ring; give each thread its own
+     */
+    public HistoryRecord newRecord() {
+        return new HistoryRecord(this);
+    }
+
+    int slotOf(long sequence) {
+        return (int) ((sequence - 1) % capacity);
+    }
+
+    ByteBuffer chunkOf(int slot) {
+        return chunks[slot / slotsPerChunk];
+    }
+
+    int offsetOf(int source, int slot) {
+        return ((slot % slotsPerChunk) * sources + source) * RECORD_BYTES;
+    }
+}
@@ -0,0 +1,83 @@
+package com.aircraft.monitoring.simulation;
+
+/**
+ * Histogram of lateness values with power-of-two microsecond buckets.
+ *
+ * Recording is a handful of arithmetic operations with no allocation, so it
+ * can sit on a hot loop. Percentiles are reported as the upper bound of the
+ * bucket they fall in, capped at the maximum. Written by one thread;
+ * readers on other threads see counts that are at worst one record behind.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    // Bucket b holds values below 2^b us
+    private final long[] buckets = new long[BUCKETS];
+    private volatile long count;
+    private volatile long totalNanos;
+    private volatile long maxNanos;
+
+    /**
+     * Records one value; negative values count as zero
+     *
+     * @param nanos Lateness in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        totalNanos += value;
+        if (value > maxNanos) {
+            maxNanos = value;
+        }
+        long micros = value / 1000;
+        buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros))]++;
+        count++;
+    }
+
+    /**
+     * Gets the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the recorded values in microseconds
+     */
+    public double getMeanMicros() {
+        long n = count;
+        return n > 0 ? totalNanos / 1000.0 / n : 0.0;
+    }
+
+    /**
+     * Gets the largest recorded value in microseconds
+     */
+    public double getMaxMicros() {
+        return maxNanos / 1000.0;
+    }
+
+    /**
+     * Gets the upper bound of the given percentile in microseconds
+     *
+     * @param percentile Percentile as a fraction, e.g. 0.99
+     */
+    public double getPercentileMicros(double percentile) {
+        long n = count;
+        if (n == 0) {
+            return 0.0;
+        }
+        long threshold = (long) Math.ceil(n * percentile);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= threshold) {
+                double bound = bucket == 0 ? 1.0 : (double) (1L << bucket);
+                return Math.min(bound, getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+}
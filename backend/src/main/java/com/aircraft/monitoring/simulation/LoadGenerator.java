@@ -0,0 +1,324 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless open-loop load generator.
+ *
+ * Produces samples from the same signal models as the monitoring
+ * application ({@link FleetSimulator}), cycling through the tails of a
+ * fleet, and hands them to a {@link LoadSink} at a configured rate with an
+ * optional burst profile. Runs without Spring; see {@link #main(String[])}.
+ *
+ * The schedule is open loop: the intended send time of every sample is
+ * fixed up front from the rate, and never moved because an earlier send was
+ * late. If the generator falls behind it sends the overdue samples
+ * immediately, and lateness is measured from the intended time, so a slow
+ * consumer shows up as dropped samples and send lag instead of a silently
+ * lower rate (no coordinated omission).
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class LoadGenerator {
+
+    /**
+     * Shape of the send rate over time
+     */
+    public enum BurstProfile {
+        /** Constant base rate */
+        CONSTANT,
+        /** Base rate times the burst factor for the first half of each period, base rate for the second */
+        SQUARE,
+        /** Rate swinging smoothly between the base rate and base times the burst factor each period */
+        SINE
+    }
+
+    /**
+     * CSV header matching the encoded samples; recordings written with it
+     * can be replayed by the flight replay service
+     */
+    public static final String CSV_HEADER = buildHeader();
+
+    private static final SensorChannel[] CHANNELS = SensorChannel.values();
+
+    private final Settings settings;
+    private final LoadSink sink;
+    private final FleetSimulator simulator;
+    private final LatencyHistogram sendLag = new LatencyHistogram();
+    private final StringBuilder line = new StringBuilder(256);
+
+    private volatile boolean running;
+    private volatile long scheduledCount;
+    private volatile long sentCount;
+    private volatile long droppedCount;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    /**
+     * Creates a generator; call {@link #run()} to start sending
+     *
+     * @param settings Rate, fleet and burst settings
+     * @param sink Destination of the samples
+     */
+    public LoadGenerator(Settings settings, LoadSink sink) {
+        this.settings = settings;
+        this.sink = sink;
+        RandomStreams streams = settings.seed() != null ? new RandomStreams(settings.seed()) : RandomStreams.unseeded();
+        this.simulator = new FleetSimulator(settings.tails(), streams);
+    }
+
+    /**
+     * Sends samples on the calling thread until the configured duration of
+     * the schedule has been sent or {@link #stop()} is called
+     *
+     * @return Final report
+     */
+    public Report run() {
+        running = true;
+        long start = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        long durationNanos = (long) (settings.durationSeconds() * 1e9);
+        double offsetNanos = 0;
+        int tail = 0;
+        startNanos = start;
+        endNanos = 0;
+
+        while (running && (durationNanos <= 0 || offsetNanos < durationNanos)) {
+            long intended = start + (long) offsetNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0 && running) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!running) {
+                break;
+            }
+            sendLag.record(System.nanoTime() - intended);
+
+            if (tail == 0) {
+                simulator.tick();
+            }
+            if (sink.offer(encode(tail, startMillis + (long) (offsetNanos / 1_000_000)))) {
+                sentCount++;
+            } else {
+                droppedCount++;
+            }
+            scheduledCount++;
+            tail = tail + 1 == settings.tails() ? 0 : tail + 1;
+            offsetNanos += 1e9 / settings.rateAt(offsetNanos / 1e9);
+        }
+
+        running = false;
+        endNanos = System.nanoTime();
+        return getReport();
+    }
+
+    /**
+     * Stops a running generator after the current sample
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Encodes one tail of the current fleet state as a CSV line
+     */
+    private String encode(int tail, long timestampMillis) {
+        FleetState state = simulator.getState();
+        line.setLength(0);
+        line.append(tail).append(',').append(timestampMillis);
+        for (SensorChannel channel : CHANNELS) {
+            line.append(',').append(state.get(channel, tail));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Gets a report of the run so far
+     */
+    public Report getReport() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        double elapsed = startNanos != 0 ? (end - startNanos) / 1e9 : 0.0;
+        long sent = sentCount;
+        return new Report(
+                scheduledCount,
+                sent,
+                droppedCount,
+                elapsed,
+                settings.averageRateHz(),
+                elapsed > 0 ? sent / elapsed : 0.0,
+                sendLag.getMeanMicros(),
+                sendLag.getPercentileMicros(0.99),
+                sendLag.getMaxMicros());
+    }
+
+    private static String buildHeader() {
+        StringBuilder header = new StringBuilder("tail,timestamp");
+        for (SensorChannel channel : SensorChannel.values()) {
+            header.append(',').append(channel.getPropertyName());
+        }
+        return header.toString();
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * Options (all {@code --name=value}): {@code rate} samples/sec (1000),
+     * {@code tails} (100), {@code duration} seconds, 0 = until interrupted (60),
+     * {@code profile} CONSTANT, SQUARE or SINE (CONSTANT), {@code burst-factor} (4),
+     * {@code burst-period} seconds (10), {@code seed} (random),
+     * {@code buffer} samples buffered by the sink (65536) and {@code sink}:
+     * {@code file:<path>}, {@code socket:<host>:<port>} or {@code queue}
+     * (in-process queue drained by a counting consumer; default).
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        Settings settings = new Settings(
+                Double.parseDouble(options.getOrDefault("rate", "1000")),
+                Integer.parseInt(options.getOrDefault("tails", "100")),
+                BurstProfile.valueOf(options.getOrDefault("profile", "CONSTANT").toUpperCase()),
+                Double.parseDouble(options.getOrDefault("burst-factor", "4")),
+                Double.parseDouble(options.getOrDefault("burst-period", "10")),
+                Double.parseDouble(options.getOrDefault("duration", "60")),
+                options.containsKey("seed") ? Long.valueOf(options.get("seed")) : null);
+        int buffer = Integer.parseInt(options.getOrDefault("buffer", "65536"));
+        String sinkSpec = options.getOrDefault("sink", "queue");
+
+        LoadSink sink;
+        if (sinkSpec.startsWith("file:")) {
+            sink = StreamLoadSink.toFile(Paths.get(sinkSpec.substring(5)), buffer, CSV_HEADER);
+        } else if (sinkSpec.startsWith("socket:")) {
+            String address = sinkSpec.substring(7);
+            int colon = address.lastIndexOf(':');
+            sink = StreamLoadSink.toSocket(address.substring(0, colon),
+                    Integer.parseInt(address.substring(colon + 1)), buffer, CSV_HEADER);
+        } else if (sinkSpec.equals("queue")) {
+            QueueLoadSink queueSink = new QueueLoadSink(buffer);
+            Thread consumer = new Thread(() -> {
+                try {
+                    while (true) {
+                        queueSink.getQueue().take();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "load-queue-consumer");
+            consumer.setDaemon(true);
+            consumer.start();
+            sink = queueSink;
+        } else {
+            throw new IllegalArgumentException("Unknown sink: " + sinkSpec);
+        }
+
+        LoadGenerator generator = new LoadGenerator(settings, sink);
+        Thread main = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            generator.stop();
+            try {
+                main.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        Thread reporter = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+                log.info("{}", generator.getReport());
+            }
+        }, "load-reporter");
+        reporter.setDaemon(true);
+
+        log.info("Load generator: {} to {}", settings, sinkSpec);
+        reporter.start();
+        Report report = generator.run();
+        reporter.interrupt();
+        sink.close();
+        log.info("Load generator finished: {}", report);
+    }
+
+    /**
+     * Load generator settings
+     *
+     * @param rateHz Base send rate in samples per second
+     * @param tails Number of simulated aircraft the samples cycle through
+     * @param burstProfile Shape of the rate over time
+     * @param burstFactor Peak rate as a multiple of the base rate (ignored for CONSTANT)
+     * @param burstPeriodSeconds Length of one burst cycle
+     * @param durationSeconds Length of the schedule; 0 runs until stopped
+     * @param seed Root random seed, or null for a fresh one
+     */
+    public record Settings(double rateHz, int tails, BurstProfile burstProfile, double burstFactor,
+                           double burstPeriodSeconds, double durationSeconds, Long seed) {
+
+        public Settings {
+            if (!(rateHz > 0) || Double.isInfinite(rateHz)) {
+                throw new IllegalArgumentException("Rate must be a positive number of samples/sec: " + rateHz);
+            }
+            if (tails < 1) {
+                throw new IllegalArgumentException("At least one tail is required: " + tails);
+            }
+            if (burstProfile != BurstProfile.CONSTANT && (!(burstFactor >= 1) || !(burstPeriodSeconds > 0))) {
+                throw new IllegalArgumentException("Bursts need a factor >= 1 and a positive period");
+            }
+            if (!(durationSeconds >= 0)) {
+                throw new IllegalArgumentException("Duration must not be negative: " + durationSeconds);
+            }
+        }
+
+        /**
+         * Gets the scheduled send rate at the given time into the run
+         */
+        public double rateAt(double seconds) {
+            if (burstProfile == BurstProfile.CONSTANT) {
+                return rateHz;
+            }
+            double phase = seconds / burstPeriodSeconds - Math.floor(seconds / burstPeriodSeconds);
+            if (burstProfile == BurstProfile.SQUARE) {
+                return phase < 0.5 ? rateHz * burstFactor : rateHz;
+            }
+            return rateHz * (1 + (burstFactor - 1) * (1 - Math.cos(2 * Math.PI * phase)) / 2);
+        }
+
+        /**
+         * Gets the mean scheduled rate over whole burst cycles
+         */
+        public double averageRateHz() {
+            return burstProfile == BurstProfile.CONSTANT ? rateHz : rateHz * (1 + burstFactor) / 2;
+        }
+    }
+
+    /**
+     * Load generator report
+     *
+     * @param scheduled Samples whose intended send time has been reached
+     * @param sent Samples accepted by the sink
+     * @param dropped Samples the sink could not take
+     * @param elapsedSeconds Wall time since the run started
+     * @param requestedRateHz Mean rate asked for by the settings
+     * @param achievedRateHz Samples accepted by the sink per second
+     * @param meanLagMicros Mean lateness of sends versus their intended time
+     * @param p99LagMicros 99th percentile lateness (power-of-two bucket bound)
+     * @param maxLagMicros Worst lateness observed
+     */
+    public record Report(long scheduled, long sent, long dropped, double elapsedSeconds,
+                         double requestedRateHz, double achievedRateHz,
+                         double meanLagMicros, double p99LagMicros, double maxLagMicros) {
+    }
+}
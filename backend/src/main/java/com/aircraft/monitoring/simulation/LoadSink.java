@@ -0,0 +1,24 @@
+package com.aircraft.monitoring.simulation;
+
+import java.io.Closeable;
+
+/**
+ * Destination for samples produced by the {@link LoadGenerator}.
+ *
+ * {@link #offer(String)} must never block: an open-loop generator has to
+ * keep its schedule however slow the consumer is, so a sink that cannot
+ * take a sample right away drops it and returns false.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public interface LoadSink extends Closeable {
+
+    /**
+     * Hands one encoded sample to the sink without blocking
+     *
+     * @param sample One CSV line, without line terminator
+     * @return true if the sample was accepted, false if it was dropped
+     */
+    boolean offer(String sample);
+}
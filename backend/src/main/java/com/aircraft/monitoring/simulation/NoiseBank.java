@@ -0,0 +1,140 @@
+package com.aircraft.monitoring.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Precomputed bank of correlated Gaussian noise for a group of sensor channels.
+ *
+ * The bank holds a fixed number of frames; each frame is one noise vector
+ * for the group, with the channels correlated as given by a correlation
+ * matrix (drawn as {@code L z}, where {@code L} is the Cholesky factor of
+ * the matrix and {@code z} independent standard normals). Samples are
+ * truncated at {@value #CLIP} standard deviations and scaled by
+ * {@code 1 / CLIP}, so every sample lies in [-1, 1] with a standard
+ * deviation of about 1/3: a model that adds {@code sample * halfWidth}
+ * never leaves the band {@code +/- halfWidth}, the same band uniform noise
+ * of that width would cover.
+ *
+ * All noise is generated once, up front; reading it is a plain array
+ * access. Frames are stored channel-interleaved, so one frame is a single
+ * contiguous run of {@link #getWidth()} floats. Instances are immutable
+ * after construction and can be read from any number of threads.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class NoiseBank {
+
+    /**
+     * Default number of frames per bank (a power of two)
+     */
+    public static final int DEFAULT_FRAMES = 1 << 16;
+
+    /**
+     * Standard deviations at which the Gaussian is truncated
+     */
+    public static final double CLIP = 3.0;
+
+    private final int width;
+    private final int frames;
+    private final float[] samples;
+
+    /**
+     * Generates a bank
+     *
+     * @param correlation Symmetric positive-definite correlation matrix of the channels
+     * @param frames Number of frames, a power of two
+     * @param random Stream the noise is drawn from
+     * @throws IllegalArgumentException if the matrix is not a valid correlation matrix
+     */
+    public NoiseBank(double[][] correlation, int frames, SplittableRandom random) {
+        if (frames < 1 || Integer.bitCount(frames) != 1) {
+            throw new IllegalArgumentException("Frame count must be a power of two: " + frames);
+        }
+        double[][] factor = cholesky(correlation);
+        this.width = correlation.length;
+        this.frames = frames;
+        this.samples = new float[frames * width];
+
+        double[] z = new double[width];
+        for (int f = 0; f < frames; f++) {
+            for (int c = 0; c < width; c++) {
+                z[c] = random.nextGaussian();
+            }
+            for (int c = 0; c < width; c++) {
+                double x = 0;
+                for (int k = 0; k <= c; k++) {
+                    x += factor[c][k] * z[k];
+                }
+                samples[f * width + c] = (float) (Math.max(-CLIP, Math.min(CLIP, x)) / CLIP);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of channels in a frame
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of frames; frame numbers wrap with {@code & (frames - 1)}
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Gets one sample
+     *
+     * @param frame Frame number
+     * @param channel Channel within the group
+     * @return Noise in [-1, 1]
+     */
+    public double get(int frame, int channel) {
+        return samples[frame * width + channel];
+    }
+
+    /**
+     * All frames back to back, channel-interleaved, for hot loops: channel
+     * {@code c} of frame {@code f} is at {@code f * width + c}
+     */
+    float[] samples() {
+        return samples;
+    }
+
+    /**
+     * Lower-triangular Cholesky factor of a correlation matrix
+     */
+    private static double[][] cholesky(double[][] matrix) {
+        int n = matrix.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Correlation matrix must not be empty");
+        }
+        double[][] factor = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            if (matrix[i].length != n || matrix[i][i] != 1.0) {
+                throw new IllegalArgumentException("Not a correlation matrix: row " + i);
+            }
+            for (int j = 0; j <= i; j++) {
+                if (matrix[i][j] != matrix[j][i]) {
+                    throw new IllegalArgumentException("Correlation matrix is not symmetric at " + i + "," + j);
+                }
+                double sum = matrix[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= factor[i][k] * factor[j][k];
+                }
+                if (i == j) {
+                    if (!(sum > 0)) {
+                        throw new IllegalArgumentException("Correlation matrix is not positive definite");
+                    }
+                    factor[i][i] = Math.sqrt(sum);
+                } else {
+                    factor[i][j] = sum / factor[j][j];
+                }
+            }
+        }
+        return factor;
+    }
+}
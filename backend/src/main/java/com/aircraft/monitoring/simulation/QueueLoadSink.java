@@ -0,0 +1,43 @@
+package com.aircraft.monitoring.simulation;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * In-process sink that puts samples on a bounded queue for a consumer
+ * running in the same JVM. Samples offered while the queue is full are
+ * dropped.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class QueueLoadSink implements LoadSink {
+
+    private final BlockingQueue<String> queue;
+
+    /**
+     * Creates a sink backed by a queue of the given capacity
+     *
+     * @param capacity Maximum number of samples waiting for the consumer
+     */
+    public QueueLoadSink(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public boolean offer(String sample) {
+        return queue.offer(sample);
+    }
+
+    /**
+     * Gets the queue the consumer takes samples from
+     */
+    public BlockingQueue<String> getQueue() {
+        return queue;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release; the consumer drains the queue
+    }
+}
@@ -0,0 +1,131 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Double buffer of reusable {@link AircraftData} samples between the tick
+ * thread and the readers of the current sample.
+ *
+ * The buffer owns two samples. One is the front: the published, current
+ * sample. The other is the back, which the single writer refills in place
+ * on every tick ({@link #beginWrite()}), runs through detection and
+ * broadcast, and then swaps to the front ({@link #publish()}). No sample
+ * is allocated in steady state.
+ *
+ * Readers never hold a buffer sample. They copy the front into their own
+ * sample ({@link #read(AircraftData)}), so the writer can recycle it
+ * without waiting for them. Each slot has a {@link StampedLock} that the
+ * writer holds while it refills the slot. A reader copies optimistically
+ * and checks the stamp afterwards. If the writer took the slot mid-copy,
+ * the reader copies again under the read lock. A copy is therefore never
+ * half-written. The writer only blocks on a reader that is in the middle of
+ * that fallback copy.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class SampleBuffer {
+
+    private final AircraftData[] slots = {new AircraftData(), new AircraftData()};
+    private final StampedLock[] locks = {new StampedLock(), new StampedLock()};
+
+    /**
+     * Index of the published slot, or -1 before the first publish
+     */
+    private volatile int front = -1;
+
+    // Writer state, touched by the writer thread only
+    private int back = -1;
+    private long writeStamp;
+
+    /**
+     * Takes the back slot for writing; only one thread may write
+     *
+     * @return The sample to refill; it keeps its previous contents
+     * @throws IllegalStateException if a write is already in progress
+     */
+    public AircraftData beginWrite() {
+        if (back >= 0) {
+            throw new IllegalStateException("A sample is already being written");
+        }
+        int slot = front == 0 ? 1 : 0;
+        writeStamp = locks[slot].writeLock();
+        back = slot;
+        return slots[slot];
+    }
+
+    /**
+     * Finishes the write and makes the refilled sample the current one
+     *
+     * @throws IllegalStateException if no write is in progress
+     */
+    public void publish() {
+        int slot = endWrite();
+        front = slot;
+    }
+
+    /**
+     * Gives up the write; the current sample stays as it was
+     *
+     * @throws IllegalStateException if no write is in progress
+     */
+    public void abort() {
+        endWrite();
+    }
+
+    private int endWrite() {
+        int slot = back;
+        if (slot < 0) {
+            throw new IllegalStateException("No sample is being written");
+        }
+        back = -1;
+        locks[slot].unlockWrite(writeStamp);
+        return slot;
+    }
+
+    /**
+     * Copies the current sample
+     *
+     * @param target Sample to copy into
+     * @return false if nothing has been published yet, in which case the target is left untouched
+     */
+    public boolean read(AircraftData target) {
+        while (true) {
+            int slot = front;
+            if (slot < 0) {
+                return false;
+            }
+            StampedLock lock = locks[slot];
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                target.copyFrom(slots[slot]);
+                if (lock.validate(stamp)) {
+                    return true;
+                }
+            }
+
+            // The writer took the slot for the next tick; copy under the lock
+            stamp = lock.readLock();
+            try {
+                if (slot == front) {
+                    target.copyFrom(slots[slot]);
+                    return true;
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * Gets a copy of the current sample
+     *
+     * @return A new sample owned by the caller, or null if nothing has been published yet
+     */
+    public AircraftData snapshot() {
+        AircraftData copy = new AircraftData();
+        return read(copy) ? copy : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.aircraft.monitoring.simulation;
+
+/**
+ * Runs the whole fleet as one range on the calling thread.
+ *
+ * Holds no threads, so a single shared instance serves every simulator.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public final class SerialTickExecutor implements TickExecutor {
+
+    /**
+     * The shared instance
+     */
+    public static final SerialTickExecutor INSTANCE = new SerialTickExecutor();
+
+    private SerialTickExecutor() {
+    }
+
+    @Override
+    public void execute(int size, RangeTask task) {
+        task.run(0, size);
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.SERIAL;
+    }
+
+    @Override
+    public int getParallelism() {
+        return 1;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+}
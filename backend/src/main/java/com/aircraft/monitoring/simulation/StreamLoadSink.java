@@ -0,0 +1,175 @@
+package com.aircraft.monitoring.simulation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sink that writes samples as CSV lines to a file or socket.
+ *
+ * Samples go onto a bounded buffer and a dedicated writer thread drains it
+ * to the stream, so a slow disk or a lagging reader on the other end of the
+ * socket never blocks the generator; once the buffer is full samples are
+ * dropped instead. The CSV header is written first, so a file written by
+ * this sink can be replayed by the flight replay service.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class StreamLoadSink implements LoadSink {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final String name;
+    private final String header;
+    private final Writer writer;
+    private final Resource resource;
+    private final BlockingQueue<String> buffer;
+    private final Thread writerThread;
+
+    private volatile boolean closed;
+    private volatile long writtenCount;
+    private volatile IOException failure;
+
+    /**
+     * Creates a sink writing to the given stream
+     *
+     * @param name Name of the destination, used for the writer thread and logs
+     * @param out Stream to write to; closed with the sink
+     * @param capacity Maximum number of samples buffered for the writer
+     * @param header Line written before the first sample, or null
+     */
+    public StreamLoadSink(String name, OutputStream out, int capacity, String header) {
+        this(name, out, out::close, capacity, header);
+    }
+
+    private StreamLoadSink(String name, OutputStream out, Resource resource, int capacity, String header) {
+        this.name = name;
+        this.header = header;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        this.resource = resource;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writerThread = new Thread(this::drain, "load-sink-" + name);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Creates a sink writing to a file, replacing any existing content
+     *
+     * @param file File to write
+     * @param capacity Maximum number of samples buffered for the writer
+     * @param header Line written before the first sample, or null
+     * @throws IOException if the file cannot be opened
+     */
+    public static StreamLoadSink toFile(Path file, int capacity, String header) throws IOException {
+        return new StreamLoadSink(file.toString(), Files.newOutputStream(file), capacity, header);
+    }
+
+    /**
+     * Creates a sink writing to a TCP socket
+     *
+     * @param host Host to connect to
+     * @param port Port to connect to
+     * @param capacity Maximum number of samples buffered for the writer
+     * @param header Line written before the first sample, or null
+     * @throws IOException if the connection cannot be made
+     */
+    public static StreamLoadSink toSocket(String host, int port, int capacity, String header) throws IOException {
+        Socket socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        return new StreamLoadSink(host + ":" + port, socket.getOutputStream(), socket::close, capacity, header);
+    }
+
+    @Override
+    public boolean offer(String sample) {
+        return !closed && failure == null && buffer.offer(sample);
+    }
+
+    /**
+     * Gets the number of samples written to the stream so far
+     */
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * Gets the write error that stopped the sink, if any
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Writer thread: drains the buffer to the stream, flushing whenever the
+     * buffer runs empty
+     */
+    private void drain() {
+        try {
+            if (header != null) {
+                writer.write(header);
+                writer.write('\n');
+            }
+            while (!closed || !buffer.isEmpty()) {
+                String sample = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (sample == null) {
+                    writer.flush();
+                    continue;
+                }
+                writer.write(sample);
+                writer.write('\n');
+                writtenCount++;
+                if (buffer.isEmpty()) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            failure = e;
+            log.error("Load sink {} failed after {} samples", name, writtenCount, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes out the buffered samples, then closes the stream
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            writer.close();
+        } finally {
+            resource.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Resource released when the sink is closed
+     */
+    @FunctionalInterface
+    private interface Resource {
+        void close() throws IOException;
+    }
+}
@@ -0,0 +1,85 @@
+package com.aircraft.monitoring.simulation;
+
+/**
+ * Runs the per-tail work of one tick over a whole fleet.
+ *
+ * The work is given as a {@link RangeTask} over tail indices; an executor
+ * decides how the range [0, size) is cut up and which threads run the
+ * pieces, and returns once all of them are done. Tails are independent
+ * (see {@link FleetSimulator#advance(int, int)}), so every mode produces
+ * the same fleet state; they differ only in latency and CPU cost. Writes
+ * made by the tasks are visible to the caller when {@link #execute}
+ * returns.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public interface TickExecutor extends AutoCloseable {
+
+    /**
+     * Available execution models
+     */
+    enum Mode {
+        /** Whole fleet on the calling thread */
+        SERIAL,
+        /** Chunks of tails on a dedicated fork/join pool */
+        FORK_JOIN,
+        /** One virtual thread per chunk of tails (needs a Java 21 runtime) */
+        VIRTUAL_THREADS
+    }
+
+    /**
+     * Work over a range of tails
+     */
+    @FunctionalInterface
+    interface RangeTask {
+
+        /**
+         * Processes the tails in [from, to)
+         */
+        void run(int from, int to);
+    }
+
+    /**
+     * Runs the task over the tails [0, size) and waits for it to complete
+     *
+     * @param size Number of tails
+     * @param task Work to run; called concurrently for disjoint ranges
+     * @throws IllegalStateException if the task failed, with its exception as the cause
+     */
+    void execute(int size, RangeTask task);
+
+    /**
+     * Gets the execution model of this executor
+     */
+    Mode getMode();
+
+    /**
+     * Gets the number of threads the work is spread over (carrier threads
+     * for virtual threads)
+     */
+    int getParallelism();
+
+    /**
+     * Releases the executor's threads
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates an executor
+     *
+     * @param mode Execution model
+     * @param parallelism Worker threads for the parallel modes; 0 or less for one per available processor
+     * @return The executor
+     * @throws IllegalStateException if the mode is not supported by this runtime
+     */
+    static TickExecutor create(Mode mode, int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return switch (mode) {
+            case SERIAL -> SerialTickExecutor.INSTANCE;
+            case FORK_JOIN -> new ForkJoinTickExecutor(threads, ForkJoinTickExecutor.DEFAULT_CHUNK_SIZE);
+            case VIRTUAL_THREADS -> new VirtualThreadTickExecutor();
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package com.aircraft.monitoring.simulation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-rate tick scheduler running on its own thread.
+ *
+ * Deadlines are anchored to an absolute start time ({@code anchor + n * period})
+ * rather than computed from the end of the previous tick, so the schedule
+ * never drifts no matter how long individual ticks take. The thread parks
+ * until shortly before each deadline and spins for the remainder, which keeps
+ * wake-up jitter in the tens of microseconds even at 1 kHz.
+ *
+ * When a tick runs past the next deadline the {@link OverrunPolicy} decides
+ * what happens. Lateness of every tick and all missed deadlines are recorded
+ * and exposed through {@link #getStats()}.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class TickScheduler {
+
+    /**
+     * What to do when a tick overruns one or more deadlines
+     */
+    public enum OverrunPolicy {
+        /** Drop the missed deadlines and resume on the next future one */
+        SKIP,
+        /** Run the missed ticks back to back until the schedule is caught up */
+        CATCH_UP,
+        /** Halve the tick rate (down to 1/64 of the target) and re-anchor */
+        DEGRADE
+    }
+
+    /**
+     * Remaining wait below which the thread spins instead of parking
+     */
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Lowest rate DEGRADE may fall to, as a divisor of the target period
+     */
+    private static final int MAX_DEGRADE_FACTOR = 64;
+
+    /**
+     * Consecutive on-time ticks after which a degraded rate is stepped back up
+     */
+    private static final int RECOVERY_TICKS = 100;
+
+    private final String name;
+    private final long targetPeriodNanos;
+    private final OverrunPolicy overrunPolicy;
+    private final Runnable task;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    // Statistics, written by the scheduler thread only
+    private volatile long ticks;
+    private volatile long missedDeadlines;
+    private volatile long overruns;
+    private volatile long totalTickNanos;
+    private volatile long periodNanos;
+    private volatile long startNanos;
+    private final LatencyHistogram jitter = new LatencyHistogram();
+
+    /**
+     * Creates a scheduler; call {@link #start()} to begin ticking
+     *
+     * @param name Name of the scheduler thread
+     * @param rateHz Target tick rate in Hz
+     * @param overrunPolicy Behaviour when a tick overruns its deadline
+     * @param task The work to run on every tick
+     */
+    public TickScheduler(String name, double rateHz, OverrunPolicy overrunPolicy, Runnable task) {
+        if (!(rateHz > 0) || Double.isInfinite(rateHz)) {
+            throw new IllegalArgumentException("Tick rate must be a positive number of Hz: " + rateHz);
+        }
+        this.name = name;
+        this.targetPeriodNanos = Math.max(1, Math.round(1_000_000_000.0 / rateHz));
+        this.overrunPolicy = overrunPolicy;
+        this.task = task;
+        this.periodNanos = targetPeriodNanos;
+    }
+
+    /**
+     * Starts the scheduler thread
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Tick scheduler '{}' started at {} Hz with {} overrun policy",
+                name, 1_000_000_000.0 / targetPeriodNanos, overrunPolicy);
+    }
+
+    /**
+     * Stops the scheduler thread and waits for the current tick to finish
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.NANOSECONDS.toMillis(periodNanos) + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Tick scheduler '{}' stopped after {} ticks ({} missed deadlines)",
+                name, ticks, missedDeadlines);
+    }
+
+    /**
+     * Checks whether the scheduler thread is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Scheduler loop
+     */
+    private void run() {
+        long anchor = System.nanoTime();
+        long sequence = 0;
+        long period = targetPeriodNanos;
+        int onTimeTicks = 0;
+        startNanos = anchor;
+
+        while (running) {
+            long deadline = anchor + sequence * period;
+            if (!waitUntil(deadline)) {
+                break;
+            }
+
+            long tickStart = System.nanoTime();
+            jitter.record(tickStart - deadline);
+            if (tickStart - deadline >= period) {
+                // Started after the following deadline had already passed
+                missedDeadlines++;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Tick '{}' failed", name, e);
+            }
+            long tickEnd = System.nanoTime();
+            totalTickNanos += tickEnd - tickStart;
+            ticks++;
+            sequence++;
+
+            long nextDeadline = anchor + sequence * period;
+            if (tickEnd <= nextDeadline) {
+                if (period > targetPeriodNanos && ++onTimeTicks >= RECOVERY_TICKS) {
+                    // Sustained headroom: step a degraded rate back up
+                    period = Math.max(targetPeriodNanos, period / 2);
+                    anchor = nextDeadline;
+                    sequence = 0;
+                    onTimeTicks = 0;
+                    periodNanos = period;
+                    log.info("Tick '{}' recovered to {} Hz", name, 1_000_000_000.0 / period);
+                }
+                continue;
+            }
+
+            // Overrun: the next deadline has already passed
+            overruns++;
+            onTimeTicks = 0;
+            long behind = (tickEnd - nextDeadline) / period + 1;
+            switch (overrunPolicy) {
+                case SKIP:
+                    missedDeadlines += behind;
+                    sequence += behind;
+                    break;
+                case CATCH_UP:
+                    // Deadlines stay where they are; the loop runs without waiting until caught up
+                    break;
+                case DEGRADE:
+                    missedDeadlines += behind;
+                    period = Math.min(targetPeriodNanos * MAX_DEGRADE_FACTOR, period * 2);
+                    anchor = tickEnd + period;
+                    sequence = 0;
+                    periodNanos = period;
+                    log.warn("Tick '{}' overran its deadline, degrading to {} Hz",
+                            name, 1_000_000_000.0 / period);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Parks, then spins, until the deadline is reached
+     *
+     * @return false if the scheduler was stopped while waiting
+     */
+    private boolean waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (!running) {
+                return false;
+            }
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Gets a snapshot of the scheduler statistics
+     */
+    public Stats getStats() {
+        long tickCount = ticks;
+        long elapsed = System.nanoTime() - startNanos;
+        return new Stats(
+                tickCount,
+                missedDeadlines,
+                overruns,
+                overrunPolicy,
+                1_000_000_000.0 / targetPeriodNanos,
+                1_000_000_000.0 / periodNanos,
+                tickCount > 0 && startNanos != 0 ? tickCount * 1_000_000_000.0 / elapsed : 0.0,
+                jitter.getMeanMicros(),
+                jitter.getPercentileMicros(0.99),
+                jitter.getMaxMicros(),
+                tickCount > 0 ? totalTickNanos / 1000.0 / tickCount : 0.0);
+    }
+
+    /**
+     * Scheduler statistics
+     *
+     * @param ticks Ticks executed
+     * @param missedDeadlines Deadlines that passed before their tick could start
+     * @param overruns Ticks that ran past the following deadline
+     * @param overrunPolicy Configured overrun policy
+     * @param targetRateHz Configured tick rate
+     * @param currentRateHz Rate currently scheduled (lower than target while degraded)
+     * @param achievedRateHz Ticks per second actually executed since start
+     * @param meanJitterMicros Mean lateness of tick start versus deadline
+     * @param p99JitterMicros 99th percentile lateness (power-of-two bucket bound)
+     * @param maxJitterMicros Worst lateness observed
+     * @param meanTickMicros Mean duration of the tick task
+     */
+    public record Stats(long ticks, long missedDeadlines, long overruns, OverrunPolicy overrunPolicy,
+                        double targetRateHz, double currentRateHz, double achievedRateHz,
+                        double meanJitterMicros, double p99JitterMicros, double maxJitterMicros,
+                        double meanTickMicros) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorChannel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates synthetic flight history on a virtual clock, as fast as the CPU
+ * allows.
+ *
+ * The fleet is split into contiguous tail ranges, one per worker thread.
+ * Tails are independent (each has its own random stream, see
+ * {@link FleetSimulator}), so a worker advances its range through a whole
+ * chunk of ticks without synchronizing with the others, encoding every
+ * sample straight into a shared chunk buffer at its fixed offset. While the
+ * workers fill one chunk, the calling thread writes the previous one to
+ * disk. The output is a {@link FlightHistoryWriter} file stamped by a
+ * {@link VirtualClock}, and is identical for a given seed whatever the
+ * number of workers.
+ *
+ * The history is the clean signal models only; faults scheduled on the
+ * live simulator are not part of it.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class TimeWarpGenerator {
+
+    /**
+     * Target size of one chunk buffer; a chunk always holds at least one tick
+     */
+    private static final int CHUNK_BYTES = 4 * 1024 * 1024;
+
+    private static final SensorChannel[] CHANNELS = SensorChannel.values();
+
+    private final int fleetSize;
+    private final RandomStreams streams;
+    private final int parallelism;
+    private final FlightProfile profile;
+
+    private volatile boolean stopRequested;
+    private volatile long ticksGenerated;
+
+    /**
+     * Creates a generator
+     *
+     * @param fleetSize Number of tails to simulate
+     * @param streams Factory for the per-tail random streams
+     * @param parallelism Number of worker threads
+     */
+    public TimeWarpGenerator(int fleetSize, RandomStreams streams, int parallelism) {
+        this(fleetSize, streams, parallelism, null);
+    }
+
+    /**
+     * Creates a generator whose tails fly a phase profile
+     *
+     * @param fleetSize Number of tails to simulate
+     * @param streams Factory for the per-tail random streams
+     * @param parallelism Number of worker threads
+     * @param profile Flight profile built for the clock's tick interval, or null for cruise only
+     */
+    public TimeWarpGenerator(int fleetSize, RandomStreams streams, int parallelism, FlightProfile profile) {
+        if (fleetSize < 1) {
+            throw new IllegalArgumentException("Fleet size must be at least 1: " + fleetSize);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.fleetSize = fleetSize;
+        this.streams = streams;
+        this.parallelism = Math.min(parallelism, fleetSize);
+        this.profile = profile;
+    }
+
+    /**
+     * Generates the given number of ticks into a history file on the calling
+     * thread plus the workers
+     *
+     * @param ticks Number of ticks to generate
+     * @param clock Clock that stamps the ticks
+     * @param file File to write, replaced if it exists
+     * @return Summary of the generation
+     * @throws IOException if the file cannot be written
+     */
+    public Result generate(long ticks, VirtualClock clock, Path file) throws IOException {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Tick count must not be negative: " + ticks);
+        }
+        stopRequested = false;
+        ticksGenerated = 0;
+        long start = System.nanoTime();
+
+        FleetSimulator simulator = new FleetSimulator(fleetSize, streams, profile);
+        int tickBytes = FlightHistoryWriter.tickBytes(fleetSize);
+        int chunkTicks = Math.max(1, CHUNK_BYTES / tickBytes);
+        ByteBuffer[] buffers = {
+                ByteBuffer.allocateDirect(chunkTicks * tickBytes),
+                ByteBuffer.allocateDirect(chunkTicks * tickBytes)
+        };
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, workerThreads());
+
+        try (FlightHistoryWriter writer = new FlightHistoryWriter(file, fleetSize, streams.getSeed(), clock)) {
+            ByteBuffer pending = null;
+            long nextTick = 0;
+            int current = 0;
+            while (nextTick < ticks && !stopRequested) {
+                int count = (int) Math.min(chunkTicks, ticks - nextTick);
+                ByteBuffer chunk = buffers[current];
+                List<Future<?>> parts = submitChunk(workers, simulator, chunk, count);
+
+                // Overlap the disk write of the previous chunk with this one's generation
+                if (pending != null) {
+                    writer.writeTicks(pending);
+                }
+                awaitAll(parts);
+
+                chunk.clear().limit(count * tickBytes);
+                pending = chunk;
+                nextTick += count;
+                ticksGenerated = nextTick;
+                current ^= 1;
+            }
+            if (pending != null) {
+                writer.writeTicks(pending);
+            }
+            ticksGenerated = writer.getTicksWritten();
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long generated = ticksGenerated;
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        return new Result(file.getFileName().toString(), fleetSize, generated, generated * fleetSize,
+                generated * tickBytes, parallelism, clock.secondsFor(generated), elapsed);
+    }
+
+    /**
+     * Requests a running generation to stop after the current chunk; the
+     * ticks generated so far are kept
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Gets the number of ticks generated so far
+     */
+    public long getTicksGenerated() {
+        return ticksGenerated;
+    }
+
+    /**
+     * Starts one task per tail range, each advancing its tails through the chunk
+     */
+    private List<Future<?>> submitChunk(ExecutorService workers, FleetSimulator simulator,
+                                        ByteBuffer chunk, int count) {
+        List<Future<?>> parts = new ArrayList<>(parallelism);
+        for (int part = 0; part < parallelism; part++) {
+            int from = (int) ((long) fleetSize * part / parallelism);
+            int to = (int) ((long) fleetSize * (part + 1) / parallelism);
+            parts.add(workers.submit(() -> fillChunk(simulator, chunk, count, from, to)));
+        }
+        return parts;
+    }
+
+    /**
+     * Advances the tails in [from, to) through {@code count} ticks, encoding
+     * each tick's samples at their place in the chunk
+     */
+    private void fillChunk(FleetSimulator simulator, ByteBuffer chunk, int count, int from, int to) {
+        // Absolute puts on a private view: the ranges of the workers never overlap
+        ByteBuffer out = chunk.duplicate().order(FlightHistoryWriter.ORDER);
+        FleetState state = simulator.getState();
+        int tickBytes = FlightHistoryWriter.tickBytes(fleetSize);
+
+        for (int tick = 0; tick < count; tick++) {
+            simulator.advance(from, to);
+            int tickOffset = tick * tickBytes;
+            for (SensorChannel channel : CHANNELS) {
+                double[] values = state.getChannel(channel);
+                int offset = tickOffset + channel.index() * Float.BYTES;
+                for (int t = from; t < to; t++) {
+                    out.putFloat(offset + t * FlightHistoryWriter.SAMPLE_BYTES, (float) values[t]);
+                }
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> parts) throws IOException {
+        try {
+            for (Future<?> part : parts) {
+                part.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating history", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("History generation failed", e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger next = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "time-warp-" + next.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Summary of a generation
+     *
+     * @param file Name of the file written
+     * @param fleetSize Tails per tick
+     * @param ticks Ticks generated
+     * @param samples Samples generated (ticks times tails)
+     * @param bytes Bytes of sample data written, excluding the header
+     * @param parallelism Worker threads used
+     * @param simulatedSeconds Virtual time covered
+     * @param elapsedSeconds Wall time taken
+     */
+    public record Result(String file, int fleetSize, long ticks, long samples, long bytes, int parallelism,
+                         double simulatedSeconds, double elapsedSeconds) {
+
+        /**
+         * Gets the number of samples generated per wall-clock second
+         */
+        public double samplesPerSecond() {
+            return elapsedSeconds > 0 ? samples / elapsedSeconds : 0.0;
+        }
+
+        /**
+         * Gets how many times faster than real time the history was generated
+         */
+        public double speedup() {
+            return elapsedSeconds > 0 ? simulatedSeconds / elapsedSeconds : 0.0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.aircraft.monitoring.simulation;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Simulated clock that maps tick numbers to timestamps.
+ *
+ * Time-warp generation advances ticks as fast as the CPU allows, so sample
+ * timestamps cannot come from the wall clock; they are derived from the
+ * tick number instead: tick {@code n} is stamped
+ * {@code start + n * tickInterval}. The same mapping is stored in history
+ * files, so a replay reproduces the original timestamps exactly.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class VirtualClock {
+
+    private final long startEpochMillis;
+    private final long tickIntervalMicros;
+
+    /**
+     * Creates a virtual clock
+     *
+     * @param startEpochMillis Timestamp of tick 0, in epoch milliseconds (UTC)
+     * @param tickIntervalMicros Simulated time between ticks in microseconds
+     */
+    public VirtualClock(long startEpochMillis, long tickIntervalMicros) {
+        if (tickIntervalMicros < 1) {
+            throw new IllegalArgumentException("Tick interval must be positive: " + tickIntervalMicros + " us");
+        }
+        this.startEpochMillis = startEpochMillis;
+        this.tickIntervalMicros = tickIntervalMicros;
+    }
+
+    /**
+     * Gets the timestamp of tick 0 in epoch milliseconds
+     */
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * Gets the simulated time between ticks in microseconds
+     */
+    public long getTickIntervalMicros() {
+        return tickIntervalMicros;
+    }
+
+    /**
+     * Gets the timestamp of a tick in epoch microseconds
+     */
+    public long epochMicrosAt(long tick) {
+        return startEpochMillis * 1000 + tick * tickIntervalMicros;
+    }
+
+    /**
+     * Gets the timestamp of a tick as a UTC date-time, the way samples are stamped
+     */
+    public LocalDateTime timeAt(long tick) {
+        long micros = epochMicrosAt(tick);
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1000L);
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    /**
+     * Gets the simulated time covered by the given number of ticks, in seconds
+     */
+    public double secondsFor(long ticks) {
+        return ticks * (tickIntervalMicros / 1e6);
+    }
+}
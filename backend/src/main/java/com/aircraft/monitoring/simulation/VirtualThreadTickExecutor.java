@@ -0,0 +1,134 @@
+package com.aircraft.monitoring.simulation;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a tick with one virtual thread per chunk of tails.
+ *
+ * The fleet is cut into ranges of at most {@code chunkSize} tails and each
+ * range gets its own short-lived virtual thread, scheduled by the JDK onto
+ * its carrier pool (one carrier per processor unless
+ * {@code jdk.virtualThreadScheduler.parallelism} says otherwise). Code in a
+ * range may block freely. The tick work is pure computation of well under
+ * a microsecond per tail, so a thread per tail would cost more than the
+ * tail itself; chunks keep the thread count per tick at
+ * {@code size / chunkSize}, like the fork/join tasks. A fleet no larger
+ * than one chunk runs on the calling thread without a hand off.
+ *
+ * Virtual threads need a Java 21 runtime. The executor is obtained
+ * reflectively so the project still compiles for Java 17; build with the
+ * {@code java21} Maven profile to target 21 directly.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class VirtualThreadTickExecutor implements TickExecutor {
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    /**
+     * Creates an executor with the default chunk size
+     *
+     * @throws IllegalStateException if the runtime has no virtual threads
+     */
+    public VirtualThreadTickExecutor() {
+        this(ForkJoinTickExecutor.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an executor
+     *
+     * @param chunkSize Maximum number of tails per virtual thread
+     * @throws IllegalStateException if the runtime has no virtual threads
+     */
+    public VirtualThreadTickExecutor(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1: " + chunkSize);
+        }
+        this.executor = newVirtualThreadPerTaskExecutor();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Checks whether the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Override
+    public void execute(int size, RangeTask task) {
+        if (size <= chunkSize) {
+            try {
+                task.run(0, size);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Tick task failed", e);
+            }
+            return;
+        }
+
+        CountDownLatch done = new CountDownLatch((size + chunkSize - 1) / chunkSize);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, size);
+            executor.execute(() -> {
+                try {
+                    task.run(start, end);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for tick tasks", e);
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Tick task failed", failure.get());
+        }
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.VIRTUAL_THREADS;
+    }
+
+    @Override
+    public int getParallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Gets the maximum number of tails per virtual thread
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads need a Java 21 runtime, running on "
+                    + Runtime.version(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create a virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Wall clock that stamps live samples without allocating.
+ *
+ * {@code LocalDateTime.now()} creates three objects per call. This clock
+ * reads {@link System#currentTimeMillis()} and adds the zone's UTC offset,
+ * giving the same local date-time in the nanosecond form
+ * {@link AircraftData#getLocalTimeNanos()} holds, to the millisecond. The
+ * offset is looked up once and reused until the zone's next offset
+ * transition (a daylight saving change), so a call allocates nothing in
+ * steady state. Safe for use from any number of threads.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+public class WallClock {
+
+    private final ZoneRules rules;
+    private volatile OffsetWindow window = new OffsetWindow(0, 0, 0);
+
+    /**
+     * Creates a clock for the system default time zone, the zone
+     * {@code LocalDateTime.now()} uses
+     */
+    public WallClock() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates a clock for a time zone
+     *
+     * @param zone Zone whose local time is reported
+     */
+    public WallClock(ZoneId zone) {
+        this.rules = zone.getRules();
+    }
+
+    /**
+     * Gets the current local date-time in nanoseconds since 1970-01-01T00:00
+     */
+    public long nowNanos() {
+        return nanosAt(System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the local date-time of an instant in nanoseconds since 1970-01-01T00:00
+     *
+     * @param epochMillis Instant in epoch milliseconds (UTC)
+     */
+    long nanosAt(long epochMillis) {
+        OffsetWindow current = window;
+        if (epochMillis < current.fromMillis() || epochMillis >= current.untilMillis()) {
+            current = lookUp(epochMillis);
+            window = current;
+        }
+        return epochMillis * 1_000_000L + current.offsetNanos();
+    }
+
+    /**
+     * Looks up the offset in force at an instant and how long it stays in force
+     */
+    private OffsetWindow lookUp(long epochMillis) {
+        Instant instant = Instant.ofEpochMilli(epochMillis);
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        return new OffsetWindow(epochMillis,
+                next != null ? next.toEpochSecond() * 1000 : Long.MAX_VALUE,
+                rules.getOffset(instant).getTotalSeconds() * 1_000_000_000L);
+    }
+
+    /**
+     * UTC offset in force from {@code fromMillis} (inclusive) to
+     * {@code untilMillis} (exclusive)
+     */
+    private record OffsetWindow(long fromMillis, long untilMillis, long offsetNanos) {
+    }
+}
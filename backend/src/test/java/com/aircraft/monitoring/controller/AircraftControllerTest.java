@@ -1,8 +1,14 @@
 package com.aircraft.monitoring.controller;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftSnapshot;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.service.AnomalyDetectionService;
 import com.aircraft.monitoring.service.DataSimulationService;
+import com.aircraft.monitoring.service.ThresholdProfiles;
 import com.aircraft.monitoring.service.WebSocketService;
+import com.aircraft.monitoring.simulation.Fault;
+import com.aircraft.monitoring.simulation.TimeWarpGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +20,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,6 +60,9 @@ class AircraftControllerTest {
     @MockBean
     private WebSocketService webSocketService;
 
+    @MockBean
+    private AnomalyDetectionService anomalyDetectionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -68,7 +86,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should return current aircraft data when available")
         void shouldReturnCurrentAircraftDataWhenAvailable() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
 
             mockMvc.perform(get("/api/aircraft/data"))
                     .andExpect(status().isOk())
@@ -80,30 +98,30 @@ class AircraftControllerTest {
                     .andExpect(jsonPath("$.engineAnomaly").value(false))
                     .andExpect(jsonPath("$.fuelAnomaly").value(false));
 
-            verify(dataSimulationService).getCurrentData();
+            verify(dataSimulationService).getCurrentSnapshot();
         }
 
         @Test
         @DisplayName("Should return 204 No Content when no data available")
         void shouldReturn204NoContentWhenNoDataAvailable() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(null);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(null);
 
             mockMvc.perform(get("/api/aircraft/data"))
                     .andExpect(status().isNoContent());
 
-            verify(dataSimulationService).getCurrentData();
+            verify(dataSimulationService).getCurrentSnapshot();
         }
 
         @Test
         @DisplayName("Should handle service exceptions gracefully")
         void shouldHandleServiceExceptionsGracefully() throws Exception {
-            when(dataSimulationService.getCurrentData())
+            when(dataSimulationService.getCurrentSnapshot())
                     .thenThrow(new RuntimeException("Service error"));
 
             mockMvc.perform(get("/api/aircraft/data"))
                     .andExpect(status().is5xxServerError());
 
-            verify(dataSimulationService).getCurrentData();
+            verify(dataSimulationService).getCurrentSnapshot();
         }
 
         @Test
@@ -115,7 +133,7 @@ class AircraftControllerTest {
             testAircraftData.setAltitudeAnomaly(true);
             testAircraftData.setAirspeedAnomaly(true);
 
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
 
             mockMvc.perform(get("/api/aircraft/data"))
                     .andExpect(status().isOk())
@@ -134,7 +152,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should return system status with current data")
         void shouldReturnSystemStatusWithCurrentData() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
             when(webSocketService.getConnectedClientsCount()).thenReturn(3);
 
             mockMvc.perform(get("/api/aircraft/status"))
@@ -145,14 +163,14 @@ class AircraftControllerTest {
                     .andExpect(jsonPath("$.lastUpdate").exists())
                     .andExpect(jsonPath("$.systemStatus").value("NORMAL"));
 
-            verify(dataSimulationService).getCurrentData();
+            verify(dataSimulationService).getCurrentSnapshot();
             verify(webSocketService).getConnectedClientsCount();
         }
 
         @Test
         @DisplayName("Should return system status when no data available")
         void shouldReturnSystemStatusWhenNoDataAvailable() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(null);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(null);
             when(webSocketService.getConnectedClientsCount()).thenReturn(0);
 
             mockMvc.perform(get("/api/aircraft/status"))
@@ -167,7 +185,7 @@ class AircraftControllerTest {
         @DisplayName("Should return WARNING status when anomalies present")
         void shouldReturnWarningStatusWhenAnomaliesPresent() throws Exception {
             testAircraftData.setEngineAnomaly(true);
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
             when(webSocketService.getConnectedClientsCount()).thenReturn(2);
 
             mockMvc.perform(get("/api/aircraft/status"))
@@ -183,7 +201,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should return system health information")
         void shouldReturnSystemHealthInformation() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
             when(webSocketService.getConnectedClientsCount()).thenReturn(5);
 
             mockMvc.perform(get("/api/aircraft/health"))
@@ -201,7 +219,7 @@ class AircraftControllerTest {
         @DisplayName("Should return health with anomalies when present")
         void shouldReturnHealthWithAnomaliesWhenPresent() throws Exception {
             testAircraftData.setFuelAnomaly(true);
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
             when(webSocketService.getConnectedClientsCount()).thenReturn(2);
 
             mockMvc.perform(get("/api/aircraft/health"))
@@ -213,7 +231,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should return health when no data available")
         void shouldReturnHealthWhenNoDataAvailable() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(null);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(null);
             when(webSocketService.getConnectedClientsCount()).thenReturn(0);
 
             mockMvc.perform(get("/api/aircraft/health"))
@@ -331,6 +349,312 @@ class AircraftControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/aircraft/simulate/fault Tests")
+    class ScheduleFaultTests {
+
+        @Test
+        @DisplayName("Should schedule a fault with the requested parameters")
+        void shouldScheduleAFaultWithTheRequestedParameters() throws Exception {
+            when(dataSimulationService.scheduleFault(any(), any(), anyInt(), anyLong(), anyLong(), anyDouble()))
+                    .thenReturn(new Fault(Fault.Type.RAMP, 3, SensorChannel.ENGINE_TEMPERATURE, 15, 30, 80.0));
+            Map<String, String> faultRequest = new HashMap<>();
+            faultRequest.put("type", "ramp");
+            faultRequest.put("channel", "ENGINE_TEMPERATURE");
+            faultRequest.put("tail", "3");
+            faultRequest.put("delayTicks", "5");
+            faultRequest.put("durationTicks", "30");
+            faultRequest.put("magnitude", "80");
+
+            mockMvc.perform(post("/api/aircraft/simulate/fault")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(faultRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Fault scheduled from tick 15"))
+                    .andExpect(jsonPath("$.status").value("success"));
+
+            verify(dataSimulationService).scheduleFault(
+                    Fault.Type.RAMP, SensorChannel.ENGINE_TEMPERATURE, 3, 5L, 30L, 80.0);
+        }
+
+        @Test
+        @DisplayName("Should default to a one-tick fault on the dashboard aircraft")
+        void shouldDefaultToAOneTickFaultOnTheDashboardAircraft() throws Exception {
+            when(dataSimulationService.scheduleFault(any(), any(), anyInt(), anyLong(), anyLong(), anyDouble()))
+                    .thenReturn(new Fault(Fault.Type.DROPOUT, 0, SensorChannel.ALTITUDE, 1, 1, Double.NaN));
+            Map<String, String> faultRequest = new HashMap<>();
+            faultRequest.put("type", "DROPOUT");
+            faultRequest.put("channel", "altitude");
+
+            mockMvc.perform(post("/api/aircraft/simulate/fault")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(faultRequest)))
+                    .andExpect(status().isOk());
+
+            verify(dataSimulationService).scheduleFault(
+                    eq(Fault.Type.DROPOUT), eq(SensorChannel.ALTITUDE), eq(0), eq(0L), eq(1L),
+                    doubleThat(magnitude -> magnitude.isNaN()));
+        }
+
+        @Test
+        @DisplayName("Should return bad request for an unknown channel")
+        void shouldReturnBadRequestForAnUnknownChannel() throws Exception {
+            Map<String, String> faultRequest = new HashMap<>();
+            faultRequest.put("type", "STEP");
+            faultRequest.put("channel", "CABIN_HUMIDITY");
+
+            mockMvc.perform(post("/api/aircraft/simulate/fault")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(faultRequest)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value("error"));
+
+            verify(dataSimulationService, never())
+                    .scheduleFault(any(), any(), anyInt(), anyLong(), anyLong(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should return bad request for a fault the service rejects")
+        void shouldReturnBadRequestForAFaultTheServiceRejects() throws Exception {
+            when(dataSimulationService.scheduleFault(any(), any(), anyInt(), anyLong(), anyLong(), anyDouble()))
+                    .thenThrow(new IllegalArgumentException("Tail 99 is outside a fleet of 1"));
+            Map<String, String> faultRequest = new HashMap<>();
+            faultRequest.put("type", "STEP");
+            faultRequest.put("channel", "ALTITUDE");
+            faultRequest.put("tail", "99");
+            faultRequest.put("magnitude", "500");
+
+            mockMvc.perform(post("/api/aircraft/simulate/fault")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(faultRequest)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Tail 99 is outside a fleet of 1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/aircraft/simulate/history Tests")
+    class GenerateHistoryTests {
+
+        @Test
+        @DisplayName("Should generate the requested hours of history")
+        void shouldGenerateTheRequestedHoursOfHistory() throws Exception {
+            when(dataSimulationService.generateHistory(anyString(), anyInt(), anyLong(), anyDouble(), anyInt()))
+                    .thenReturn(new TimeWarpGenerator.Result("fleet.fhist", 100, 8640, 864_000, 69_120_000,
+                            4, 172_800.0, 2.0));
+            Map<String, String> historyRequest = new HashMap<>();
+            historyRequest.put("file", "fleet.fhist");
+            historyRequest.put("tails", "100");
+            historyRequest.put("hours", "48");
+            historyRequest.put("intervalSeconds", "20");
+            historyRequest.put("parallelism", "4");
+
+            mockMvc.perform(post("/api/aircraft/simulate/history")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(historyRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Generated 864000 samples"))
+                    .andExpect(jsonPath("$.status").value("success"))
+                    .andExpect(jsonPath("$.result.ticks").value(8640));
+
+            verify(dataSimulationService).generateHistory("fleet.fhist", 100, 8640L, 20.0, 4);
+        }
+
+        @Test
+        @DisplayName("Should return bad request for an invalid history request")
+        void shouldReturnBadRequestForAnInvalidHistoryRequest() throws Exception {
+            when(dataSimulationService.generateHistory(any(), anyInt(), anyLong(), anyDouble(), anyInt()))
+                    .thenThrow(new IllegalArgumentException("History file name is required"));
+
+            mockMvc.perform(post("/api/aircraft/simulate/history")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new HashMap<String, String>())))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("History file name is required"));
+        }
+
+        @Test
+        @DisplayName("Should return server error when the history cannot be written")
+        void shouldReturnServerErrorWhenTheHistoryCannotBeWritten() throws Exception {
+            when(dataSimulationService.generateHistory(anyString(), anyInt(), anyLong(), anyDouble(), anyInt()))
+                    .thenThrow(new IOException("No space left on device"));
+            Map<String, String> historyRequest = new HashMap<>();
+            historyRequest.put("file", "fleet.fhist");
+
+            mockMvc.perform(post("/api/aircraft/simulate/history")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(historyRequest)))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.status").value("error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/aircraft/data/history Tests")
+    class GetRecentHistoryTests {
+
+        @Test
+        @DisplayName("Should return the recent samples of a tail")
+        void shouldReturnTheRecentSamplesOfATail() throws Exception {
+            AircraftData older = new AircraftData(LocalDateTime.of(2024, 3, 1, 12, 30, 43));
+            AircraftData newer = new AircraftData(LocalDateTime.of(2024, 3, 1, 12, 30, 45));
+            newer.setEngineRPM(2200.0);
+            when(dataSimulationService.getRecentHistory(3, 2)).thenReturn(List.of(older, newer));
+
+            mockMvc.perform(get("/api/aircraft/data/history").param("tail", "3").param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].timestamp").value("2024-03-01 12:30:43"))
+                    .andExpect(jsonPath("$[1].engineRPM").value(2200.0));
+        }
+
+        @Test
+        @DisplayName("Should default to the whole history of the dashboard aircraft")
+        void shouldDefaultToTheWholeHistoryOfTheDashboardAircraft() throws Exception {
+            when(dataSimulationService.getRecentHistory(0, Integer.MAX_VALUE)).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/aircraft/data/history"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0));
+
+            verify(dataSimulationService).getRecentHistory(0, Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("Should return bad request for a tail without history")
+        void shouldReturnBadRequestForATailWithoutHistory() throws Exception {
+            when(dataSimulationService.getRecentHistory(anyInt(), anyInt()))
+                    .thenThrow(new IllegalArgumentException("Recent history is kept for tails 0 to 0, not 5"));
+
+            mockMvc.perform(get("/api/aircraft/data/history").param("tail", "5"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value("error"))
+                    .andExpect(jsonPath("$.message").value("Recent history is kept for tails 0 to 0, not 5"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/aircraft/channels Tests")
+    class GetChannelsTests {
+
+        @Test
+        @DisplayName("Should list every channel in index order")
+        void shouldListEveryChannelInIndexOrder() throws Exception {
+            mockMvc.perform(get("/api/aircraft/channels"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(SensorChannel.COUNT))
+                    .andExpect(jsonPath("$[0].index").value(0))
+                    .andExpect(jsonPath("$[0].name").value("engineRPM"))
+                    .andExpect(jsonPath("$[0].unit").value("RPM"))
+                    .andExpect(jsonPath("$[0].decimals").value(0))
+                    .andExpect(jsonPath("$[0].system").value("ENGINE"))
+                    .andExpect(jsonPath("$[0].min").value(500.0))
+                    .andExpect(jsonPath("$[0].max").value(3000.0))
+                    .andExpect(jsonPath("$[0].hysteresis").value(50.0))
+                    .andExpect(jsonPath("$[0].checked").value(true));
+        }
+
+        @Test
+        @DisplayName("Should return null for absent limits")
+        void shouldReturnNullForAbsentLimits() throws Exception {
+            int fuelLevel = SensorChannel.FUEL_LEVEL.index();
+            int groundSpeed = SensorChannel.GROUND_SPEED.index();
+
+            mockMvc.perform(get("/api/aircraft/channels"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[" + fuelLevel + "].min").value(20.0))
+                    .andExpect(jsonPath("$[" + fuelLevel + "].max").isEmpty())
+                    .andExpect(jsonPath("$[" + groundSpeed + "].min").isEmpty())
+                    .andExpect(jsonPath("$[" + groundSpeed + "].checked").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("/api/aircraft/thresholds Tests")
+    class ThresholdsTests {
+
+        private ThresholdProfiles profiles() {
+            Properties properties = new Properties();
+            properties.setProperty("types", "A320");
+            properties.setProperty("A320.engineRPM.max", "2800");
+            properties.setProperty("A320.fuelLevel.max", "95");
+            return ThresholdProfiles.fromProperties(properties);
+        }
+
+        @Test
+        @DisplayName("Should list the ranges of every aircraft type")
+        void shouldListTheRangesOfEveryAircraftType() throws Exception {
+            when(anomalyDetectionService.getThresholdProfiles()).thenReturn(profiles());
+
+            mockMvc.perform(get("/api/aircraft/thresholds"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.types.DEFAULT.engineRPM.max").value(3000.0))
+                    .andExpect(jsonPath("$.types.DEFAULT.fuelLevel.max").isEmpty())
+                    .andExpect(jsonPath("$.types.A320.engineRPM.min").value(500.0))
+                    .andExpect(jsonPath("$.types.A320.engineRPM.max").value(2800.0))
+                    .andExpect(jsonPath("$.types.A320.fuelLevel.max").value(95.0))
+                    .andExpect(jsonPath("$.types.A320.groundSpeed").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should reload the profiles and return them")
+        void shouldReloadTheProfilesAndReturnThem() throws Exception {
+            when(anomalyDetectionService.reloadThresholdProfiles()).thenReturn(profiles());
+
+            mockMvc.perform(post("/api/aircraft/thresholds/reload"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.types.A320.engineRPM.max").value(2800.0));
+
+            verify(anomalyDetectionService).reloadThresholdProfiles();
+        }
+
+        @Test
+        @DisplayName("Should return bad request for invalid profiles")
+        void shouldReturnBadRequestForInvalidProfiles() throws Exception {
+            when(anomalyDetectionService.reloadThresholdProfiles())
+                    .thenThrow(new IllegalArgumentException("Unknown threshold key: A320.engineRPM"));
+
+            mockMvc.perform(post("/api/aircraft/thresholds/reload"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value("error"))
+                    .andExpect(jsonPath("$.message").value("Unknown threshold key: A320.engineRPM"));
+        }
+
+        @Test
+        @DisplayName("Should return server error when the profiles file cannot be read")
+        void shouldReturnServerErrorWhenTheProfilesFileCannotBeRead() throws Exception {
+            when(anomalyDetectionService.reloadThresholdProfiles())
+                    .thenThrow(new IOException("No such file"));
+
+            mockMvc.perform(post("/api/aircraft/thresholds/reload"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.status").value("error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/aircraft/simulation/metrics Tests")
+    class GetSimulationMetricsTests {
+
+        @Test
+        @DisplayName("Should return simulation metrics")
+        void shouldReturnSimulationMetrics() throws Exception {
+            Map<String, Object> metrics = new HashMap<>();
+            metrics.put("fleetSize", 10000);
+            metrics.put("ticks", 42L);
+            metrics.put("averageTickMicros", 5048.8);
+            when(dataSimulationService.getSimulationMetrics()).thenReturn(metrics);
+
+            mockMvc.perform(get("/api/aircraft/simulation/metrics"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.fleetSize").value(10000))
+                    .andExpect(jsonPath("$.ticks").value(42))
+                    .andExpect(jsonPath("$.averageTickMicros").value(5048.8));
+
+            verify(dataSimulationService).getSimulationMetrics();
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/aircraft/alert Tests")
     class SendCustomAlertTests {
@@ -446,7 +770,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should include CORS headers in response")
         void shouldIncludeCorsHeadersInResponse() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
 
             mockMvc.perform(get("/api/aircraft/data")
                     .header("Origin", "http://localhost:3000"))
@@ -457,7 +781,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should handle requests with various origins")
         void shouldHandleRequestsWithVariousOrigins() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
 
             String[] origins = {
                 "http://localhost:3000",
@@ -494,7 +818,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should handle concurrent requests efficiently")
         void shouldHandleConcurrentRequestsEfficiently() throws Exception {
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
 
             // Simulate multiple concurrent requests
             for (int i = 0; i < 5; i++) {
@@ -502,7 +826,7 @@ class AircraftControllerTest {
                         .andExpect(status().isOk());
             }
 
-            verify(dataSimulationService, times(5)).getCurrentData();
+            verify(dataSimulationService, times(5)).getCurrentSnapshot();
         }
 
         @Test
@@ -526,7 +850,7 @@ class AircraftControllerTest {
         @Test
         @DisplayName("Should handle null pointer exceptions gracefully")
         void shouldHandleNullPointerExceptionsGracefully() throws Exception {
-            when(dataSimulationService.getCurrentData())
+            when(dataSimulationService.getCurrentSnapshot())
                     .thenThrow(new NullPointerException("Null pointer error"));
 
             mockMvc.perform(get("/api/aircraft/data"))
@@ -540,8 +864,8 @@ class AircraftControllerTest {
             mockMvc.perform(get("/api/aircraft/data?invalidParam=value"))
                     .andExpect(status().isOk()); // Should ignore unknown params
 
-            when(dataSimulationService.getCurrentData()).thenReturn(testAircraftData);
-            verify(dataSimulationService).getCurrentData();
+            when(dataSimulationService.getCurrentSnapshot()).thenReturn(AircraftSnapshot.of(testAircraftData));
+            verify(dataSimulationService).getCurrentSnapshot();
         }
     }
 }
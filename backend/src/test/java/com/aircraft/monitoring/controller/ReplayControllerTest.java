@@ -0,0 +1,172 @@
+package com.aircraft.monitoring.controller;
+
+import com.aircraft.monitoring.service.FlightReplayService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ReplayController.
+ *
+ * Tests the replay REST endpoints and their error responses.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@WebMvcTest(ReplayController.class)
+@DisplayName("ReplayController Tests")
+class ReplayControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FlightReplayService flightReplayService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String replayRequest(String file, String speed) throws Exception {
+        Map<String, String> request = new HashMap<>();
+        request.put("file", file);
+        if (speed != null) {
+            request.put("speed", speed);
+        }
+        return objectMapper.writeValueAsString(request);
+    }
+
+    @Nested
+    @DisplayName("POST /api/aircraft/replay/start Tests")
+    class StartReplayTests {
+
+        @Test
+        @DisplayName("Should start a replay at the requested speed")
+        void shouldStartAReplayAtTheRequestedSpeed() throws Exception {
+            mockMvc.perform(post("/api/aircraft/replay/start")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(replayRequest("flight.csv", "10")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Replay started"))
+                    .andExpect(jsonPath("$.status").value("success"));
+
+            verify(flightReplayService).startReplay("flight.csv", 10.0, 0);
+        }
+
+        @Test
+        @DisplayName("Should default to real-time speed")
+        void shouldDefaultToRealTimeSpeed() throws Exception {
+            mockMvc.perform(post("/api/aircraft/replay/start")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(replayRequest("flight.csv", null)))
+                    .andExpect(status().isOk());
+
+            verify(flightReplayService).startReplay("flight.csv", 1.0, 0);
+        }
+
+        @Test
+        @DisplayName("Should pass the requested tail of a flight history")
+        void shouldPassTheRequestedTailOfAFlightHistory() throws Exception {
+            Map<String, String> request = new HashMap<>();
+            request.put("file", "fleet.fhist");
+            request.put("speed", "0");
+            request.put("tail", "42");
+
+            mockMvc.perform(post("/api/aircraft/replay/start")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+
+            verify(flightReplayService).startReplay("fleet.fhist", 0.0, 42);
+        }
+
+        @Test
+        @DisplayName("Should return bad request for an invalid recording")
+        void shouldReturnBadRequestForAnInvalidRecording() throws Exception {
+            doThrow(new IllegalArgumentException("Recording not found: missing.csv"))
+                    .when(flightReplayService).startReplay(anyString(), anyDouble(), anyInt());
+
+            mockMvc.perform(post("/api/aircraft/replay/start")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(replayRequest("missing.csv", "1")))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Recording not found: missing.csv"))
+                    .andExpect(jsonPath("$.status").value("error"));
+        }
+
+        @Test
+        @DisplayName("Should return bad request for a malformed speed")
+        void shouldReturnBadRequestForAMalformedSpeed() throws Exception {
+            mockMvc.perform(post("/api/aircraft/replay/start")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(replayRequest("flight.csv", "fast")))
+                    .andExpect(status().isBadRequest());
+
+            verify(flightReplayService, never()).startReplay(anyString(), anyDouble(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should return conflict when a replay is already running")
+        void shouldReturnConflictWhenAReplayIsAlreadyRunning() throws Exception {
+            doThrow(new IllegalStateException("A replay is already running: flight.csv"))
+                    .when(flightReplayService).startReplay(anyString(), anyDouble(), anyInt());
+
+            mockMvc.perform(post("/api/aircraft/replay/start")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(replayRequest("flight.csv", "1")))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.status").value("error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/aircraft/replay/stop Tests")
+    class StopReplayTests {
+
+        @Test
+        @DisplayName("Should request the replay to stop")
+        void shouldRequestTheReplayToStop() throws Exception {
+            mockMvc.perform(post("/api/aircraft/replay/stop"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Replay stop requested"));
+
+            verify(flightReplayService).stopReplay();
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/aircraft/replay/status Tests")
+    class GetReplayStatusTests {
+
+        @Test
+        @DisplayName("Should return replay progress")
+        void shouldReturnReplayProgress() throws Exception {
+            Map<String, Object> status = new HashMap<>();
+            status.put("running", true);
+            status.put("file", "flight.csv");
+            status.put("samplesReplayed", 1200L);
+            when(flightReplayService.getReplayStatus()).thenReturn(status);
+
+            mockMvc.perform(get("/api/aircraft/replay/status"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.running").value(true))
+                    .andExpect(jsonPath("$.file").value("flight.csv"))
+                    .andExpect(jsonPath("$.samplesReplayed").value(1200));
+        }
+    }
+}
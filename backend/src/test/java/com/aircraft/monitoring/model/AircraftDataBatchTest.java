@@ -0,0 +1,114 @@
+package com.aircraft.monitoring.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the columnar AircraftDataBatch.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("AircraftDataBatch Tests")
+class AircraftDataBatchTest {
+
+    private static AircraftData sample(double base) {
+        AircraftData sample = new AircraftData(LocalDateTime.of(2024, 3, 1, 12, 30, 45));
+        for (SensorChannel channel : SensorChannel.values()) {
+            sample.setValue(channel, base + channel.index());
+        }
+        sample.setAnomalyMask(AircraftData.FUEL_ANOMALY | AircraftData.AIRSPEED_ANOMALY);
+        sample.setQuality(SensorChannel.FUEL_PRESSURE, SensorQuality.FAILED);
+        sample.setAircraftType(2);
+        return sample;
+    }
+
+    @Test
+    @DisplayName("Should store samples as one array per channel")
+    void shouldStoreSamplesAsOneArrayPerChannel() {
+        AircraftDataBatch batch = new AircraftDataBatch(3);
+
+        assertEquals(0, batch.add(sample(100)));
+        assertEquals(1, batch.add(sample(200)));
+
+        assertEquals(2, batch.getSize());
+        assertEquals(3, batch.getCapacity());
+        assertEquals(200 + SensorChannel.ALTITUDE.index(), batch.getChannel(SensorChannel.ALTITUDE)[1]);
+        assertEquals(100 + SensorChannel.ENGINE_RPM.index(), batch.get(SensorChannel.ENGINE_RPM, 0));
+        assertEquals(sample(0).getLocalTimeNanos(), batch.getLocalTimeNanos()[0]);
+        assertEquals(AircraftData.FUEL_ANOMALY | AircraftData.AIRSPEED_ANOMALY, batch.getAnomalyMasks()[1]);
+    }
+
+    @Test
+    @DisplayName("Should copy a row back into a sample unchanged")
+    void shouldCopyARowBackIntoASampleUnchanged() {
+        AircraftDataBatch batch = new AircraftDataBatch(2);
+        AircraftData original = sample(100);
+        batch.add(new AircraftData());
+        batch.add(original);
+
+        AircraftData copy = batch.get(1);
+
+        for (SensorChannel channel : SensorChannel.values()) {
+            assertEquals(original.getValue(channel), copy.getValue(channel), channel.name());
+        }
+        assertEquals(original.getTimestamp(), copy.getTimestamp());
+        assertEquals(original.getAnomalyMask(), copy.getAnomalyMask());
+        assertEquals(SensorQuality.FAILED, copy.getQuality(SensorChannel.FUEL_PRESSURE));
+        assertEquals(2, copy.getAircraftType());
+        assertFalse(batch.get(0).hasTimestamp());
+        assertEquals(SensorQuality.ALL_VALID, batch.get(0).getSensorQuality());
+    }
+
+    @Test
+    @DisplayName("Should count samples with anomalies")
+    void shouldCountSamplesWithAnomalies() {
+        AircraftDataBatch batch = new AircraftDataBatch(3);
+        batch.add(new AircraftData());
+        assertFalse(batch.hasAnyAnomaly());
+
+        batch.add(sample(0));
+        batch.add(sample(0));
+
+        assertTrue(batch.hasAnyAnomaly());
+        assertEquals(2, batch.countAnomalies());
+    }
+
+    @Test
+    @DisplayName("Should reject rows beyond its size and capacity")
+    void shouldRejectRowsBeyondItsSizeAndCapacity() {
+        AircraftDataBatch batch = new AircraftDataBatch(1);
+        batch.add(sample(0));
+
+        assertThrows(IllegalStateException.class, () -> batch.add(sample(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(1));
+
+        batch.clear();
+        assertEquals(0, batch.getSize());
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(SensorChannel.ALTITUDE, 0));
+    }
+
+    @Test
+    @DisplayName("Should view a fleet's live channels without copying")
+    void shouldViewAFleetsLiveChannelsWithoutCopying() {
+        FleetState fleet = new FleetState(3);
+        AircraftDataBatch batch = fleet.asBatch();
+
+        fleet.set(SensorChannel.FUEL_LEVEL, 2, 42.0);
+        fleet.setAircraftType(2, 1);
+
+        assertEquals(3, batch.getSize());
+        assertSame(fleet.getChannel(SensorChannel.FUEL_LEVEL), batch.getChannel(SensorChannel.FUEL_LEVEL));
+        assertEquals(42.0, batch.get(SensorChannel.FUEL_LEVEL, 2));
+        assertSame(fleet.getAircraftTypes(), batch.getAircraftTypes());
+        assertEquals(1, batch.get(2).getAircraftType());
+        assertFalse(batch.get(2).hasTimestamp());
+
+        batch.setTimestamps(7L);
+        assertEquals(7L, batch.get(0).getLocalTimeNanos());
+    }
+}
@@ -1,11 +1,15 @@
 package com.aircraft.monitoring.model;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -400,6 +404,174 @@ class AircraftDataTest {
         }
     }
 
+    @Nested
+    @DisplayName("Compact Layout Tests")
+    class CompactLayoutTests {
+
+        @Test
+        @DisplayName("Should expose the anomaly mask bits as flags")
+        void shouldExposeTheAnomalyMaskBitsAsFlags() {
+            aircraftData.setAnomalyMask(AircraftData.FUEL_ANOMALY | AircraftData.AIRSPEED_ANOMALY);
+
+            assertFalse(aircraftData.isEngineAnomaly());
+            assertTrue(aircraftData.isFuelAnomaly());
+            assertFalse(aircraftData.isHydraulicAnomaly());
+            assertFalse(aircraftData.isAltitudeAnomaly());
+            assertTrue(aircraftData.isAirspeedAnomaly());
+            assertEquals("WARNING", aircraftData.getSystemStatus());
+        }
+
+        @Test
+        @DisplayName("Should set and clear one mask bit per flag")
+        void shouldSetAndClearOneMaskBitPerFlag() {
+            aircraftData.setEngineAnomaly(true);
+            aircraftData.setAltitudeAnomaly(true);
+            assertEquals(AircraftData.ENGINE_ANOMALY | AircraftData.ALTITUDE_ANOMALY, aircraftData.getAnomalyMask());
+
+            aircraftData.setEngineAnomaly(false);
+            assertEquals(AircraftData.ALTITUDE_ANOMALY, aircraftData.getAnomalyMask());
+
+            aircraftData.setAltitudeAnomaly(false);
+            assertEquals(0, aircraftData.getAnomalyMask());
+            assertEquals("NORMAL", aircraftData.getSystemStatus());
+        }
+
+        @Test
+        @DisplayName("Should hold the timestamp as nanoseconds without losing precision")
+        void shouldHoldTheTimestampAsNanosecondsWithoutLosingPrecision() {
+            LocalDateTime timestamp = LocalDateTime.of(2024, 3, 1, 12, 30, 45, 123_456_789);
+            aircraftData.setTimestamp(timestamp);
+
+            assertEquals(1_709_296_245_123_456_789L, aircraftData.getLocalTimeNanos());
+            assertEquals(timestamp, aircraftData.getTimestamp());
+
+            LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1);
+            aircraftData.setLocalTimeNanos(AircraftData.toLocalTimeNanos(beforeEpoch));
+            assertEquals(beforeEpoch, aircraftData.getTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should distinguish a missing timestamp")
+        void shouldDistinguishAMissingTimestamp() {
+            assertTrue(aircraftData.hasTimestamp());
+
+            aircraftData.setTimestamp(null);
+
+            assertFalse(aircraftData.hasTimestamp());
+            assertEquals(AircraftData.NO_TIMESTAMP, aircraftData.getLocalTimeNanos());
+            assertNull(aircraftData.getTimestamp());
+            assertFalse(new AircraftData().hasTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should reject timestamps outside the nanosecond range")
+        void shouldRejectTimestampsOutsideTheNanosecondRange() {
+            assertThrows(ArithmeticException.class,
+                    () -> aircraftData.setTimestamp(LocalDateTime.of(2300, 1, 1, 0, 0)));
+        }
+
+        @Test
+        @DisplayName("Should copy every field of another sample")
+        void shouldCopyEveryFieldOfAnotherSample() {
+            AircraftData source = new AircraftData(
+                testTimestamp, 2200.0, 150.0, 45.0, 90.0,
+                75.0, 250.0, 30.0, 20.0,
+                2800.0, 55.0, 95.0,
+                35000.0, 450.0, 440.0, 0.7, -200.0,
+                11.5, 23.0, 28.5, 115.0,
+                true, false, true, false, true
+            );
+            AircraftData target = new AircraftData();
+            target.setAltitudeAnomaly(true);
+
+            target.copyFrom(source);
+
+            assertEquals(source, target);
+            assertEquals(testTimestamp, target.getTimestamp());
+            assertEquals(source.getAnomalyMask(), target.getAnomalyMask());
+        }
+
+        @Test
+        @DisplayName("Should keep the JSON shape of the field-per-flag layout")
+        void shouldKeepTheJsonShapeOfTheFieldPerFlagLayout() {
+            aircraftData.setTimestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 45, 123_000_000));
+            aircraftData.setFuelAnomaly(true);
+
+            JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(aircraftData);
+            List<String> names = new ArrayList<>();
+            json.fieldNames().forEachRemaining(names::add);
+
+            assertEquals(List.of("timestamp",
+                    "engineRPM", "engineTemperature", "oilPressure", "oilTemperature",
+                    "fuelLevel", "fuelConsumption", "fuelPressure", "fuelTemperature",
+                    "hydraulicPressure", "hydraulicTemperature", "hydraulicFluidLevel",
+                    "altitude", "airspeed", "groundSpeed", "machNumber", "verticalSpeed",
+                    "cabinPressure", "cabinTemperature", "batteryVoltage", "generatorOutput",
+                    "engineAnomaly", "fuelAnomaly", "hydraulicAnomaly", "altitudeAnomaly", "airspeedAnomaly",
+                    "systemStatus"), names);
+            assertEquals("2024-03-01 12:30:45", json.get("timestamp").asText());
+            assertTrue(json.get("fuelAnomaly").asBoolean());
+            assertFalse(json.get("engineAnomaly").asBoolean());
+            assertEquals("WARNING", json.get("systemStatus").asText());
+        }
+    }
+
+    @Nested
+    @DisplayName("Channel Access Tests")
+    class ChannelAccessTests {
+
+        @Test
+        @DisplayName("Should read readings by channel")
+        void shouldReadReadingsByChannel() {
+            aircraftData.setEngineRPM(2200.0);
+            aircraftData.setHydraulicFluidLevel(93.5);
+            aircraftData.setGeneratorOutput(118.0);
+
+            assertEquals(2200.0, aircraftData.getValue(SensorChannel.ENGINE_RPM));
+            assertEquals(93.5, aircraftData.getValue(SensorChannel.HYDRAULIC_FLUID_LEVEL));
+            assertEquals(118.0, aircraftData.getValue(SensorChannel.GENERATOR_OUTPUT));
+        }
+
+        @Test
+        @DisplayName("Should write every channel to its own property")
+        void shouldWriteEveryChannelToItsOwnProperty() {
+            for (SensorChannel channel : SensorChannel.values()) {
+                aircraftData.setValue(channel, channel.index() + 1.0);
+            }
+
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertEquals(channel.index() + 1.0, aircraftData.getValue(channel));
+            }
+            assertEquals(1.0, aircraftData.getEngineRPM());
+            assertEquals(20.0, aircraftData.getGeneratorOutput());
+        }
+
+        @Test
+        @DisplayName("Should address readings by channel index")
+        void shouldAddressReadingsByChannelIndex() {
+            aircraftData.setValue(SensorChannel.MACH_NUMBER.index(), 0.78);
+            aircraftData.setCabinPressure(11.5);
+
+            assertEquals(0.78, aircraftData.getMachNumber());
+            assertEquals(11.5, aircraftData.getValue(SensorChannel.CABIN_PRESSURE.index()));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> aircraftData.getValue(SensorChannel.COUNT));
+        }
+
+        @Test
+        @DisplayName("Should serialize every channel under its property name")
+        void shouldSerializeEveryChannelUnderItsPropertyName() {
+            for (SensorChannel channel : SensorChannel.values()) {
+                aircraftData.setValue(channel, channel.index() + 0.5);
+            }
+
+            JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(aircraftData);
+
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertEquals(channel.index() + 0.5, json.get(channel.getPropertyName()).asDouble(), channel.name());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Equals and HashCode Tests")
     class EqualsAndHashCodeTests {
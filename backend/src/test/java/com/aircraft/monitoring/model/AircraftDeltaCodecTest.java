@@ -0,0 +1,202 @@
+package com.aircraft.monitoring.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AircraftDeltaEncoder and AircraftDeltaDecoder.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("Aircraft Delta Codec Tests")
+class AircraftDeltaCodecTest {
+
+    private static final long START_NANOS = 1_700_000_000_000_000_000L;
+    private static final long TICK_NANOS = 100_000_000L;
+
+    private final AircraftDeltaEncoder encoder = new AircraftDeltaEncoder(2);
+    private final AircraftDeltaDecoder decoder = new AircraftDeltaDecoder(2);
+    private final ByteBuffer buffer = ByteBuffer.allocate(AircraftDeltaEncoder.MAX_BYTES);
+    private final AircraftData decoded = new AircraftData();
+
+    private static AircraftData sample(long tick) {
+        AircraftData data = new AircraftData();
+        data.setLocalTimeNanos(START_NANOS + tick * TICK_NANOS);
+        for (SensorChannel channel : SensorChannel.values()) {
+            data.setValue(channel, 100.0 + channel.index());
+        }
+        return data;
+    }
+
+    private int roundTrip(int source, AircraftData data) {
+        buffer.clear();
+        int bytes = encoder.encode(source, data, buffer);
+        assertEquals(bytes, buffer.position());
+        buffer.flip();
+        decoder.decode(source, buffer, decoded);
+        assertFalse(buffer.hasRemaining());
+        return bytes;
+    }
+
+    private void assertWithinHalfAStep(AircraftData expected, AircraftData actual) {
+        for (SensorChannel channel : SensorChannel.values()) {
+            assertEquals(expected.getValue(channel), actual.getValue(channel), 0.5 / channel.getScale() + 1e-9,
+                    channel.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode every reading within half a step without drifting")
+    void shouldDecodeEveryReadingWithinHalfAStepWithoutDrifting() {
+        SplittableRandom random = new SplittableRandom(7);
+        AircraftData data = sample(0);
+        for (long tick = 0; tick < 2000; tick++) {
+            data.setLocalTimeNanos(START_NANOS + tick * TICK_NANOS);
+            for (SensorChannel channel : SensorChannel.values()) {
+                // Drifts by less than a step per tick, so rounding errors would pile up if they were not fed back
+                data.setValue(channel, data.getValue(channel) + random.nextDouble(-0.4, 0.6) / channel.getScale());
+            }
+            roundTrip(0, data);
+
+            assertWithinHalfAStep(data, decoded);
+            assertEquals(data.getLocalTimeNanos(), decoded.getLocalTimeNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode an unchanged sample in a few bytes")
+    void shouldEncodeAnUnchangedSampleInAFewBytes() {
+        int keyframe = roundTrip(0, sample(0));
+        int unchanged = roundTrip(0, sample(1));
+        int steady = roundTrip(0, sample(2));
+
+        // Flags, timestamp and changed-channel bitmap only
+        assertEquals(1 + 9 + AircraftDeltaEncoder.BITMAP_BYTES, unchanged);
+        assertEquals(1 + 1 + AircraftDeltaEncoder.BITMAP_BYTES, steady);
+        assertTrue(keyframe > unchanged);
+        assertWithinHalfAStep(sample(2), decoded);
+        assertEquals(sample(2).getLocalTimeNanos(), decoded.getLocalTimeNanos());
+    }
+
+    @Test
+    @DisplayName("Should send only the changed channels")
+    void shouldSendOnlyTheChangedChannels() {
+        roundTrip(0, sample(0));
+        roundTrip(0, sample(1));
+        AircraftData data = sample(2);
+        data.setAltitude(data.getAltitude() + 10);
+
+        int bytes = roundTrip(0, data);
+
+        // A change of 10 steps is a one-byte varint
+        assertEquals(1 + 1 + AircraftDeltaEncoder.BITMAP_BYTES + 1, bytes);
+        assertEquals(data.getAltitude(), decoded.getAltitude());
+        assertEquals(data.getEngineRPM(), decoded.getEngineRPM());
+    }
+
+    @Test
+    @DisplayName("Should carry the anomaly mask, quality and aircraft type exactly")
+    void shouldCarryTheAnomalyMaskQualityAndAircraftTypeExactly() {
+        roundTrip(0, sample(0));
+        AircraftData data = sample(1);
+        data.setAnomalyMask(AircraftData.ENGINE_ANOMALY | AircraftData.FUEL_ANOMALY);
+        data.setQuality(SensorChannel.OIL_PRESSURE, SensorQuality.STALE);
+        data.setAircraftType(3);
+
+        roundTrip(0, data);
+        assertEquals(data.getAnomalyMask(), decoded.getAnomalyMask());
+        assertEquals(data.getSensorQuality(), decoded.getSensorQuality());
+        assertEquals(3, decoded.getAircraftType());
+
+        // Unchanged fields are not sent again but stay in place
+        data.setLocalTimeNanos(sample(2).getLocalTimeNanos());
+        int bytes = roundTrip(0, data);
+        assertEquals(1 + 1 + AircraftDeltaEncoder.BITMAP_BYTES, bytes);
+        assertEquals(SensorQuality.STALE, decoded.getQuality(SensorChannel.OIL_PRESSURE));
+        assertEquals(3, decoded.getAircraftType());
+    }
+
+    @Test
+    @DisplayName("Should send readings off the grid raw and exact")
+    void shouldSendReadingsOffTheGridRawAndExact() {
+        roundTrip(0, sample(0));
+        AircraftData data = sample(1);
+        data.setValue(SensorChannel.FUEL_LEVEL, Double.NaN);
+        data.setValue(SensorChannel.ALTITUDE, Double.POSITIVE_INFINITY);
+        data.setValue(SensorChannel.AIRSPEED, -1e300);
+
+        roundTrip(0, data);
+        assertTrue(Double.isNaN(decoded.getFuelLevel()));
+        assertEquals(Double.POSITIVE_INFINITY, decoded.getAltitude());
+        assertEquals(-1e300, decoded.getAirspeed());
+
+        // Back on the grid, the channels are quantized again from scratch
+        roundTrip(0, sample(2));
+        assertWithinHalfAStep(sample(2), decoded);
+    }
+
+    @Test
+    @DisplayName("Should start again from a keyframe after a reset")
+    void shouldStartAgainFromAKeyframeAfterAReset() {
+        int keyframe = roundTrip(0, sample(0));
+        roundTrip(0, sample(1));
+
+        encoder.reset(0);
+        buffer.clear();
+        assertEquals(keyframe, encoder.encode(0, sample(0), buffer));
+        buffer.flip();
+
+        // A fresh decoder picks up the stream at the keyframe
+        AircraftDeltaDecoder joined = new AircraftDeltaDecoder(2);
+        joined.decode(0, buffer, decoded);
+        assertWithinHalfAStep(sample(0), decoded);
+        assertEquals(sample(0).getLocalTimeNanos(), decoded.getLocalTimeNanos());
+    }
+
+    @Test
+    @DisplayName("Should reject a delta before the first keyframe")
+    void shouldRejectADeltaBeforeTheFirstKeyframe() {
+        roundTrip(0, sample(0));
+        buffer.clear();
+        encoder.encode(0, sample(1), buffer);
+        buffer.flip();
+
+        assertThrows(IllegalStateException.class, () -> new AircraftDeltaDecoder().decode(buffer, decoded));
+    }
+
+    @Test
+    @DisplayName("Should keep the sources apart")
+    void shouldKeepTheSourcesApart() {
+        AircraftData other = sample(0);
+        other.setEngineRPM(1800.0);
+        other.setAircraftType(1);
+
+        roundTrip(0, sample(0));
+        roundTrip(1, other);
+        roundTrip(0, sample(1));
+        assertWithinHalfAStep(sample(1), decoded);
+        assertEquals(0, decoded.getAircraftType());
+
+        other.setLocalTimeNanos(sample(1).getLocalTimeNanos());
+        roundTrip(1, other);
+        assertEquals(1800.0, decoded.getEngineRPM());
+        assertEquals(1, decoded.getAircraftType());
+    }
+
+    @Test
+    @DisplayName("Should refuse a buffer that may be too small")
+    void shouldRefuseABufferThatMayBeTooSmall() {
+        ByteBuffer small = ByteBuffer.allocate(AircraftDeltaEncoder.MAX_BYTES - 1);
+
+        assertThrows(BufferOverflowException.class, () -> encoder.encode(0, sample(0), small));
+        assertEquals(0, small.position());
+        assertThrows(IllegalArgumentException.class, () -> new AircraftDeltaEncoder(0));
+    }
+}
@@ -0,0 +1,190 @@
+package com.aircraft.monitoring.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the immutable AircraftSnapshot and its builder.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("AircraftSnapshot Tests")
+class AircraftSnapshotTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 3, 1, 12, 30, 45);
+
+    /**
+     * Creates a sample whose readings are channel index + 0.5
+     */
+    private AircraftData sample() {
+        AircraftData data = new AircraftData(TIMESTAMP);
+        for (SensorChannel channel : SensorChannel.values()) {
+            data.setValue(channel, channel.index() + 0.5);
+        }
+        data.setFuelAnomaly(true);
+        data.setQuality(SensorChannel.OIL_PRESSURE, SensorQuality.STALE);
+        data.setAircraftType(1);
+        return data;
+    }
+
+    @Nested
+    @DisplayName("Builder Tests")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("Should start with no timestamp, zero readings and no anomalies")
+        void shouldStartWithNoTimestampZeroReadingsAndNoAnomalies() {
+            AircraftSnapshot snapshot = AircraftSnapshot.builder().build();
+
+            assertFalse(snapshot.hasTimestamp());
+            assertNull(snapshot.getTimestamp());
+            assertEquals(0.0, snapshot.getEngineRPM());
+            assertEquals("NORMAL", snapshot.getSystemStatus());
+        }
+
+        @Test
+        @DisplayName("Should set every field")
+        void shouldSetEveryField() {
+            AircraftSnapshot snapshot = AircraftSnapshot.builder()
+                    .timestamp(TIMESTAMP)
+                    .value(SensorChannel.ENGINE_RPM, 2200.0)
+                    .value(SensorChannel.ALTITUDE.index(), 35000.0)
+                    .anomalyMask(AircraftData.ENGINE_ANOMALY | AircraftData.AIRSPEED_ANOMALY)
+                    .quality(SensorChannel.AIRSPEED, SensorQuality.INTERPOLATED)
+                    .aircraftType(3)
+                    .build();
+
+            assertEquals(TIMESTAMP, snapshot.getTimestamp());
+            assertEquals(AircraftData.toLocalTimeNanos(TIMESTAMP), snapshot.getLocalTimeNanos());
+            assertEquals(2200.0, snapshot.getEngineRPM());
+            assertEquals(35000.0, snapshot.getValue(SensorChannel.ALTITUDE));
+            assertTrue(snapshot.isEngineAnomaly());
+            assertTrue(snapshot.isAirspeedAnomaly());
+            assertFalse(snapshot.isFuelAnomaly());
+            assertEquals(SensorQuality.INTERPOLATED, snapshot.getQuality(SensorChannel.AIRSPEED));
+            assertEquals(SensorQuality.VALID, snapshot.getQuality(SensorChannel.ALTITUDE));
+            assertEquals(3, snapshot.getAircraftType());
+            assertEquals("WARNING", snapshot.getSystemStatus());
+        }
+
+        @Test
+        @DisplayName("Should leave built snapshots unchanged when the builder is reused")
+        void shouldLeaveBuiltSnapshotsUnchangedWhenTheBuilderIsReused() {
+            AircraftSnapshot.Builder builder = AircraftSnapshot.builder().value(SensorChannel.FUEL_LEVEL, 75.0);
+            AircraftSnapshot first = builder.build();
+
+            AircraftSnapshot second = builder.value(SensorChannel.FUEL_LEVEL, 15.0).anomalyMask(1).build();
+
+            assertEquals(75.0, first.getFuelLevel());
+            assertFalse(first.hasAnyAnomaly());
+            assertEquals(15.0, second.getFuelLevel());
+            assertNotEquals(first, second);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sample Conversion Tests")
+    class SampleConversionTests {
+
+        @Test
+        @DisplayName("Should copy a sample and not follow later changes to it")
+        void shouldCopyASampleAndNotFollowLaterChangesToIt() {
+            AircraftData data = sample();
+            AircraftSnapshot snapshot = AircraftSnapshot.of(data);
+
+            data.setEngineRPM(9999.0);
+            data.setAnomalyMask(0);
+            data.setTimestamp(null);
+            data.setSensorQuality(SensorQuality.ALL_VALID);
+
+            assertEquals(TIMESTAMP, snapshot.getTimestamp());
+            assertTrue(snapshot.isFuelAnomaly());
+            assertEquals(SensorQuality.STALE, snapshot.getQuality(SensorChannel.OIL_PRESSURE));
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertEquals(channel.index() + 0.5, snapshot.getValue(channel), channel.name());
+            }
+        }
+
+        @Test
+        @DisplayName("Should convert back to an equal mutable sample")
+        void shouldConvertBackToAnEqualMutableSample() {
+            AircraftData data = sample();
+            AircraftSnapshot snapshot = AircraftSnapshot.of(data);
+
+            AircraftData copy = snapshot.toAircraftData();
+
+            assertNotSame(data, copy);
+            assertEquals(data.getLocalTimeNanos(), copy.getLocalTimeNanos());
+            assertEquals(data.getAnomalyMask(), copy.getAnomalyMask());
+            assertEquals(data.getSensorQuality(), copy.getSensorQuality());
+            assertEquals(1, copy.getAircraftType());
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertEquals(data.getValue(channel), copy.getValue(channel), channel.name());
+            }
+            assertEquals(snapshot, AircraftSnapshot.of(copy));
+            assertEquals(snapshot.hashCode(), AircraftSnapshot.of(copy).hashCode());
+        }
+
+        @Test
+        @DisplayName("Should serialize to the same JSON as the sample")
+        void shouldSerializeToTheSameJsonAsTheSample() throws Exception {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            AircraftData data = sample();
+
+            assertEquals(objectMapper.writeValueAsString(data),
+                    objectMapper.writeValueAsString(AircraftSnapshot.of(data)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should always show readers a whole snapshot")
+        void shouldAlwaysShowReadersAWholeSnapshot() throws Exception {
+            AtomicReference<AircraftSnapshot> current = new AtomicReference<>(AircraftSnapshot.builder().build());
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicReference<String> torn = new AtomicReference<>();
+
+            Runnable reader = () -> {
+                while (!done.get() && torn.get() == null) {
+                    AircraftSnapshot snapshot = current.get();
+                    double expected = snapshot.getAnomalyMask();
+                    for (SensorChannel channel : SensorChannel.values()) {
+                        if (snapshot.getValue(channel) != expected) {
+                            torn.set(channel + " = " + snapshot.getValue(channel) + " in snapshot " + expected);
+                        }
+                    }
+                }
+            };
+            Thread[] readers = {new Thread(reader), new Thread(reader)};
+            for (Thread thread : readers) {
+                thread.start();
+            }
+
+            AircraftSnapshot.Builder builder = AircraftSnapshot.builder();
+            for (int value = 1; value <= 200_000 && torn.get() == null; value++) {
+                for (int c = 0; c < SensorChannel.COUNT; c++) {
+                    builder.value(c, value);
+                }
+                current.set(builder.anomalyMask(value).build());
+            }
+            done.set(true);
+            for (Thread thread : readers) {
+                thread.join();
+            }
+
+            assertNull(torn.get());
+        }
+    }
+}
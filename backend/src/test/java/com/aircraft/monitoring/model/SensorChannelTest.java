@@ -0,0 +1,88 @@
+package com.aircraft.monitoring.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SensorChannel registry.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("SensorChannel Tests")
+class SensorChannelTest {
+
+    @Test
+    @DisplayName("Should number the channels from 0 without gaps")
+    void shouldNumberTheChannelsFrom0WithoutGaps() {
+        SensorChannel[] channels = SensorChannel.values();
+
+        assertEquals(20, SensorChannel.COUNT);
+        for (int index = 0; index < channels.length; index++) {
+            assertEquals(index, channels[index].index());
+            assertSame(channels[index], SensorChannel.of(index));
+        }
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> SensorChannel.of(SensorChannel.COUNT));
+    }
+
+    @Test
+    @DisplayName("Should fit every channel in a 32-bit channel set")
+    void shouldFitEveryChannelInA32BitChannelSet() {
+        assertEquals(32, SensorChannel.MAX_COUNT);
+        assertTrue(SensorChannel.COUNT <= SensorChannel.MAX_COUNT);
+        assertDoesNotThrow(() -> SensorChannel.requireCapacity(Integer.SIZE, SensorChannelTest.class));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> SensorChannel.requireCapacity(SensorChannel.COUNT - 1, SensorChannelTest.class));
+        assertTrue(e.getMessage().contains("SensorChannelTest"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should describe every channel")
+    void shouldDescribeEveryChannel() {
+        Set<String> propertyNames = new HashSet<>();
+        for (SensorChannel channel : SensorChannel.values()) {
+            assertTrue(propertyNames.add(channel.getPropertyName()), channel.name());
+            assertFalse(channel.getLabel().isEmpty(), channel.name());
+            assertFalse(channel.getUnit().isEmpty(), channel.name());
+            assertNotNull(channel.getSystem(), channel.name());
+            assertTrue(channel.getDecimals() >= 0, channel.name());
+            assertEquals(Math.pow(10, channel.getDecimals()), channel.getScale(), channel.name());
+        }
+        assertEquals("PSI", SensorChannel.OIL_PRESSURE.getUnit());
+        assertEquals(SensorSystem.HYDRAULIC, SensorChannel.HYDRAULIC_FLUID_LEVEL.getSystem());
+        assertEquals(3, SensorChannel.MACH_NUMBER.getDecimals());
+    }
+
+    @Test
+    @DisplayName("Should check only channels with a finite limit")
+    void shouldCheckOnlyChannelsWithAFiniteLimit() {
+        for (SensorChannel channel : SensorChannel.values()) {
+            boolean limited = !Double.isInfinite(channel.getMin()) || !Double.isInfinite(channel.getMax());
+            assertEquals(limited, channel.isChecked(), channel.name());
+            assertTrue(channel.getMin() < channel.getMax(), channel.name());
+        }
+
+        assertEquals(-5000.0, SensorChannel.VERTICAL_SPEED.getMin());
+        assertEquals(5000.0, SensorChannel.VERTICAL_SPEED.getMax());
+        assertEquals(AircraftData.AIRSPEED_ANOMALY, SensorChannel.MACH_NUMBER.getAnomalyBit());
+        assertFalse(SensorChannel.GROUND_SPEED.isChecked());
+    }
+
+    @Test
+    @DisplayName("Should give checked channels a hysteresis inside half their range")
+    void shouldGiveCheckedChannelsAHysteresisInsideHalfTheirRange() {
+        for (SensorChannel channel : SensorChannel.values()) {
+            assertEquals(channel.isChecked(), channel.getHysteresis() > 0, channel.name());
+            assertTrue(2 * channel.getHysteresis() <= channel.getMax() - channel.getMin(), channel.name());
+        }
+
+        assertEquals(1.0, SensorChannel.FUEL_LEVEL.getHysteresis());
+        assertEquals(5.0, SensorChannel.ENGINE_TEMPERATURE.getHysteresis());
+    }
+}
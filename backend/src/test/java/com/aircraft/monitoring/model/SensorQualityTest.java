@@ -0,0 +1,78 @@
+package com.aircraft.monitoring.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SensorQuality and its packed form.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("SensorQuality Tests")
+class SensorQualityTest {
+
+    @Test
+    @DisplayName("Should read every channel as valid in an all-valid quality")
+    void shouldReadEveryChannelAsValidInAnAllValidQuality() {
+        for (SensorChannel channel : SensorChannel.values()) {
+            assertEquals(SensorQuality.VALID, SensorQuality.of(SensorQuality.ALL_VALID, channel.index()));
+        }
+        assertEquals(0, SensorQuality.unusableChannels(SensorQuality.ALL_VALID));
+    }
+
+    @Test
+    @DisplayName("Should set one channel without touching the others")
+    void shouldSetOneChannelWithoutTouchingTheOthers() {
+        for (SensorChannel channel : SensorChannel.values()) {
+            for (SensorQuality quality : SensorQuality.values()) {
+                long packed = SensorQuality.with(SensorQuality.ALL_VALID, channel.index(), SensorQuality.FAILED);
+                packed = SensorQuality.with(packed, channel.index(), quality);
+
+                for (SensorChannel other : SensorChannel.values()) {
+                    assertEquals(other == channel ? quality : SensorQuality.VALID,
+                            SensorQuality.of(packed, other.index()), channel + " " + quality + " " + other);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should list stale and failed channels as unusable")
+    void shouldListStaleAndFailedChannelsAsUnusable() {
+        long packed = SensorQuality.ALL_VALID;
+        packed = SensorQuality.with(packed, SensorChannel.ENGINE_RPM.index(), SensorQuality.STALE);
+        packed = SensorQuality.with(packed, SensorChannel.FUEL_LEVEL.index(), SensorQuality.INTERPOLATED);
+        packed = SensorQuality.with(packed, SensorChannel.GENERATOR_OUTPUT.index(), SensorQuality.FAILED);
+
+        assertEquals(1 << SensorChannel.ENGINE_RPM.index() | 1 << SensorChannel.GENERATOR_OUTPUT.index(),
+                SensorQuality.unusableChannels(packed));
+        assertFalse(SensorQuality.STALE.isUsable());
+        assertFalse(SensorQuality.FAILED.isUsable());
+        assertTrue(SensorQuality.INTERPOLATED.isUsable());
+        assertTrue(SensorQuality.VALID.isUsable());
+    }
+
+    @Test
+    @DisplayName("Should pack every channel index up to the 32-channel ceiling")
+    void shouldPackEveryChannelIndexUpToThe32ChannelCeiling() {
+        assertTrue(SensorChannel.COUNT <= SensorChannel.MAX_COUNT);
+
+        // Indices past the registry's own, up to the most channels there can be
+        for (int index = 0; index < SensorChannel.MAX_COUNT; index++) {
+            for (SensorQuality quality : SensorQuality.values()) {
+                long packed = SensorQuality.with(-1L, index, quality);
+
+                assertEquals(quality, SensorQuality.of(packed, index), index + " " + quality);
+                assertEquals(!quality.isUsable(), (SensorQuality.unusableChannels(packed) & 1 << index) != 0);
+                for (int other = 0; other < SensorChannel.MAX_COUNT; other++) {
+                    if (other != index) {
+                        assertEquals(SensorQuality.FAILED, SensorQuality.of(packed, other), index + " " + other);
+                    }
+                }
+            }
+        }
+    }
+}
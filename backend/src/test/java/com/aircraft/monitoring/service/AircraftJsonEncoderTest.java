@@ -0,0 +1,128 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the hand-written aircraft_data message encoder.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("AircraftJsonEncoder Tests")
+class AircraftJsonEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AircraftJsonEncoder encoder = new AircraftJsonEncoder();
+
+    /**
+     * Gets the message as the object mapper writes it
+     */
+    private String jacksonMessage(AircraftData data) throws Exception {
+        return "{\"type\":\"aircraft_data\",\"data\":" + objectMapper.writeValueAsString(data) + "}";
+    }
+
+    private void assertSameAsJackson(AircraftData data) throws Exception {
+        int length = encoder.encodeMessage(data);
+
+        String expected = jacksonMessage(data);
+        assertEquals(expected, encoder.toString());
+        assertEquals(expected.length(), length);
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), Arrays.copyOf(encoder.getBuffer(), length));
+    }
+
+    @Nested
+    @DisplayName("Format Tests")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Should write the same message as the object mapper")
+        void shouldWriteTheSameMessageAsTheObjectMapper() throws Exception {
+            Random random = new Random(17);
+            AircraftData data = new AircraftData();
+            for (int i = 0; i < 2000; i++) {
+                data.setLocalTimeNanos(1_700_000_000_000_000_000L + random.nextLong() % 100_000_000_000_000_000L);
+                for (SensorChannel channel : SensorChannel.values()) {
+                    double value = random.nextGaussian() * Math.pow(10, random.nextInt(12) - 4);
+                    data.setValue(channel, random.nextInt(4) == 0 ? Math.rint(value) : value);
+                }
+                data.setAnomalyMask(random.nextInt(32));
+
+                assertSameAsJackson(data);
+            }
+        }
+
+        @Test
+        @DisplayName("Should write edge values as the object mapper does")
+        void shouldWriteEdgeValuesAsTheObjectMapperDoes() throws Exception {
+            double[] edges = {
+                    0.0, -0.0, 1.0, -1.0, 2200.0, 9_999_999.0, 1e7, -1e7, 1e-3, 9.99e-4, 1e21, 123456789012.0,
+                    Double.MIN_VALUE, Double.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE,
+                    Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+            };
+            AircraftData data = new AircraftData(LocalDateTime.of(2024, 3, 1, 12, 30, 45, 999_999_999));
+            for (int i = 0; i < edges.length; i++) {
+                for (SensorChannel channel : SensorChannel.values()) {
+                    data.setValue(channel, edges[(i + channel.index()) % edges.length]);
+                }
+
+                assertSameAsJackson(data);
+            }
+        }
+
+        @Test
+        @DisplayName("Should write absent timestamps and absent data as null")
+        void shouldWriteAbsentTimestampsAndAbsentDataAsNull() throws Exception {
+            AircraftData data = new AircraftData();
+            data.setEngineRPM(2200.0);
+            assertSameAsJackson(data);
+
+            encoder.encodeMessage(null);
+            assertEquals("{\"type\":\"aircraft_data\",\"data\":null}", encoder.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Reuse Tests")
+    class ReuseTests {
+
+        @Test
+        @DisplayName("Should format the timestamp again when the second changes")
+        void shouldFormatTheTimestampAgainWhenTheSecondChanges() throws Exception {
+            LocalDateTime start = LocalDateTime.of(1969, 12, 31, 23, 59, 58);
+            AircraftData data = new AircraftData();
+            for (int step = 0; step < 12; step++) {
+                data.setTimestamp(start.plusNanos(step * 400_000_000L));
+
+                assertSameAsJackson(data);
+            }
+        }
+
+        @Test
+        @DisplayName("Should replace the previous message in the buffer")
+        void shouldReplaceThePreviousMessageInTheBuffer() throws Exception {
+            AircraftData longer = new AircraftData(LocalDateTime.of(2024, 3, 1, 12, 30, 45));
+            for (SensorChannel channel : SensorChannel.values()) {
+                longer.setValue(channel, Math.PI * (channel.index() + 1));
+            }
+            AircraftData shorter = new AircraftData(LocalDateTime.of(2024, 3, 1, 12, 30, 45));
+
+            int longLength = encoder.encodeMessage(longer);
+            int shortLength = encoder.encodeMessage(shorter);
+
+            assertTrue(shortLength < longLength);
+            assertEquals(jacksonMessage(shorter), encoder.toString());
+        }
+    }
+}
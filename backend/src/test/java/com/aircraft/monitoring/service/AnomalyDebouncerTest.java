@@ -0,0 +1,142 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnomalyDebouncer.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("Anomaly Debouncer Tests")
+class AnomalyDebouncerTest {
+
+    private static final int RPM = 1 << SensorChannel.ENGINE_RPM.index();
+    private static final int FUEL = 1 << SensorChannel.FUEL_LEVEL.index();
+
+    @Test
+    @DisplayName("Should raise an alert after N of the last M readings out of range")
+    void shouldRaiseAnAlertAfterNOfTheLastMReadingsOutOfRange() {
+        AnomalyDebouncer debouncer = new AnomalyDebouncer(3, 5);
+
+        assertEquals(0, debouncer.update(0, FUEL, 0, 0));
+        assertEquals(0, debouncer.update(0, 0, 0, 0));
+        assertEquals(0, debouncer.update(0, FUEL, 0, 0));
+        assertEquals(FUEL, debouncer.update(0, FUEL, 0, 0));
+        assertEquals(FUEL, debouncer.raised(0));
+    }
+
+    @Test
+    @DisplayName("Should forget readings that left the window")
+    void shouldForgetReadingsThatLeftTheWindow() {
+        AnomalyDebouncer debouncer = new AnomalyDebouncer(2, 3);
+
+        assertEquals(0, debouncer.update(0, FUEL, 0, 0));
+        assertTrue(debouncer.isPending(0));
+        debouncer.update(0, 0, 0, 0);
+        debouncer.update(0, 0, 0, 0);
+        assertEquals(0, debouncer.update(0, FUEL, 0, 0));
+        debouncer.update(0, 0, 0, 0);
+        debouncer.update(0, 0, 0, 0);
+        debouncer.update(0, 0, 0, 0);
+        assertFalse(debouncer.isPending(0));
+    }
+
+    @Test
+    @DisplayName("Should hold a raised alert until readings are back inside the clear range")
+    void shouldHoldARaisedAlertUntilReadingsAreBackInsideTheClearRange() {
+        AnomalyDebouncer debouncer = new AnomalyDebouncer(1, 1);
+        assertEquals(FUEL, debouncer.update(0, FUEL, FUEL, 0));
+
+        // Back in range but within the hysteresis, then flapping across the limit
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FUEL, debouncer.update(0, (i & 1) != 0 ? FUEL : 0, FUEL, 0));
+        }
+
+        assertEquals(0, debouncer.update(0, 0, 0, 0));
+        assertFalse(debouncer.isPending(0));
+    }
+
+    @Test
+    @DisplayName("Should clear an alert after N of the last M readings inside the clear range")
+    void shouldClearAnAlertAfterNOfTheLastMReadingsInsideTheClearRange() {
+        AnomalyDebouncer debouncer = new AnomalyDebouncer(2, 3);
+        debouncer.update(0, RPM, RPM, 0);
+        assertEquals(RPM, debouncer.update(0, RPM, RPM, 0));
+
+        assertEquals(RPM, debouncer.update(0, 0, 0, 0));
+        assertEquals(RPM, debouncer.update(0, 0, RPM, 0));
+        assertEquals(0, debouncer.update(0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should raise once and clear once through a sustained excursion")
+    void shouldRaiseOnceAndClearOnceThroughASustainedExcursion() {
+        assertEquals("00011111110000", excursion(new AnomalyDebouncer(1, 3)));
+        assertEquals("00001111111000", excursion(new AnomalyDebouncer(2, 5)));
+        assertEquals("00000111111100", excursion(new AnomalyDebouncer(3, 8)));
+    }
+
+    /**
+     * Feeds three readings in range, seven out of range and four back in,
+     * and returns whether the alert was raised after each
+     */
+    private static String excursion(AnomalyDebouncer debouncer) {
+        StringBuilder raised = new StringBuilder();
+        for (int i = 0; i < 14; i++) {
+            int out = i >= 3 && i < 10 ? RPM : 0;
+            raised.append(debouncer.update(0, out, out, 0) != 0 ? '1' : '0');
+        }
+        return raised.toString();
+    }
+
+    @Test
+    @DisplayName("Should keep the state of unusable readings and not report them")
+    void shouldKeepTheStateOfUnusableReadingsAndNotReportThem() {
+        AnomalyDebouncer debouncer = new AnomalyDebouncer(1, 1);
+        debouncer.update(0, RPM | FUEL, RPM | FUEL, 0);
+
+        assertEquals(RPM, debouncer.update(0, RPM, RPM, FUEL));
+        assertEquals(FUEL, debouncer.raised(0) & FUEL);
+        assertEquals(FUEL, debouncer.update(0, 0, FUEL, 0));
+    }
+
+    @Test
+    @DisplayName("Should keep the sources apart")
+    void shouldKeepTheSourcesApart() {
+        AnomalyDebouncer debouncer = new AnomalyDebouncer(2, 2);
+        debouncer.update(0, RPM, 0, 0);
+
+        assertEquals(0, debouncer.update(5000, RPM, 0, 0));
+        assertEquals(RPM, debouncer.update(0, RPM, 0, 0));
+        assertEquals(0, debouncer.raised(5000));
+        assertEquals(0, debouncer.raised(100_000));
+        assertFalse(debouncer.isPending(100_000));
+    }
+
+    @Test
+    @DisplayName("Should find the sources that are out of range or pending")
+    void shouldFindTheSourcesThatAreOutOfRangeOrPending() {
+        AnomalyDebouncer debouncer = new AnomalyDebouncer(2, 2);
+        debouncer.update(1, RPM, 0, 0);
+        int[] outOfRange = {0, 0, 0, 0, FUEL, 0};
+
+        assertEquals(1, debouncer.nextToUpdate(outOfRange, 0, 6));
+        assertEquals(4, debouncer.nextToUpdate(outOfRange, 2, 6));
+        assertEquals(6, debouncer.nextToUpdate(outOfRange, 5, 6));
+        assertEquals(3, debouncer.nextToUpdate(outOfRange, 3, 3));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid window or source")
+    void shouldRejectAnInvalidWindowOrSource() {
+        assertThrows(IllegalArgumentException.class, () -> new AnomalyDebouncer(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AnomalyDebouncer(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> new AnomalyDebouncer(1, AnomalyDebouncer.MAX_WINDOW + 1));
+        assertThrows(IllegalArgumentException.class, () -> new AnomalyDebouncer(1, 1).update(-1, RPM, 0, 0));
+    }
+}
@@ -1,15 +1,24 @@
 package com.aircraft.monitoring.service;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.model.SensorQuality;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDateTime;
+import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -136,7 +145,7 @@ class AnomalyDetectionServiceTest {
         @DisplayName("Should handle null input gracefully")
         void shouldHandleNullInputGracefully() {
             assertThrows(NullPointerException.class, () -> {
-                anomalyDetectionService.detectAnomalies(null);
+                anomalyDetectionService.detectAnomalies((AircraftData) null);
             });
         }
 
@@ -148,6 +157,24 @@ class AnomalyDetectionServiceTest {
             
             assertEquals(originalTimestamp, result.getTimestamp());
         }
+
+        @Test
+        @DisplayName("Should flag every sample of an excursion but summarize the repeats")
+        void shouldFlagEverySampleOfAnExcursionButSummarizeTheRepeats() {
+            anomalyDetectionService.logAnomalySummary();
+            anomalyDetectionService.detectAnomalies(createAnomalousAircraftData(), 3);
+            AnomalyLogLimiter.Summary first = anomalyDetectionService.logAnomalySummary();
+            AircraftData repeat = anomalyDetectionService.detectAnomalies(createAnomalousAircraftData(), 3);
+            anomalyDetectionService.detectAnomalies(createAnomalousAircraftData(), 4);
+            AnomalyLogLimiter.Summary second = anomalyDetectionService.logAnomalySummary();
+
+            assertTrue(first.totalStarted() > 0);
+            assertEquals(0, first.totalRepeated());
+            assertEquals("WARNING", repeat.getSystemStatus());
+            assertEquals(first.totalStarted(), second.totalRepeated());
+            assertEquals(first.totalStarted(), second.totalStarted());
+            assertTrue(anomalyDetectionService.logAnomalySummary().isEmpty());
+        }
     }
 
     @Nested
@@ -541,4 +568,672 @@ class AnomalyDetectionServiceTest {
             assertTrue(result.isAltitudeAnomaly());
         }
     }
+
+    @Nested
+    @DisplayName("Batch Detection Tests")
+    class BatchDetectionTests {
+
+        /**
+         * Values at, around and beyond every threshold
+         */
+        private final double[] edgeValues = {
+            Double.NEGATIVE_INFINITY, -6000.0, -5000.0, -4999.0, 0.0, 0.9, 0.91, 10.0, 20.0, 50.0, 80.0,
+            100.0, 120.0, 200.0, 500.0, 600.0, 1000.0, 2000.0, 3000.0, 3500.0, 5001.0, 45000.0, 45001.0,
+            Double.POSITIVE_INFINITY, Double.NaN
+        };
+
+        @Test
+        @DisplayName("Should flag the same systems as per-sample detection")
+        void shouldFlagTheSameSystemsAsPerSampleDetection() {
+            SensorChannel[] channels = SensorChannel.values();
+            AircraftDataBatch batch = new AircraftDataBatch(2 + channels.length * edgeValues.length);
+            batch.add(normalData);
+            batch.add(anomalousData);
+            for (SensorChannel channel : channels) {
+                for (double value : edgeValues) {
+                    AircraftData sample = createNormalAircraftData();
+                    sample.setValue(channel, value);
+                    batch.add(sample);
+                }
+            }
+
+            int anomalous = anomalyDetectionService.detectAnomalies(batch);
+
+            int expectedAnomalous = 0;
+            for (int row = 0; row < batch.getSize(); row++) {
+                AircraftData expected = anomalyDetectionService.detectAnomalies(batch.get(row));
+                assertEquals(expected.getAnomalyMask(), batch.getAnomalyMasks()[row], "row " + row);
+                if (expected.hasAnyAnomaly()) {
+                    expectedAnomalous++;
+                }
+            }
+            assertEquals(0, batch.getAnomalyMasks()[0]);
+            assertEquals(0b11111, batch.getAnomalyMasks()[1]);
+            assertEquals(expectedAnomalous, anomalous);
+        }
+
+        @Test
+        @DisplayName("Should flag the same samples with and without the Vector API")
+        void shouldFlagTheSameSamplesWithAndWithoutTheVectorApi() {
+            AircraftDataBatch batch = new AircraftDataBatch(SensorChannel.COUNT * edgeValues.length);
+            for (SensorChannel channel : SensorChannel.values()) {
+                for (double value : edgeValues) {
+                    AircraftData sample = createNormalAircraftData();
+                    sample.setValue(channel, value);
+                    batch.add(sample);
+                }
+            }
+
+            assertFalse(anomalyDetectionService.setBatchVector(false));
+            int scalarAnomalous = anomalyDetectionService.detectAnomalies(batch);
+            int[] scalarMasks = batch.getAnomalyMasks().clone();
+            anomalyDetectionService.setBatchVector(true);
+            int vectorAnomalous = anomalyDetectionService.detectAnomalies(batch);
+
+            assertEquals(scalarAnomalous, vectorAnomalous);
+            assertArrayEquals(scalarMasks, batch.getAnomalyMasks());
+        }
+
+        @Test
+        @DisplayName("Should analyze ranges longer than one block")
+        void shouldAnalyzeRangesLongerThanOneBlock() {
+            AircraftDataBatch batch = new AircraftDataBatch(1500);
+            for (int row = 0; row < 1500; row++) {
+                batch.add(row % 7 == 0 ? anomalousData : normalData);
+            }
+            int[] masks = batch.getAnomalyMasks();
+            masks[0] = -1;
+            masks[1499] = -1;
+
+            int anomalous = anomalyDetectionService.detectAnomalies(batch, 1, 1499);
+
+            for (int row = 1; row < 1499; row++) {
+                assertEquals(row % 7 == 0 ? 0b11111 : 0, masks[row], "row " + row);
+            }
+            assertEquals(-1, masks[0]);
+            assertEquals(-1, masks[1499]);
+            assertEquals(214, anomalous);
+        }
+
+        @Test
+        @DisplayName("Should only analyze the requested range")
+        void shouldOnlyAnalyzeTheRequestedRange() {
+            AircraftDataBatch batch = new AircraftDataBatch(4);
+            for (int i = 0; i < 4; i++) {
+                batch.add(anomalousData);
+            }
+
+            assertEquals(2, anomalyDetectionService.detectAnomalies(batch, 1, 3));
+
+            assertArrayEquals(new int[] {0, 0b11111, 0b11111, 0}, batch.getAnomalyMasks());
+        }
+
+        @Test
+        @DisplayName("Should clear flags of samples that recovered")
+        void shouldClearFlagsOfSamplesThatRecovered() {
+            AircraftDataBatch batch = new AircraftDataBatch(1);
+            batch.add(anomalousData);
+            anomalyDetectionService.detectAnomalies(batch);
+
+            for (SensorChannel channel : SensorChannel.values()) {
+                batch.getChannel(channel)[0] = normalData.getValue(channel);
+            }
+
+            assertEquals(0, anomalyDetectionService.detectAnomalies(batch));
+            assertFalse(batch.get(0).hasAnyAnomaly());
+        }
+
+        @Test
+        @DisplayName("Should reject a range outside the batch")
+        void shouldRejectARangeOutsideTheBatch() {
+            AircraftDataBatch batch = new AircraftDataBatch(4);
+            batch.add(normalData);
+
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> anomalyDetectionService.detectAnomalies(batch, 0, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Channel Registry Tests")
+    class ChannelRegistryTests {
+
+        @Test
+        @DisplayName("Should flag each checked channel just outside its range")
+        void shouldFlagEachCheckedChannelJustOutsideItsRange() {
+            for (SensorChannel channel : SensorChannel.values()) {
+                for (double limit : new double[] {channel.getMin(), channel.getMax()}) {
+                    if (Double.isInfinite(limit)) {
+                        continue;
+                    }
+                    double outside = limit == channel.getMin() ? Math.nextDown(limit) : Math.nextUp(limit);
+                    AircraftData sample = createNormalAircraftData();
+
+                    sample.setValue(channel, limit);
+                    assertEquals(0, anomalyDetectionService.detectAnomalies(sample).getAnomalyMask(),
+                            channel + " at " + limit);
+
+                    sample.setValue(channel, outside);
+                    assertEquals(channel.getAnomalyBit(), anomalyDetectionService.detectAnomalies(sample).getAnomalyMask(),
+                            channel + " at " + outside);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should ignore channels without limits")
+        void shouldIgnoreChannelsWithoutLimits() {
+            AircraftData sample = createNormalAircraftData();
+            for (SensorChannel channel : SensorChannel.values()) {
+                if (!channel.isChecked()) {
+                    sample.setValue(channel, -1e9);
+                }
+            }
+
+            assertFalse(anomalyDetectionService.detectAnomalies(sample).hasAnyAnomaly());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sensor Quality Tests")
+    class SensorQualityTests {
+
+        @Test
+        @DisplayName("Should ignore out-of-range readings of stale or failed sensors")
+        void shouldIgnoreOutOfRangeReadingsOfStaleOrFailedSensors() {
+            AircraftData sample = createNormalAircraftData();
+            sample.setEngineRPM(0.0);
+            sample.setFuelLevel(0.0);
+            sample.setQuality(SensorChannel.ENGINE_RPM, SensorQuality.FAILED);
+            sample.setQuality(SensorChannel.FUEL_LEVEL, SensorQuality.STALE);
+
+            AircraftData result = anomalyDetectionService.detectAnomalies(sample);
+
+            assertFalse(result.hasAnyAnomaly());
+            assertEquals(SensorQuality.FAILED, result.getQuality(SensorChannel.ENGINE_RPM));
+        }
+
+        @Test
+        @DisplayName("Should check interpolated readings like valid ones")
+        void shouldCheckInterpolatedReadingsLikeValidOnes() {
+            AircraftData sample = createNormalAircraftData();
+            sample.setEngineRPM(0.0);
+            sample.setQuality(SensorChannel.ENGINE_RPM, SensorQuality.INTERPOLATED);
+
+            assertEquals(AircraftData.ENGINE_ANOMALY, anomalyDetectionService.detectAnomalies(sample).getAnomalyMask());
+        }
+
+        @Test
+        @DisplayName("Should still flag a system from its other valid sensors")
+        void shouldStillFlagASystemFromItsOtherValidSensors() {
+            AircraftData sample = createNormalAircraftData();
+            sample.setEngineRPM(0.0);
+            sample.setQuality(SensorChannel.ENGINE_RPM, SensorQuality.FAILED);
+            sample.setEngineTemperature(250.0);
+
+            assertEquals(AircraftData.ENGINE_ANOMALY, anomalyDetectionService.detectAnomalies(sample).getAnomalyMask());
+        }
+
+        @Test
+        @DisplayName("Should ignore unusable readings in batches as per sample")
+        void shouldIgnoreUnusableReadingsInBatchesAsPerSample() {
+            SensorChannel[] channels = SensorChannel.values();
+            AircraftDataBatch batch = new AircraftDataBatch(channels.length * SensorQuality.values().length);
+            for (SensorChannel channel : channels) {
+                for (SensorQuality quality : SensorQuality.values()) {
+                    AircraftData sample = createAnomalousAircraftData();
+                    sample.setQuality(channel, quality);
+                    batch.add(sample);
+                }
+            }
+
+            anomalyDetectionService.detectAnomalies(batch);
+
+            for (int row = 0; row < batch.getSize(); row++) {
+                AircraftData expected = anomalyDetectionService.detectAnomalies(batch.get(row));
+                assertEquals(expected.getAnomalyMask(), batch.getAnomalyMasks()[row], "row " + row);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Threshold Profile Tests")
+    class ThresholdProfileTests {
+
+        @TempDir
+        Path profilesDirectory;
+
+        private ThresholdProfiles profiles(String... entries) {
+            Properties properties = new Properties();
+            properties.setProperty("types", "A320,B737");
+            for (int i = 0; i < entries.length; i += 2) {
+                properties.setProperty(entries[i], entries[i + 1]);
+            }
+            return ThresholdProfiles.fromProperties(properties);
+        }
+
+        @Test
+        @DisplayName("Should apply the limits of the sample's aircraft type")
+        void shouldApplyTheLimitsOfTheSamplesAircraftType() {
+            anomalyDetectionService.setThresholdProfiles(profiles("A320.engineRPM.max", "2100"));
+            AircraftData sample = createNormalAircraftData();
+
+            sample.setAircraftType(1);
+            assertEquals(AircraftData.ENGINE_ANOMALY, anomalyDetectionService.detectAnomalies(sample).getAnomalyMask());
+
+            sample.setAircraftType(2);
+            assertFalse(anomalyDetectionService.detectAnomalies(sample).hasAnyAnomaly());
+        }
+
+        @Test
+        @DisplayName("Should use the default type's limits for an unknown type")
+        void shouldUseTheDefaultTypesLimitsForAnUnknownType() {
+            anomalyDetectionService.setThresholdProfiles(profiles("DEFAULT.engineRPM.max", "2100"));
+            AircraftData sample = createNormalAircraftData();
+            sample.setAircraftType(7);
+
+            assertEquals(AircraftData.ENGINE_ANOMALY, anomalyDetectionService.detectAnomalies(sample).getAnomalyMask());
+        }
+
+        @Test
+        @DisplayName("Should flag mixed-type batches as per sample")
+        void shouldFlagMixedTypeBatchesAsPerSample() {
+            anomalyDetectionService.setThresholdProfiles(profiles(
+                    "A320.engineRPM.max", "2100", "B737.fuelLevel.min", "80", "B737.altitude.max", "none"));
+            AircraftDataBatch batch = new AircraftDataBatch(1500);
+            for (int row = 0; row < 1500; row++) {
+                AircraftData sample = createNormalAircraftData();
+                sample.setAltitude(row % 5 == 0 ? 50000.0 : 35000.0);
+                // First block mixed, second all B737, third all A320
+                sample.setAircraftType(row < 512 ? row % 3 : row < 1024 ? 2 : 1);
+                batch.add(sample);
+            }
+
+            int anomalous = anomalyDetectionService.detectAnomalies(batch);
+
+            int expectedAnomalous = 0;
+            for (int row = 0; row < batch.getSize(); row++) {
+                AircraftData expected = anomalyDetectionService.detectAnomalies(batch.get(row));
+                assertEquals(expected.getAnomalyMask(), batch.getAnomalyMasks()[row], "row " + row);
+                expectedAnomalous += expected.hasAnyAnomaly() ? 1 : 0;
+            }
+            assertEquals(expectedAnomalous, anomalous);
+            assertEquals(AircraftData.FUEL_ANOMALY, batch.getAnomalyMasks()[1000]);
+            assertEquals(AircraftData.ENGINE_ANOMALY | AircraftData.ALTITUDE_ANOMALY, batch.getAnomalyMasks()[1500 - 5]);
+        }
+
+        @Test
+        @DisplayName("Should raise the anomaly bit the type's profile gives a channel")
+        void shouldRaiseTheAnomalyBitTheTypesProfileGivesAChannel() {
+            anomalyDetectionService.setThresholdProfiles(profiles("B737.verticalSpeed.system", "airspeed"));
+            AircraftDataBatch batch = new AircraftDataBatch(4);
+            for (int type = 0; type < 3; type++) {
+                AircraftData sample = createNormalAircraftData();
+                sample.setVerticalSpeed(6000.0);
+                sample.setAircraftType(type);
+                batch.add(sample);
+
+                int expected = type == 2 ? AircraftData.AIRSPEED_ANOMALY : AircraftData.ALTITUDE_ANOMALY;
+                assertEquals(expected, anomalyDetectionService.detectAnomalies(sample).getAnomalyMask());
+            }
+
+            anomalyDetectionService.detectAnomalies(batch);
+
+            assertEquals(AircraftData.ALTITUDE_ANOMALY, batch.getAnomalyMasks()[1]);
+            assertEquals(AircraftData.AIRSPEED_ANOMALY, batch.getAnomalyMasks()[2]);
+        }
+
+        @Test
+        @DisplayName("Should apply swapped profiles from the next call")
+        void shouldApplySwappedProfilesFromTheNextCall() {
+            AircraftData sample = createNormalAircraftData();
+            sample.setAircraftType(1);
+            anomalyDetectionService.setThresholdProfiles(profiles());
+            assertFalse(anomalyDetectionService.detectAnomalies(sample).hasAnyAnomaly());
+
+            anomalyDetectionService.setThresholdProfiles(profiles("A320.hydraulicPressure.min", "2900"));
+
+            assertEquals(AircraftData.HYDRAULIC_ANOMALY, anomalyDetectionService.detectAnomalies(sample).getAnomalyMask());
+        }
+
+        @Test
+        @DisplayName("Should reject profiles that renumber the aircraft types")
+        void shouldRejectProfilesThatRenumberTheAircraftTypes() {
+            ThresholdProfiles current = profiles();
+            anomalyDetectionService.setThresholdProfiles(current);
+            Properties reordered = new Properties();
+            reordered.setProperty("types", "B737,A320");
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> anomalyDetectionService.setThresholdProfiles(ThresholdProfiles.fromProperties(reordered)));
+            assertSame(current, anomalyDetectionService.getThresholdProfiles());
+        }
+
+        @Test
+        @DisplayName("Should reload the configured profiles file")
+        void shouldReloadTheConfiguredProfilesFile() throws Exception {
+            Path file = profilesDirectory.resolve("thresholds.properties");
+            Files.writeString(file, "types=A320\nA320.engineRPM.max=2100\n");
+            ReflectionTestUtils.setField(anomalyDetectionService, "profilesFile", file.toString());
+            anomalyDetectionService.loadThresholdProfiles();
+            AircraftData sample = createNormalAircraftData();
+            sample.setAircraftType(1);
+            assertTrue(anomalyDetectionService.detectAnomalies(sample).hasAnyAnomaly());
+
+            Files.writeString(file, "types=A320,B737\nA320.engineRPM.max=2500\n");
+            ThresholdProfiles reloaded = anomalyDetectionService.reloadThresholdProfiles();
+
+            assertEquals(2500.0, reloaded.getMax(1, SensorChannel.ENGINE_RPM));
+            assertFalse(anomalyDetectionService.detectAnomalies(sample).hasAnyAnomaly());
+        }
+
+        @Test
+        @DisplayName("Should pick up an edited profiles file")
+        void shouldPickUpAnEditedProfilesFile() throws Exception {
+            Path file = profilesDirectory.resolve("thresholds.properties");
+            Files.writeString(file, "types=A320\nA320.engineRPM.max=2100\n");
+            ReflectionTestUtils.setField(anomalyDetectionService, "profilesFile", file.toString());
+            anomalyDetectionService.loadThresholdProfiles();
+            assertFalse(anomalyDetectionService.checkThresholdProfiles());
+
+            Files.writeString(file, "types=A320\nA320.engineRPM.max=2500\n");
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+
+            assertTrue(anomalyDetectionService.checkThresholdProfiles());
+            assertEquals(2500.0, anomalyDetectionService.getThresholdProfiles().getMax(1, SensorChannel.ENGINE_RPM));
+            assertFalse(anomalyDetectionService.checkThresholdProfiles());
+        }
+
+        @Test
+        @DisplayName("Should pick up an edit that keeps the file's size and modification time")
+        void shouldPickUpAnEditThatKeepsTheFilesSizeAndModificationTime() throws Exception {
+            Path file = profilesDirectory.resolve("thresholds.properties");
+            Files.writeString(file, "types=A320\nA320.engineRPM.max=2100\n");
+            FileTime modified = Files.getLastModifiedTime(file);
+            ReflectionTestUtils.setField(anomalyDetectionService, "profilesFile", file.toString());
+            anomalyDetectionService.loadThresholdProfiles();
+
+            Files.writeString(file, "types=A320\nA320.engineRPM.max=2500\n");
+            Files.setLastModifiedTime(file, modified);
+
+            assertTrue(anomalyDetectionService.checkThresholdProfiles());
+            assertEquals(2500.0, anomalyDetectionService.getThresholdProfiles().getMax(1, SensorChannel.ENGINE_RPM));
+        }
+
+        @Test
+        @DisplayName("Should keep the current profiles when an edited file is invalid")
+        void shouldKeepTheCurrentProfilesWhenAnEditedFileIsInvalid() throws Exception {
+            Path file = profilesDirectory.resolve("thresholds.properties");
+            Files.writeString(file, "types=A320\n");
+            ReflectionTestUtils.setField(anomalyDetectionService, "profilesFile", file.toString());
+            anomalyDetectionService.loadThresholdProfiles();
+            ThresholdProfiles current = anomalyDetectionService.getThresholdProfiles();
+
+            Files.writeString(file, "types=A320\nA320.engineRPM.max=fast\n");
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+
+            assertFalse(anomalyDetectionService.checkThresholdProfiles());
+            assertSame(current, anomalyDetectionService.getThresholdProfiles());
+        }
+
+        @Test
+        @DisplayName("Should not watch when watching is off")
+        void shouldNotWatchWhenWatchingIsOff() throws Exception {
+            Path file = profilesDirectory.resolve("thresholds.properties");
+            Files.writeString(file, "types=A320\n");
+            ReflectionTestUtils.setField(anomalyDetectionService, "profilesFile", file.toString());
+            ReflectionTestUtils.setField(anomalyDetectionService, "watchProfiles", false);
+
+            assertFalse(anomalyDetectionService.checkThresholdProfiles());
+            assertEquals(ThresholdProfiles.defaults(), anomalyDetectionService.getThresholdProfiles());
+        }
+
+        @Test
+        @DisplayName("Should refuse to reload without a profiles file")
+        void shouldRefuseToReloadWithoutAProfilesFile() {
+            assertThrows(IllegalArgumentException.class, () -> anomalyDetectionService.reloadThresholdProfiles());
+            assertEquals(ThresholdProfiles.defaults(), anomalyDetectionService.getThresholdProfiles());
+        }
+    }
+
+    @Nested
+    @DisplayName("Debounce Tests")
+    class DebounceTests {
+
+        private AircraftData fuelAt(double level) {
+            AircraftData data = createNormalAircraftData();
+            data.setFuelLevel(level);
+            return data;
+        }
+
+        @Test
+        @DisplayName("Should flag every reading out of range when not debouncing")
+        void shouldFlagEveryReadingOutOfRangeWhenNotDebouncing() {
+            assertNull(anomalyDetectionService.getDebouncer());
+
+            assertTrue(anomalyDetectionService.detectAnomalies(fuelAt(19.9)).isFuelAnomaly());
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(20.1)).isFuelAnomaly());
+        }
+
+        @Test
+        @DisplayName("Should hold a flapping alert until the reading clears the hysteresis")
+        void shouldHoldAFlappingAlertUntilTheReadingClearsTheHysteresis() {
+            anomalyDetectionService.setDebouncer(new AnomalyDebouncer(1, 1));
+
+            assertTrue(anomalyDetectionService.detectAnomalies(fuelAt(19.9), 7).isFuelAnomaly());
+            for (int i = 0; i < 10; i++) {
+                double level = i % 2 == 0 ? 20.1 : 19.9;
+                assertTrue(anomalyDetectionService.detectAnomalies(fuelAt(level), 7).isFuelAnomaly(), "reading " + i);
+            }
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(20.1), 8).isFuelAnomaly());
+
+            // Fuel hysteresis is 1%, so 21% clears
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(21.0), 7).isFuelAnomaly());
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(20.5), 7).isFuelAnomaly());
+        }
+
+        @Test
+        @DisplayName("Should flag only after N of the last M readings")
+        void shouldFlagOnlyAfterNOfTheLastMReadings() {
+            anomalyDetectionService.setDebouncer(new AnomalyDebouncer(3, 5));
+
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(19.0)).isFuelAnomaly());
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(19.0)).isFuelAnomaly());
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(30.0)).isFuelAnomaly());
+            AircraftData confirmed = anomalyDetectionService.detectAnomalies(fuelAt(19.0));
+
+            assertTrue(confirmed.isFuelAnomaly());
+            assertEquals("WARNING", confirmed.getSystemStatus());
+        }
+
+        @Test
+        @DisplayName("Should debounce batch rows as per sample")
+        void shouldDebounceBatchRowsAsPerSample() {
+            AnomalyDetectionService perSample = new AnomalyDetectionService();
+            perSample.setDebouncer(new AnomalyDebouncer(2, 3));
+            anomalyDetectionService.setDebouncer(new AnomalyDebouncer(2, 3));
+            double[] levels = {19.0, 20.5, 19.5, 21.5, 20.0, 19.0, 30.0, 30.0};
+
+            for (int round = 0; round < levels.length; round++) {
+                AircraftDataBatch batch = new AircraftDataBatch(4);
+                for (int row = 0; row < 4; row++) {
+                    AircraftData sample = fuelAt(levels[(round + row) % levels.length]);
+                    sample.setEngineTemperature(row == 2 ? 201.0 : 180.0);
+                    batch.add(sample);
+                }
+
+                anomalyDetectionService.detectAnomalies(batch);
+
+                for (int row = 0; row < 4; row++) {
+                    AircraftData expected = perSample.detectAnomalies(batch.get(row), row);
+                    assertEquals(expected.getAnomalyMask(), batch.getAnomalyMasks()[row],
+                            "round " + round + ", row " + row);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Z-Score Tests")
+    class ZScoreTests {
+
+        private AircraftData oilAt(double pressure) {
+            AircraftData data = createNormalAircraftData();
+            data.setOilPressure(pressure);
+            return data;
+        }
+
+        @Test
+        @DisplayName("Should not score readings unless enabled")
+        void shouldNotScoreReadingsUnlessEnabled() {
+            assertNull(anomalyDetectionService.getZScoreDetector());
+
+            for (int i = 0; i < 50; i++) {
+                anomalyDetectionService.detectAnomalies(oilAt(60.0), 3);
+            }
+            assertFalse(anomalyDetectionService.detectAnomalies(oilAt(25.0), 3).isEngineAnomaly());
+        }
+
+        @Test
+        @DisplayName("Should flag a reading far from the tail's own level")
+        void shouldFlagAReadingFarFromTheTailsOwnLevel() {
+            anomalyDetectionService.setZScoreDetector(new ZScoreDetector(4.0, 30, ZScoreDetector.Baseline.WELFORD,
+                    0.05, 1 << SensorChannel.OIL_PRESSURE.index()));
+            for (int i = 0; i < 50; i++) {
+                anomalyDetectionService.detectAnomalies(oilAt(i % 2 == 0 ? 59.0 : 61.0), 3);
+            }
+
+            AircraftData low = anomalyDetectionService.detectAnomalies(oilAt(25.0), 3);
+            assertTrue(low.isEngineAnomaly());
+            assertEquals("WARNING", low.getSystemStatus());
+            // Another tail has no history yet
+            assertFalse(anomalyDetectionService.detectAnomalies(oilAt(25.0), 4).isEngineAnomaly());
+        }
+
+        @Test
+        @DisplayName("Should not score unusable readings")
+        void shouldNotScoreUnusableReadings() {
+            ZScoreDetector detector = new ZScoreDetector(4.0, 2, ZScoreDetector.Baseline.WELFORD, 0.05, -1);
+            anomalyDetectionService.setZScoreDetector(detector);
+            AircraftData stale = oilAt(25.0);
+            stale.setQuality(SensorChannel.OIL_PRESSURE, SensorQuality.STALE);
+
+            anomalyDetectionService.detectAnomalies(stale, 0);
+
+            assertEquals(0, detector.getStatistics().getCount(0, SensorChannel.OIL_PRESSURE.index()));
+            assertEquals(1, detector.getStatistics().getCount(0, SensorChannel.ENGINE_RPM.index()));
+            assertEquals(0, detector.getStatistics().getCount(0, SensorChannel.FUEL_TEMPERATURE.index()));
+        }
+
+        @Test
+        @DisplayName("Should score batch rows as per sample")
+        void shouldScoreBatchRowsAsPerSample() {
+            AnomalyDetectionService perSample = new AnomalyDetectionService();
+            perSample.setZScoreDetector(new ZScoreDetector(3.0, 5, ZScoreDetector.Baseline.EWMA, 0.2, -1));
+            perSample.setDebouncer(new AnomalyDebouncer(1, 1));
+            anomalyDetectionService.setZScoreDetector(new ZScoreDetector(3.0, 5, ZScoreDetector.Baseline.EWMA, 0.2, -1));
+            anomalyDetectionService.setDebouncer(new AnomalyDebouncer(1, 1));
+            double[] pressures = {60.0, 61.0, 59.5, 60.5, 60.0, 59.0, 61.0, 60.0, 25.0, 26.0, 60.0, 60.5};
+
+            for (int round = 0; round < pressures.length; round++) {
+                AircraftDataBatch batch = new AircraftDataBatch(4);
+                for (int row = 0; row < 4; row++) {
+                    batch.add(oilAt(pressures[(round + 3 * row) % pressures.length]));
+                }
+
+                anomalyDetectionService.detectAnomalies(batch);
+
+                for (int row = 0; row < 4; row++) {
+                    AircraftData expected = perSample.detectAnomalies(batch.get(row), row);
+                    assertEquals(expected.getAnomalyMask(), batch.getAnomalyMasks()[row],
+                            "round " + round + ", row " + row);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should analyze disjoint ranges on several threads as in one call")
+        void shouldAnalyzeDisjointRangesOnSeveralThreadsAsInOneCall() throws Exception {
+            AnomalyDetectionService oneCall = new AnomalyDetectionService();
+            oneCall.setZScoreDetector(new ZScoreDetector(3.0, 5, ZScoreDetector.Baseline.EWMA, 0.2, -1));
+            oneCall.setDebouncer(new AnomalyDebouncer(2, 3));
+            anomalyDetectionService.setZScoreDetector(new ZScoreDetector(3.0, 5, ZScoreDetector.Baseline.EWMA, 0.2, -1));
+            anomalyDetectionService.setDebouncer(new AnomalyDebouncer(2, 3));
+            double[] pressures = {60.0, 61.0, 59.5, 60.5, 60.0, 59.0, 61.0, 60.0, 25.0, 26.0, 60.0, 60.5};
+            int rows = 4000;
+            anomalyDetectionService.ensureSources(rows);
+
+            for (int round = 0; round < pressures.length; round++) {
+                AircraftDataBatch batch = new AircraftDataBatch(rows);
+                AircraftDataBatch copy = new AircraftDataBatch(rows);
+                for (int row = 0; row < rows; row++) {
+                    batch.add(oilAt(pressures[(round + row) % pressures.length]));
+                    copy.add(batch.get(row));
+                }
+
+                Thread[] threads = new Thread[4];
+                for (int t = 0; t < threads.length; t++) {
+                    int from = t * rows / threads.length;
+                    int to = (t + 1) * rows / threads.length;
+                    threads[t] = new Thread(() -> anomalyDetectionService.detectAnomalies(batch, from, to));
+                    threads[t].start();
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                oneCall.detectAnomalies(copy);
+
+                assertArrayEquals(copy.getAnomalyMasks(), batch.getAnomalyMasks(), "round " + round);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Detection State Tests")
+    class DetectionStateTests {
+
+        private AircraftData fuelAt(double level) {
+            AircraftData data = createNormalAircraftData();
+            data.setFuelLevel(level);
+            return data;
+        }
+
+        @Test
+        @DisplayName("Should keep replayed samples out of the live alerts and statistics")
+        void shouldKeepReplayedSamplesOutOfTheLiveAlertsAndStatistics() {
+            anomalyDetectionService.setDebouncer(new AnomalyDebouncer(1, 1));
+            ZScoreDetector live = new ZScoreDetector(4.0, 30, ZScoreDetector.Baseline.WELFORD, 0.05,
+                    1 << SensorChannel.FUEL_LEVEL.index());
+            anomalyDetectionService.setZScoreDetector(live);
+            assertTrue(anomalyDetectionService.detectAnomalies(fuelAt(19.9), 0).isFuelAnomaly());
+
+            AnomalyDetectionService.DetectionState replay = anomalyDetectionService.newDetectionState();
+            // Within the hysteresis: held on the live source, never raised on the replayed one
+            assertFalse(anomalyDetectionService.detectAnomalies(fuelAt(20.5), 0, replay).isFuelAnomaly());
+            assertTrue(anomalyDetectionService.detectAnomalies(fuelAt(20.5), 0).isFuelAnomaly());
+            assertTrue(anomalyDetectionService.detectAnomalies(fuelAt(19.9), 0, replay).isFuelAnomaly());
+
+            assertEquals(2, live.getStatistics().getCount(0, SensorChannel.FUEL_LEVEL.index()));
+            assertEquals(2, replay.zScoreDetector().getStatistics().getCount(0, SensorChannel.FUEL_LEVEL.index()));
+            assertEquals(1, replay.debouncer().getConfirm());
+            assertNotSame(anomalyDetectionService.getDebouncer(), replay.debouncer());
+        }
+
+        @Test
+        @DisplayName("Should count replayed excursions in the live summary")
+        void shouldCountReplayedExcursionsInTheLiveSummary() {
+            AnomalyDetectionService.DetectionState replay = anomalyDetectionService.newDetectionState();
+            assertNull(replay.debouncer());
+            assertNull(replay.zScoreDetector());
+            anomalyDetectionService.logAnomalySummary();
+
+            anomalyDetectionService.detectAnomalies(fuelAt(19.0), 0);
+            anomalyDetectionService.detectAnomalies(fuelAt(19.0), 0, replay);
+            anomalyDetectionService.detectAnomalies(fuelAt(19.0), 0, replay);
+            AnomalyLogLimiter.Summary summary = anomalyDetectionService.logAnomalySummary();
+
+            assertEquals(2, summary.started()[SensorChannel.FUEL_LEVEL.index()]);
+            assertEquals(1, summary.repeated()[SensorChannel.FUEL_LEVEL.index()]);
+        }
+    }
 }
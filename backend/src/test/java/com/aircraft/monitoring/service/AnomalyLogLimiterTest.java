@@ -0,0 +1,116 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnomalyLogLimiter.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("Anomaly Log Limiter Tests")
+class AnomalyLogLimiterTest {
+
+    private static final int RPM = 1 << SensorChannel.ENGINE_RPM.index();
+    private static final int FUEL = 1 << SensorChannel.FUEL_LEVEL.index();
+
+    private final AnomalyLogLimiter limiter = new AnomalyLogLimiter(10);
+
+    @Test
+    @DisplayName("Should log the first reading of an excursion and count the rest")
+    void shouldLogTheFirstReadingOfAnExcursionAndCountTheRest() {
+        assertEquals(RPM, limiter.record(0, RPM));
+        assertEquals(0, limiter.record(0, RPM));
+        assertEquals(FUEL, limiter.record(0, RPM | FUEL));
+
+        AnomalyLogLimiter.Summary summary = limiter.drain();
+        assertEquals(1, summary.started()[SensorChannel.ENGINE_RPM.index()]);
+        assertEquals(2, summary.repeated()[SensorChannel.ENGINE_RPM.index()]);
+        assertEquals(1, summary.started()[SensorChannel.FUEL_LEVEL.index()]);
+        assertEquals(2, summary.totalStarted());
+        assertEquals(0, summary.notLogged());
+    }
+
+    @Test
+    @DisplayName("Should log a channel again once it was back in range")
+    void shouldLogAChannelAgainOnceItWasBackInRange() {
+        limiter.record(0, RPM);
+        limiter.record(0, 0);
+
+        assertEquals(RPM, limiter.record(0, RPM));
+        assertEquals(0, limiter.drain().totalRepeated());
+    }
+
+    @Test
+    @DisplayName("Should keep the sources apart")
+    void shouldKeepTheSourcesApart() {
+        assertEquals(RPM, limiter.record(0, RPM));
+        assertEquals(RPM, limiter.record(1000, RPM));
+        assertEquals(0, limiter.record(0, RPM));
+        assertEquals(0, limiter.record(1000, RPM));
+    }
+
+    @Test
+    @DisplayName("Should track separate sources apart but share the limit and counts")
+    void shouldTrackSeparateSourcesApartButShareTheLimitAndCounts() {
+        AnomalyLogLimiter replay = limiter.withSeparateSources();
+        assertEquals(RPM, limiter.record(0, RPM));
+        assertEquals(RPM, replay.record(0, RPM));
+        assertEquals(0, replay.record(0, RPM));
+        for (int source = 1; source < 9; source++) {
+            replay.record(source, RPM);
+        }
+
+        // The two limiters logged 10 lines between them
+        assertEquals(0, limiter.record(1, RPM));
+        AnomalyLogLimiter.Summary summary = replay.drain();
+        assertEquals(11, summary.totalStarted());
+        assertEquals(1, summary.totalRepeated());
+        assertEquals(1, summary.notLogged());
+        assertTrue(limiter.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop logging at the line limit until the next summary")
+    void shouldStopLoggingAtTheLineLimitUntilTheNextSummary() {
+        for (int source = 0; source < 10; source++) {
+            assertEquals(RPM, limiter.record(source, RPM));
+        }
+        assertEquals(0, limiter.record(10, RPM | FUEL));
+
+        AnomalyLogLimiter.Summary summary = limiter.drain();
+        assertEquals(12, summary.totalStarted());
+        assertEquals(2, summary.notLogged());
+
+        // The counts start over and the ongoing excursions stay quiet
+        assertEquals(RPM, limiter.record(11, RPM));
+        assertEquals(0, limiter.record(0, RPM));
+        summary = limiter.drain();
+        assertEquals(1, summary.totalStarted());
+        assertEquals(1, summary.totalRepeated());
+        assertTrue(limiter.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find the sources that are out of range or in an excursion")
+    void shouldFindTheSourcesThatAreOutOfRangeOrInAnExcursion() {
+        int[] outOfRange = {0, 0, RPM, 0, 0};
+        limiter.record(3, FUEL);
+
+        assertEquals(2, limiter.nextToRecord(outOfRange, 0, 5));
+        assertEquals(3, limiter.nextToRecord(outOfRange, 3, 5));
+        assertEquals(5, limiter.nextToRecord(outOfRange, 4, 5));
+        assertEquals(1, limiter.nextToRecord(outOfRange, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject a negative source or limit")
+    void shouldRejectANegativeSourceOrLimit() {
+        assertThrows(IllegalArgumentException.class, () -> limiter.record(-1, RPM));
+        assertThrows(IllegalArgumentException.class, () -> new AnomalyLogLimiter(-1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.aircraft.monitoring.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the scalar and Vector API column scanners.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("ColumnScanner Tests")
+class ColumnScannerTest {
+
+    private static final double[] SPECIAL_VALUES = {
+        Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 10.0, 90.0
+    };
+
+    private static double[] column(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(8) == 0
+                    ? SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]
+                    : random.nextDouble(0.0, 100.0);
+        }
+        return values;
+    }
+
+    /**
+     * Checks a scanner against the per-reading definition over many limits
+     * and row ranges, including ranges that do not fill a whole vector
+     */
+    private static void assertScansLikeTheDefinition(ColumnScanner scanner) {
+        double[] values = column(1000, 11);
+        double[][] limits = {
+            {10.0, 90.0}, {10.0, Double.POSITIVE_INFINITY}, {Double.NEGATIVE_INFINITY, 90.0}, {50.0, 50.0}
+        };
+        int[][] ranges = {{0, 1000}, {3, 997}, {5, 6}, {0, 0}, {512, 1000}};
+        for (double[] limit : limits) {
+            for (int[] range : ranges) {
+                int[] masks = new int[values.length];
+                Arrays.fill(masks, 1);
+                scanner.scan(values, masks, range[0], range[1], limit[0], limit[1], 1 << 4);
+
+                for (int i = 0; i < values.length; i++) {
+                    boolean inRange = i >= range[0] && i < range[1];
+                    boolean out = inRange && (values[i] < limit[0] || values[i] > limit[1]);
+                    assertEquals(out ? 1 | 1 << 4 : 1, masks[i],
+                            scanner.getName() + " row " + i + " limits " + limit[0] + ".." + limit[1]);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Scalar Scanner Tests")
+    class ScalarScannerTests {
+
+        @Test
+        @DisplayName("Should set the bit of every reading out of range")
+        void shouldSetTheBitOfEveryReadingOutOfRange() {
+            assertScansLikeTheDefinition(ColumnScanner.SCALAR);
+        }
+    }
+
+    @Nested
+    @DisplayName("Vector Scanner Tests")
+    class VectorScannerTests {
+
+        @Test
+        @DisplayName("Should set the bit of every reading out of range")
+        void shouldSetTheBitOfEveryReadingOutOfRange() {
+            assumeTrue(ColumnScanner.vector() != null, "Vector API scanner not built or module not loaded");
+
+            assertScansLikeTheDefinition(ColumnScanner.vector());
+        }
+
+        @Test
+        @DisplayName("Should fall back to the scalar scanner when disabled or unavailable")
+        void shouldFallBackToTheScalarScannerWhenDisabledOrUnavailable() {
+            AnomalyDetectionService service = new AnomalyDetectionService();
+
+            assertFalse(service.setBatchVector(false));
+            assertFalse(service.isBatchVector());
+            assertEquals(ColumnScanner.vector() != null, service.setBatchVector(true));
+            assertEquals(ColumnScanner.vector() != null, service.isBatchVector());
+        }
+    }
+}
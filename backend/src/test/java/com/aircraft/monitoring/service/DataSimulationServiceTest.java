@@ -1,17 +1,34 @@
 package com.aircraft.monitoring.service;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftSnapshot;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.model.SensorQuality;
+import com.aircraft.monitoring.simulation.Fault;
+import com.aircraft.monitoring.simulation.FlightHistoryReader;
+import com.aircraft.monitoring.simulation.FlightPhase;
+import com.aircraft.monitoring.simulation.TickExecutor;
+import com.aircraft.monitoring.simulation.TimeWarpGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -168,22 +185,30 @@ class DataSimulationServiceTest {
     @DisplayName("Anomaly Simulation Tests")
     class AnomalySimulationTests {
 
+        /**
+         * Generates the given number of samples and returns what was passed to detection
+         */
+        private List<AircraftData> generateSamples(int count) {
+            for (int i = 0; i < count; i++) {
+                dataSimulationService.generateAircraftData();
+            }
+            ArgumentCaptor<AircraftData> captor = ArgumentCaptor.forClass(AircraftData.class);
+            verify(anomalyDetectionService, times(count)).detectAnomalies(captor.capture());
+            return captor.getAllValues();
+        }
+
         @Test
         @DisplayName("Should trigger engine anomaly simulation")
         void shouldTriggerEngineAnomalySimulation() {
             dataSimulationService.simulateEngineAnomaly();
 
-            // Set the anomaly flags to verify the simulation was triggered
-            ReflectionTestUtils.setField(dataSimulationService, "simulateEngineAnomaly", true);
-            ReflectionTestUtils.setField(dataSimulationService, "anomalyCounter", 0);
-            
-            // Generate data multiple times to trigger the anomaly
-            for (int i = 0; i < 15; i++) {
-                dataSimulationService.generateAircraftData();
-            }
+            List<AircraftData> samples = generateSamples(15);
 
-            verify(anomalyDetectionService, atLeast(15)).detectAnomalies(any(AircraftData.class));
-            verify(webSocketService, atLeast(15)).broadcastAircraftData(any(AircraftData.class));
+            // Overheating shows up on the 12th sample, for one sample
+            assertEquals(220.0, samples.get(11).getEngineTemperature());
+            assertNotEquals(220.0, samples.get(10).getEngineTemperature());
+            assertNotEquals(220.0, samples.get(12).getEngineTemperature());
+            verify(webSocketService, times(15)).broadcastAircraftData(any(AircraftData.class));
         }
 
         @Test
@@ -191,17 +216,10 @@ class DataSimulationServiceTest {
         void shouldTriggerFuelAnomalySimulation() {
             dataSimulationService.simulateFuelAnomaly();
 
-            // Set the anomaly flags to verify the simulation was triggered
-            ReflectionTestUtils.setField(dataSimulationService, "simulateFuelAnomaly", true);
-            ReflectionTestUtils.setField(dataSimulationService, "anomalyCounter", 0);
-            
-            // Generate data multiple times to trigger the anomaly
-            for (int i = 0; i < 20; i++) {
-                dataSimulationService.generateAircraftData();
-            }
+            List<AircraftData> samples = generateSamples(20);
 
-            verify(anomalyDetectionService, atLeast(20)).detectAnomalies(any(AircraftData.class));
-            verify(webSocketService, atLeast(20)).broadcastAircraftData(any(AircraftData.class));
+            assertEquals(15.0, samples.get(16).getFuelLevel());
+            assertNotEquals(15.0, samples.get(17).getFuelLevel());
         }
 
         @Test
@@ -209,35 +227,63 @@ class DataSimulationServiceTest {
         void shouldTriggerHydraulicAnomalySimulation() {
             dataSimulationService.simulateHydraulicAnomaly();
 
-            // Set the anomaly flags to verify the simulation was triggered
-            ReflectionTestUtils.setField(dataSimulationService, "simulateHydraulicAnomaly", true);
-            ReflectionTestUtils.setField(dataSimulationService, "anomalyCounter", 0);
-            
-            // Generate data multiple times to trigger the anomaly
-            for (int i = 0; i < 25; i++) {
-                dataSimulationService.generateAircraftData();
-            }
+            List<AircraftData> samples = generateSamples(25);
 
-            verify(anomalyDetectionService, atLeast(25)).detectAnomalies(any(AircraftData.class));
-            verify(webSocketService, atLeast(25)).broadcastAircraftData(any(AircraftData.class));
+            assertEquals(1800.0, samples.get(21).getHydraulicPressure());
+            assertNotEquals(1800.0, samples.get(22).getHydraulicPressure());
         }
 
         @Test
-        @DisplayName("Should reset anomaly flags after simulation")
-        void shouldResetAnomalyFlagsAfterSimulation() {
-            // Test engine anomaly reset
+        @DisplayName("Should not let one trigger reset another")
+        void shouldNotLetOneTriggerResetAnother() {
             dataSimulationService.simulateEngineAnomaly();
-            boolean initialEngineFlag = (Boolean) ReflectionTestUtils.getField(dataSimulationService, "simulateEngineAnomaly");
-            assertTrue(initialEngineFlag);
+            dataSimulationService.simulateFuelAnomaly();
+            dataSimulationService.simulateHydraulicAnomaly();
+
+            List<AircraftData> samples = generateSamples(25);
+
+            assertEquals(220.0, samples.get(11).getEngineTemperature());
+            assertEquals(15.0, samples.get(16).getFuelLevel());
+            assertEquals(1800.0, samples.get(21).getHydraulicPressure());
+        }
+
+        @Test
+        @DisplayName("Should schedule custom faults on the dashboard aircraft")
+        void shouldScheduleCustomFaultsOnTheDashboardAircraft() {
+            Fault fault = dataSimulationService.scheduleFault(
+                    Fault.Type.DROPOUT, SensorChannel.ALTITUDE, 0, 2, 3, Double.NaN);
+
+            List<AircraftData> samples = generateSamples(6);
+
+            assertEquals(3, fault.startTick());
+            assertNotEquals(0.0, samples.get(1).getAltitude());
+            assertEquals(0.0, samples.get(2).getAltitude());
+            assertEquals(0.0, samples.get(4).getAltitude());
+            assertNotEquals(0.0, samples.get(5).getAltitude());
+            assertEquals(SensorQuality.FAILED, samples.get(2).getQuality(SensorChannel.ALTITUDE));
+            assertEquals(SensorQuality.VALID, samples.get(5).getQuality(SensorChannel.ALTITUDE));
+        }
+
+        @Test
+        @DisplayName("Should report pending and completed faults in metrics")
+        void shouldReportPendingAndCompletedFaultsInMetrics() {
+            dataSimulationService.simulateEngineAnomaly();
+            dataSimulationService.generateAircraftData();
+
+            Map<String, Object> metrics = dataSimulationService.getSimulationMetrics();
+            assertEquals(1L, metrics.get("pendingFaults"));
+            assertEquals(0L, metrics.get("completedFaults"));
+        }
+
+        @Test
+        @DisplayName("Should reject faults on tails outside the fleet")
+        void shouldRejectFaultsOnTailsOutsideTheFleet() {
+            assertThrows(IllegalArgumentException.class, () -> dataSimulationService.scheduleFault(
+                    Fault.Type.STEP, SensorChannel.ALTITUDE, 5, 0, 1, 100.0));
+            assertThrows(IllegalArgumentException.class, () -> dataSimulationService.scheduleFault(
+                    Fault.Type.STEP, SensorChannel.ALTITUDE, 0, -1, 1, 100.0));
 
-            // Simulate the counter reaching the threshold and reset
-            ReflectionTestUtils.setField(dataSimulationService, "anomalyCounter", 11);
-            ReflectionTestUtils.setField(dataSimulationService, "simulateEngineAnomaly", true);
-            
             dataSimulationService.generateAircraftData();
-            
-            // The anomaly flag should be reset after the simulation runs
-            // Note: This test verifies the logic exists, actual reset happens internally
         }
     }
 
@@ -440,6 +486,421 @@ class DataSimulationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Fleet Mode Tests")
+    class FleetModeTests {
+
+        @Test
+        @DisplayName("Should simulate the configured fleet size")
+        void shouldSimulateTheConfiguredFleetSize() {
+            ReflectionTestUtils.setField(dataSimulationService, "fleetSize", 250);
+
+            dataSimulationService.generateAircraftData();
+            dataSimulationService.generateAircraftData();
+
+            Map<String, Object> metrics = dataSimulationService.getSimulationMetrics();
+            assertEquals(250, metrics.get("fleetSize"));
+            assertEquals(2L, metrics.get("ticks"));
+            assertTrue((Double) metrics.get("averageTickMicros") > 0);
+            assertTrue((Double) metrics.get("averageNanosPerTail") > 0);
+        }
+
+        @Test
+        @DisplayName("Should still analyze and broadcast only the dashboard aircraft")
+        void shouldStillAnalyzeAndBroadcastOnlyTheDashboardAircraft() {
+            ReflectionTestUtils.setField(dataSimulationService, "fleetSize", 100);
+
+            dataSimulationService.generateAircraftData();
+
+            verify(anomalyDetectionService, times(1)).detectAnomalies(any(AircraftData.class));
+            verify(webSocketService, times(1)).broadcastAircraftData(any(AircraftData.class));
+        }
+
+        @Test
+        @DisplayName("Should reproduce the generated data from a fixed seed")
+        void shouldReproduceTheGeneratedDataFromAFixedSeed() {
+            DataSimulationService replay = new DataSimulationService();
+            ReflectionTestUtils.setField(replay, "anomalyDetectionService", anomalyDetectionService);
+            ReflectionTestUtils.setField(replay, "webSocketService", webSocketService);
+            ReflectionTestUtils.setField(dataSimulationService, "randomSeed", 2024L);
+            ReflectionTestUtils.setField(replay, "randomSeed", 2024L);
+
+            dataSimulationService.generateAircraftData();
+            replay.generateAircraftData();
+
+            ArgumentCaptor<AircraftData> captor = ArgumentCaptor.forClass(AircraftData.class);
+            verify(anomalyDetectionService, times(2)).detectAnomalies(captor.capture());
+            AircraftData original = captor.getAllValues().get(0);
+            AircraftData replayed = captor.getAllValues().get(1);
+            assertEquals(original.getEngineRPM(), replayed.getEngineRPM());
+            assertEquals(original.getHydraulicPressure(), replayed.getHydraulicPressure());
+            assertEquals(original.getAltitude(), replayed.getAltitude());
+            assertEquals(2024L, dataSimulationService.getSimulationMetrics().get("randomSeed"));
+        }
+
+        @Test
+        @DisplayName("Should fly phase profiles when enabled")
+        void shouldFlyPhaseProfilesWhenEnabled() {
+            ReflectionTestUtils.setField(dataSimulationService, "flightPhases", true);
+            ReflectionTestUtils.setField(dataSimulationService, "fleetSize", 50);
+
+            dataSimulationService.generateAircraftData();
+
+            Map<String, Object> metrics = dataSimulationService.getSimulationMetrics();
+            assertInstanceOf(FlightPhase.class, metrics.get("flightPhase"));
+        }
+
+        @Test
+        @DisplayName("Should hold cruise without flight phases by default")
+        void shouldHoldCruiseWithoutFlightPhasesByDefault() {
+            dataSimulationService.generateAircraftData();
+
+            assertNull(dataSimulationService.getSimulationMetrics().get("flightPhase"));
+        }
+
+        @Test
+        @DisplayName("Should tick the fleet on the configured executor")
+        void shouldTickTheFleetOnTheConfiguredExecutor() {
+            ReflectionTestUtils.setField(dataSimulationService, "tickExecutorMode", TickExecutor.Mode.FORK_JOIN);
+            ReflectionTestUtils.setField(dataSimulationService, "tickParallelism", 2);
+            ReflectionTestUtils.setField(dataSimulationService, "fleetSize", 5000);
+
+            dataSimulationService.generateAircraftData();
+
+            Map<String, Object> metrics = dataSimulationService.getSimulationMetrics();
+            assertEquals(TickExecutor.Mode.FORK_JOIN, metrics.get("tickExecutor"));
+            assertEquals(2, metrics.get("tickParallelism"));
+            assertEquals(1L, metrics.get("ticks"));
+            dataSimulationService.stopTickScheduler();
+        }
+
+        @Test
+        @DisplayName("Should tick serially by default")
+        void shouldTickSeriallyByDefault() {
+            dataSimulationService.generateAircraftData();
+
+            assertEquals(TickExecutor.Mode.SERIAL, dataSimulationService.getSimulationMetrics().get("tickExecutor"));
+        }
+
+        @Test
+        @DisplayName("Should assign the configured aircraft types to the tails")
+        void shouldAssignTheConfiguredAircraftTypesToTheTails() {
+            Properties properties = new Properties();
+            properties.setProperty("types", "A320,B737");
+            when(anomalyDetectionService.getThresholdProfiles())
+                    .thenReturn(ThresholdProfiles.fromProperties(properties));
+            ReflectionTestUtils.setField(dataSimulationService, "aircraftTypes", "B737, A320");
+
+            dataSimulationService.generateAircraftData();
+
+            ArgumentCaptor<AircraftData> captor = ArgumentCaptor.forClass(AircraftData.class);
+            verify(anomalyDetectionService).detectAnomalies(captor.capture());
+            assertEquals(2, captor.getValue().getAircraftType());
+        }
+
+        @Test
+        @DisplayName("Should default to a single aircraft")
+        void shouldDefaultToASingleAircraft() {
+            dataSimulationService.generateAircraftData();
+
+            Map<String, Object> metrics = dataSimulationService.getSimulationMetrics();
+            assertEquals(1, metrics.get("fleetSize"));
+            assertEquals(1L, metrics.get("ticks"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should have no snapshot before the first tick")
+        void shouldHaveNoSnapshotBeforeTheFirstTick() {
+            assertNull(dataSimulationService.getCurrentSnapshot());
+        }
+
+        @Test
+        @DisplayName("Should share one snapshot of the analyzed sample per tick")
+        void shouldShareOneSnapshotOfTheAnalyzedSamplePerTick() {
+            mockDetectedData.setEngineAnomaly(true);
+            dataSimulationService.generateAircraftData();
+
+            AircraftSnapshot snapshot = dataSimulationService.getCurrentSnapshot();
+            assertSame(snapshot, dataSimulationService.getCurrentSnapshot());
+            assertEquals(AircraftSnapshot.of(mockDetectedData), snapshot);
+            assertTrue(snapshot.isEngineAnomaly());
+
+            dataSimulationService.generateAircraftData();
+            assertNotSame(snapshot, dataSimulationService.getCurrentSnapshot());
+        }
+
+        @Test
+        @DisplayName("Should hand out mutable copies that do not change the snapshot")
+        void shouldHandOutMutableCopiesThatDoNotChangeTheSnapshot() {
+            dataSimulationService.generateAircraftData();
+            AircraftSnapshot snapshot = dataSimulationService.getCurrentSnapshot();
+
+            AircraftData copy = dataSimulationService.getCurrentData();
+            copy.setEngineRPM(-1.0);
+            mockDetectedData.setEngineRPM(-2.0);
+
+            assertEquals(2200.0, snapshot.getEngineRPM());
+            assertEquals(2200.0, dataSimulationService.getCurrentData().getEngineRPM());
+            assertNotSame(copy, dataSimulationService.getCurrentData());
+        }
+
+        @Test
+        @DisplayName("Should copy a snapshot from the current sample with sample reuse")
+        void shouldCopyASnapshotFromTheCurrentSampleWithSampleReuse() {
+            ReflectionTestUtils.setField(dataSimulationService, "sampleReuse", true);
+            assertNull(dataSimulationService.getCurrentSnapshot());
+
+            dataSimulationService.generateAircraftData();
+
+            assertEquals(AircraftSnapshot.of(dataSimulationService.getCurrentData()),
+                    dataSimulationService.getCurrentSnapshot());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sample Reuse Tests")
+    class SampleReuseTests {
+
+        @BeforeEach
+        void enableSampleReuse() {
+            ReflectionTestUtils.setField(dataSimulationService, "sampleReuse", true);
+        }
+
+        @Test
+        @DisplayName("Should refill two samples in turn instead of allocating new ones")
+        void shouldRefillTwoSamplesInTurnInsteadOfAllocatingNewOnes() {
+            for (int i = 0; i < 4; i++) {
+                dataSimulationService.generateAircraftData();
+            }
+
+            ArgumentCaptor<AircraftData> captor = ArgumentCaptor.forClass(AircraftData.class);
+            verify(webSocketService, times(4)).broadcastAircraftData(captor.capture());
+            List<AircraftData> broadcast = captor.getAllValues();
+            assertNotSame(broadcast.get(0), broadcast.get(1));
+            assertSame(broadcast.get(0), broadcast.get(2));
+            assertSame(broadcast.get(1), broadcast.get(3));
+            verify(anomalyDetectionService).detectAnomalies(same(broadcast.get(3)));
+            assertEquals(true, dataSimulationService.getSimulationMetrics().get("sampleReuse"));
+        }
+
+        @Test
+        @DisplayName("Should hand out copies of the current sample that later ticks do not change")
+        void shouldHandOutCopiesOfTheCurrentSampleThatLaterTicksDoNotChange() {
+            LocalDateTime beforeGeneration = LocalDateTime.now();
+            dataSimulationService.generateAircraftData();
+
+            AircraftData first = dataSimulationService.getCurrentData();
+            AircraftData again = dataSimulationService.getCurrentData();
+            assertNotSame(first, again);
+            assertEquals(first, again);
+            assertFalse(first.getTimestamp().isBefore(beforeGeneration.minusSeconds(1)));
+
+            AircraftData kept = new AircraftData();
+            kept.copyFrom(first);
+            dataSimulationService.generateAircraftData();
+            dataSimulationService.generateAircraftData();
+
+            assertEquals(kept, first);
+            ArgumentCaptor<AircraftData> captor = ArgumentCaptor.forClass(AircraftData.class);
+            verify(webSocketService, times(3)).broadcastAircraftData(captor.capture());
+            assertEquals(captor.getValue(), dataSimulationService.getCurrentData());
+        }
+
+        @Test
+        @DisplayName("Should keep the current sample when a tick fails")
+        void shouldKeepTheCurrentSampleWhenATickFails() {
+            dataSimulationService.generateAircraftData();
+            AircraftData before = dataSimulationService.getCurrentData();
+
+            doThrow(new RuntimeException("WebSocket broadcast failed"))
+                    .when(webSocketService).broadcastAircraftData(any(AircraftData.class));
+            assertThrows(RuntimeException.class, () -> dataSimulationService.generateAircraftData());
+            assertEquals(before, dataSimulationService.getCurrentData());
+
+            doNothing().when(webSocketService).broadcastAircraftData(any(AircraftData.class));
+            dataSimulationService.generateAircraftData();
+            assertEquals(3L, dataSimulationService.getSimulationMetrics().get("ticks"));
+        }
+
+        @Test
+        @DisplayName("Should have no current data before the first tick")
+        void shouldHaveNoCurrentDataBeforeTheFirstTick() {
+            assertNull(dataSimulationService.getCurrentData());
+        }
+    }
+
+    @Nested
+    @DisplayName("Recent History Tests")
+    class RecentHistoryTests {
+
+        @Test
+        @DisplayName("Should keep the latest samples of the dashboard aircraft")
+        void shouldKeepTheLatestSamplesOfTheDashboardAircraft() {
+            // 6 s at 0.5 Hz: three ticks
+            ReflectionTestUtils.setField(dataSimulationService, "recentHistorySeconds", 6.0);
+            mockDetectedData.setFuelAnomaly(true);
+            for (int i = 0; i < 5; i++) {
+                dataSimulationService.generateAircraftData();
+            }
+
+            List<AircraftData> history = dataSimulationService.getRecentHistory(0, 10);
+
+            ArgumentCaptor<AircraftData> captor = ArgumentCaptor.forClass(AircraftData.class);
+            verify(anomalyDetectionService, times(5)).detectAnomalies(captor.capture());
+            assertEquals(3, history.size());
+            for (int i = 0; i < 3; i++) {
+                AircraftData generated = captor.getAllValues().get(2 + i);
+                for (SensorChannel channel : SensorChannel.values()) {
+                    assertEquals(generated.getValue(channel), history.get(i).getValue(channel), channel.name());
+                }
+                assertEquals(mockDetectedData.getTimestamp(), history.get(i).getTimestamp());
+                assertTrue(history.get(i).isFuelAnomaly());
+            }
+            assertEquals(3, dataSimulationService.getSimulationMetrics().get("recentHistorySamples"));
+            assertEquals(3L * 184, dataSimulationService.getSimulationMetrics().get("recentHistoryBytes"));
+        }
+
+        @Test
+        @DisplayName("Should return only the latest samples up to the limit")
+        void shouldReturnOnlyTheLatestSamplesUpToTheLimit() {
+            for (int i = 0; i < 4; i++) {
+                dataSimulationService.generateAircraftData();
+            }
+
+            List<AircraftData> latest = dataSimulationService.getRecentHistory(0, 2);
+            List<AircraftData> all = dataSimulationService.getRecentHistory(0, Integer.MAX_VALUE);
+
+            assertEquals(4, all.size());
+            assertEquals(all.subList(2, 4), latest);
+            assertTrue(dataSimulationService.getRecentHistory(0, 0).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> dataSimulationService.getRecentHistory(0, -1));
+        }
+
+        @Test
+        @DisplayName("Should keep history only for the configured tails")
+        void shouldKeepHistoryOnlyForTheConfiguredTails() {
+            ReflectionTestUtils.setField(dataSimulationService, "fleetSize", 5);
+            ReflectionTestUtils.setField(dataSimulationService, "recentHistoryTails", 2);
+            dataSimulationService.generateAircraftData();
+
+            List<AircraftData> second = dataSimulationService.getRecentHistory(1, 10);
+
+            assertEquals(1, second.size());
+            assertFalse(second.get(0).hasAnyAnomaly());
+            assertThrows(IllegalArgumentException.class, () -> dataSimulationService.getRecentHistory(2, 10));
+        }
+
+        @Test
+        @DisplayName("Should keep no history when disabled")
+        void shouldKeepNoHistoryWhenDisabled() {
+            ReflectionTestUtils.setField(dataSimulationService, "recentHistorySeconds", 0.0);
+            dataSimulationService.generateAircraftData();
+
+            assertTrue(dataSimulationService.getRecentHistory(0, 10).isEmpty());
+            assertEquals(0L, dataSimulationService.getSimulationMetrics().get("recentHistoryBytes"));
+        }
+    }
+
+    @Nested
+    @DisplayName("History Generation Tests")
+    class HistoryGenerationTests {
+
+        @TempDir
+        Path historyDirectory;
+
+        @Test
+        @DisplayName("Should generate history without advancing the live simulation")
+        void shouldGenerateHistoryWithoutAdvancingTheLiveSimulation() throws Exception {
+            ReflectionTestUtils.setField(dataSimulationService, "historyDirectory", historyDirectory.toString());
+            dataSimulationService.generateAircraftData();
+
+            TimeWarpGenerator.Result result = dataSimulationService.generateHistory("fleet.fhist", 50, 720, 5.0, 2);
+
+            assertEquals(36_000, result.samples());
+            assertEquals(3600.0, result.simulatedSeconds(), 1e-9);
+            assertEquals(1L, dataSimulationService.getSimulationMetrics().get("ticks"));
+            verify(webSocketService, times(1)).broadcastAircraftData(any(AircraftData.class));
+            try (FlightHistoryReader history = new FlightHistoryReader(historyDirectory.resolve("fleet.fhist"))) {
+                assertEquals(50, history.getFleetSize());
+                assertEquals(720, history.getTickCount());
+                // The history ends at the time it was generated
+                LocalDateTime end = history.getClock().timeAt(history.getTickCount());
+                assertTrue(Math.abs(Duration.between(end, LocalDateTime.now(ZoneOffset.UTC)).toSeconds()) < 60);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reproduce the history from a fixed seed")
+        void shouldReproduceTheHistoryFromAFixedSeed() throws Exception {
+            ReflectionTestUtils.setField(dataSimulationService, "historyDirectory", historyDirectory.toString());
+            ReflectionTestUtils.setField(dataSimulationService, "randomSeed", 2024L);
+            dataSimulationService.generateAircraftData();
+
+            dataSimulationService.generateHistory("first.fhist", 20, 100, 2.0, 1);
+            dataSimulationService.generateHistory("second.fhist", 20, 100, 2.0, 3);
+
+            double[] first = new double[SensorChannel.COUNT];
+            double[] second = new double[SensorChannel.COUNT];
+            try (FlightHistoryReader a = new FlightHistoryReader(historyDirectory.resolve("first.fhist"));
+                 FlightHistoryReader b = new FlightHistoryReader(historyDirectory.resolve("second.fhist"))) {
+                a.read(99, 19, first);
+                b.read(99, 19, second);
+            }
+            assertArrayEquals(first, second);
+        }
+
+        @Test
+        @DisplayName("Should reject paths outside the history directory and invalid intervals")
+        void shouldRejectInvalidHistoryRequests() {
+            ReflectionTestUtils.setField(dataSimulationService, "historyDirectory", historyDirectory.toString());
+            dataSimulationService.generateAircraftData();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> dataSimulationService.generateHistory("../escape.fhist", 1, 10, 2.0, 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> dataSimulationService.generateHistory("", 1, 10, 2.0, 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> dataSimulationService.generateHistory("zero.fhist", 1, 10, 0.0, 1));
+            assertFalse(Files.exists(historyDirectory.resolve("zero.fhist")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tick Scheduler Tests")
+    class TickSchedulerTests {
+
+        @Test
+        @DisplayName("Should drive data generation from the tick scheduler")
+        void shouldDriveDataGenerationFromTheTickScheduler() throws InterruptedException {
+            ReflectionTestUtils.setField(dataSimulationService, "tickRateHz", 100.0);
+
+            dataSimulationService.startTickScheduler();
+            Thread.sleep(200);
+            dataSimulationService.stopTickScheduler();
+
+            verify(anomalyDetectionService, atLeast(5)).detectAnomalies(any(AircraftData.class));
+            verify(webSocketService, atLeast(5)).broadcastAircraftData(any(AircraftData.class));
+            assertTrue(dataSimulationService.getSimulationMetrics().containsKey("scheduler"));
+        }
+
+        @Test
+        @DisplayName("Should not start the tick scheduler when disabled")
+        void shouldNotStartTheTickSchedulerWhenDisabled() {
+            ReflectionTestUtils.setField(dataSimulationService, "tickEnabled", false);
+
+            dataSimulationService.startTickScheduler();
+            dataSimulationService.generateAircraftData();
+            dataSimulationService.stopTickScheduler();
+
+            assertFalse(dataSimulationService.getSimulationMetrics().containsKey("scheduler"));
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases Tests")
     class EdgeCasesTests {
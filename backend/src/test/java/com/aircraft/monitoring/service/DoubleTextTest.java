@@ -0,0 +1,99 @@
+package com.aircraft.monitoring.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shortest-decimal double renderer.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("DoubleText Tests")
+class DoubleTextTest {
+
+    private final byte[] buffer = new byte[DoubleText.MAX_LENGTH + 2];
+
+    private String text(double value) {
+        int end = DoubleText.write(value, buffer, 2);
+        return new String(buffer, 2, end - 2, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    @DisplayName("Should render the shortest decimal in Double.toString layout")
+    void shouldRenderTheShortestDecimalInDoubleToStringLayout() {
+        assertEquals("0.0", text(0.0));
+        assertEquals("-0.0", text(-0.0));
+        assertEquals("2200.0", text(2200.0));
+        assertEquals("2166.6979328655384", text(2166.6979328655384));
+        assertEquals("9999999.0", text(9_999_999.0));
+        assertEquals("1.0E7", text(1e7));
+        assertEquals("0.001", text(0.001));
+        assertEquals("9.99E-4", text(9.99e-4));
+        assertEquals("0.002", text(2e-3));
+        assertEquals("1.0E23", text(1e23));
+        assertEquals("-9.079270639255284E17", text(-9.079270639255284E17));
+        assertEquals("4.9E-324", text(Double.MIN_VALUE));
+        assertEquals("1.7976931348623157E308", text(Double.MAX_VALUE));
+        assertEquals("2.2250738585072014E-308", text(Double.MIN_NORMAL));
+        assertEquals("NaN", text(Double.NaN));
+        assertEquals("-Infinity", text(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    @DisplayName("Should match Double.toString for readings of up to seven digits")
+    void shouldMatchDoubleToStringForReadingsOfUpToSevenDigits() {
+        // Both algorithms agree on short decimals, so this holds on Java 17 too
+        SplittableRandom random = new SplittableRandom(17);
+        for (int i = 0; i < 200_000; i++) {
+            double scale = Math.pow(10, random.nextInt(4));
+            double value = Math.round((random.nextDouble() * 2 - 1) * Math.pow(10, random.nextInt(4)) * scale) / scale;
+            assertEquals(Double.toString(value), text(value));
+        }
+        for (int n = -100_000; n <= 100_000; n++) {
+            assertEquals(Double.toString(n / 100.0), text(n / 100.0));
+            assertEquals(Double.toString(n / 1000.0), text(n / 1000.0));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match Double.toString, or improve on it before Java 19")
+    void shouldMatchDoubleToStringOrImproveOnItBeforeJava19() {
+        SplittableRandom random = new SplittableRandom(19);
+        for (int i = 0; i < 200_000; i++) {
+            assertMatchesRuntime(Double.longBitsToDouble(random.nextLong()));
+        }
+        for (int i = 0; i < 200_000; i++) {
+            assertMatchesRuntime(random.nextDouble() * Math.pow(10, random.nextInt(14) - 5));
+        }
+        for (int e = -1074; e <= 1023; e++) {
+            double value = Math.scalb(1.0, e);
+            assertMatchesRuntime(value);
+            assertMatchesRuntime(Math.nextUp(value));
+            assertMatchesRuntime(Math.nextDown(value));
+        }
+    }
+
+    /**
+     * From Java 19, Double.toString renders the shortest decimal and the
+     * texts must be equal. Before, it sometimes renders more digits than
+     * needed; where the texts differ, ours must read back to the same
+     * double, be no longer, and have the same layout.
+     */
+    private void assertMatchesRuntime(double value) {
+        String expected = Double.toString(value);
+        String actual = text(value);
+        if (Runtime.version().feature() >= 19 || expected.equals(actual)) {
+            assertEquals(expected, actual);
+            return;
+        }
+        assertEquals(value, Double.parseDouble(actual), actual);
+        assertTrue(actual.length() <= expected.length(), actual + " vs " + expected);
+        assertEquals(expected.contains("E"), actual.contains("E"), actual + " vs " + expected);
+    }
+}
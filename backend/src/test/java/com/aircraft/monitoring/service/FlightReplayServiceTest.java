@@ -0,0 +1,355 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.model.SensorQuality;
+import com.aircraft.monitoring.simulation.FlightHistoryReader;
+import com.aircraft.monitoring.simulation.RandomStreams;
+import com.aircraft.monitoring.simulation.TimeWarpGenerator;
+import com.aircraft.monitoring.simulation.VirtualClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FlightReplayService.
+ *
+ * Tests CSV parsing, pacing at different speeds, and the
+ * background replay lifecycle.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlightReplayService Tests")
+class FlightReplayServiceTest {
+
+    private static final String HEADER = "timestamp,engineRPM,engineTemperature,fuelLevel,altitude\n";
+
+    @Mock
+    private AnomalyDetectionService anomalyDetectionService;
+
+    @Mock
+    private WebSocketService webSocketService;
+
+    @InjectMocks
+    private FlightReplayService flightReplayService;
+
+    @TempDir
+    Path replayDirectory;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(anomalyDetectionService.detectAnomalies(any(AircraftData.class), anyInt(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        ReflectionTestUtils.setField(flightReplayService, "replayDirectory", replayDirectory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightReplayService.stopReplay();
+    }
+
+    private List<AircraftData> broadcastSamples(int count) {
+        ArgumentCaptor<AircraftData> captor = ArgumentCaptor.forClass(AircraftData.class);
+        verify(webSocketService, times(count)).broadcastAircraftData(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Should push every row through detection and broadcast")
+        void shouldPushEveryRowThroughDetectionAndBroadcast() throws Exception {
+            String csv = HEADER
+                    + "2024-01-15 10:00:00,2200,150,80,35000\n"
+                    + "2024-01-15 10:00:02,2250,155,79.5,35100\n";
+
+            long samples = flightReplayService.replay(new StringReader(csv), 0);
+
+            assertEquals(2, samples);
+            verify(anomalyDetectionService, times(2)).detectAnomalies(any(AircraftData.class), eq(0), any());
+            List<AircraftData> replayed = broadcastSamples(2);
+            assertEquals(2250.0, replayed.get(1).getEngineRPM());
+            assertEquals(79.5, replayed.get(1).getFuelLevel());
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 2), replayed.get(1).getTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should accept ISO and epoch millisecond timestamps")
+        void shouldAcceptIsoAndEpochMillisecondTimestamps() throws Exception {
+            String csv = HEADER
+                    + "2024-01-15T10:00:00.500,2200,150,80,35000\n"
+                    + "1705312800000,2200,150,80,35000\n";
+
+            flightReplayService.replay(new StringReader(csv), 0);
+
+            List<AircraftData> replayed = broadcastSamples(2);
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 0, 500_000_000), replayed.get(0).getTimestamp());
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 0), replayed.get(1).getTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should match columns by name and ignore unknown ones")
+        void shouldMatchColumnsByNameAndIgnoreUnknownOnes() throws Exception {
+            String csv = "flightNumber,ALTITUDE,hydraulicPressure\n"
+                    + "AH101,36000,2900\n";
+
+            flightReplayService.replay(new StringReader(csv), 0);
+
+            AircraftData replayed = broadcastSamples(1).get(0);
+            assertEquals(36000.0, replayed.getAltitude());
+            assertEquals(2900.0, replayed.getHydraulicPressure());
+            assertNull(replayed.getTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should hold the previous reading for empty cells")
+        void shouldHoldThePreviousReadingForEmptyCells() throws Exception {
+            String csv = HEADER
+                    + "2024-01-15 10:00:00,2200,150,80,35000\n"
+                    + "2024-01-15 10:00:02,,160,,35100\n";
+
+            flightReplayService.replay(new StringReader(csv), 0);
+
+            List<AircraftData> replayed = broadcastSamples(2);
+            AircraftData second = replayed.get(1);
+            assertEquals(2200.0, second.getEngineRPM());
+            assertEquals(160.0, second.getEngineTemperature());
+            assertEquals(80.0, second.getFuelLevel());
+            assertEquals(SensorQuality.INTERPOLATED, second.getQuality(SensorChannel.ENGINE_RPM));
+            assertEquals(SensorQuality.INTERPOLATED, second.getQuality(SensorChannel.FUEL_LEVEL));
+            assertEquals(SensorQuality.VALID, second.getQuality(SensorChannel.ENGINE_TEMPERATURE));
+            assertEquals(SensorQuality.ALL_VALID, replayed.get(0).getSensorQuality());
+        }
+
+        @Test
+        @DisplayName("Should skip and count malformed rows")
+        void shouldSkipAndCountMalformedRows() throws Exception {
+            String csv = HEADER
+                    + "2024-01-15 10:00:00,2200,150,80,35000\n"
+                    + "2024-01-15 10:00:02,not-a-number,150,80,35000\n"
+                    + "yesterday,2200,150,80,35000\n"
+                    + "2024-01-15 10:00:06,2300,150,80,35000\n";
+
+            long samples = flightReplayService.replay(new StringReader(csv), 0);
+
+            assertEquals(2, samples);
+            assertEquals(2L, flightReplayService.getReplayStatus().get("rowsSkipped"));
+        }
+
+        @Test
+        @DisplayName("Should replay nothing from an empty file")
+        void shouldReplayNothingFromAnEmptyFile() throws Exception {
+            assertEquals(0, flightReplayService.replay(new StringReader(""), 0));
+            verifyNoInteractions(webSocketService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Pacing Tests")
+    class PacingTests {
+
+        @Test
+        @DisplayName("Should pace samples by recorded time divided by speed")
+        void shouldPaceSamplesByRecordedTimeDividedBySpeed() throws Exception {
+            // 4 recorded seconds at 20x is 200 ms
+            String csv = HEADER
+                    + "2024-01-15 10:00:00,2200,150,80,35000\n"
+                    + "2024-01-15 10:00:02,2200,150,80,35000\n"
+                    + "2024-01-15 10:00:04,2200,150,80,35000\n";
+
+            long start = System.nanoTime();
+            flightReplayService.replay(new StringReader(csv), 20);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(elapsedMillis >= 190 && elapsedMillis < 1000, "Elapsed: " + elapsedMillis);
+        }
+
+        @Test
+        @DisplayName("Should replay as fast as possible when unthrottled")
+        void shouldReplayAsFastAsPossibleWhenUnthrottled() throws Exception {
+            StringBuilder csv = new StringBuilder(HEADER);
+            for (int i = 0; i < 1000; i++) {
+                // One recorded hour per row
+                csv.append(1_700_000_000_000L + i * 3_600_000L).append(",2200,150,80,35000\n");
+            }
+
+            long start = System.nanoTime();
+            long samples = flightReplayService.replay(new StringReader(csv.toString()), 0);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(1000, samples);
+            assertTrue(elapsedMillis < 5000, "Elapsed: " + elapsedMillis);
+            assertTrue((double) flightReplayService.getReplayStatus().get("samplesPerSecond") > 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Flight History Tests")
+    class FlightHistoryTests {
+
+        // 2024-01-15T10:00:00Z, one tick every 2 seconds
+        private final VirtualClock clock = new VirtualClock(1_705_312_800_000L, 2_000_000);
+
+        private Path generateHistory(String name, int tails, long ticks) throws Exception {
+            Path file = replayDirectory.resolve(name);
+            new TimeWarpGenerator(tails, new RandomStreams(5), 1).generate(ticks, clock, file);
+            return file;
+        }
+
+        @Test
+        @DisplayName("Should replay one tail with virtual clock timestamps")
+        void shouldReplayOneTailWithVirtualClockTimestamps() throws Exception {
+            Path file = generateHistory("fleet.fhist", 4, 3);
+
+            try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+                assertEquals(3, flightReplayService.replay(history, 2, 0));
+            }
+            verify(anomalyDetectionService, times(3)).detectAnomalies(any(AircraftData.class), eq(2), any());
+
+            List<AircraftData> samples = broadcastSamples(3);
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 0), samples.get(0).getTimestamp());
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 4), samples.get(2).getTimestamp());
+            double[] expected = new double[SensorChannel.COUNT];
+            try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+                history.read(1, 2, expected);
+            }
+            assertEquals(expected[SensorChannel.ENGINE_RPM.index()], samples.get(1).getEngineRPM());
+            assertEquals(expected[SensorChannel.ALTITUDE.index()], samples.get(1).getAltitude());
+        }
+
+        @Test
+        @DisplayName("Should pace a history by its tick interval")
+        void shouldPaceAHistoryByItsTickInterval() throws Exception {
+            // 2 s ticks at 40x speed: 50 ms between samples
+            Path file = generateHistory("paced.fhist", 1, 5);
+
+            long start = System.nanoTime();
+            try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+                flightReplayService.replay(history, 0, 40);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(elapsedMillis >= 180, "Elapsed: " + elapsedMillis);
+        }
+
+        @Test
+        @DisplayName("Should replay a history from the replay directory")
+        void shouldReplayAHistoryFromTheReplayDirectory() throws Exception {
+            generateHistory("fleet.fhist", 3, 10);
+
+            flightReplayService.startReplay("fleet.fhist", 0, 1);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (flightReplayService.isRunning() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            Map<String, Object> status = flightReplayService.getReplayStatus();
+            assertEquals("fleet.fhist", status.get("file"));
+            assertEquals(10L, status.get("samplesReplayed"));
+            assertNull(status.get("error"));
+        }
+
+        @Test
+        @DisplayName("Should reject tails outside the history and corrupt histories")
+        void shouldRejectTailsOutsideTheHistoryAndCorruptHistories() throws Exception {
+            generateHistory("fleet.fhist", 3, 10);
+            Files.writeString(replayDirectory.resolve("corrupt.fhist"), "not a history");
+
+            assertThrows(IllegalArgumentException.class, () -> flightReplayService.startReplay("fleet.fhist", 0, 3));
+            assertThrows(IllegalArgumentException.class, () -> flightReplayService.startReplay("corrupt.fhist", 0));
+            assertFalse(flightReplayService.isRunning());
+        }
+    }
+
+    @Nested
+    @DisplayName("Replay Lifecycle Tests")
+    class ReplayLifecycleTests {
+
+        @Test
+        @DisplayName("Should replay a recording from the replay directory")
+        void shouldReplayARecordingFromTheReplayDirectory() throws Exception {
+            Files.writeString(replayDirectory.resolve("flight.csv"), HEADER
+                    + "2024-01-15 10:00:00,2200,150,80,35000\n"
+                    + "2024-01-15 10:00:02,2200,150,80,35000\n");
+
+            flightReplayService.startReplay("flight.csv", 0);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (flightReplayService.isRunning() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            Map<String, Object> status = flightReplayService.getReplayStatus();
+            assertEquals(false, status.get("running"));
+            assertEquals("flight.csv", status.get("file"));
+            assertEquals("unthrottled", status.get("speed"));
+            assertEquals(2L, status.get("samplesReplayed"));
+            assertNull(status.get("error"));
+        }
+
+        @Test
+        @DisplayName("Should stop a running replay")
+        void shouldStopARunningReplay() throws Exception {
+            // Real-time replay of a recording spanning an hour
+            Files.writeString(replayDirectory.resolve("long.csv"), HEADER
+                    + "2024-01-15 10:00:00,2200,150,80,35000\n"
+                    + "2024-01-15 11:00:00,2200,150,80,35000\n");
+
+            flightReplayService.startReplay("long.csv", 1);
+            flightReplayService.stopReplay();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (flightReplayService.isRunning() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertFalse(flightReplayService.isRunning());
+            assertTrue((long) flightReplayService.getReplayStatus().get("samplesReplayed") < 2);
+        }
+
+        @Test
+        @DisplayName("Should reject a second replay while one is running")
+        void shouldRejectASecondReplayWhileOneIsRunning() throws Exception {
+            Files.writeString(replayDirectory.resolve("long.csv"), HEADER
+                    + "2024-01-15 10:00:00,2200,150,80,35000\n"
+                    + "2024-01-15 11:00:00,2200,150,80,35000\n");
+
+            flightReplayService.startReplay("long.csv", 1);
+
+            assertThrows(IllegalStateException.class, () -> flightReplayService.startReplay("long.csv", 1));
+        }
+
+        @Test
+        @DisplayName("Should reject missing files, paths outside the directory and negative speeds")
+        void shouldRejectInvalidReplayRequests() throws Exception {
+            Files.writeString(replayDirectory.resolve("flight.csv"), HEADER);
+
+            assertThrows(IllegalArgumentException.class, () -> flightReplayService.startReplay("missing.csv", 1));
+            assertThrows(IllegalArgumentException.class, () -> flightReplayService.startReplay("../flight.csv", 1));
+            assertThrows(IllegalArgumentException.class, () -> flightReplayService.startReplay("flight.csv", -1));
+            assertFalse(flightReplayService.isRunning());
+        }
+    }
+}
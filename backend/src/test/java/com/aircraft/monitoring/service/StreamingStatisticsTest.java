@@ -0,0 +1,124 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamingStatistics.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("Streaming Statistics Tests")
+class StreamingStatisticsTest {
+
+    private static final int OIL = SensorChannel.OIL_PRESSURE.index();
+    private static final int FUEL = SensorChannel.FUEL_LEVEL.index();
+
+    @Test
+    @DisplayName("Should match the two-pass mean and variance")
+    void shouldMatchTheTwoPassMeanAndVariance() {
+        StreamingStatistics statistics = new StreamingStatistics(0.1);
+        Random random = new Random(42);
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 60 + 5 * random.nextGaussian();
+            // A large offset is where summing squares loses precision
+            statistics.add(3, OIL, 1e9 + values[i]);
+        }
+
+        double mean = 0;
+        for (double value : values) {
+            mean += value / values.length;
+        }
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+
+        assertEquals(values.length, statistics.getCount(3, OIL));
+        assertEquals(1e9 + mean, statistics.getMean(3, OIL), 1e-6);
+        assertEquals(squares / (values.length - 1), statistics.getVariance(3, OIL), 1e-3);
+    }
+
+    @Test
+    @DisplayName("Should weight recent readings in the moving average")
+    void shouldWeightRecentReadingsInTheMovingAverage() {
+        StreamingStatistics statistics = new StreamingStatistics(0.5);
+        statistics.add(0, OIL, 60.0);
+
+        assertEquals(60.0, statistics.getRecentMean(0, OIL), 1e-9);
+        assertTrue(Double.isNaN(statistics.getRecentVariance(0, OIL)));
+
+        statistics.add(0, OIL, 40.0);
+        assertEquals(50.0, statistics.getRecentMean(0, OIL), 1e-5);
+        assertEquals(100.0, statistics.getRecentVariance(0, OIL), 1e-5);
+
+        for (int i = 0; i < 40; i++) {
+            statistics.add(0, OIL, 25.0);
+        }
+        assertEquals(25.0, statistics.getRecentMean(0, OIL), 1e-3);
+        assertEquals((60.0 + 40.0 + 40 * 25.0) / 42, statistics.getMean(0, OIL), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should follow small steps of a large level in the moving average")
+    void shouldFollowSmallStepsOfALargeLevelInTheMovingAverage() {
+        int altitude = SensorChannel.ALTITUDE.index();
+        StreamingStatistics statistics = new StreamingStatistics(0.05);
+        statistics.add(0, altitude, 35_000.0);
+        for (int i = 0; i < 200; i++) {
+            statistics.add(0, altitude, 35_003.0);
+        }
+
+        // A float mean would stop short, once 5 % of the remaining gap is
+        // under half its 1/256 ft step
+        assertEquals(35_003.0, statistics.getRecentMean(0, altitude), 1e-3);
+        assertEquals(0.0, statistics.getRecentVariance(0, altitude), 1e-3);
+    }
+
+    @Test
+    @DisplayName("Should keep sources and channels apart")
+    void shouldKeepSourcesAndChannelsApart() {
+        StreamingStatistics statistics = new StreamingStatistics(0.1);
+        statistics.add(0, OIL, 60.0);
+        statistics.add(5000, OIL, 30.0);
+        statistics.add(5000, FUEL, 80.0);
+
+        assertEquals(60.0, statistics.getMean(0, OIL));
+        assertEquals(30.0, statistics.getMean(5000, OIL));
+        assertEquals(80.0, statistics.getMean(5000, FUEL));
+        assertEquals(0, statistics.getCount(0, FUEL));
+        assertTrue(Double.isNaN(statistics.getMean(100_000, OIL)));
+        assertTrue(Double.isNaN(statistics.getVariance(0, OIL)));
+    }
+
+    @Test
+    @DisplayName("Should make room for sources up front")
+    void shouldMakeRoomForSourcesUpFront() {
+        StreamingStatistics statistics = new StreamingStatistics(0.1);
+        statistics.ensureSources(100);
+
+        assertEquals(100, statistics.getSources());
+        statistics.ensureSources(10);
+        assertEquals(100, statistics.getSources());
+        assertEquals(720, StreamingStatistics.BYTES_PER_SOURCE);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid weight, source or channel")
+    void shouldRejectAnInvalidWeightSourceOrChannel() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingStatistics(0));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingStatistics(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingStatistics(Double.NaN));
+
+        StreamingStatistics statistics = new StreamingStatistics(1);
+        assertThrows(IllegalArgumentException.class, () -> statistics.add(-1, OIL, 60.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> statistics.add(0, SensorChannel.COUNT, 60.0));
+    }
+}
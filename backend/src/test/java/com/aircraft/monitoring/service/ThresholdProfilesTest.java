@@ -0,0 +1,174 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ThresholdProfiles.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("ThresholdProfiles Tests")
+class ThresholdProfilesTest {
+
+    @TempDir
+    Path profilesDirectory;
+
+    private static Properties properties(String... entries) {
+        Properties properties = new Properties();
+        for (int i = 0; i < entries.length; i += 2) {
+            properties.setProperty(entries[i], entries[i + 1]);
+        }
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Should default to the registry's ranges")
+    void shouldDefaultToTheRegistrysRanges() {
+        ThresholdProfiles profiles = ThresholdProfiles.defaults();
+
+        assertEquals(List.of(ThresholdProfiles.DEFAULT_TYPE), profiles.getTypes());
+        for (SensorChannel channel : SensorChannel.values()) {
+            assertEquals(channel.getMin(), profiles.getMin(0, channel), channel.name());
+            assertEquals(channel.getMax(), profiles.getMax(0, channel), channel.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should number the types in declared order after the default type")
+    void shouldNumberTheTypesInDeclaredOrderAfterTheDefaultType() {
+        ThresholdProfiles profiles = ThresholdProfiles.fromProperties(properties("types", " A320, B737 ,"));
+
+        assertEquals(List.of("DEFAULT", "A320", "B737"), profiles.getTypes());
+        assertEquals(3, profiles.getTypeCount());
+        assertEquals(2, profiles.indexOf("B737"));
+        assertEquals(-1, profiles.indexOf("A350"));
+        assertEquals(2 * SensorChannel.COUNT, profiles.offsetOf(2));
+    }
+
+    @Test
+    @DisplayName("Should override only the listed limits")
+    void shouldOverrideOnlyTheListedLimits() {
+        ThresholdProfiles profiles = ThresholdProfiles.fromProperties(properties(
+                "types", "A320",
+                "A320.engineRPM.max", "2800",
+                "A320.fuelLevel.min", "none",
+                "DEFAULT.hydraulicPressure.min", "2500"));
+
+        assertEquals(2800.0, profiles.getMax(1, SensorChannel.ENGINE_RPM));
+        assertEquals(SensorChannel.ENGINE_RPM.getMin(), profiles.getMin(1, SensorChannel.ENGINE_RPM));
+        assertEquals(Double.NEGATIVE_INFINITY, profiles.getMin(1, SensorChannel.FUEL_LEVEL));
+        assertEquals(2500.0, profiles.getMin(0, SensorChannel.HYDRAULIC_PRESSURE));
+        assertEquals(SensorChannel.HYDRAULIC_PRESSURE.getMin(), profiles.getMin(1, SensorChannel.HYDRAULIC_PRESSURE));
+        assertEquals(SensorChannel.ENGINE_RPM.getMax(), profiles.getMax(0, SensorChannel.ENGINE_RPM));
+    }
+
+    @Test
+    @DisplayName("Should move the clear limits inward by the hysteresis")
+    void shouldMoveTheClearLimitsInwardByTheHysteresis() {
+        ThresholdProfiles profiles = ThresholdProfiles.fromProperties(properties(
+                "types", "A320",
+                "A320.fuelLevel.hysteresis", "2.5",
+                "A320.engineRPM.hysteresis", "0"));
+
+        assertEquals(21.0, profiles.getClearMin(0, SensorChannel.FUEL_LEVEL));
+        assertEquals(22.5, profiles.getClearMin(1, SensorChannel.FUEL_LEVEL));
+        assertEquals(Double.POSITIVE_INFINITY, profiles.getClearMax(1, SensorChannel.FUEL_LEVEL));
+        assertEquals(195.0, profiles.getClearMax(0, SensorChannel.ENGINE_TEMPERATURE));
+        assertEquals(500.0, profiles.getClearMin(1, SensorChannel.ENGINE_RPM));
+        assertEquals(3000.0, profiles.getClearMax(1, SensorChannel.ENGINE_RPM));
+        assertEquals(Double.NEGATIVE_INFINITY, profiles.getClearMin(0, SensorChannel.GROUND_SPEED));
+    }
+
+    @Test
+    @DisplayName("Should give unknown type numbers the default type's limits")
+    void shouldGiveUnknownTypeNumbersTheDefaultTypesLimits() {
+        ThresholdProfiles profiles = ThresholdProfiles.fromProperties(properties(
+                "types", "A320", "DEFAULT.engineRPM.max", "2500"));
+
+        assertEquals(0, profiles.offsetOf(2));
+        assertEquals(0, profiles.offsetOf(-1));
+        assertEquals(2500.0, profiles.getMax(5, SensorChannel.ENGINE_RPM));
+    }
+
+    @Test
+    @DisplayName("Should give each channel the anomaly bit its profile names")
+    void shouldGiveEachChannelTheAnomalyBitItsProfileNames() {
+        ThresholdProfiles profiles = ThresholdProfiles.fromProperties(properties(
+                "types", "A320", "A320.verticalSpeed.system", "Airspeed"));
+
+        assertEquals(AircraftData.AIRSPEED_ANOMALY, profiles.getSystemBit(1, SensorChannel.VERTICAL_SPEED));
+        assertEquals(AircraftData.ALTITUDE_ANOMALY, profiles.getSystemBit(0, SensorChannel.VERTICAL_SPEED));
+        assertEquals(AircraftData.ENGINE_ANOMALY, profiles.getSystemBit(1, SensorChannel.ENGINE_RPM));
+        assertEquals(0, profiles.getSystemBit(1, SensorChannel.GROUND_SPEED));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid profiles")
+    void shouldRejectInvalidProfiles() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("types", "A320,A320")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("types", "DEFAULT")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("A320.engineRPM.max", "2800")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.engineRPM.limit", "2800")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.rotorRPM.max", "2800")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.groundSpeed.max", "600")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.engineRPM.max", "high")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.engineRPM.max", "NaN")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.engineRPM.max", "400")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.engineRPM.hysteresis", "-1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.engineRPM.hysteresis", "none")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.oilPressure.hysteresis", "41")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.engineRPM.system", "cabin")));
+        assertThrows(IllegalArgumentException.class,
+                () -> ThresholdProfiles.fromProperties(properties("DEFAULT.groundSpeed.system", "airspeed")));
+    }
+
+    @Test
+    @DisplayName("Should keep the types of profiles it extends")
+    void shouldKeepTheTypesOfProfilesItExtends() {
+        ThresholdProfiles fleet = ThresholdProfiles.fromProperties(properties("types", "A320,B737"));
+        ThresholdProfiles extended = ThresholdProfiles.fromProperties(properties("types", "A320,B737,E190"));
+        ThresholdProfiles reordered = ThresholdProfiles.fromProperties(properties("types", "B737,A320"));
+
+        assertTrue(fleet.keepsTypesOf(ThresholdProfiles.defaults()));
+        assertTrue(extended.keepsTypesOf(fleet));
+        assertFalse(fleet.keepsTypesOf(extended));
+        assertFalse(reordered.keepsTypesOf(fleet));
+    }
+
+    @Test
+    @DisplayName("Should load profiles from a properties file")
+    void shouldLoadProfilesFromAPropertiesFile() throws Exception {
+        Path file = profilesDirectory.resolve("thresholds.properties");
+        Files.writeString(file, "# Narrow-body fleet\ntypes=A320\nA320.engineRPM.max=2800\n");
+
+        ThresholdProfiles profiles = ThresholdProfiles.load(file);
+
+        assertEquals(List.of("DEFAULT", "A320"), profiles.getTypes());
+        assertEquals(2800.0, profiles.getMax(1, SensorChannel.ENGINE_RPM));
+    }
+}
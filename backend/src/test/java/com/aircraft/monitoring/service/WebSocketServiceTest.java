@@ -1,6 +1,7 @@
 package com.aircraft.monitoring.service;
 
 import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -233,6 +234,24 @@ class WebSocketServiceTest {
             }));
         }
 
+        @Test
+        @DisplayName("Should send the sample in the same JSON as the REST API")
+        void shouldSendTheSampleInTheSameJsonAsTheRestApi() throws Exception {
+            webSocketService.afterConnectionEstablished(mockSession1);
+            testAircraftData.setTimestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 45, 500_000_000));
+            testAircraftData.setHydraulicAnomaly(true);
+            
+            webSocketService.broadcastAircraftData(testAircraftData);
+            
+            verify(mockSession1).sendMessage(argThat(message -> {
+                String payload = ((TextMessage) message).getPayload();
+                return payload.startsWith("{\"type\":\"aircraft_data\",\"data\":{\"timestamp\":\"2024-03-01 12:30:45\"," +
+                        "\"engineRPM\":2200.0,\"engineTemperature\":0.0,") &&
+                       payload.contains(",\"hydraulicAnomaly\":true,") &&
+                       payload.endsWith(",\"systemStatus\":\"WARNING\"}}");
+            }));
+        }
+
         @Test
         @DisplayName("Should not broadcast when no clients connected")
         void shouldNotBroadcastWhenNoClientsConnected() throws Exception {
@@ -290,6 +309,38 @@ class WebSocketServiceTest {
             // Session1 should be removed after the exception
             assertEquals(1, webSocketService.getConnectedClientsCount());
         }
+
+        @Test
+        @DisplayName("Should broadcast a batch as one columnar message")
+        void shouldBroadcastABatchAsOneColumnarMessage() throws Exception {
+            webSocketService.afterConnectionEstablished(mockSession1);
+            AircraftData second = new AircraftData(LocalDateTime.of(2024, 3, 1, 12, 30, 45));
+            second.setEngineRPM(2300.0);
+            second.setEngineAnomaly(true);
+            AircraftDataBatch batch = new AircraftDataBatch(4);
+            batch.add(new AircraftData());
+            batch.add(second);
+            
+            webSocketService.broadcastAircraftData(batch);
+            
+            verify(mockSession1).sendMessage(argThat(message -> {
+                String payload = ((TextMessage) message).getPayload();
+                return payload.startsWith("{\"type\":\"aircraft_data_batch\",\"data\":{\"size\":2,") &&
+                       payload.contains("\"timestamp\":[null,\"2024-03-01 12:30:45\"]") &&
+                       payload.contains("\"engineRPM\":[0.0,2300.0]") &&
+                       payload.contains("\"anomalyMask\":[0,1]");
+            }));
+        }
+
+        @Test
+        @DisplayName("Should not broadcast a batch when no clients connected")
+        void shouldNotBroadcastABatchWhenNoClientsConnected() throws Exception {
+            AircraftDataBatch batch = new AircraftDataBatch(1);
+            batch.add(testAircraftData);
+            
+            assertDoesNotThrow(() -> webSocketService.broadcastAircraftData(batch));
+            assertEquals(0, webSocketService.getConnectedClientsCount());
+        }
     }
 
     @Nested
@@ -524,7 +575,7 @@ class WebSocketServiceTest {
             webSocketService.afterConnectionEstablished(mockSession1);
             
             assertDoesNotThrow(() -> {
-                webSocketService.broadcastAircraftData(null);
+                webSocketService.broadcastAircraftData((AircraftData) null);
             });
         }
 
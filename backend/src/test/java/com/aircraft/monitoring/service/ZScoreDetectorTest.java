@@ -0,0 +1,115 @@
+package com.aircraft.monitoring.service;
+
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ZScoreDetector.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("Z-Score Detector Tests")
+class ZScoreDetectorTest {
+
+    private static final int OIL = SensorChannel.OIL_PRESSURE.index();
+    private static final int FUEL = SensorChannel.FUEL_LEVEL.index();
+
+    private static ZScoreDetector detector(ZScoreDetector.Baseline baseline) {
+        return new ZScoreDetector(4.0, 30, baseline, 0.05, 1 << OIL | 1 << FUEL);
+    }
+
+    /**
+     * Feeds a source's oil pressure readings around a level
+     */
+    private static void run(ZScoreDetector detector, int source, double level, int readings, Random random) {
+        for (int i = 0; i < readings; i++) {
+            assertFalse(detector.update(source, OIL, level + random.nextGaussian()), "reading " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should flag a reading within limits but far from the tail's own level")
+    void shouldFlagAReadingWithinLimitsButFarFromTheTailsOwnLevel() {
+        ZScoreDetector detector = detector(ZScoreDetector.Baseline.WELFORD);
+        Random random = new Random(7);
+        run(detector, 1, 60.0, 200, random);
+        run(detector, 2, 27.0, 200, random);
+
+        assertTrue(detector.update(1, OIL, 25.0));
+        assertFalse(detector.update(2, OIL, 25.0));
+        assertEquals(60.0, detector.getMean(1, OIL), 0.5);
+    }
+
+    @Test
+    @DisplayName("Should not score readings during the warm-up")
+    void shouldNotScoreReadingsDuringTheWarmUp() {
+        ZScoreDetector detector = detector(ZScoreDetector.Baseline.WELFORD);
+        for (int i = 0; i < 29; i++) {
+            detector.update(0, OIL, i % 2 == 0 ? 59.0 : 61.0);
+        }
+
+        assertTrue(Double.isNaN(detector.zScore(0, OIL, 25.0)));
+        assertFalse(detector.update(0, OIL, 25.0));
+        assertTrue(detector.zScore(0, OIL, 25.0) < -4.0);
+    }
+
+    @Test
+    @DisplayName("Should not flag the next resolution step of a steady channel")
+    void shouldNotFlagTheNextResolutionStepOfASteadyChannel() {
+        ZScoreDetector detector = detector(ZScoreDetector.Baseline.WELFORD);
+        for (int i = 0; i < 50; i++) {
+            detector.update(0, FUEL, 75.0);
+        }
+
+        // Fuel level has two decimals
+        assertEquals(0.01, detector.getStandardDeviation(0, FUEL), 1e-12);
+        assertFalse(detector.update(0, FUEL, 75.01));
+        assertTrue(detector.update(0, FUEL, 74.0));
+    }
+
+    @Test
+    @DisplayName("Should follow a shifted level with the moving baseline")
+    void shouldFollowAShiftedLevelWithTheMovingBaseline() {
+        ZScoreDetector welford = detector(ZScoreDetector.Baseline.WELFORD);
+        ZScoreDetector ewma = detector(ZScoreDetector.Baseline.EWMA);
+        Random random = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            double value = (i < 100 ? 60.0 : 50.0) + random.nextGaussian();
+            welford.update(0, OIL, value);
+            ewma.update(0, OIL, value);
+        }
+
+        assertEquals(50.0, ewma.getMean(0, OIL), 1.0);
+        assertFalse(ewma.update(0, OIL, 50.0));
+        assertTrue(welford.getMean(0, OIL) > 52.0);
+    }
+
+    @Test
+    @DisplayName("Should ignore readings that are not finite or not scored")
+    void shouldIgnoreReadingsThatAreNotFiniteOrNotScored() {
+        ZScoreDetector detector = detector(ZScoreDetector.Baseline.WELFORD);
+        detector.update(0, OIL, Double.NaN);
+        detector.update(0, OIL, Double.POSITIVE_INFINITY);
+        detector.update(0, SensorChannel.ENGINE_RPM.index(), 2400.0);
+
+        assertEquals(0, detector.getStatistics().getCount(0, OIL));
+        assertEquals(0, detector.getStatistics().getCount(0, SensorChannel.ENGINE_RPM.index()));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid threshold or warm-up")
+    void shouldRejectAnInvalidThresholdOrWarmUp() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZScoreDetector(0, 30, ZScoreDetector.Baseline.WELFORD, 0.05, 1 << OIL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZScoreDetector(4.0, 1, ZScoreDetector.Baseline.WELFORD, 0.05, 1 << OIL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZScoreDetector(4.0, 30, ZScoreDetector.Baseline.EWMA, 0, 1 << OIL));
+    }
+}
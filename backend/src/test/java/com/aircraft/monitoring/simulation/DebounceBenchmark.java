@@ -0,0 +1,156 @@
+package com.aircraft.monitoring.simulation;
+
+import ch.qos.logback.classic.Level;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.service.AnomalyDebouncer;
+import com.aircraft.monitoring.service.AnomalyDetectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless count of the alerts a drifting fleet raises, with and without
+ * debouncing.
+ *
+ * Flies a fleet through full flight profiles while one channel of every
+ * tail drifts, a {@link Fault.Type#RAMP} fault over the whole run, so its
+ * readings cross a limit slowly with sensor noise on top. Every tick the
+ * fleet goes through batch detection, and the benchmark counts the
+ * anomaly bits that come on (alerts raised) and the samples whose flags
+ * changed (what clients would be sent). It does this once without a
+ * debouncer and once per confirm/window setting, on the same seed. Runs
+ * without Spring; see {@link #main(String[])}. The results for this
+ * project are in the README.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class DebounceBenchmark {
+
+    private final int tails;
+    private final long ticks;
+    private final SensorChannel channel;
+    private final double drift;
+    private final long seed;
+
+    /**
+     * Creates a benchmark
+     *
+     * @param tails Number of tails
+     * @param ticks Ticks to fly, 2 s apart
+     * @param channel Channel that drifts
+     * @param drift Offset the channel has drifted by at the end of the run
+     * @param seed Root random seed
+     */
+    public DebounceBenchmark(int tails, long ticks, SensorChannel channel, double drift, long seed) {
+        this.tails = tails;
+        this.ticks = ticks;
+        this.channel = channel;
+        this.drift = drift;
+        this.seed = seed;
+    }
+
+    /**
+     * Flies the fleet once with one debounce setting
+     *
+     * @param confirm Readings, of the last window, that raise or clear an
+     *                alert; 0 for no debouncing
+     * @param window Readings looked back at; ignored without debouncing
+     * @return Alert counts
+     */
+    public Result run(int confirm, int window) {
+        FleetSimulator simulator = new FleetSimulator(tails, new RandomStreams(seed), new FlightProfile(2.0));
+        for (int t = 0; t < tails; t++) {
+            simulator.getFaultInjector().schedule(new Fault(Fault.Type.RAMP, t, channel, 1, ticks, drift));
+        }
+        AnomalyDetectionService detector = new AnomalyDetectionService();
+        if (confirm > 0) {
+            detector.setDebouncer(new AnomalyDebouncer(confirm, window));
+        }
+        AircraftDataBatch batch = simulator.getState().asBatch();
+        int[] masks = batch.getAnomalyMasks();
+        int[] previous = new int[tails];
+
+        long raised = 0;
+        long changed = 0;
+        long flagged = 0;
+        for (long tick = 0; tick < ticks; tick++) {
+            simulator.tick();
+            detector.detectAnomalies(batch);
+            for (int t = 0; t < tails; t++) {
+                raised += Integer.bitCount(masks[t] & ~previous[t]);
+                changed += masks[t] != previous[t] ? 1 : 0;
+                flagged += masks[t] != 0 ? 1 : 0;
+                previous[t] = masks[t];
+            }
+        }
+        String label = confirm > 0 ? confirm + " of " + window : "off";
+        return new Result(label, tails, ticks, raised, changed, flagged);
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * Options (all {@code --name=value}): {@code tails} (1000), {@code ticks}
+     * (3000), {@code channel} that drifts (ENGINE_TEMPERATURE), {@code drift}
+     * at the end of the run (100), {@code debounce} comma-separated
+     * confirm/window settings (1/1,2/3,3/5) and {@code seed} (42).
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        int tails = Integer.parseInt(options.getOrDefault("tails", "1000"));
+        long ticks = Long.parseLong(options.getOrDefault("ticks", "3000"));
+        SensorChannel channel = SensorChannel.valueOf(options.getOrDefault("channel", "ENGINE_TEMPERATURE"));
+        double drift = Double.parseDouble(options.getOrDefault("drift", "100"));
+        String[] settings = options.getOrDefault("debounce", "1/1,2/3,3/5").split(",");
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        // Detection logs the start of each excursion at warn; keep console
+        // output out of the run and report the counts instead
+        if (LoggerFactory.getLogger(AnomalyDetectionService.class) instanceof ch.qos.logback.classic.Logger logger) {
+            logger.setLevel(Level.ERROR);
+        }
+
+        DebounceBenchmark benchmark = new DebounceBenchmark(tails, ticks, channel, drift, seed);
+        log.info("Debounce benchmark: {} tails x {} ticks, {} drifting by {}", tails, ticks, channel, drift);
+        List<Result> results = new ArrayList<>();
+        results.add(benchmark.run(0, 0));
+        for (String setting : settings) {
+            String[] parts = setting.trim().split("/");
+            results.add(benchmark.run(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+            log.info("{}", results.get(results.size() - 1));
+        }
+
+        log.info("| Debounce | Alerts raised | Samples with changed flags | Flagged samples |");
+        log.info("|---|---:|---:|---:|");
+        for (Result r : results) {
+            log.info(String.format("| %s | %,d | %,d | %,d |", r.debounce(), r.raised(), r.changed(), r.flagged()));
+        }
+    }
+
+    /**
+     * Alert counts of one run
+     *
+     * @param debounce Confirm/window setting, or "off"
+     * @param tails Fleet size
+     * @param ticks Ticks flown
+     * @param raised Anomaly bits that came on
+     * @param changed Samples whose anomaly flags differ from the tail's previous sample
+     * @param flagged Samples with any anomaly flag
+     */
+    public record Result(String debounce, int tails, long ticks, long raised, long changed, long flagged) {
+    }
+}
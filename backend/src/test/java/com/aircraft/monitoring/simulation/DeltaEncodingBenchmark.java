@@ -0,0 +1,225 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDeltaDecoder;
+import com.aircraft.monitoring.model.AircraftDeltaEncoder;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.service.AircraftJsonEncoder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless measurement of the {@link AircraftDeltaEncoder} size reduction.
+ *
+ * Encodes every sample of a fleet, tick after tick, with one delta source
+ * per tail, decodes it again and checks that every reading came back
+ * within half a step of its channel's resolution. The samples come from
+ * the simulator (cruise only or with flight phases) or are replayed from
+ * a flight history generated by {@link TimeWarpGenerator} and read back
+ * with {@link FlightHistoryReader}. The encoded size is compared with a
+ * history file record and with the {@code aircraft_data} WebSocket
+ * message. Runs without Spring; see {@link #main(String[])}. The results
+ * for this project are in the README.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class DeltaEncodingBenchmark {
+
+    private final int tails;
+    private final AircraftDeltaEncoder encoder;
+    private final AircraftDeltaDecoder decoder;
+    private final AircraftJsonEncoder json = new AircraftJsonEncoder();
+    private final ByteBuffer buffer = ByteBuffer.allocate(AircraftDeltaEncoder.MAX_BYTES);
+    private final AircraftData decoded = new AircraftData();
+    // Last decoded reading per tail and channel
+    private final double[] previous;
+
+    private long samples;
+    private long keyframes;
+    private long keyframeBytes;
+    private long deltaBytes;
+    private long jsonBytes;
+    private long changedChannels;
+    private double maxErrorSteps;
+
+    /**
+     * Creates a measurement for a fleet
+     *
+     * @param tails Number of tails, one delta source each
+     */
+    public DeltaEncodingBenchmark(int tails) {
+        this.tails = tails;
+        this.encoder = new AircraftDeltaEncoder(tails);
+        this.decoder = new AircraftDeltaDecoder(tails);
+        this.previous = new double[tails * SensorChannel.COUNT];
+    }
+
+    /**
+     * Measures samples taken from a simulator
+     *
+     * @param tails Number of tails to simulate
+     * @param ticks Ticks to encode
+     * @param clock Clock that stamps the ticks
+     * @param profile Flight profile, or null for cruise only
+     * @param seed Root random seed
+     * @return Size summary
+     */
+    public static Result simulate(int tails, long ticks, VirtualClock clock, FlightProfile profile, long seed) {
+        FleetSimulator simulator = new FleetSimulator(tails, new RandomStreams(seed), profile);
+        DeltaEncodingBenchmark benchmark = new DeltaEncodingBenchmark(tails);
+        AircraftData sample = new AircraftData();
+        for (long tick = 0; tick < ticks; tick++) {
+            simulator.tick();
+            sample.setLocalTimeNanos(clock.epochMicrosAt(tick) * 1000);
+            for (int t = 0; t < tails; t++) {
+                simulator.getState().copyTo(t, sample);
+                benchmark.add(t, sample);
+            }
+        }
+        return benchmark.result(profile == null ? "simulator, cruise" : "simulator, flight phases");
+    }
+
+    /**
+     * Measures the samples of a flight history file
+     *
+     * @param file History file to replay
+     * @return Size summary
+     * @throws IOException if the file cannot be read
+     */
+    public static Result replay(Path file) throws IOException {
+        try (FlightHistoryReader reader = new FlightHistoryReader(file)) {
+            DeltaEncodingBenchmark benchmark = new DeltaEncodingBenchmark(reader.getFleetSize());
+            AircraftData sample = new AircraftData();
+            for (long tick = 0; tick < reader.getTickCount(); tick++) {
+                for (int t = 0; t < reader.getFleetSize(); t++) {
+                    reader.read(tick, t, sample);
+                    benchmark.add(t, sample);
+                }
+            }
+            return benchmark.result("replayed history");
+        }
+    }
+
+    /**
+     * Encodes, decodes and measures the next sample of a tail
+     */
+    private void add(int tail, AircraftData sample) {
+        buffer.clear();
+        boolean keyframe = samples < tails;
+        int bytes = encoder.encode(tail, sample, buffer);
+        buffer.flip();
+        decoder.decode(tail, buffer, decoded);
+
+        samples++;
+        if (keyframe) {
+            keyframes++;
+            keyframeBytes += bytes;
+        } else {
+            deltaBytes += bytes;
+        }
+        jsonBytes += json.encodeMessage(sample);
+        int base = tail * SensorChannel.COUNT;
+        for (SensorChannel channel : SensorChannel.values()) {
+            double value = decoded.getValue(channel);
+            double error = Math.abs(value - sample.getValue(channel)) * channel.getScale();
+            maxErrorSteps = Math.max(maxErrorSteps, error);
+            // A channel is sent exactly when its decoded reading moves
+            if (!keyframe && Double.compare(value, previous[base + channel.index()]) != 0) {
+                changedChannels++;
+            }
+            previous[base + channel.index()] = value;
+        }
+    }
+
+    private Result result(String source) {
+        if (samples <= keyframes) {
+            throw new IllegalArgumentException("At least two ticks are required");
+        }
+        long deltas = samples - keyframes;
+        return new Result(source, tails, samples / tails, (double) keyframeBytes / keyframes,
+                (double) deltaBytes / deltas, (double) changedChannels / deltas,
+                (double) jsonBytes / samples, maxErrorSteps);
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * Options (all {@code --name=value}): {@code tails} fleet size (1000),
+     * {@code ticks} ticks per run (600), {@code rate} tick rate in Hz (10),
+     * {@code sources} comma-separated cruise, phases and replay
+     * (cruise,phases,replay) and {@code seed} (42). The replay source writes
+     * a temporary history file with flight phases and deletes it afterwards.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        int tails = Integer.parseInt(options.getOrDefault("tails", "1000"));
+        long ticks = Long.parseLong(options.getOrDefault("ticks", "600"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+        String[] sources = options.getOrDefault("sources", "cruise,phases,replay").split(",");
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        VirtualClock clock = new VirtualClock(System.currentTimeMillis(), Math.round(1e6 / rate));
+        List<Result> results = new ArrayList<>();
+        for (String source : sources) {
+            switch (source.trim()) {
+                case "cruise" -> results.add(simulate(tails, ticks, clock, null, seed));
+                case "phases" -> results.add(simulate(tails, ticks, clock, new FlightProfile(1 / rate), seed));
+                case "replay" -> {
+                    Path file = Files.createTempFile("delta-encoding", ".fhist");
+                    try {
+                        new TimeWarpGenerator(tails, new RandomStreams(seed),
+                                Runtime.getRuntime().availableProcessors(), new FlightProfile(1 / rate))
+                                .generate(ticks, clock, file);
+                        results.add(replay(file));
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Source must be cruise, phases or replay: " + source);
+            }
+        }
+
+        log.info("| Source | Keyframe B | Delta B | Changed channels | History record B | JSON B | Delta vs record | Delta vs JSON | Max error (steps) |");
+        log.info("|---|---:|---:|---:|---:|---:|---:|---:|---:|");
+        for (Result r : results) {
+            log.info(String.format("| %s | %.1f | %.1f | %.1f | %d | %.1f | %.1f%% | %.1f%% | %.2f |",
+                    r.source(), r.keyframeBytes(), r.deltaBytes(), r.changedChannels(),
+                    FlightHistoryWriter.SAMPLE_BYTES, r.jsonBytes(),
+                    100 * r.deltaBytes() / FlightHistoryWriter.SAMPLE_BYTES,
+                    100 * r.deltaBytes() / r.jsonBytes(), r.maxErrorSteps()));
+        }
+    }
+
+    /**
+     * Size summary of one run
+     *
+     * @param source Where the samples came from
+     * @param tails Fleet size
+     * @param ticks Ticks encoded
+     * @param keyframeBytes Mean size of the first sample of each tail
+     * @param deltaBytes Mean size of every later sample
+     * @param changedChannels Mean number of channels sent by a later sample
+     * @param jsonBytes Mean size of the {@code aircraft_data} WebSocket message
+     * @param maxErrorSteps Largest decoding error, in resolution steps of the channel
+     */
+    public record Result(String source, int tails, long ticks, double keyframeBytes, double deltaBytes,
+                         double changedChannels, double jsonBytes, double maxErrorSteps) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.aircraft.monitoring.simulation;
+
+import ch.qos.logback.classic.Level;
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.service.AnomalyDetectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless comparison of the anomaly detection paths on one thread.
+ *
+ * Simulates a fleet for a few ticks, then runs anomaly detection over the
+ * same fleet state again and again: sample by sample (each tail copied
+ * into an {@link AircraftData} and checked on its own), as a columnar
+ * {@link AircraftDataBatch} with the scalar loops, and as a batch with the
+ * JDK Vector API. Each round is timed on its own and the median round is
+ * reported per sample. The vector variant runs only when the project was
+ * built with the {@code vector} profile and the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}; otherwise it is skipped.
+ * Runs without Spring; see {@link #main(String[])}. The results for this
+ * project are in the README.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class DetectionBenchmark {
+
+    /**
+     * Ticks simulated before measuring, so readings have left their start values
+     */
+    private static final int SETTLE_TICKS = 50;
+
+    private final FleetState state;
+    private final AircraftDataBatch batch;
+    private final AnomalyDetectionService detector = new AnomalyDetectionService();
+    private final AircraftData sample = new AircraftData();
+
+    /**
+     * Creates a benchmark for one fleet size
+     *
+     * @param tails Number of tails, one sample each
+     * @param seed Root random seed
+     */
+    public DetectionBenchmark(int tails, long seed) {
+        FleetSimulator simulator = new FleetSimulator(tails, new RandomStreams(seed));
+        for (int i = 0; i < SETTLE_TICKS; i++) {
+            simulator.tick();
+        }
+        this.state = simulator.getState();
+        this.batch = state.asBatch();
+    }
+
+    /**
+     * Runs the warm-up rounds, then the measured ones
+     *
+     * @param variant Detection path to measure
+     * @param warmupRounds Rounds run before measuring, to let the JIT settle
+     * @param rounds Rounds measured
+     * @return Cost summary, or null if the variant is not available
+     */
+    public Result run(Variant variant, int warmupRounds, int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("At least one measured round is required: " + rounds);
+        }
+        boolean vector = variant == Variant.BATCH_VECTOR;
+        if (detector.setBatchVector(vector) != vector) {
+            return null;
+        }
+        for (int i = 0; i < warmupRounds; i++) {
+            round(variant);
+        }
+
+        long[] times = new long[rounds];
+        int anomalous = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            anomalous = round(variant);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        int tails = state.getSize();
+        return new Result(variant, tails, rounds, (double) times[rounds / 2] / tails, (double) times[0] / tails,
+                anomalous);
+    }
+
+    /**
+     * Runs detection over the whole fleet once
+     *
+     * @return Number of samples with an anomaly
+     */
+    private int round(Variant variant) {
+        if (variant != Variant.PER_SAMPLE) {
+            return detector.detectAnomalies(batch);
+        }
+        int anomalous = 0;
+        for (int t = 0; t < state.getSize(); t++) {
+            state.copyTo(t, sample);
+            anomalous += detector.detectAnomalies(sample, t).hasAnyAnomaly() ? 1 : 0;
+        }
+        return anomalous;
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * Options (all {@code --name=value}): {@code tails} comma-separated fleet
+     * sizes (1000,10000,100000), {@code warmup} rounds (2000), {@code rounds}
+     * measured rounds (1000) and {@code seed} (42). Fleets above 10,000 tails
+     * run proportionally fewer rounds, at least 20.
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String[] fleetSizes = options.getOrDefault("tails", "1000,10000,100000").split(",");
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "2000"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        // Detection logs the start of each excursion at warn; keep console
+        // output out of the measurement and report the anomaly count instead
+        if (LoggerFactory.getLogger(AnomalyDetectionService.class) instanceof ch.qos.logback.classic.Logger logger) {
+            logger.setLevel(Level.ERROR);
+        }
+
+        log.info("Detection benchmark, Java {}", Runtime.version());
+        List<Result> results = new ArrayList<>();
+        for (String size : fleetSizes) {
+            int tails = Integer.parseInt(size.trim());
+            int scale = Math.max(1, tails / 10_000);
+            DetectionBenchmark benchmark = new DetectionBenchmark(tails, seed);
+            for (Variant variant : Variant.values()) {
+                Result result = benchmark.run(variant, Math.max(20, warmup / scale), Math.max(20, rounds / scale));
+                if (result == null) {
+                    log.warn("Skipping {}: build with -Pvector and run with --add-modules jdk.incubator.vector",
+                            variant.getLabel());
+                    continue;
+                }
+                log.info("{}", result);
+                results.add(result);
+            }
+        }
+
+        log.info("| Tails | Variant | Median ns/sample | Best ns/sample | Anomalous |");
+        log.info("|---:|---|---:|---:|---:|");
+        for (Result r : results) {
+            log.info(String.format("| %,d | %s | %.2f | %.2f | %,d |",
+                    r.tails(), r.variant().getLabel(), r.medianNanosPerSample(), r.bestNanosPerSample(),
+                    r.anomalous()));
+        }
+    }
+
+    /**
+     * Benchmark result for one fleet size and detection variant
+     *
+     * @param variant Detection variant
+     * @param tails Fleet size
+     * @param rounds Measured rounds
+     * @param medianNanosPerSample Median round time over the fleet size
+     * @param bestNanosPerSample Fastest round time over the fleet size
+     * @param anomalous Samples flagged in the last round
+     */
+    public record Result(Variant variant, int tails, int rounds, double medianNanosPerSample,
+                         double bestNanosPerSample, int anomalous) {
+    }
+
+    /**
+     * How the fleet is run through anomaly detection
+     */
+    public enum Variant {
+        /** Each tail copied into a sample and checked on its own */
+        PER_SAMPLE("per sample"),
+        /** The whole fleet checked as one batch with scalar loops */
+        BATCH_SCALAR("batch, scalar"),
+        /** The whole fleet checked as one batch with the Vector API */
+        BATCH_VECTOR("batch, Vector API");
+
+        private final String label;
+
+        Variant(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the label shown in the results table
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.model.SensorQuality;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FaultInjector and Fault.
+ *
+ * Drives the injector directly against a FleetState so that every fault
+ * type can be checked against known true values.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("FaultInjector Tests")
+class FaultInjectorTest {
+
+    private static final int FLEET_SIZE = 4;
+    private static final SensorChannel CHANNEL = SensorChannel.ENGINE_TEMPERATURE;
+
+    private FaultInjector injector;
+    private FleetState state;
+
+    @BeforeEach
+    void setUp() {
+        injector = new FaultInjector(FLEET_SIZE, new SplittableRandom(42));
+        state = new FleetState(FLEET_SIZE);
+    }
+
+    /**
+     * Runs one tick with the given true value on every tail and returns
+     * the reading of tail 1
+     */
+    private double tick(long tick, double trueValue) {
+        injector.restore(state);
+        for (int tail = 0; tail < FLEET_SIZE; tail++) {
+            state.set(CHANNEL, tail, trueValue);
+        }
+        injector.apply(tick, state);
+        return state.get(CHANNEL, 1);
+    }
+
+    @Nested
+    @DisplayName("Fault Type Tests")
+    class FaultTypeTests {
+
+        @Test
+        @DisplayName("Should offset the reading for a step fault")
+        void shouldOffsetTheReadingForAStepFault() {
+            injector.schedule(new Fault(Fault.Type.STEP, 1, CHANNEL, 2, 2, 50.0));
+
+            assertEquals(100.0, tick(1, 100.0));
+            assertEquals(150.0, tick(2, 100.0));
+            assertEquals(160.0, tick(3, 110.0));
+            assertEquals(110.0, tick(4, 110.0));
+        }
+
+        @Test
+        @DisplayName("Should grow the offset linearly for a ramp fault")
+        void shouldGrowTheOffsetLinearlyForARampFault() {
+            injector.schedule(new Fault(Fault.Type.RAMP, 1, CHANNEL, 1, 4, 40.0));
+
+            assertEquals(110.0, tick(1, 100.0));
+            assertEquals(120.0, tick(2, 100.0));
+            assertEquals(130.0, tick(3, 100.0));
+            assertEquals(140.0, tick(4, 100.0));
+            assertEquals(100.0, tick(5, 100.0));
+        }
+
+        @Test
+        @DisplayName("Should hold the given value for a stuck-at fault")
+        void shouldHoldTheGivenValueForAStuckAtFault() {
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 1, 2, 220.0));
+
+            assertEquals(220.0, tick(1, 100.0));
+            assertEquals(220.0, tick(2, 130.0));
+            assertEquals(130.0, tick(3, 130.0));
+        }
+
+        @Test
+        @DisplayName("Should freeze the onset value for a stuck-at fault without a value")
+        void shouldFreezeTheOnsetValueForAStuckAtFaultWithoutAValue() {
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 1, 3, Double.NaN));
+
+            assertEquals(100.0, tick(1, 100.0));
+            assertEquals(100.0, tick(2, 120.0));
+            assertEquals(100.0, tick(3, 140.0));
+        }
+
+        @Test
+        @DisplayName("Should mark a stuck reading stale from its second tick")
+        void shouldMarkAStuckReadingStaleFromItsSecondTick() {
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 1, 2, 220.0));
+
+            tick(1, 100.0);
+            assertEquals(SensorQuality.VALID, state.getQuality(CHANNEL, 1));
+            tick(2, 100.0);
+            assertEquals(SensorQuality.STALE, state.getQuality(CHANNEL, 1));
+            tick(3, 100.0);
+            assertEquals(SensorQuality.VALID, state.getQuality(CHANNEL, 1));
+        }
+
+        @Test
+        @DisplayName("Should read zero from a failed sensor during a dropout")
+        void shouldReadZeroFromAFailedSensorDuringADropout() {
+            injector.schedule(new Fault(Fault.Type.DROPOUT, 1, CHANNEL, 1, 1, Double.NaN));
+
+            assertEquals(0.0, tick(1, 100.0));
+            assertEquals(SensorQuality.FAILED, state.getQuality(CHANNEL, 1));
+            assertEquals(SensorQuality.VALID, state.getQuality(CHANNEL, 0));
+            assertEquals(100.0, tick(2, 100.0));
+            assertEquals(SensorQuality.VALID, state.getQuality(CHANNEL, 1));
+        }
+
+        @Test
+        @DisplayName("Should restore the quality a dropout replaced")
+        void shouldRestoreTheQualityADropoutReplaced() {
+            state.setQuality(CHANNEL, 1, SensorQuality.INTERPOLATED);
+            injector.schedule(new Fault(Fault.Type.STEP, 1, CHANNEL, 1, 1, 50.0));
+            injector.schedule(new Fault(Fault.Type.DROPOUT, 1, CHANNEL, 1, 1, Double.NaN));
+
+            tick(1, 100.0);
+            assertEquals(SensorQuality.FAILED, state.getQuality(CHANNEL, 1));
+
+            injector.restore(state);
+            assertEquals(SensorQuality.INTERPOLATED, state.getQuality(CHANNEL, 1));
+        }
+
+        @Test
+        @DisplayName("Should add noise during a noise burst")
+        void shouldAddNoiseDuringANoiseBurst() {
+            injector.schedule(new Fault(Fault.Type.NOISE_BURST, 1, CHANNEL, 1, 100, 5.0));
+
+            double sum = 0;
+            double sumOfSquares = 0;
+            for (int tick = 1; tick <= 100; tick++) {
+                double deviation = tick(tick, 100.0) - 100.0;
+                sum += deviation;
+                sumOfSquares += deviation * deviation;
+            }
+            double mean = sum / 100;
+            double standardDeviation = Math.sqrt(sumOfSquares / 100 - mean * mean);
+            assertTrue(Math.abs(mean) < 2.0, "Mean: " + mean);
+            assertTrue(standardDeviation > 3.0 && standardDeviation < 7.0, "Std dev: " + standardDeviation);
+        }
+    }
+
+    @Nested
+    @DisplayName("Timeline Tests")
+    class TimelineTests {
+
+        @Test
+        @DisplayName("Should only touch the faulted tail and channel")
+        void shouldOnlyTouchTheFaultedTailAndChannel() {
+            injector.schedule(new Fault(Fault.Type.DROPOUT, 1, CHANNEL, 1, 1, Double.NaN));
+            state.set(SensorChannel.ENGINE_RPM, 1, 2200.0);
+
+            tick(1, 100.0);
+
+            assertEquals(0.0, state.get(CHANNEL, 1));
+            assertEquals(100.0, state.get(CHANNEL, 0));
+            assertEquals(100.0, state.get(CHANNEL, 2));
+            assertEquals(2200.0, state.get(SensorChannel.ENGINE_RPM, 1));
+        }
+
+        @Test
+        @DisplayName("Should restore the true value before the next tick")
+        void shouldRestoreTheTrueValueBeforeTheNextTick() {
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 1, 5, 220.0));
+            tick(1, 100.0);
+
+            injector.restore(state);
+
+            assertEquals(100.0, state.get(CHANNEL, 1));
+        }
+
+        @Test
+        @DisplayName("Should keep overlapping faults independent")
+        void shouldKeepOverlappingFaultsIndependent() {
+            // Triggered back to back, neither resets the other
+            injector.schedule(new Fault(Fault.Type.STEP, 1, CHANNEL, 2, 3, 10.0));
+            injector.schedule(new Fault(Fault.Type.STEP, 1, CHANNEL, 3, 3, 5.0));
+
+            assertEquals(100.0, tick(1, 100.0));
+            assertEquals(110.0, tick(2, 100.0));
+            assertEquals(115.0, tick(3, 100.0));
+            assertEquals(115.0, tick(4, 100.0));
+            assertEquals(105.0, tick(5, 100.0));
+            assertEquals(100.0, tick(6, 100.0));
+
+            injector.restore(state);
+            assertEquals(100.0, state.get(CHANNEL, 1));
+        }
+
+        @Test
+        @DisplayName("Should start faults in time order regardless of scheduling order")
+        void shouldStartFaultsInTimeOrderRegardlessOfSchedulingOrder() {
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 3, 1, 30.0));
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 1, 1, 10.0));
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 2, 1, 20.0));
+
+            assertEquals(10.0, tick(1, 100.0));
+            assertEquals(20.0, tick(2, 100.0));
+            assertEquals(30.0, tick(3, 100.0));
+        }
+
+        @Test
+        @DisplayName("Should drop faults that ended before they could start")
+        void shouldDropFaultsThatEndedBeforeTheyCouldStart() {
+            injector.schedule(new Fault(Fault.Type.STUCK_AT, 1, CHANNEL, 1, 2, 220.0));
+
+            assertEquals(100.0, tick(5, 100.0));
+            assertEquals(0, injector.getPendingCount());
+            assertEquals(1, injector.getCompletedCount());
+        }
+
+        @Test
+        @DisplayName("Should apply faults range by range like a whole-fleet pass")
+        void shouldApplyFaultsRangeByRangeLikeAWholeFleetPass() {
+            FaultInjector ranged = new FaultInjector(FLEET_SIZE, new SplittableRandom(42));
+            FleetState rangedState = new FleetState(FLEET_SIZE);
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                injector.schedule(new Fault(Fault.Type.NOISE_BURST, tail, CHANNEL, 1, 20, 5.0));
+                ranged.schedule(new Fault(Fault.Type.NOISE_BURST, tail, CHANNEL, 1, 20, 5.0));
+            }
+
+            for (int tick = 1; tick <= 20; tick++) {
+                tick(tick, 100.0);
+                ranged.restore(rangedState);
+                for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                    rangedState.set(CHANNEL, tail, 100.0);
+                }
+                // Ranges in reverse order, as a parallel executor might run them
+                ranged.start(tick);
+                ranged.apply(tick, rangedState, 2, FLEET_SIZE);
+                ranged.apply(tick, rangedState, 0, 2);
+
+                assertArrayEquals(state.getChannel(CHANNEL), rangedState.getChannel(CHANNEL));
+            }
+        }
+
+        @Test
+        @DisplayName("Should track pending, active and completed faults")
+        void shouldTrackPendingActiveAndCompletedFaults() {
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                injector.schedule(new Fault(Fault.Type.STEP, tail, CHANNEL, 2, 2, 1.0));
+            }
+            assertEquals(FLEET_SIZE, injector.getPendingCount());
+
+            tick(1, 100.0);
+            tick(2, 100.0);
+            assertEquals(0, injector.getPendingCount());
+            assertEquals(FLEET_SIZE, injector.getActiveCount());
+
+            tick(4, 100.0);
+            assertEquals(0, injector.getActiveCount());
+            assertEquals(FLEET_SIZE, injector.getCompletedCount());
+        }
+
+        @Test
+        @DisplayName("Should handle thousands of concurrent faults")
+        void shouldHandleThousandsOfConcurrentFaults() {
+            FaultInjector fleetInjector = new FaultInjector(10_000, new SplittableRandom(1));
+            FleetState fleet = new FleetState(10_000);
+            for (int tail = 0; tail < 10_000; tail++) {
+                fleetInjector.schedule(new Fault(Fault.Type.STUCK_AT, tail, CHANNEL, 1, 10, 220.0));
+            }
+
+            fleetInjector.apply(1, fleet);
+
+            assertEquals(10_000, fleetInjector.getActiveCount());
+            for (int tail = 0; tail < 10_000; tail++) {
+                assertEquals(220.0, fleet.get(CHANNEL, tail));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject faults outside the fleet")
+        void shouldRejectFaultsOutsideTheFleet() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> injector.schedule(new Fault(Fault.Type.STEP, FLEET_SIZE, CHANNEL, 1, 1, 1.0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fault Validation Tests")
+    class FaultValidationTests {
+
+        @Test
+        @DisplayName("Should reject invalid timing")
+        void shouldRejectInvalidTiming() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Fault(Fault.Type.STEP, 0, CHANNEL, -1, 1, 1.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Fault(Fault.Type.STEP, 0, CHANNEL, 1, 0, 1.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Fault(Fault.Type.STEP, 0, CHANNEL, 1, Long.MAX_VALUE, 1.0));
+        }
+
+        @Test
+        @DisplayName("Should require a magnitude for offset and noise faults")
+        void shouldRequireAMagnitudeForOffsetAndNoiseFaults() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Fault(Fault.Type.STEP, 0, CHANNEL, 1, 1, Double.NaN));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Fault(Fault.Type.NOISE_BURST, 0, CHANNEL, 1, 1, Double.NaN));
+            assertDoesNotThrow(() -> new Fault(Fault.Type.DROPOUT, 0, CHANNEL, 1, 1, Double.NaN));
+        }
+
+        @Test
+        @DisplayName("Should compute the end tick")
+        void shouldComputeTheEndTick() {
+            assertEquals(15, new Fault(Fault.Type.STEP, 0, CHANNEL, 10, 5, 1.0).endTick());
+        }
+    }
+}
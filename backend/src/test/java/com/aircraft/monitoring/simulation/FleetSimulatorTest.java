@@ -0,0 +1,404 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FleetSimulator and the struct-of-arrays FleetState.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("FleetSimulator Tests")
+class FleetSimulatorTest {
+
+    private static final int FLEET_SIZE = 500;
+
+    private FleetSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new FleetSimulator(FLEET_SIZE, new RandomStreams(42));
+    }
+
+    private static double correlation(double[] a, double[] b) {
+        double meanA = 0;
+        double meanB = 0;
+        for (int i = 0; i < a.length; i++) {
+            meanA += a[i] / a.length;
+            meanB += b[i] / b.length;
+        }
+        double covariance = 0;
+        double varianceA = 0;
+        double varianceB = 0;
+        for (int i = 0; i < a.length; i++) {
+            covariance += (a[i] - meanA) * (b[i] - meanB);
+            varianceA += (a[i] - meanA) * (a[i] - meanA);
+            varianceB += (b[i] - meanB) * (b[i] - meanB);
+        }
+        return covariance / Math.sqrt(varianceA * varianceB);
+    }
+
+    @Nested
+    @DisplayName("Fleet State Tests")
+    class FleetStateTests {
+
+        @Test
+        @DisplayName("Should keep one array per channel sized to the fleet")
+        void shouldKeepOneArrayPerChannelSizedToTheFleet() {
+            FleetState state = simulator.getState();
+
+            assertEquals(FLEET_SIZE, state.getSize());
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertEquals(FLEET_SIZE, state.getChannel(channel).length);
+            }
+        }
+
+        @Test
+        @DisplayName("Should initialize every tail with the cruise state")
+        void shouldInitializeEveryTailWithTheCruiseState() {
+            FleetState state = simulator.getState();
+
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                assertEquals(35000.0, state.get(SensorChannel.ALTITUDE, tail));
+                assertEquals(2200.0, state.get(SensorChannel.ENGINE_RPM, tail));
+                assertEquals(85.0, state.get(SensorChannel.FUEL_LEVEL, tail));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject empty fleets")
+        void shouldRejectEmptyFleets() {
+            assertThrows(IllegalArgumentException.class, () -> new FleetState(0));
+        }
+
+        @Test
+        @DisplayName("Should copy one tail into an AircraftData sample")
+        void shouldCopyOneTailIntoAnAircraftDataSample() {
+            simulator.tick();
+            FleetState state = simulator.getState();
+            state.setAircraftType(7, 2);
+            AircraftData data = new AircraftData();
+
+            state.copyTo(7, data);
+
+            assertEquals(state.get(SensorChannel.ENGINE_RPM, 7), data.getEngineRPM());
+            assertEquals(state.get(SensorChannel.HYDRAULIC_FLUID_LEVEL, 7), data.getHydraulicFluidLevel());
+            assertEquals(state.get(SensorChannel.MACH_NUMBER, 7), data.getMachNumber());
+            assertEquals(state.get(SensorChannel.GENERATOR_OUTPUT, 7), data.getGeneratorOutput());
+            assertEquals(2, data.getAircraftType());
+            assertNull(data.getTimestamp());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tick Tests")
+    class TickTests {
+
+        @Test
+        @DisplayName("Should keep every tail within realistic ranges")
+        void shouldKeepEveryTailWithinRealisticRanges() {
+            for (int i = 0; i < 50; i++) {
+                simulator.tick();
+            }
+
+            FleetState state = simulator.getState();
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                double rpm = state.get(SensorChannel.ENGINE_RPM, tail);
+                assertTrue(rpm >= 1800.0 && rpm <= 2600.0);
+                double altitude = state.get(SensorChannel.ALTITUDE, tail);
+                assertTrue(altitude >= 30000.0 && altitude <= 40000.0);
+                double pressure = state.get(SensorChannel.HYDRAULIC_PRESSURE, tail);
+                assertTrue(pressure >= 2500.0 && pressure <= 3200.0);
+                assertTrue(state.get(SensorChannel.FUEL_LEVEL, tail) >= 0.0);
+            }
+        }
+
+        @Test
+        @DisplayName("Should advance tails independently")
+        void shouldAdvanceTailsIndependently() {
+            simulator.tick();
+
+            double[] rpm = simulator.getState().getChannel(SensorChannel.ENGINE_RPM);
+            boolean allEqual = true;
+            for (int tail = 1; tail < FLEET_SIZE; tail++) {
+                allEqual &= rpm[tail] == rpm[0];
+            }
+            assertFalse(allEqual, "Tails should not move in lockstep");
+        }
+
+        @Test
+        @DisplayName("Should derive Mach number from airspeed and altitude")
+        void shouldDeriveMachNumberFromAirspeedAndAltitude() {
+            simulator.tick();
+
+            FleetState state = simulator.getState();
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                double expected = state.get(SensorChannel.AIRSPEED, tail)
+                        / (661.5 + state.get(SensorChannel.ALTITUDE, tail) * 0.001);
+                assertEquals(expected, state.get(SensorChannel.MACH_NUMBER, tail), 1e-12);
+            }
+        }
+
+        @Test
+        @DisplayName("Should correlate engine readings through their noise")
+        void shouldCorrelateEngineReadingsThroughTheirNoise() {
+            simulator.tick();
+
+            // Noise left after removing the RPM-driven part of each reading
+            FleetState state = simulator.getState();
+            double[] temperature = new double[FLEET_SIZE];
+            double[] oilPressure = new double[FLEET_SIZE];
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                double rpm = state.get(SensorChannel.ENGINE_RPM, tail);
+                temperature[tail] = state.get(SensorChannel.ENGINE_TEMPERATURE, tail) - (120.0 + (rpm - 2000) * 0.05);
+                oilPressure[tail] = state.get(SensorChannel.OIL_PRESSURE, tail) - (40.0 + (rpm - 2000) * 0.02);
+            }
+
+            assertTrue(correlation(temperature, oilPressure) > 0.25);
+        }
+
+        @Test
+        @DisplayName("Should only advance the requested tail range")
+        void shouldOnlyAdvanceTheRequestedTailRange() {
+            simulator.advance(0, 10);
+
+            FleetState state = simulator.getState();
+            assertNotEquals(0.0, state.get(SensorChannel.CABIN_PRESSURE, 9));
+            assertEquals(0.0, state.get(SensorChannel.CABIN_PRESSURE, 10));
+        }
+
+        @Test
+        @DisplayName("Should record tick count and timing")
+        void shouldRecordTickCountAndTiming() {
+            assertEquals(0, simulator.getAverageTickNanos());
+
+            simulator.tick();
+            simulator.tick();
+
+            assertEquals(2, simulator.getTickCount());
+            assertTrue(simulator.getLastTickNanos() > 0);
+            assertTrue(simulator.getAverageTickNanos() > 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reproducibility Tests")
+    class ReproducibilityTests {
+
+        @Test
+        @DisplayName("Should reproduce a seeded run bit for bit")
+        void shouldReproduceASeededRunBitForBit() {
+            FleetSimulator first = new FleetSimulator(FLEET_SIZE, new RandomStreams(7));
+            FleetSimulator second = new FleetSimulator(FLEET_SIZE, new RandomStreams(7));
+
+            for (int i = 0; i < 20; i++) {
+                first.tick();
+                second.tick();
+            }
+
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertArrayEquals(first.getState().getChannel(channel), second.getState().getChannel(channel));
+            }
+        }
+
+        @Test
+        @DisplayName("Should produce different runs for different seeds")
+        void shouldProduceDifferentRunsForDifferentSeeds() {
+            FleetSimulator first = new FleetSimulator(FLEET_SIZE, new RandomStreams(7));
+            FleetSimulator second = new FleetSimulator(FLEET_SIZE, new RandomStreams(8));
+
+            first.tick();
+            second.tick();
+
+            assertNotEquals(first.getState().get(SensorChannel.ENGINE_RPM, 0),
+                    second.getState().get(SensorChannel.ENGINE_RPM, 0));
+        }
+
+        @Test
+        @DisplayName("Should not let faults leak into the simulated aircraft")
+        void shouldNotLetFaultsLeakIntoTheSimulatedAircraft() {
+            FleetSimulator clean = new FleetSimulator(FLEET_SIZE, new RandomStreams(7));
+            FleetSimulator faulted = new FleetSimulator(FLEET_SIZE, new RandomStreams(7));
+            faulted.getFaultInjector().schedule(
+                    new Fault(Fault.Type.DROPOUT, 3, SensorChannel.ENGINE_RPM, 2, 3, Double.NaN));
+
+            for (int i = 0; i < 10; i++) {
+                clean.tick();
+                faulted.tick();
+                if (i >= 1 && i <= 3) {
+                    assertEquals(0.0, faulted.getState().get(SensorChannel.ENGINE_RPM, 3));
+                }
+            }
+
+            // The RPM random walk carried on underneath the dropout
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertArrayEquals(clean.getState().getChannel(channel), faulted.getState().getChannel(channel));
+            }
+        }
+
+        @Test
+        @DisplayName("Should not depend on how the fleet is partitioned")
+        void shouldNotDependOnHowTheFleetIsPartitioned() {
+            FleetSimulator whole = new FleetSimulator(FLEET_SIZE, new RandomStreams(7));
+            FleetSimulator chunked = new FleetSimulator(FLEET_SIZE, new RandomStreams(7));
+
+            whole.tick();
+            // Same tick in reverse chunk order, as a parallel executor might run it
+            chunked.advance(300, FLEET_SIZE);
+            chunked.advance(100, 300);
+            chunked.advance(0, 100);
+
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertArrayEquals(whole.getState().getChannel(channel), chunked.getState().getChannel(channel));
+            }
+        }
+
+        @Test
+        @DisplayName("Should produce the same fleet state on a fork/join executor")
+        void shouldProduceTheSameFleetStateOnAForkJoinExecutor() {
+            FlightProfile profile = new FlightProfile(2.0);
+            FleetSimulator serial = new FleetSimulator(FLEET_SIZE, new RandomStreams(7), profile);
+            FleetSimulator parallel = new FleetSimulator(FLEET_SIZE, new RandomStreams(7), profile);
+
+            try (TickExecutor executor = new ForkJoinTickExecutor(4, 64)) {
+                for (int i = 0; i < 50; i++) {
+                    serial.tick();
+                    parallel.tick(executor);
+                }
+            }
+
+            assertEquals(serial.getTickCount(), parallel.getTickCount());
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertArrayEquals(serial.getState().getChannel(channel), parallel.getState().getChannel(channel));
+            }
+        }
+
+        @Test
+        @DisplayName("Should run the follow-up task on each range after its faults")
+        void shouldRunTheFollowUpTaskOnEachRangeAfterItsFaults() {
+            simulator.getFaultInjector().schedule(
+                    new Fault(Fault.Type.STUCK_AT, 3, SensorChannel.ENGINE_RPM, 1, 1, 9999.0));
+            double[] seen = new double[FLEET_SIZE];
+            int[] visits = new int[FLEET_SIZE];
+
+            try (TickExecutor executor = new ForkJoinTickExecutor(4, 64)) {
+                simulator.tick(executor, (from, to) -> {
+                    for (int tail = from; tail < to; tail++) {
+                        seen[tail] = simulator.getState().get(SensorChannel.ENGINE_RPM, tail);
+                        visits[tail]++;
+                    }
+                });
+            }
+
+            assertEquals(9999.0, seen[3]);
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                assertEquals(1, visits[tail]);
+                assertEquals(simulator.getState().get(SensorChannel.ENGINE_RPM, tail), seen[tail]);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Flight Phase Tests")
+    class FlightPhaseTests {
+
+        private final FlightProfile profile = new FlightProfile(2.0);
+
+        @Test
+        @DisplayName("Should have no phases without a flight profile")
+        void shouldHaveNoPhasesWithoutAFlightProfile() {
+            assertNull(simulator.getPhase(0));
+            assertNull(simulator.getFlightProfile());
+        }
+
+        @Test
+        @DisplayName("Should spread the fleet across all phases")
+        void shouldSpreadTheFleetAcrossAllPhases() {
+            FleetSimulator phased = new FleetSimulator(FLEET_SIZE, new RandomStreams(42), profile);
+
+            EnumSet<FlightPhase> seen = EnumSet.noneOf(FlightPhase.class);
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                seen.add(phased.getPhase(tail));
+            }
+            assertEquals(EnumSet.allOf(FlightPhase.class), seen);
+        }
+
+        @Test
+        @DisplayName("Should go through the phases in order and refuel for the next flight")
+        void shouldGoThroughThePhasesInOrderAndRefuelForTheNextFlight() {
+            FleetSimulator phased = new FleetSimulator(1, new RandomStreams(3), profile);
+            FleetState state = phased.getState();
+            FlightPhase previous = phased.getPhase(0);
+            int transitions = 0;
+
+            // Long enough for a complete flight and then some
+            for (int tick = 0; tick < 20_000 && transitions < 8; tick++) {
+                phased.tick();
+                FlightPhase current = phased.getPhase(0);
+                if (current != previous) {
+                    assertEquals(previous.next(), current);
+                    if (current == FlightPhase.TAXI) {
+                        assertEquals(85.0, state.get(SensorChannel.FUEL_LEVEL, 0), 1.0);
+                    }
+                    transitions++;
+                    previous = current;
+                }
+            }
+            assertEquals(8, transitions);
+        }
+
+        @Test
+        @DisplayName("Should follow the profile targets of each phase")
+        void shouldFollowTheProfileTargetsOfEachPhase() {
+            FleetSimulator phased = new FleetSimulator(FLEET_SIZE, new RandomStreams(11), profile);
+            FleetState state = phased.getState();
+
+            for (int tick = 0; tick < 500; tick++) {
+                phased.tick();
+                for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                    double altitude = state.get(SensorChannel.ALTITUDE, tail);
+                    double airspeed = state.get(SensorChannel.AIRSPEED, tail);
+                    assertTrue(altitude >= 0 && altitude <= 40000, "Altitude: " + altitude);
+                    assertTrue(airspeed >= 0 && airspeed <= 500, "Airspeed: " + airspeed);
+                    assertTrue(Math.abs(state.get(SensorChannel.VERTICAL_SPEED, tail)) < 5000);
+                    assertTrue(state.get(SensorChannel.FUEL_LEVEL, tail) > 20);
+                    switch (phased.getPhase(tail)) {
+                        case TAXI -> assertTrue(altitude < 200 && airspeed < 40, "Taxiing at " + altitude);
+                        case CRUISE -> assertTrue(altitude > 30000 && airspeed > 400, "Cruising at " + altitude);
+                        default -> { }
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should not depend on how the fleet is partitioned")
+        void shouldNotDependOnHowTheFleetIsPartitioned() {
+            FleetSimulator whole = new FleetSimulator(FLEET_SIZE, new RandomStreams(7), profile);
+            FleetSimulator chunked = new FleetSimulator(FLEET_SIZE, new RandomStreams(7), profile);
+
+            for (int tick = 0; tick < 50; tick++) {
+                whole.advance(0, FLEET_SIZE);
+                chunked.advance(250, FLEET_SIZE);
+                chunked.advance(0, 250);
+            }
+
+            for (SensorChannel channel : SensorChannel.values()) {
+                assertArrayEquals(whole.getState().getChannel(channel), chunked.getState().getChannel(channel));
+            }
+            for (int tail = 0; tail < FLEET_SIZE; tail++) {
+                assertEquals(whole.getPhase(tail), chunked.getPhase(tail));
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FlightHistoryReader and FlightHistoryWriter.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("FlightHistoryReader Tests")
+class FlightHistoryReaderTest {
+
+    private static final VirtualClock CLOCK = new VirtualClock(1_705_312_800_000L, 500_000);
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Writes a history whose sample (tick, tail) holds tick * 100 + tail + channel / 100
+     */
+    private Path writeHistory(String name, int fleetSize, int ticks) throws IOException {
+        Path file = tempDir.resolve(name);
+        try (FlightHistoryWriter writer = new FlightHistoryWriter(file, fleetSize, 99L, CLOCK)) {
+            ByteBuffer buffer = ByteBuffer.allocate(FlightHistoryWriter.tickBytes(fleetSize))
+                    .order(FlightHistoryWriter.ORDER);
+            for (int tick = 0; tick < ticks; tick++) {
+                buffer.clear();
+                for (int tail = 0; tail < fleetSize; tail++) {
+                    for (int channel = 0; channel < SensorChannel.COUNT; channel++) {
+                        buffer.putFloat(tick * 100 + tail + channel / 100f);
+                    }
+                }
+                buffer.flip();
+                writer.writeTicks(buffer);
+            }
+        }
+        return file;
+    }
+
+    @Test
+    @DisplayName("Should read back any sample by tick and tail")
+    void shouldReadBackAnySampleByTickAndTail() throws IOException {
+        Path file = writeHistory("fleet.fhist", 3, 4);
+
+        try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+            assertEquals(3, history.getFleetSize());
+            assertEquals(4, history.getTickCount());
+            assertEquals(99L, history.getSeed());
+
+            double[] values = new double[SensorChannel.COUNT];
+            history.read(2, 1, values);
+            assertEquals(201.0f, values[0]);
+            assertEquals(201 + 5 / 100f, values[5]);
+            history.read(0, 2, values);
+            assertEquals(2.0f, values[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fill an AircraftData stamped by the virtual clock")
+    void shouldFillAnAircraftDataStampedByTheVirtualClock() throws IOException {
+        Path file = writeHistory("data.fhist", 1, 3);
+
+        try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+            AircraftData data = new AircraftData();
+            history.read(2, 0, data);
+
+            assertEquals(200.0f, data.getValue(SensorChannel.ENGINE_RPM));
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 1), data.getTimestamp());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read a file cut short up to its last whole tick")
+    void shouldReadAFileCutShortUpToItsLastWholeTick() throws IOException {
+        Path file = writeHistory("cut.fhist", 2, 5);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - FlightHistoryWriter.SAMPLE_BYTES);
+        }
+
+        try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+            assertEquals(4, history.getTickCount());
+            assertThrows(IndexOutOfBoundsException.class, () -> history.read(4, 0, new double[SensorChannel.COUNT]));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not flight histories")
+    void shouldRejectFilesThatAreNotFlightHistories() throws IOException {
+        Path csv = tempDir.resolve("flight.csv");
+        Files.writeString(csv, "timestamp,engineRPM\n2024-01-15 10:00:00,2200\n");
+        Path empty = tempDir.resolve("empty.fhist");
+        Files.createFile(empty);
+
+        assertThrows(IOException.class, () -> new FlightHistoryReader(csv));
+        assertThrows(IOException.class, () -> new FlightHistoryReader(empty));
+    }
+
+    @Test
+    @DisplayName("Should reject buffers holding partial ticks")
+    void shouldRejectBuffersHoldingPartialTicks() throws IOException {
+        try (FlightHistoryWriter writer = new FlightHistoryWriter(tempDir.resolve("partial.fhist"), 2, 1L, CLOCK)) {
+            ByteBuffer oneSample = ByteBuffer.allocate(FlightHistoryWriter.SAMPLE_BYTES);
+
+            assertThrows(IllegalArgumentException.class, () -> writer.writeTicks(oneSample));
+        }
+    }
+}
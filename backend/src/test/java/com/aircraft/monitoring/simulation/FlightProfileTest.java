@@ -0,0 +1,108 @@
+package com.aircraft.monitoring.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FlightProfile.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("FlightProfile Tests")
+class FlightProfileTest {
+
+    private final FlightProfile profile = new FlightProfile(2.0);
+
+    @Test
+    @DisplayName("Should ease each phase from its start to its end values")
+    void shouldEaseEachPhaseFromItsStartToItsEndValues() {
+        // Climb: 20 minutes at 2 s ticks
+        int first = profile.index(FlightPhase.CLIMB.ordinal(), 0);
+        int last = profile.index(FlightPhase.CLIMB.ordinal(), 599);
+
+        assertEquals(1500.0, profile.altitude()[first], 1.0);
+        assertEquals(35000.0, profile.altitude()[last], 1e-6);
+        assertEquals(450.0, profile.airspeed()[last], 1e-6);
+        assertEquals(2450.0, profile.engineRPM()[first]);
+
+        double middle = profile.altitude()[profile.index(FlightPhase.CLIMB.ordinal(), 299)];
+        assertEquals((1500.0 + 35000.0) / 2, middle, 200.0);
+    }
+
+    @Test
+    @DisplayName("Should match vertical speed to the altitude change per minute")
+    void shouldMatchVerticalSpeedToTheAltitudeChangePerMinute() {
+        int at = profile.index(FlightPhase.DESCENT.ordinal(), 100);
+
+        double perTick = profile.altitude()[at] - profile.altitude()[at - 1];
+        assertEquals(perTick * 30, profile.verticalSpeed()[at], 1e-6);
+        assertTrue(profile.verticalSpeed()[at] < 0);
+    }
+
+    @Test
+    @DisplayName("Should hold the last entry once a phase outlasts its table")
+    void shouldHoldTheLastEntryOnceAPhaseOutlastsItsTable() {
+        int cruise = FlightPhase.CRUISE.ordinal();
+
+        assertEquals(profile.index(cruise, 0), profile.index(cruise, 5000));
+        assertEquals(35000.0, profile.altitude()[profile.index(cruise, 5000)]);
+        assertEquals(0.0, profile.verticalSpeed()[profile.index(cruise, 5000)]);
+    }
+
+    @Test
+    @DisplayName("Should draw phase lengths within the phase bounds")
+    void shouldDrawPhaseLengthsWithinThePhaseBounds() {
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 1000; i++) {
+            int cruise = profile.drawDuration(FlightPhase.CRUISE.ordinal(), random);
+            assertTrue(cruise >= 900 && cruise <= 7200, "Cruise ticks: " + cruise);
+            assertEquals(30, profile.drawDuration(FlightPhase.TAKEOFF.ordinal(), random));
+        }
+    }
+
+    @Test
+    @DisplayName("Should scale the tables with the tick interval")
+    void shouldScaleTheTablesWithTheTickInterval() {
+        FlightProfile coarse = new FlightProfile(60.0);
+
+        assertEquals(1, coarse.drawDuration(FlightPhase.TAKEOFF.ordinal(), new SplittableRandom(1)));
+        assertEquals(20, coarse.drawDuration(FlightPhase.CLIMB.ordinal(), new SplittableRandom(1)));
+        assertTrue(coarse.getTableSize() < profile.getTableSize());
+        assertEquals(1, profile.getTicksPerEntry());
+        assertEquals(0.6, coarse.fuelBurn()[coarse.index(FlightPhase.CLIMB.ordinal(), 0)], 1e-9);
+        assertEquals(0.02, profile.fuelBurn()[profile.index(FlightPhase.CLIMB.ordinal(), 0)], 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should keep one entry per second when ticks are shorter")
+    void shouldKeepOneEntryPerSecondWhenTicksAreShorter() {
+        FlightProfile fast = new FlightProfile(0.001);
+        int climb = FlightPhase.CLIMB.ordinal();
+
+        assertEquals(1000, fast.getTicksPerEntry());
+        assertTrue(fast.getTableSize() <= 3100, "Entries: " + fast.getTableSize());
+        assertEquals(fast.index(climb, 0), fast.index(climb, 999));
+        assertEquals(fast.index(climb, 0) + 1, fast.index(climb, 1000));
+        assertEquals(35000.0, fast.altitude()[fast.index(climb, 1_199_999)], 1e-6);
+        assertEquals(fast.index(climb, 1_199_999), fast.index(climb, 5_000_000));
+
+        // Vertical speed is still per minute, fuel burn still per tick
+        int at = fast.index(climb, 600_000);
+        double perSecond = fast.altitude()[at] - fast.altitude()[at - 1];
+        assertEquals(perSecond * 60, fast.verticalSpeed()[at], 1e-6);
+        assertEquals(0.6 / 60_000, fast.fuelBurn()[at], 1e-12);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid tick intervals")
+    void shouldRejectInvalidTickIntervals() {
+        assertThrows(IllegalArgumentException.class, () -> new FlightProfile(0));
+        assertThrows(IllegalArgumentException.class, () -> new FlightProfile(Double.NaN));
+    }
+}
@@ -0,0 +1,213 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the off-heap recent history ring and its flyweight reader.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("HistoryRing Tests")
+class HistoryRingTest {
+
+    private final FleetState fleet = new FleetState(4);
+    private final AircraftDataBatch batch = fleet.asBatch();
+
+    /**
+     * Sets every reading of a tail to value + channel index, and its
+     * timestamp and anomaly mask to value
+     */
+    private void fill(int tail, long value) {
+        for (SensorChannel channel : SensorChannel.values()) {
+            fleet.set(channel, tail, value + channel.index());
+        }
+        batch.getLocalTimeNanos()[tail] = value;
+        batch.getAnomalyMasks()[tail] = (int) value;
+    }
+
+    @Nested
+    @DisplayName("Layout Tests")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("Should size the ring from the window and tick rate")
+        void shouldSizeTheRingFromTheWindowAndTickRate() {
+            HistoryRing ring = HistoryRing.forWindow(3, 61, 0.5);
+
+            assertEquals(31, ring.getCapacity());
+            assertEquals(3, ring.getSources());
+            assertEquals(184, HistoryRing.RECORD_BYTES);
+            assertEquals(3L * 31 * 184, ring.getMemoryBytes());
+            assertThrows(IllegalArgumentException.class, () -> HistoryRing.forWindow(1, 0, 0.5));
+        }
+
+        @Test
+        @DisplayName("Should read back every field of every source")
+        void shouldReadBackEveryFieldOfEverySource() {
+            HistoryRing ring = new HistoryRing(3, 5);
+            for (int tail = 0; tail < 4; tail++) {
+                fill(tail, 100 * (tail + 1));
+            }
+
+            assertEquals(1, ring.append(batch));
+
+            HistoryRecord record = ring.newRecord();
+            for (int tail = 0; tail < 3; tail++) {
+                assertTrue(record.moveTo(tail, 1));
+                assertEquals(1, record.getSequence());
+                assertEquals(100L * (tail + 1), record.getLocalTimeNanos());
+                assertEquals(100 * (tail + 1), record.getAnomalyMask());
+                for (SensorChannel channel : SensorChannel.values()) {
+                    assertEquals(100 * (tail + 1) + channel.index(), record.getValue(channel), channel.name());
+                }
+                assertTrue(record.isValid());
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> record.moveTo(3, 1));
+        }
+
+        @Test
+        @DisplayName("Should copy a record into a sample")
+        void shouldCopyARecordIntoASample() {
+            HistoryRing ring = new HistoryRing(1, 2);
+            fill(0, 7);
+            ring.append(batch);
+            HistoryRecord record = ring.newRecord();
+            AircraftData sample = new AircraftData();
+
+            assertTrue(record.moveTo(0, 1));
+            assertTrue(record.copyTo(sample));
+
+            assertEquals(7L, sample.getLocalTimeNanos());
+            assertEquals(7, sample.getAnomalyMask());
+            assertEquals(7.0 + SensorChannel.GENERATOR_OUTPUT.index(), sample.getGeneratorOutput());
+        }
+
+        @Test
+        @DisplayName("Should reject a batch with fewer samples than sources")
+        void shouldRejectABatchWithFewerSamplesThanSources() {
+            HistoryRing ring = new HistoryRing(5, 2);
+
+            assertThrows(IllegalArgumentException.class, () -> ring.append(batch));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ring Tests")
+    class RingTests {
+
+        @Test
+        @DisplayName("Should hold nothing before the first append")
+        void shouldHoldNothingBeforeTheFirstAppend() {
+            HistoryRing ring = new HistoryRing(1, 3);
+            HistoryRecord record = ring.newRecord();
+
+            assertEquals(0, ring.getLatestSequence());
+            assertEquals(0, ring.getSize());
+            assertFalse(record.moveTo(0, 1));
+            assertFalse(record.isValid());
+            assertThrows(IllegalStateException.class, record::getLocalTimeNanos);
+        }
+
+        @Test
+        @DisplayName("Should keep only the latest records once full")
+        void shouldKeepOnlyTheLatestRecordsOnceFull() {
+            HistoryRing ring = new HistoryRing(1, 3);
+            for (long value = 1; value <= 5; value++) {
+                fill(0, value);
+                ring.append(batch);
+            }
+            HistoryRecord record = ring.newRecord();
+
+            assertEquals(3, ring.getSize());
+            assertEquals(3, ring.getOldestSequence());
+            assertEquals(5, ring.getLatestSequence());
+            assertFalse(record.moveTo(0, 2));
+            for (long sequence = 3; sequence <= 5; sequence++) {
+                assertTrue(record.moveTo(0, sequence));
+                assertEquals(sequence, record.getLocalTimeNanos());
+            }
+            assertFalse(record.moveTo(0, 6));
+        }
+
+        @Test
+        @DisplayName("Should invalidate a view whose record is overwritten")
+        void shouldInvalidateAViewWhoseRecordIsOverwritten() {
+            HistoryRing ring = new HistoryRing(1, 2);
+            fill(0, 1);
+            ring.append(batch);
+            HistoryRecord record = ring.newRecord();
+            assertTrue(record.moveTo(0, 1));
+
+            ring.append(batch);
+            assertTrue(record.isValid());
+            ring.append(batch);
+
+            assertFalse(record.isValid());
+            assertFalse(record.copyTo(new AircraftData()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should never validate a half-written record")
+        void shouldNeverValidateAHalfWrittenRecord() throws Exception {
+            HistoryRing ring = new HistoryRing(1, 2);
+            fill(0, 0);
+            ring.append(batch);
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicLong reads = new AtomicLong();
+            AtomicReference<String> torn = new AtomicReference<>();
+
+            Runnable reader = () -> {
+                HistoryRecord record = ring.newRecord();
+                AircraftData copy = new AircraftData();
+                while (!done.get() && torn.get() == null) {
+                    // Read the oldest record, the one the writer overwrites next
+                    if (!record.moveTo(0, ring.getOldestSequence()) || !record.copyTo(copy)) {
+                        continue;
+                    }
+                    long expected = copy.getLocalTimeNanos();
+                    for (SensorChannel channel : SensorChannel.values()) {
+                        if (copy.getValue(channel) != expected + channel.index()) {
+                            torn.set(channel + " = " + copy.getValue(channel) + " in record " + expected);
+                        }
+                    }
+                    reads.incrementAndGet();
+                }
+            };
+            Thread[] readers = {new Thread(reader), new Thread(reader)};
+            for (Thread thread : readers) {
+                thread.start();
+            }
+
+            long deadline = System.nanoTime() + 300_000_000L;
+            for (long value = 1; torn.get() == null && (System.nanoTime() < deadline || reads.get() < 1000);
+                 value++) {
+                fill(0, value);
+                ring.append(batch);
+            }
+            done.set(true);
+            for (Thread thread : readers) {
+                thread.join();
+            }
+
+            assertNull(torn.get());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.aircraft.monitoring.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    @DisplayName("Should report zeros when empty")
+    void shouldReportZerosWhenEmpty() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMeanMicros());
+        assertEquals(0.0, histogram.getPercentileMicros(0.99));
+        assertEquals(0.0, histogram.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("Should track count, mean and max")
+    void shouldTrackCountMeanAndMax() {
+        histogram.record(10_000);
+        histogram.record(30_000);
+        histogram.record(-5_000);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(40.0 / 3, histogram.getMeanMicros(), 1e-9);
+        assertEquals(30.0, histogram.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("Should bound percentiles by power-of-two buckets")
+    void shouldBoundPercentilesByPowerOfTwoBuckets() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(3_000);      // 3 us: below 4 us
+        }
+        histogram.record(1_000_000);      // 1 ms outlier
+
+        assertEquals(4.0, histogram.getPercentileMicros(0.5));
+        assertEquals(4.0, histogram.getPercentileMicros(0.99));
+        assertEquals(1000.0, histogram.getPercentileMicros(1.0));
+    }
+}
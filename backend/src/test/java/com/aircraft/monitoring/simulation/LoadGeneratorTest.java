@@ -0,0 +1,223 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.simulation.LoadGenerator.BurstProfile;
+import com.aircraft.monitoring.simulation.LoadGenerator.Report;
+import com.aircraft.monitoring.simulation.LoadGenerator.Settings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoadGenerator.
+ *
+ * Tests the open-loop schedule, burst profiles and sample encoding.
+ * Timing bounds are deliberately loose so the tests stay stable on busy
+ * build machines.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("LoadGenerator Tests")
+class LoadGeneratorTest {
+
+    private static Settings constant(double rateHz, int tails, double durationSeconds) {
+        return new Settings(rateHz, tails, BurstProfile.CONSTANT, 1, 1, durationSeconds, 42L);
+    }
+
+    @Nested
+    @DisplayName("Schedule Tests")
+    class ScheduleTests {
+
+        @Test
+        @DisplayName("Should send at the requested rate")
+        void shouldSendAtTheRequestedRate() {
+            QueueLoadSink sink = new QueueLoadSink(10_000);
+            LoadGenerator generator = new LoadGenerator(constant(2000, 10, 0.5), sink);
+
+            Report report = generator.run();
+
+            assertEquals(1000, report.scheduled());
+            assertEquals(1000, report.sent());
+            assertEquals(0, report.dropped());
+            assertEquals(1000, sink.getQueue().size());
+            assertEquals(2000.0, report.requestedRateHz());
+            assertEquals(2000.0, report.achievedRateHz(), 200.0);
+        }
+
+        @Test
+        @DisplayName("Should keep the schedule when the consumer lags")
+        void shouldKeepTheScheduleWhenTheConsumerLags() {
+            // Nobody drains this queue: the consumer is infinitely slow
+            QueueLoadSink sink = new QueueLoadSink(100);
+            LoadGenerator generator = new LoadGenerator(constant(2000, 10, 0.5), sink);
+
+            long start = System.nanoTime();
+            Report report = generator.run();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Every scheduled sample is attempted on time; the excess is dropped, not delayed
+            assertEquals(1000, report.scheduled());
+            assertEquals(100, report.sent());
+            assertEquals(900, report.dropped());
+            assertTrue(elapsedMillis < 1500, "Elapsed: " + elapsedMillis);
+            assertTrue(report.achievedRateHz() < report.requestedRateHz());
+        }
+
+        @Test
+        @DisplayName("Should measure lag from the intended send time")
+        void shouldMeasureLagFromTheIntendedSendTime() {
+            // A sink that stalls once for 100 ms
+            List<String> received = new ArrayList<>();
+            LoadSink stallingSink = new LoadSink() {
+                @Override
+                public boolean offer(String sample) {
+                    if (received.size() == 10) {
+                        sleep(100);
+                    }
+                    return received.add(sample);
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+            LoadGenerator generator = new LoadGenerator(constant(1000, 1, 0.3), stallingSink);
+
+            Report report = generator.run();
+
+            // The samples due during the stall are sent late, not rescheduled
+            assertEquals(300, report.scheduled());
+            assertTrue(report.maxLagMicros() >= 90_000, "Max lag: " + report.maxLagMicros());
+            assertTrue(report.p99LagMicros() >= 10_000, "p99 lag: " + report.p99LagMicros());
+        }
+
+        @Test
+        @DisplayName("Should stop when requested")
+        void shouldStopWhenRequested() throws InterruptedException {
+            QueueLoadSink sink = new QueueLoadSink(100_000);
+            LoadGenerator generator = new LoadGenerator(constant(1000, 10, 0), sink);
+            Thread runner = new Thread(generator::run);
+
+            runner.start();
+            sleep(100);
+            generator.stop();
+            runner.join(2000);
+
+            assertFalse(runner.isAlive());
+            assertTrue(generator.getReport().sent() > 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Burst Profile Tests")
+    class BurstProfileTests {
+
+        @Test
+        @DisplayName("Should alternate between peak and base rate for SQUARE")
+        void shouldAlternateBetweenPeakAndBaseRateForSquare() {
+            Settings settings = new Settings(100, 1, BurstProfile.SQUARE, 4, 2, 0, null);
+
+            assertEquals(400.0, settings.rateAt(0.5));
+            assertEquals(100.0, settings.rateAt(1.5));
+            assertEquals(400.0, settings.rateAt(2.5));
+            assertEquals(250.0, settings.averageRateHz());
+        }
+
+        @Test
+        @DisplayName("Should swing between base and peak rate for SINE")
+        void shouldSwingBetweenBaseAndPeakRateForSine() {
+            Settings settings = new Settings(100, 1, BurstProfile.SINE, 3, 10, 0, null);
+
+            assertEquals(100.0, settings.rateAt(0), 1e-9);
+            assertEquals(300.0, settings.rateAt(5), 1e-9);
+            assertEquals(100.0, settings.rateAt(10), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should schedule more samples during bursts")
+        void shouldScheduleMoreSamplesDuringBursts() {
+            QueueLoadSink sink = new QueueLoadSink(10_000);
+            Settings settings = new Settings(1000, 1, BurstProfile.SQUARE, 3, 0.4, 0.4, 42L);
+
+            Report report = new LoadGenerator(settings, sink).run();
+
+            // 0.2 s at 3000/s plus 0.2 s at 1000/s
+            assertEquals(800, report.scheduled(), 2);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid settings")
+        void shouldRejectInvalidSettings() {
+            assertThrows(IllegalArgumentException.class, () -> constant(0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> constant(100, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> constant(100, 1, -1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Settings(100, 1, BurstProfile.SQUARE, 0.5, 1, 1, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding Tests")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("Should cycle through the tails")
+        void shouldCycleThroughTheTails() {
+            QueueLoadSink sink = new QueueLoadSink(100);
+            new LoadGenerator(constant(1000, 3, 0.006), sink).run();
+
+            List<String> samples = new ArrayList<>(sink.getQueue());
+            assertEquals(6, samples.size());
+            assertTrue(samples.get(0).startsWith("0,"));
+            assertTrue(samples.get(1).startsWith("1,"));
+            assertTrue(samples.get(2).startsWith("2,"));
+            assertTrue(samples.get(3).startsWith("0,"));
+        }
+
+        @Test
+        @DisplayName("Should encode every channel in header order")
+        void shouldEncodeEveryChannelInHeaderOrder() {
+            QueueLoadSink sink = new QueueLoadSink(10);
+            new LoadGenerator(constant(1000, 1, 0.001), sink).run();
+
+            String[] header = LoadGenerator.CSV_HEADER.split(",");
+            String[] sample = sink.getQueue().peek().split(",");
+            assertEquals(header.length, sample.length);
+            assertEquals("tail", header[0]);
+            assertEquals("timestamp", header[1]);
+            assertEquals("engineRPM", header[2]);
+            double rpm = Double.parseDouble(sample[2]);
+            assertTrue(rpm >= 1800 && rpm <= 2600);
+            assertTrue(Long.parseLong(sample[1]) > 0);
+        }
+
+        @Test
+        @DisplayName("Should reproduce samples from a fixed seed")
+        void shouldReproduceSamplesFromAFixedSeed() {
+            QueueLoadSink first = new QueueLoadSink(100);
+            QueueLoadSink second = new QueueLoadSink(100);
+            new LoadGenerator(constant(1000, 5, 0.02), first).run();
+            new LoadGenerator(constant(1000, 5, 0.02), second).run();
+
+            List<String> firstValues = new ArrayList<>();
+            List<String> secondValues = new ArrayList<>();
+            // Compare the readings, not the wall-clock timestamps
+            first.getQueue().forEach(s -> firstValues.add(s.substring(s.indexOf(',', 2))));
+            second.getQueue().forEach(s -> secondValues.add(s.substring(s.indexOf(',', 2))));
+            assertEquals(firstValues, secondValues);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
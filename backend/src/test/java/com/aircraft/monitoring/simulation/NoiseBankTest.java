@@ -0,0 +1,134 @@
+package com.aircraft.monitoring.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the correlated noise banks.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("NoiseBank Tests")
+class NoiseBankTest {
+
+    private static final double[][] CORRELATION = {
+            {1.0, 0.8, -0.5},
+            {0.8, 1.0, -0.3},
+            {-0.5, -0.3, 1.0}
+    };
+
+    private static final int FRAMES = 1 << 15;
+
+    private final NoiseBank bank = new NoiseBank(CORRELATION, FRAMES, new SplittableRandom(42));
+
+    private double mean(int channel) {
+        double sum = 0;
+        for (int f = 0; f < FRAMES; f++) {
+            sum += bank.get(f, channel);
+        }
+        return sum / FRAMES;
+    }
+
+    private double covariance(int a, int b) {
+        double meanA = mean(a);
+        double meanB = mean(b);
+        double sum = 0;
+        for (int f = 0; f < FRAMES; f++) {
+            sum += (bank.get(f, a) - meanA) * (bank.get(f, b) - meanB);
+        }
+        return sum / FRAMES;
+    }
+
+    private double correlation(int a, int b) {
+        return covariance(a, b) / Math.sqrt(covariance(a, a) * covariance(b, b));
+    }
+
+    @Nested
+    @DisplayName("Distribution Tests")
+    class DistributionTests {
+
+        @Test
+        @DisplayName("Should keep every sample within [-1, 1]")
+        void shouldKeepEverySampleWithinTheUnitBand() {
+            for (int f = 0; f < FRAMES; f++) {
+                for (int c = 0; c < bank.getWidth(); c++) {
+                    double sample = bank.get(f, c);
+                    assertTrue(sample >= -1 && sample <= 1, "sample " + sample);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should be centred with a standard deviation of a third")
+        void shouldBeCentredWithAStandardDeviationOfAThird() {
+            for (int c = 0; c < bank.getWidth(); c++) {
+                assertEquals(0.0, mean(c), 0.01);
+                assertEquals(1 / NoiseBank.CLIP, Math.sqrt(covariance(c, c)), 0.01);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reproduce the requested correlations")
+        void shouldReproduceTheRequestedCorrelations() {
+            for (int a = 0; a < CORRELATION.length; a++) {
+                for (int b = 0; b < a; b++) {
+                    assertEquals(CORRELATION[a][b], correlation(a, b), 0.03, "channels " + a + "," + b);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should generate the same bank from the same seed")
+        void shouldGenerateTheSameBankFromTheSameSeed() {
+            NoiseBank again = new NoiseBank(CORRELATION, FRAMES, new SplittableRandom(42));
+
+            assertArrayEquals(bank.samples(), again.samples());
+        }
+
+        @Test
+        @DisplayName("Should store frames channel-interleaved")
+        void shouldStoreFramesChannelInterleaved() {
+            assertEquals(3, bank.getWidth());
+            assertEquals(FRAMES, bank.getFrames());
+            assertEquals(FRAMES * 3, bank.samples().length);
+            assertEquals(bank.samples()[7 * 3 + 2], bank.get(7, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject a frame count that is not a power of two")
+        void shouldRejectAFrameCountThatIsNotAPowerOfTwo() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new NoiseBank(CORRELATION, 1000, new SplittableRandom(1)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new NoiseBank(CORRELATION, 0, new SplittableRandom(1)));
+        }
+
+        @Test
+        @DisplayName("Should reject matrices that are not correlation matrices")
+        void shouldRejectMatricesThatAreNotCorrelationMatrices() {
+            double[][] asymmetric = {{1.0, 0.5}, {0.4, 1.0}};
+            double[][] badDiagonal = {{2.0, 0.5}, {0.5, 1.0}};
+            double[][] notPositiveDefinite = {{1.0, 0.9, -0.9}, {0.9, 1.0, 0.9}, {-0.9, 0.9, 1.0}};
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new NoiseBank(asymmetric, 16, new SplittableRandom(1)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new NoiseBank(badDiagonal, 16, new SplittableRandom(1)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new NoiseBank(notPositiveDefinite, 16, new SplittableRandom(1)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new NoiseBank(new double[0][0], 16, new SplittableRandom(1)));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.aircraft.monitoring.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RandomStreams.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("RandomStreams Tests")
+class RandomStreamsTest {
+
+    @Test
+    @DisplayName("Should split the same streams from the same seed")
+    void shouldSplitTheSameStreamsFromTheSameSeed() {
+        SplittableRandom[] first = new RandomStreams(123).split(4);
+        SplittableRandom[] second = new RandomStreams(123).split(4);
+
+        for (int source = 0; source < 4; source++) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(first[source].nextLong(), second[source].nextLong());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should split independent streams per source")
+    void shouldSplitIndependentStreamsPerSource() {
+        SplittableRandom[] streams = new RandomStreams(123).split(2);
+
+        assertNotEquals(streams[0].nextLong(), streams[1].nextLong());
+    }
+
+    @Test
+    @DisplayName("Should expose the seed of an unseeded factory for replay")
+    void shouldExposeTheSeedOfAnUnseededFactoryForReplay() {
+        RandomStreams original = RandomStreams.unseeded();
+        RandomStreams replay = new RandomStreams(original.getSeed());
+
+        assertEquals(original.split().nextLong(), replay.split().nextLong());
+    }
+}
@@ -0,0 +1,165 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the double buffer of reusable samples.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("SampleBuffer Tests")
+class SampleBufferTest {
+
+    private final SampleBuffer buffer = new SampleBuffer();
+
+    /**
+     * Fills every reading and the timestamp of a sample with the same value
+     */
+    private static void fill(AircraftData sample, long value) {
+        sample.setLocalTimeNanos(value);
+        for (SensorChannel channel : SensorChannel.values()) {
+            sample.setValue(channel, value);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ownership Tests")
+    class OwnershipTests {
+
+        @Test
+        @DisplayName("Should have no current sample before the first publish")
+        void shouldHaveNoCurrentSampleBeforeTheFirstPublish() {
+            AircraftData target = new AircraftData();
+            target.setEngineRPM(1.0);
+
+            assertNull(buffer.snapshot());
+            assertFalse(buffer.read(target));
+            assertEquals(1.0, target.getEngineRPM());
+        }
+
+        @Test
+        @DisplayName("Should alternate between two reused samples")
+        void shouldAlternateBetweenTwoReusedSamples() {
+            AircraftData first = buffer.beginWrite();
+            buffer.publish();
+            AircraftData second = buffer.beginWrite();
+            buffer.publish();
+            AircraftData third = buffer.beginWrite();
+            buffer.publish();
+
+            assertNotSame(first, second);
+            assertSame(first, third);
+        }
+
+        @Test
+        @DisplayName("Should hand out copies that later writes do not change")
+        void shouldHandOutCopiesThatLaterWritesDoNotChange() {
+            fill(buffer.beginWrite(), 1);
+            buffer.publish();
+
+            AircraftData copy = buffer.snapshot();
+            fill(buffer.beginWrite(), 2);
+            buffer.publish();
+            fill(buffer.beginWrite(), 3);
+            buffer.publish();
+
+            assertEquals(1.0, copy.getEngineRPM());
+            assertEquals(1L, copy.getLocalTimeNanos());
+            assertEquals(3.0, buffer.snapshot().getEngineRPM());
+        }
+
+        @Test
+        @DisplayName("Should keep the current sample while the next one is written")
+        void shouldKeepTheCurrentSampleWhileTheNextOneIsWritten() {
+            fill(buffer.beginWrite(), 1);
+            buffer.publish();
+
+            fill(buffer.beginWrite(), 2);
+            assertEquals(1.0, buffer.snapshot().getEngineRPM());
+
+            buffer.publish();
+            assertEquals(2.0, buffer.snapshot().getEngineRPM());
+        }
+
+        @Test
+        @DisplayName("Should keep the current sample when a write is aborted")
+        void shouldKeepTheCurrentSampleWhenAWriteIsAborted() {
+            fill(buffer.beginWrite(), 1);
+            buffer.publish();
+
+            fill(buffer.beginWrite(), 2);
+            buffer.abort();
+
+            assertEquals(1.0, buffer.snapshot().getEngineRPM());
+            fill(buffer.beginWrite(), 3);
+            buffer.publish();
+            assertEquals(3.0, buffer.snapshot().getEngineRPM());
+        }
+
+        @Test
+        @DisplayName("Should reject unbalanced writes")
+        void shouldRejectUnbalancedWrites() {
+            assertThrows(IllegalStateException.class, buffer::publish);
+            assertThrows(IllegalStateException.class, buffer::abort);
+
+            buffer.beginWrite();
+            assertThrows(IllegalStateException.class, buffer::beginWrite);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should never hand a reader a half-written sample")
+        void shouldNeverHandAReaderAHalfWrittenSample() throws Exception {
+            fill(buffer.beginWrite(), 0);
+            buffer.publish();
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicLong reads = new AtomicLong();
+            AtomicReference<String> torn = new AtomicReference<>();
+
+            Runnable reader = () -> {
+                AircraftData copy = new AircraftData();
+                while (!done.get() && torn.get() == null) {
+                    buffer.read(copy);
+                    long expected = copy.getLocalTimeNanos();
+                    for (SensorChannel channel : SensorChannel.values()) {
+                        if (copy.getValue(channel) != expected) {
+                            torn.set(channel + " = " + copy.getValue(channel) + " in sample " + expected);
+                        }
+                    }
+                    reads.incrementAndGet();
+                }
+            };
+            Thread[] readers = {new Thread(reader), new Thread(reader)};
+            for (Thread thread : readers) {
+                thread.start();
+            }
+
+            long deadline = System.nanoTime() + 300_000_000L;
+            for (long value = 1; System.nanoTime() < deadline || reads.get() < 1000; value++) {
+                fill(buffer.beginWrite(), value);
+                buffer.publish();
+            }
+            done.set(true);
+            for (Thread thread : readers) {
+                thread.join();
+            }
+
+            assertNull(torn.get());
+        }
+    }
+}
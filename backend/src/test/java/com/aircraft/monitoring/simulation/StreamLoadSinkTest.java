@@ -0,0 +1,116 @@
+package com.aircraft.monitoring.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamLoadSink.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("StreamLoadSink Tests")
+class StreamLoadSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write the header and samples to a file")
+    void shouldWriteTheHeaderAndSamplesToAFile() throws IOException {
+        Path file = tempDir.resolve("load.csv");
+        StreamLoadSink sink = StreamLoadSink.toFile(file, 100, "tail,timestamp");
+
+        assertTrue(sink.offer("0,1000"));
+        assertTrue(sink.offer("1,1001"));
+        sink.close();
+
+        assertEquals(List.of("tail,timestamp", "0,1000", "1,1001"), Files.readAllLines(file));
+        assertEquals(2, sink.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("Should write samples to a socket")
+    void shouldWriteSamplesToASocket() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            StreamLoadSink sink = StreamLoadSink.toSocket("localhost", server.getLocalPort(), 100, null);
+            try (Socket client = server.accept();
+                 BufferedReader reader = new BufferedReader(
+                         new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8))) {
+                sink.offer("0,1000");
+                sink.offer("1,1001");
+                sink.close();
+
+                assertEquals("0,1000", reader.readLine());
+                assertEquals("1,1001", reader.readLine());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop samples instead of blocking when the stream stalls")
+    void shouldDropSamplesInsteadOfBlockingWhenTheStreamStalls() throws IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream stalled = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                awaitRelease();
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                awaitRelease();
+            }
+
+            private void awaitRelease() throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        StreamLoadSink sink = new StreamLoadSink("stalled", stalled, 10, null);
+
+        int accepted = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            if (sink.offer(i + ",0")) {
+                accepted++;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // The buffer plus whatever the writer picked up before stalling
+        assertTrue(accepted <= 10 + 64 * 1024, "Accepted: " + accepted);
+        assertTrue(accepted < 100_000);
+        assertTrue(elapsedMillis < 1000, "Offer blocked for " + elapsedMillis + " ms");
+
+        release.countDown();
+        sink.close();
+    }
+
+    @Test
+    @DisplayName("Should reject samples after closing")
+    void shouldRejectSamplesAfterClosing() throws IOException {
+        StreamLoadSink sink = StreamLoadSink.toFile(tempDir.resolve("closed.csv"), 10, null);
+        sink.close();
+
+        assertFalse(sink.offer("0,1000"));
+    }
+}
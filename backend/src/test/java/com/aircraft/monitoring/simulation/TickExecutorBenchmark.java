@@ -0,0 +1,266 @@
+package com.aircraft.monitoring.simulation;
+
+import ch.qos.logback.classic.Level;
+import com.aircraft.monitoring.model.AircraftData;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.FleetState;
+import com.aircraft.monitoring.service.AnomalyDetectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless comparison of the {@link TickExecutor} modes.
+ *
+ * Ticks a fleet back to back (no pacing) on one executor and measures the
+ * wall time of every tick and the CPU time the whole process spent,
+ * including GC and JIT threads. A tick is either generation only or
+ * generation plus anomaly detection of every tail, each range being
+ * analyzed in the same task that advanced it. Detection runs either per sample or over
+ * a {@link AircraftDataBatch} view of the fleet. Runs without Spring; see
+ * {@link #main(String[])}. The results for this project are in the README.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class TickExecutorBenchmark {
+
+    private final TickExecutor executor;
+    private final Detection detection;
+    private final FleetSimulator simulator;
+    private final AircraftDataBatch batch;
+    private final AnomalyDetectionService detector = new AnomalyDetectionService();
+    private final TickExecutor.RangeTask detectTask;
+    private final LongAdder anomalies = new LongAdder();
+
+    /**
+     * Creates a benchmark for one fleet size and executor
+     *
+     * @param tails Number of tails to simulate
+     * @param executor Executor that runs the ticks
+     * @param detection Whether and how every tail is also run through anomaly detection
+     * @param seed Root random seed
+     */
+    public TickExecutorBenchmark(int tails, TickExecutor executor, Detection detection, long seed) {
+        this.executor = executor;
+        this.detection = detection;
+        this.simulator = new FleetSimulator(tails, new RandomStreams(seed));
+        this.batch = simulator.getState().asBatch();
+        this.detectTask = detection == Detection.BATCH ? this::detectBatchRange : this::detectRange;
+    }
+
+    /**
+     * Runs the warm-up ticks, then the measured ones
+     *
+     * @param warmupTicks Ticks run before measuring, to let the JIT settle
+     * @param ticks Ticks measured
+     * @return Latency and CPU summary of the measured ticks
+     */
+    public Result run(int warmupTicks, int ticks) {
+        if (ticks < 1) {
+            throw new IllegalArgumentException("At least one measured tick is required: " + ticks);
+        }
+        for (int i = 0; i < warmupTicks; i++) {
+            tick();
+        }
+        anomalies.reset();
+
+        long[] latencies = new long[ticks];
+        long cpuStart = processCpuNanos();
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            long tickStart = System.nanoTime();
+            tick();
+            latencies[i] = System.nanoTime() - tickStart;
+        }
+        long wall = System.nanoTime() - start;
+        long cpu = processCpuNanos() - cpuStart;
+
+        Arrays.sort(latencies);
+        return new Result(
+                executor.getMode(),
+                simulator.getState().getSize(),
+                detection,
+                executor.getParallelism(),
+                ticks,
+                wall / 1000.0 / ticks,
+                percentile(latencies, 0.50) / 1000.0,
+                percentile(latencies, 0.99) / 1000.0,
+                latencies[ticks - 1] / 1000.0,
+                cpuStart >= 0 ? cpu / 1000.0 / ticks : -1,
+                cpuStart >= 0 ? (double) cpu / wall : -1,
+                anomalies.sum());
+    }
+
+    private void tick() {
+        simulator.tick(executor, detection == Detection.OFF ? null : detectTask);
+    }
+
+    /**
+     * Runs the tails in [from, to) through anomaly detection
+     */
+    private void detectRange(int from, int to) {
+        FleetState state = simulator.getState();
+        AircraftData sample = new AircraftData();
+        int found = 0;
+        for (int t = from; t < to; t++) {
+            state.copyTo(t, sample);
+            if (detector.detectAnomalies(sample, t).hasAnyAnomaly()) {
+                found++;
+            }
+        }
+        if (found > 0) {
+            anomalies.add(found);
+        }
+    }
+
+    /**
+     * Runs the tails in [from, to) through batch anomaly detection
+     */
+    private void detectBatchRange(int from, int to) {
+        int found = detector.detectAnomalies(batch, from, to);
+        if (found > 0) {
+            anomalies.add(found);
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+
+    /**
+     * Gets the CPU time used by the whole process, or -1 if the JVM cannot tell
+     */
+    private static long processCpuNanos() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        return os instanceof com.sun.management.OperatingSystemMXBean sun ? sun.getProcessCpuTime() : -1;
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * Options (all {@code --name=value}): {@code tails} comma-separated fleet
+     * sizes (1000,10000,100000), {@code executors} comma-separated modes
+     * (SERIAL,FORK_JOIN,VIRTUAL_THREADS), {@code detection} comma-separated
+     * off, on (per sample) and batch, or both for off,on (both), {@code parallelism} FORK_JOIN workers, 0 = one per processor (0),
+     * {@code warmup} ticks (200), {@code ticks} measured ticks (500) and
+     * {@code seed} (42). Modes the runtime does not support are skipped.
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String[] fleetSizes = options.getOrDefault("tails", "1000,10000,100000").split(",");
+        String[] modes = options.getOrDefault("executors", "SERIAL,FORK_JOIN,VIRTUAL_THREADS").split(",");
+        String detectionOption = options.getOrDefault("detection", "both");
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism", "0"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "200"));
+        int ticks = Integer.parseInt(options.getOrDefault("ticks", "500"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        List<Detection> detectionRuns = new ArrayList<>();
+        for (String option : (detectionOption.equals("both") ? "off,on" : detectionOption).split(",")) {
+            detectionRuns.add(switch (option.trim()) {
+                case "off" -> Detection.OFF;
+                case "on" -> Detection.SAMPLE;
+                case "batch" -> Detection.BATCH;
+                default -> throw new IllegalArgumentException("Detection must be off, on, batch or both: " + option);
+            });
+        }
+
+        // Detection logs the start of each excursion at warn; keep console
+        // output out of the measurement and report the anomaly count instead
+        if (LoggerFactory.getLogger(AnomalyDetectionService.class) instanceof ch.qos.logback.classic.Logger logger) {
+            logger.setLevel(Level.ERROR);
+        }
+
+        log.info("Tick executor benchmark on {} processors, Java {}",
+                Runtime.getRuntime().availableProcessors(), Runtime.version());
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            for (Detection detection : detectionRuns) {
+                for (String size : fleetSizes) {
+                    try (TickExecutor executor = TickExecutor.create(
+                            TickExecutor.Mode.valueOf(mode.trim().toUpperCase()), parallelism)) {
+                        Result result = new TickExecutorBenchmark(Integer.parseInt(size.trim()), executor,
+                                detection, seed).run(warmup, ticks);
+                        log.info("{}", result);
+                        results.add(result);
+                    } catch (IllegalStateException e) {
+                        log.warn("Skipping {}: {}", mode, e.getMessage());
+                    }
+                }
+            }
+        }
+
+        log.info("| Executor | Tails | Detection | Mean ms | p50 ms | p99 ms | Max ms | CPU ms/tick | Cores busy | Anomalies |");
+        log.info("|---|---:|---|---:|---:|---:|---:|---:|---:|---:|");
+        for (Result r : results) {
+            log.info(String.format("| %s | %,d | %s | %.2f | %.2f | %.2f | %.2f | %.2f | %.2f | %,d |",
+                    r.mode(), r.tails(), r.detection().getLabel(), r.meanMicros() / 1000,
+                    r.p50Micros() / 1000, r.p99Micros() / 1000, r.maxMicros() / 1000,
+                    r.cpuMicrosPerTick() / 1000, r.cpuUtilization(), r.anomalies()));
+        }
+    }
+
+    /**
+     * Benchmark result for one fleet size and executor
+     *
+     * @param mode Executor mode
+     * @param tails Fleet size
+     * @param detection Whether and how every tail was run through anomaly detection
+     * @param parallelism Threads the executor spreads the work over
+     * @param ticks Measured ticks
+     * @param meanMicros Mean wall time of a tick
+     * @param p50Micros Median wall time of a tick
+     * @param p99Micros 99th percentile wall time of a tick
+     * @param maxMicros Slowest tick
+     * @param cpuMicrosPerTick Process CPU time per tick, or -1 if unavailable
+     * @param cpuUtilization Process CPU time over wall time (1.0 = one core fully busy), or -1 if unavailable
+     * @param anomalies Tails flagged by detection over the measured ticks
+     */
+    public record Result(TickExecutor.Mode mode, int tails, Detection detection, int parallelism, int ticks,
+                         double meanMicros, double p50Micros, double p99Micros, double maxMicros,
+                         double cpuMicrosPerTick, double cpuUtilization, long anomalies) {
+    }
+
+    /**
+     * How the tails are run through anomaly detection
+     */
+    public enum Detection {
+        /** No detection */
+        OFF("no"),
+        /** Each tail copied into a sample and checked on its own */
+        SAMPLE("per sample"),
+        /** The whole fleet checked as one columnar batch */
+        BATCH("batch");
+
+        private final String label;
+
+        Detection(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the label shown in the results table
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.aircraft.monitoring.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the serial, fork/join and virtual-thread tick executors.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("TickExecutor Tests")
+class TickExecutorTest {
+
+    private static final int FLEET_SIZE = 10_000;
+
+    /**
+     * Runs the executor once and counts how often each tail was visited
+     */
+    private static AtomicIntegerArray visit(TickExecutor executor, int size) {
+        AtomicIntegerArray visits = new AtomicIntegerArray(size);
+        executor.execute(size, (from, to) -> {
+            for (int t = from; t < to; t++) {
+                visits.incrementAndGet(t);
+            }
+        });
+        return visits;
+    }
+
+    private static void assertVisitedOnce(AtomicIntegerArray visits) {
+        for (int t = 0; t < visits.length(); t++) {
+            assertEquals(1, visits.get(t), "tail " + t);
+        }
+    }
+
+    @Nested
+    @DisplayName("Serial Executor Tests")
+    class SerialExecutorTests {
+
+        @Test
+        @DisplayName("Should run the whole fleet as one range on the calling thread")
+        void shouldRunTheWholeFleetAsOneRangeOnTheCallingThread() {
+            Thread caller = Thread.currentThread();
+            AtomicInteger calls = new AtomicInteger();
+
+            SerialTickExecutor.INSTANCE.execute(FLEET_SIZE, (from, to) -> {
+                assertEquals(0, from);
+                assertEquals(FLEET_SIZE, to);
+                assertSame(caller, Thread.currentThread());
+                calls.incrementAndGet();
+            });
+
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("Should be created for the SERIAL mode")
+        void shouldBeCreatedForTheSerialMode() {
+            assertSame(SerialTickExecutor.INSTANCE, TickExecutor.create(TickExecutor.Mode.SERIAL, 4));
+            assertEquals(1, SerialTickExecutor.INSTANCE.getParallelism());
+        }
+    }
+
+    @Nested
+    @DisplayName("Fork/Join Executor Tests")
+    class ForkJoinExecutorTests {
+
+        @Test
+        @DisplayName("Should visit every tail exactly once")
+        void shouldVisitEveryTailExactlyOnce() {
+            try (TickExecutor executor = new ForkJoinTickExecutor(4, 100)) {
+                for (int i = 0; i < 10; i++) {
+                    assertVisitedOnce(visit(executor, FLEET_SIZE));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep every range within the chunk size")
+        void shouldKeepEveryRangeWithinTheChunkSize() {
+            AtomicInteger largest = new AtomicInteger();
+
+            try (TickExecutor executor = new ForkJoinTickExecutor(4, 100)) {
+                executor.execute(FLEET_SIZE, (from, to) -> largest.accumulateAndGet(to - from, Math::max));
+            }
+
+            assertTrue(largest.get() <= 100);
+        }
+
+        @Test
+        @DisplayName("Should run a fleet of one chunk on the calling thread")
+        void shouldRunAFleetOfOneChunkOnTheCallingThread() {
+            Thread caller = Thread.currentThread();
+
+            try (TickExecutor executor = new ForkJoinTickExecutor(4, 100)) {
+                executor.execute(100, (from, to) -> {
+                    assertEquals(0, from);
+                    assertEquals(100, to);
+                    assertSame(caller, Thread.currentThread());
+                });
+            }
+        }
+
+        @Test
+        @DisplayName("Should report a failed task")
+        void shouldReportAFailedTask() {
+            try (TickExecutor executor = new ForkJoinTickExecutor(2, 10)) {
+                IllegalStateException e = assertThrows(IllegalStateException.class,
+                        () -> executor.execute(FLEET_SIZE, (from, to) -> {
+                            if (from == 0) {
+                                throw new ArithmeticException("bad tail");
+                            }
+                        }));
+                assertNotNull(e.getCause());
+            }
+        }
+
+        @Test
+        @DisplayName("Should default to one worker per processor")
+        void shouldDefaultToOneWorkerPerProcessor() {
+            try (TickExecutor executor = TickExecutor.create(TickExecutor.Mode.FORK_JOIN, 0)) {
+                assertEquals(TickExecutor.Mode.FORK_JOIN, executor.getMode());
+                assertEquals(Runtime.getRuntime().availableProcessors(), executor.getParallelism());
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject invalid settings")
+        void shouldRejectInvalidSettings() {
+            assertThrows(IllegalArgumentException.class, () -> new ForkJoinTickExecutor(0, 100));
+            assertThrows(IllegalArgumentException.class, () -> new ForkJoinTickExecutor(2, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Virtual Thread Executor Tests")
+    class VirtualThreadExecutorTests {
+
+        @Test
+        @DisplayName("Should visit every tail exactly once, one chunk per thread")
+        void shouldVisitEveryTailExactlyOnceOneChunkPerThread() {
+            assumeTrue(VirtualThreadTickExecutor.isSupported());
+            AtomicInteger largest = new AtomicInteger();
+            AtomicInteger ranges = new AtomicInteger();
+
+            try (TickExecutor executor = TickExecutor.create(TickExecutor.Mode.VIRTUAL_THREADS, 0)) {
+                assertVisitedOnce(visit(executor, FLEET_SIZE));
+                executor.execute(FLEET_SIZE, (from, to) -> {
+                    largest.accumulateAndGet(to - from, Math::max);
+                    ranges.incrementAndGet();
+                });
+            }
+
+            assertEquals(ForkJoinTickExecutor.DEFAULT_CHUNK_SIZE, largest.get());
+            assertEquals((FLEET_SIZE + largest.get() - 1) / largest.get(), ranges.get());
+        }
+
+        @Test
+        @DisplayName("Should report a failed task")
+        void shouldReportAFailedTask() {
+            assumeTrue(VirtualThreadTickExecutor.isSupported());
+
+            try (TickExecutor executor = new VirtualThreadTickExecutor(10)) {
+                IllegalStateException e = assertThrows(IllegalStateException.class,
+                        () -> executor.execute(100, (from, to) -> {
+                            if (from == 40) {
+                                throw new ArithmeticException("bad tail");
+                            }
+                        }));
+                assertInstanceOf(ArithmeticException.class, e.getCause());
+            }
+        }
+
+        @Test
+        @DisplayName("Should refuse to start without virtual thread support")
+        void shouldRefuseToStartWithoutVirtualThreadSupport() {
+            assumeFalse(VirtualThreadTickExecutor.isSupported());
+
+            assertThrows(IllegalStateException.class, VirtualThreadTickExecutor::new);
+        }
+    }
+}
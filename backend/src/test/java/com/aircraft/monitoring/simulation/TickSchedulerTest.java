@@ -0,0 +1,163 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.simulation.TickScheduler.OverrunPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TickScheduler.
+ *
+ * Tests rate accuracy, the three overrun policies and the reported
+ * jitter statistics. Timing bounds are deliberately loose so the tests
+ * stay stable on busy build machines.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("TickScheduler Tests")
+class TickSchedulerTest {
+
+    private TickScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Tests")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Should reject non-positive rates")
+        void shouldRejectNonPositiveRates() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TickScheduler("test", 0, OverrunPolicy.SKIP, () -> { }));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TickScheduler("test", -10, OverrunPolicy.SKIP, () -> { }));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TickScheduler("test", Double.NaN, OverrunPolicy.SKIP, () -> { }));
+        }
+
+        @Test
+        @DisplayName("Should report configured rate before starting")
+        void shouldReportConfiguredRateBeforeStarting() {
+            scheduler = new TickScheduler("test", 250, OverrunPolicy.SKIP, () -> { });
+
+            TickScheduler.Stats stats = scheduler.getStats();
+            assertEquals(0, stats.ticks());
+            assertEquals(250.0, stats.targetRateHz(), 0.01);
+            assertEquals(OverrunPolicy.SKIP, stats.overrunPolicy());
+            assertFalse(scheduler.isRunning());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rate Tests")
+    class RateTests {
+
+        @Test
+        @DisplayName("Should tick at the configured rate without drift")
+        void shouldTickAtTheConfiguredRateWithoutDrift() {
+            AtomicInteger ticks = new AtomicInteger();
+            scheduler = new TickScheduler("test", 200, OverrunPolicy.SKIP, ticks::incrementAndGet);
+
+            scheduler.start();
+            sleep(500);
+            scheduler.stop();
+
+            // 200 Hz for 500 ms is 100 ticks (plus the one at t=0)
+            assertTrue(ticks.get() >= 80 && ticks.get() <= 102, "Unexpected tick count: " + ticks.get());
+            TickScheduler.Stats stats = scheduler.getStats();
+            assertEquals(ticks.get(), stats.ticks());
+            assertTrue(stats.maxJitterMicros() >= stats.meanJitterMicros());
+        }
+
+        @Test
+        @DisplayName("Should keep ticking when the task throws")
+        void shouldKeepTickingWhenTheTaskThrows() {
+            AtomicInteger ticks = new AtomicInteger();
+            scheduler = new TickScheduler("test", 100, OverrunPolicy.SKIP, () -> {
+                ticks.incrementAndGet();
+                throw new IllegalStateException("tick failed");
+            });
+
+            scheduler.start();
+            sleep(200);
+
+            assertTrue(ticks.get() > 1);
+            assertTrue(scheduler.isRunning());
+        }
+    }
+
+    @Nested
+    @DisplayName("Overrun Policy Tests")
+    class OverrunPolicyTests {
+
+        @Test
+        @DisplayName("Should skip missed deadlines with SKIP policy")
+        void shouldSkipMissedDeadlinesWithSkipPolicy() {
+            // 100 Hz schedule with a 25 ms task: two to three deadlines lost per tick
+            scheduler = new TickScheduler("test", 100, OverrunPolicy.SKIP, () -> sleep(25));
+
+            scheduler.start();
+            sleep(400);
+            scheduler.stop();
+
+            TickScheduler.Stats stats = scheduler.getStats();
+            assertTrue(stats.ticks() < 25, "Ticks should be dropped: " + stats.ticks());
+            assertTrue(stats.missedDeadlines() >= stats.ticks(), "Missed: " + stats.missedDeadlines());
+            assertEquals(stats.ticks(), stats.overruns(), 1);
+        }
+
+        @Test
+        @DisplayName("Should run missed ticks back to back with CATCH_UP policy")
+        void shouldRunMissedTicksBackToBackWithCatchUpPolicy() {
+            AtomicInteger ticks = new AtomicInteger();
+            scheduler = new TickScheduler("test", 100, OverrunPolicy.CATCH_UP, () -> {
+                if (ticks.incrementAndGet() == 1) {
+                    sleep(100);  // one long stall of ten periods
+                }
+            });
+
+            scheduler.start();
+            sleep(400);
+            scheduler.stop();
+
+            // The stalled deadlines are made up, so the tick count tracks wall time
+            assertTrue(ticks.get() >= 30, "Ticks should catch up: " + ticks.get());
+            assertTrue(scheduler.getStats().missedDeadlines() >= 5);
+        }
+
+        @Test
+        @DisplayName("Should lower the rate with DEGRADE policy")
+        void shouldLowerTheRateWithDegradePolicy() {
+            scheduler = new TickScheduler("test", 500, OverrunPolicy.DEGRADE, () -> sleep(5));
+
+            scheduler.start();
+            sleep(300);
+
+            TickScheduler.Stats stats = scheduler.getStats();
+            assertTrue(stats.currentRateHz() < stats.targetRateHz(),
+                    "Rate should degrade: " + stats.currentRateHz());
+            assertTrue(stats.currentRateHz() >= stats.targetRateHz() / 64);
+            assertTrue(stats.overruns() > 0);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.SensorChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimeWarpGenerator.
+ *
+ * Tests that the generated history matches the live signal models, is
+ * independent of the number of workers and is stamped by the virtual clock.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("TimeWarpGenerator Tests")
+class TimeWarpGeneratorTest {
+
+    // 2024-01-15T10:00:00Z, one tick every 2 seconds
+    private static final VirtualClock CLOCK = new VirtualClock(1_705_312_800_000L, 2_000_000);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write the same values as the fleet simulator")
+    void shouldWriteTheSameValuesAsTheFleetSimulator() throws IOException {
+        Path file = tempDir.resolve("fleet.fhist");
+        new TimeWarpGenerator(5, new RandomStreams(42), 2).generate(20, CLOCK, file);
+
+        FleetSimulator simulator = new FleetSimulator(5, new RandomStreams(42));
+        double[] values = new double[SensorChannel.COUNT];
+        try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+            for (long tick = 0; tick < 20; tick++) {
+                simulator.tick();
+                for (int tail = 0; tail < 5; tail++) {
+                    history.read(tick, tail, values);
+                    for (SensorChannel channel : SensorChannel.values()) {
+                        assertEquals((float) simulator.getState().get(channel, tail), values[channel.index()],
+                                channel + " of tail " + tail + " at tick " + tick);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce identical files for any number of workers")
+    void shouldProduceIdenticalFilesForAnyNumberOfWorkers() throws IOException {
+        // Large enough to span several chunks
+        Path single = tempDir.resolve("single.fhist");
+        Path parallel = tempDir.resolve("parallel.fhist");
+
+        new TimeWarpGenerator(1000, new RandomStreams(7), 1).generate(120, CLOCK, single);
+        new TimeWarpGenerator(1000, new RandomStreams(7), 4).generate(120, CLOCK, parallel);
+
+        assertEquals(-1, Files.mismatch(single, parallel));
+    }
+
+    @Test
+    @DisplayName("Should stamp samples from the virtual clock")
+    void shouldStampSamplesFromTheVirtualClock() throws IOException {
+        Path file = tempDir.resolve("clock.fhist");
+        new TimeWarpGenerator(2, new RandomStreams(1), 1).generate(10, CLOCK, file);
+
+        try (FlightHistoryReader history = new FlightHistoryReader(file)) {
+            assertEquals(10, history.getTickCount());
+            assertEquals(2, history.getFleetSize());
+            assertEquals(1L, history.getSeed());
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 0), history.getClock().timeAt(0));
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 0, 18), history.getClock().timeAt(9));
+        }
+    }
+
+    @Test
+    @DisplayName("Should report samples, bytes and simulated time")
+    void shouldReportSamplesBytesAndSimulatedTime() throws IOException {
+        Path file = tempDir.resolve("report.fhist");
+
+        TimeWarpGenerator.Result result = new TimeWarpGenerator(10, new RandomStreams(3), 2)
+                .generate(1800, CLOCK, file);
+
+        assertEquals(1800, result.ticks());
+        assertEquals(18_000, result.samples());
+        assertEquals(18_000L * FlightHistoryWriter.SAMPLE_BYTES, result.bytes());
+        assertEquals(3600.0, result.simulatedSeconds(), 1e-9);
+        assertTrue(result.speedup() > 1, "Speedup: " + result.speedup());
+        assertTrue(Files.size(file) > result.bytes());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid parameters")
+    void shouldRejectInvalidParameters() {
+        RandomStreams streams = new RandomStreams(1);
+
+        assertThrows(IllegalArgumentException.class, () -> new TimeWarpGenerator(0, streams, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TimeWarpGenerator(1, streams, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeWarpGenerator(1, streams, 1).generate(-1, CLOCK, tempDir.resolve("x.fhist")));
+    }
+}
@@ -0,0 +1,67 @@
+package com.aircraft.monitoring.simulation;
+
+import com.aircraft.monitoring.model.AircraftData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the allocation-free wall clock.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@DisplayName("WallClock Tests")
+class WallClockTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    /**
+     * 2024-03-31T01:00:00Z, when Berlin moves from UTC+1 to UTC+2
+     */
+    private static final long SPRING_FORWARD_MILLIS = 1_711_846_800_000L;
+
+    private static LocalDateTime local(long localTimeNanos) {
+        return AircraftData.toLocalDateTime(localTimeNanos);
+    }
+
+    @Test
+    @DisplayName("Should report the same local time as LocalDateTime.now()")
+    void shouldReportTheSameLocalTimeAsLocalDateTimeNow() {
+        WallClock clock = new WallClock(BERLIN);
+
+        LocalDateTime before = LocalDateTime.now(BERLIN).truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime now = local(clock.nowNanos());
+        LocalDateTime after = LocalDateTime.now(BERLIN);
+
+        assertFalse(now.isBefore(before));
+        assertFalse(now.isAfter(after));
+    }
+
+    @Test
+    @DisplayName("Should follow daylight saving changes in both directions")
+    void shouldFollowDaylightSavingChangesInBothDirections() {
+        WallClock clock = new WallClock(BERLIN);
+
+        assertEquals(LocalDateTime.of(2024, 3, 31, 1, 59, 59, 999_000_000),
+                local(clock.nanosAt(SPRING_FORWARD_MILLIS - 1)));
+        assertEquals(LocalDateTime.of(2024, 3, 31, 3, 0),
+                local(clock.nanosAt(SPRING_FORWARD_MILLIS)));
+        assertEquals(LocalDateTime.of(2024, 3, 31, 1, 30),
+                local(clock.nanosAt(SPRING_FORWARD_MILLIS - 1_800_000)));
+    }
+
+    @Test
+    @DisplayName("Should apply a fixed offset")
+    void shouldApplyAFixedOffset() {
+        WallClock clock = new WallClock(ZoneOffset.ofHoursMinutes(5, 30));
+
+        assertEquals(LocalDateTime.of(1970, 1, 1, 5, 30, 0, 1_000_000), local(clock.nanosAt(1)));
+    }
+}
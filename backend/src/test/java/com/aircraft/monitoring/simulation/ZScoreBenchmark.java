@@ -0,0 +1,173 @@
+package com.aircraft.monitoring.simulation;
+
+import ch.qos.logback.classic.Level;
+import com.aircraft.monitoring.model.AircraftDataBatch;
+import com.aircraft.monitoring.model.SensorChannel;
+import com.aircraft.monitoring.service.AnomalyDetectionService;
+import com.aircraft.monitoring.service.ZScoreDetector;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless count of the faults fixed limits and z-score detection catch.
+ *
+ * Flies a fleet through full flight profiles. Halfway through the run,
+ * every odd tail's channel drops by a {@link Fault.Type#STEP} fault that
+ * lasts to the end, mostly still within the channel's limits. Every tick
+ * the fleet goes through batch detection, and the benchmark counts the
+ * faulty tails flagged at least once during the fault, the faulty samples
+ * flagged, and the samples of healthy tails flagged, which are false
+ * alarms. It does this once with fixed limits only and once per z-score
+ * baseline, scoring only the faulty channel, on the same seed. Runs
+ * without Spring; see {@link #main(String[])}. The results for this
+ * project are in the README.
+ *
+ * @author Aircraft Monitoring Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class ZScoreBenchmark {
+
+    private final int tails;
+    private final long ticks;
+    private final SensorChannel channel;
+    private final double step;
+    private final long seed;
+
+    /**
+     * Creates a benchmark
+     *
+     * @param tails Number of tails
+     * @param ticks Ticks to fly, 2 s apart
+     * @param channel Channel that fails on odd tails
+     * @param step Offset of the failed channel's readings
+     * @param seed Root random seed
+     */
+    public ZScoreBenchmark(int tails, long ticks, SensorChannel channel, double step, long seed) {
+        this.tails = tails;
+        this.ticks = ticks;
+        this.channel = channel;
+        this.step = step;
+        this.seed = seed;
+    }
+
+    /**
+     * Flies the fleet once
+     *
+     * @param detector Z-score detector, or null for fixed limits only
+     * @return Detection counts
+     */
+    public Result run(ZScoreDetector detector) {
+        FleetSimulator simulator = new FleetSimulator(tails, new RandomStreams(seed), new FlightProfile(2.0));
+        long faultStart = ticks / 2;
+        for (int t = 1; t < tails; t += 2) {
+            simulator.getFaultInjector().schedule(new Fault(Fault.Type.STEP, t, channel, faultStart,
+                    ticks - faultStart, step));
+        }
+        AnomalyDetectionService service = new AnomalyDetectionService();
+        service.setZScoreDetector(detector);
+        AircraftDataBatch batch = simulator.getState().asBatch();
+        int[] masks = batch.getAnomalyMasks();
+        boolean[] caught = new boolean[tails];
+
+        long faultyFlagged = 0;
+        long healthyFlagged = 0;
+        long nanos = 0;
+        for (long tick = 0; tick < ticks; tick++) {
+            simulator.tick();
+            long start = System.nanoTime();
+            service.detectAnomalies(batch);
+            nanos += System.nanoTime() - start;
+            for (int t = 0; t < tails; t++) {
+                boolean flagged = (masks[t] & channel.getAnomalyBit()) != 0;
+                if (t % 2 == 0) {
+                    healthyFlagged += flagged ? 1 : 0;
+                } else if (tick >= faultStart) {
+                    faultyFlagged += flagged ? 1 : 0;
+                    caught[t] |= flagged;
+                }
+            }
+        }
+
+        int faultyTails = tails / 2;
+        int caughtTails = 0;
+        for (boolean c : caught) {
+            caughtTails += c ? 1 : 0;
+        }
+        String label = detector != null ? detector.getBaseline().name() : "limits only";
+        return new Result(label, faultyTails, caughtTails, faultyTails * (ticks - faultStart), faultyFlagged,
+                (tails - faultyTails) * ticks, healthyFlagged, (double) nanos / ticks / tails);
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * Options (all {@code --name=value}): {@code tails} (1000), {@code ticks}
+     * (3000), {@code channel} that fails (OIL_PRESSURE), its {@code step}
+     * (-15), the z-score {@code threshold} (4), {@code warmup} (30) and
+     * {@code alpha} (0.05), and {@code seed} (42).
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        int tails = Integer.parseInt(options.getOrDefault("tails", "1000"));
+        long ticks = Long.parseLong(options.getOrDefault("ticks", "3000"));
+        SensorChannel channel = SensorChannel.valueOf(options.getOrDefault("channel", "OIL_PRESSURE"));
+        double step = Double.parseDouble(options.getOrDefault("step", "-15"));
+        double threshold = Double.parseDouble(options.getOrDefault("threshold", "4"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "30"));
+        double alpha = Double.parseDouble(options.getOrDefault("alpha", "0.05"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        // Detection logs the start of each excursion at warn; keep console
+        // output out of the run and report the counts instead
+        if (LoggerFactory.getLogger(AnomalyDetectionService.class) instanceof ch.qos.logback.classic.Logger logger) {
+            logger.setLevel(Level.ERROR);
+        }
+
+        ZScoreBenchmark benchmark = new ZScoreBenchmark(tails, ticks, channel, step, seed);
+        log.info("Z-score benchmark: {} tails x {} ticks, {} stepping by {} on odd tails halfway",
+                tails, ticks, channel, step);
+        List<Result> results = new ArrayList<>();
+        results.add(benchmark.run(null));
+        for (ZScoreDetector.Baseline baseline : ZScoreDetector.Baseline.values()) {
+            results.add(benchmark.run(new ZScoreDetector(threshold, warmup, baseline, alpha, 1 << channel.index())));
+            log.info("{}", results.get(results.size() - 1));
+        }
+
+        log.info("| Detection | Faulty tails caught | Faulty samples flagged | Healthy samples flagged | Detect per tail |");
+        log.info("|---|---:|---:|---:|---:|");
+        for (Result r : results) {
+            log.info(String.format("| %s | %,d of %,d | %.1f %% | %.3f %% | %.1f ns |", r.detection(),
+                    r.caughtTails(), r.faultyTails(), 100.0 * r.faultyFlagged() / r.faultySamples(),
+                    100.0 * r.healthyFlagged() / r.healthySamples(), r.nanosPerTail()));
+        }
+    }
+
+    /**
+     * Detection counts of one run
+     *
+     * @param detection Z-score baseline, or "limits only"
+     * @param faultyTails Tails whose channel failed
+     * @param caughtTails Faulty tails flagged at least once during the fault
+     * @param faultySamples Samples of faulty tails during the fault
+     * @param faultyFlagged Of those, samples flagged
+     * @param healthySamples Samples of healthy tails
+     * @param healthyFlagged Of those, samples flagged
+     * @param nanosPerTail Mean batch detection time per tail and tick
+     */
+    public record Result(String detection, int faultyTails, int caughtTails, long faultySamples,
+                         long faultyFlagged, long healthySamples, long healthyFlagged, double nanosPerTail) {
+    }
+}